@@ -44,6 +44,7 @@ import org.moeaframework.core.indicator.AdditiveEpsilonIndicator;
 import org.moeaframework.core.indicator.Contribution;
 import org.moeaframework.core.indicator.GenerationalDistance;
 import org.moeaframework.core.indicator.Hypervolume;
+import org.moeaframework.core.indicator.IndicatorEngine;
 import org.moeaframework.core.indicator.InvertedGenerationalDistance;
 import org.moeaframework.core.indicator.MaximumParetoFrontError;
 import org.moeaframework.core.indicator.R1Indicator;
@@ -54,6 +55,7 @@ import org.moeaframework.core.spi.ProblemFactory;
 import org.moeaframework.util.io.FileUtils;
 import org.moeaframework.util.statistics.KruskalWallisTest;
 import org.moeaframework.util.statistics.MannWhitneyUTest;
+import org.moeaframework.util.statistics.Resampler;
 
 /**
  * Performs basic end-of-run analysis.  For example, the following demonstrates
@@ -173,6 +175,13 @@ public class Analyzer extends ProblemBuilder {
 	 */
 	private double significanceLevel;
 	
+	/**
+	 * The number of bootstrap resamples used to compute the confidence
+	 * interval of the median; or {@code 0} if confidence intervals are not
+	 * computed.
+	 */
+	private int resamples;
+	
 	/**
 	 * The {@link UnivariateStatistic}s used during the analysis.  If none are
 	 * specified by the user, then {@link Min}, {@link Median} and {@link Max}
@@ -193,6 +202,11 @@ public class Analyzer extends ProblemBuilder {
 	 */
 	private double[] referencePoint;
 	
+	/**
+	 * The number of threads used to evaluate the approximation sets.
+	 */
+	private int numberOfThreads;
+	
 	/**
 	 * The collection of end-of-run approximation sets.
 	 */
@@ -205,6 +219,7 @@ public class Analyzer extends ProblemBuilder {
 		super();
 		
 		significanceLevel = 0.05;
+		numberOfThreads = 1;
 		statistics = new ArrayList<UnivariateStatistic>();
 		data = new HashMap<String, List<NondominatedPopulation>>();
 	}
@@ -430,6 +445,25 @@ public class Analyzer extends ProblemBuilder {
 		return this;
 	}
 	
+	/**
+	 * Enables the output of the 95% bootstrap confidence interval of the
+	 * median of each indicator.  The resamples are computed in parallel if
+	 * {@link #distributeOn(int)} is set.
+	 * 
+	 * @param resamples the number of bootstrap resamples
+	 * @return a reference to this analyzer
+	 * @throws IllegalArgumentException if {@code resamples <= 0}
+	 */
+	public Analyzer showConfidenceInterval(int resamples) {
+		if (resamples <= 0) {
+			throw new IllegalArgumentException("invalid number of resamples");
+		}
+		
+		this.resamples = resamples;
+		
+		return this;
+	}
+	
 	/**
 	 * Specifies the {@link UnivariateStatistic}s calculated during the 
 	 * analysis.  If none are specified by the user, then {@link Min}, 
@@ -482,6 +516,34 @@ public class Analyzer extends ProblemBuilder {
 		return this;
 	}
 
+	/**
+	 * Enables this analyzer to evaluate the approximation sets of each
+	 * algorithm across the specified number of threads.
+	 * 
+	 * @param numberOfThreads the number of threads
+	 * @return a reference to this analyzer
+	 * @throws IllegalArgumentException if {@code numberOfThreads <= 0}
+	 */
+	public Analyzer distributeOn(int numberOfThreads) {
+		if (numberOfThreads <= 0) {
+			throw new IllegalArgumentException("invalid number of threads");
+		}
+		
+		this.numberOfThreads = numberOfThreads;
+		
+		return this;
+	}
+	
+	/**
+	 * Enables this analyzer to evaluate the approximation sets of each
+	 * algorithm across all processors on the local host.
+	 * 
+	 * @return a reference to this analyzer
+	 */
+	public Analyzer distributeOnAllCores() {
+		return distributeOn(Runtime.getRuntime().availableProcessors());
+	}
+	
 	/**
 	 * Adds the collection of new samples with the specified name.
 	 * 
@@ -839,27 +901,49 @@ public class Analyzer extends ProblemBuilder {
 			//precompute the individual seed metrics, as they are used both
 			//for descriptive statistics and statistical significance tests
 			AnalyzerResults analyzerResults = new AnalyzerResults();
+			IndicatorEngine engine = new IndicatorEngine(indicators);
+			engine.setNumberOfThreads(numberOfThreads);
+			Resampler resampler = null;
+			
+			if (resamples > 0) {
+				resampler = new Resampler(resamples);
+				resampler.setNumberOfThreads(numberOfThreads);
+			}
 			
 			for (String algorithm : data.keySet()) {
 				AlgorithmResult algorithmResult = new AlgorithmResult(
 						algorithm);
+				List<NondominatedPopulation> sets = data.get(algorithm);
+				double[][] seedValues = engine.evaluateAll(sets);
+				double[] aggregateValues = null;
 				
-				for (Indicator indicator : indicators) {
-					String indicatorName = indicator.getClass().getSimpleName();
-					List<NondominatedPopulation> sets = data.get(algorithm);
+				if (showAggregate) {
+					aggregateValues = engine.evaluate(
+							aggregateSets.get(algorithm));
+				}
+				
+				for (int j=0; j<indicators.size(); j++) {
+					String indicatorName = indicators.get(j).getClass()
+							.getSimpleName();
 					double[] values = new double[sets.size()];
 					
 					for (int i=0; i<sets.size(); i++) {
-						values[i] = indicator.evaluate(sets.get(i));
+						values[i] = seedValues[i][j];
 					}
 					
 					algorithmResult.add(new IndicatorResult(
 							indicatorName, values));
 					
+					if ((resampler != null) && (values.length > 1)) {
+						algorithmResult.get(indicatorName)
+								.setConfidenceInterval(resampler
+										.confidenceInterval(values,
+												new Median(), 0.95));
+					}
+					
 					if (showAggregate) {
 						algorithmResult.get(indicatorName).setAggregateValue(
-								indicator.evaluate(
-										aggregateSets.get(algorithm)));
+								aggregateValues[j]);
 					}
 				}
 				
@@ -1169,6 +1253,12 @@ public class Analyzer extends ProblemBuilder {
 		 */
 		private Double aggregateValue;
 		
+		/**
+		 * The lower and upper bounds of the confidence interval of the median,
+		 * or {@code null} if the confidence interval was not computed.
+		 */
+		private double[] confidenceInterval;
+		
 		/**
 		 * Constructs a new object for storing the results for a single
 		 * indicator.
@@ -1282,6 +1372,31 @@ public class Analyzer extends ProblemBuilder {
 			this.aggregateValue = aggregateValue;
 		}
 
+		/**
+		 * Returns the lower and upper bounds of the 95% bootstrap confidence
+		 * interval of the median, or {@code null} if the confidence interval
+		 * was not computed.  This value is only computed if
+		 * {@link Analyzer#showConfidenceInterval(int)} is invoked.
+		 * 
+		 * @return the lower and upper bounds of the confidence interval of
+		 *         the median; or {@code null} if not computed
+		 */
+		public double[] getConfidenceInterval() {
+			return confidenceInterval == null ? null :
+				confidenceInterval.clone();
+		}
+		
+		/**
+		 * Sets the lower and upper bounds of the confidence interval of the
+		 * median.
+		 * 
+		 * @param confidenceInterval the lower and upper bounds of the
+		 *        confidence interval of the median
+		 */
+		void setConfidenceInterval(double[] confidenceInterval) {
+			this.confidenceInterval = confidenceInterval;
+		}
+
 		/**
 		 * Returns the indicator name.
 		 * 
@@ -1331,6 +1446,11 @@ public class Analyzer extends ProblemBuilder {
 					}
 				}
 				
+				if (confidenceInterval != null) {
+					ps.print("        Confidence Interval: ");
+					ps.println(Arrays.toString(confidenceInterval));
+				}
+				
 				ps.print("        Count: ");
 				ps.print(getCount());
 				
@@ -36,9 +36,11 @@ import org.moeaframework.analysis.collector.ApproximationSetCollector;
 import org.moeaframework.analysis.collector.Collector;
 import org.moeaframework.analysis.collector.ElapsedTimeCollector;
 import org.moeaframework.analysis.collector.EpsilonProgressCollector;
+import org.moeaframework.analysis.collector.EvaluationCacheCollector;
 import org.moeaframework.analysis.collector.IndicatorCollector;
 import org.moeaframework.analysis.collector.InstrumentedAlgorithm;
 import org.moeaframework.analysis.collector.PopulationSizeCollector;
+import org.moeaframework.analysis.collector.ProfilingCollector;
 import org.moeaframework.core.Algorithm;
 import org.moeaframework.core.EpsilonBoxDominanceArchive;
 import org.moeaframework.core.NondominatedPopulation;
@@ -171,6 +173,18 @@ public class Instrumenter extends ProblemBuilder {
 	 * otherwise.
 	 */
 	private boolean includePopulationSize;
+	
+	/**
+	 * {@code true} if the evaluation cache collector is included;
+	 * {@code false} otherwise.
+	 */
+	private boolean includeEvaluationCache;
+	
+	/**
+	 * {@code true} if the profiling collector is included; {@code false}
+	 * otherwise.
+	 */
+	private boolean includeProfiling;
 
 	/**
 	 * The frequency that data is collected.
@@ -521,6 +535,33 @@ public class Instrumenter extends ProblemBuilder {
 		return this;
 	}
 	
+	/**
+	 * Includes the evaluation cache collector when instrumenting algorithms.
+	 * The collector only attaches to algorithms solving a
+	 * {@link org.moeaframework.problem.CachingProblem}.
+	 * 
+	 * @return a reference to this instrumenter
+	 */
+	public Instrumenter attachEvaluationCacheCollector() {
+		includeEvaluationCache = true;
+		
+		return this;
+	}
+	
+	/**
+	 * Includes the profiling collector when instrumenting algorithms.  The
+	 * collector records the time spent in each phase of algorithms extending
+	 * {@link org.moeaframework.algorithm.AbstractAlgorithm}.  This collector
+	 * is not included by {@link #attachAll()}.
+	 * 
+	 * @return a reference to this instrumenter
+	 */
+	public Instrumenter attachProfilingCollector() {
+		includeProfiling = true;
+		
+		return this;
+	}
+	
 	/**
 	 * Includes all collectors when instrumenting algorithms.
 	 * 
@@ -534,6 +575,7 @@ public class Instrumenter extends ProblemBuilder {
 		attachElapsedTimeCollector();
 		attachApproximationSetCollector();
 		attachPopulationSizeCollector();
+		attachEvaluationCacheCollector();
 		
 		return this;
 	}
@@ -833,6 +875,14 @@ public class Instrumenter extends ProblemBuilder {
 			collectors.add(new PopulationSizeCollector());
 		}
 		
+		if (includeEvaluationCache) {
+			collectors.add(new EvaluationCacheCollector());
+		}
+		
+		if (includeProfiling) {
+			collectors.add(new ProfilingCollector());
+		}
+		
 		collectors.addAll(customCollectors);
 		
 		InstrumentedAlgorithm instrumentedAlgorithm = new InstrumentedAlgorithm(
@@ -19,11 +19,15 @@ package org.moeaframework.algorithm;
 
 import java.io.NotSerializableException;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.moeaframework.core.Algorithm;
+import org.moeaframework.core.Population;
 import org.moeaframework.core.Problem;
 import org.moeaframework.core.Solution;
+import org.moeaframework.problem.ScreeningProblem;
 
 /**
  * Abstract class providing default implementations for several
@@ -59,6 +63,12 @@ public abstract class AbstractAlgorithm implements Algorithm {
 	 */
 	protected boolean terminated;
 
+	/**
+	 * The profiler recording the time spent in each phase of this algorithm;
+	 * or {@code null} if this algorithm is not profiled.
+	 */
+	private Profiler profiler;
+
 	/**
 	 * Constructs an abstract algorithm for solving the specified problem.
 	 * 
@@ -83,6 +93,42 @@ public abstract class AbstractAlgorithm implements Algorithm {
 		}
 	}
 	
+	/**
+	 * Evaluates the specified offspring, discarding any offspring the problem
+	 * screens out.  If the problem is a {@link ScreeningProblem}, the
+	 * offspring are passed to the problem as a single batch, only the
+	 * offspring that were evaluated remain in the population, and only those
+	 * offspring are counted as evaluations.  Otherwise, this method is
+	 * equivalent to {@link #evaluateAll(Iterable)}.
+	 * <p>
+	 * Subclasses should only call this method when the offspring are not
+	 * tied to specific parents or positions, so any of them can be discarded.
+	 * 
+	 * @param offspring the offspring to evaluate
+	 */
+	protected void evaluateOffspring(Population offspring) {
+		if (problem instanceof ScreeningProblem) {
+			List<Solution> batch = new ArrayList<Solution>(offspring.size());
+
+			for (Solution solution : offspring) {
+				batch.add(solution);
+			}
+
+			long start = startTiming();
+			List<Solution> evaluated =
+					((ScreeningProblem)problem).evaluateAll(batch);
+			stopTiming(Profiler.Phase.EVALUATION, start, evaluated.size());
+			numberOfEvaluations += evaluated.size();
+
+			if (evaluated.size() < batch.size()) {
+				offspring.clear();
+				offspring.addAll(evaluated);
+			}
+		} else {
+			evaluateAll(offspring);
+		}
+	}
+	
 	/**
 	 * Evaluates the specified solutions.  This method is equivalent to
 	 * {@code evaluateAll(Arrays.asList(solutions))}.
@@ -95,10 +141,68 @@ public abstract class AbstractAlgorithm implements Algorithm {
 
 	@Override
 	public void evaluate(Solution solution) {
+		long start = startTiming();
 		problem.evaluate(solution);
+		stopTiming(Profiler.Phase.EVALUATION, start, 1);
 		numberOfEvaluations++;
 	}
 
+	/**
+	 * Sets the profiler recording the time spent in each phase of this
+	 * algorithm.  Profiling is disabled by default and adds no overhead when
+	 * disabled.
+	 * 
+	 * @param profiler the profiler; or {@code null} to disable profiling
+	 */
+	public void setProfiler(Profiler profiler) {
+		this.profiler = profiler;
+	}
+
+	/**
+	 * Returns the profiler recording the time spent in each phase of this
+	 * algorithm; or {@code null} if this algorithm is not profiled.
+	 * 
+	 * @return the profiler recording the time spent in each phase of this
+	 *         algorithm; or {@code null} if this algorithm is not profiled
+	 */
+	public Profiler getProfiler() {
+		return profiler;
+	}
+
+	/**
+	 * Returns the start time of a profiled phase, which is passed to
+	 * {@link #stopTiming(Profiler.Phase, long)} when the phase ends.  Returns
+	 * {@code 0} without reading the clock if profiling is disabled.
+	 * 
+	 * @return the start time, in nanoseconds, of a profiled phase
+	 */
+	protected long startTiming() {
+		return profiler == null ? 0 : System.nanoTime();
+	}
+
+	/**
+	 * Records one invocation of a profiled phase.
+	 * 
+	 * @param phase the phase
+	 * @param start the start time returned by {@link #startTiming()}
+	 */
+	protected void stopTiming(Profiler.Phase phase, long start) {
+		stopTiming(phase, start, 1);
+	}
+
+	/**
+	 * Records several invocations of a profiled phase.
+	 * 
+	 * @param phase the phase
+	 * @param start the start time returned by {@link #startTiming()}
+	 * @param count the number of invocations
+	 */
+	protected void stopTiming(Profiler.Phase phase, long start, long count) {
+		if (profiler != null) {
+			profiler.record(phase, System.nanoTime() - start, count);
+		}
+	}
+
 	@Override
 	public int getNumberOfEvaluations() {
 		return numberOfEvaluations;
@@ -156,7 +260,9 @@ public abstract class AbstractAlgorithm implements Algorithm {
 			throw new AlgorithmTerminationException(this, 
 					"algorithm already terminated");
 		} else if (!isInitialized()) {
+			long start = startTiming();
 			initialize();
+			stopTiming(Profiler.Phase.INITIALIZATION, start);
 		} else {
 			iterate();
 		}
@@ -100,7 +100,9 @@ public abstract class AbstractEvolutionaryAlgorithm extends AbstractAlgorithm
 		population.addAll(initialSolutions);
 
 		if (archive != null) {
+			long start = startTiming();
 			archive.addAll(population);
+			stopTiming(Profiler.Phase.ARCHIVING, start);
 		}
 	}
 
@@ -32,6 +32,7 @@ import org.moeaframework.core.PRNG;
 import org.moeaframework.core.Population;
 import org.moeaframework.core.Problem;
 import org.moeaframework.core.Solution;
+import org.moeaframework.core.Variable;
 import org.moeaframework.core.comparator.AggregateConstraintComparator;
 import org.moeaframework.core.comparator.ChainedComparator;
 import org.moeaframework.core.comparator.FitnessComparator;
@@ -40,6 +41,7 @@ import org.moeaframework.core.comparator.ObjectiveComparator;
 import org.moeaframework.core.comparator.RankComparator;
 import org.moeaframework.core.variable.EncodingUtils;
 import org.moeaframework.core.variable.RealVariable;
+import org.moeaframework.core.variable.RealVectorVariable;
 
 /**
  * The Covariance Matrix Adaption Evolution Strategy (CMA-ES) algorithm for
@@ -169,6 +171,18 @@ public class CMAES extends AbstractAlgorithm {
 	 * Current centroid of the distribution.
 	 */
 	private double[] xmean;
+	
+	/**
+	 * The lower bounds of the decision variables, with one entry for each
+	 * real value stored in a solution.
+	 */
+	private double[] lowerBounds;
+	
+	/**
+	 * The upper bounds of the decision variables, with one entry for each
+	 * real value stored in a solution.
+	 */
+	private double[] upperBounds;
 
 	/**
 	 * Evolution path.
@@ -276,32 +290,36 @@ public class CMAES extends AbstractAlgorithm {
 	/**
 	 * Validates parameters prior to calling the {@link #initialize()} method.
 	 * Checks include ensuring the initial search point is valid and ensures
-	 * each devision variable is real-valued.
+	 * each devision variable is real-valued.  Each element of a
+	 * {@link RealVectorVariable} counts as one dimension of the search space.
 	 * 
 	 * @param prototypeSolution an example solution for retrieving variable
 	 *        types and bounds
 	 * @throws IllegalArgumentException if any of the checks fail
 	 */
 	private void preInitChecks(Solution prototypeSolution) {
-		if (initialSearchPoint != null) {
-			if (initialSearchPoint.length != prototypeSolution.getNumberOfVariables()) {
-				throw new IllegalArgumentException("initial search point is not the correct length (expected=" + prototypeSolution.getNumberOfVariables() + ", actual=" + initialSearchPoint.length + ")");
+		for (int i = 0; i < problem.getNumberOfVariables(); i++) {
+			Variable variable = prototypeSolution.getVariable(i);
+			
+			if (!(variable instanceof RealVariable) && !(variable instanceof RealVectorVariable)) {
+				throw new IllegalArgumentException("CMA-ES is only applicable to real-valued decision variables");
 			}
 		}
 		
-		for (int i = 0; i < problem.getNumberOfVariables(); i++) {
-			if (prototypeSolution.getVariable(i) instanceof RealVariable) {
-				RealVariable variable = (RealVariable)prototypeSolution.getVariable(i);
-				
-				if (initialSearchPoint != null) {
-					if (initialSearchPoint[i] > variable.getUpperBound()) {
-						throw new IllegalArgumentException("initial search point is out of bounds (index=" + i + ", value=" + initialSearchPoint[i] + ", ub=" + variable.getUpperBound() + ")");
-					} else if (initialSearchPoint[i] < variable.getLowerBound()) {
-						throw new IllegalArgumentException("initial search point is out of bounds (index=" + i + ", value=" + initialSearchPoint[i] + ", lb=" + variable.getLowerBound() + ")");
-					}
+		double[] lowerBounds = EncodingUtils.getLowerBounds(prototypeSolution);
+		double[] upperBounds = EncodingUtils.getUpperBounds(prototypeSolution);
+		
+		if (initialSearchPoint != null) {
+			if (initialSearchPoint.length != lowerBounds.length) {
+				throw new IllegalArgumentException("initial search point is not the correct length (expected=" + lowerBounds.length + ", actual=" + initialSearchPoint.length + ")");
+			}
+			
+			for (int i = 0; i < lowerBounds.length; i++) {
+				if (initialSearchPoint[i] > upperBounds[i]) {
+					throw new IllegalArgumentException("initial search point is out of bounds (index=" + i + ", value=" + initialSearchPoint[i] + ", ub=" + upperBounds[i] + ")");
+				} else if (initialSearchPoint[i] < lowerBounds[i]) {
+					throw new IllegalArgumentException("initial search point is out of bounds (index=" + i + ", value=" + initialSearchPoint[i] + ", lb=" + lowerBounds[i] + ")");
 				}
-			} else {
-				throw new IllegalArgumentException("CMA-ES is only applicable to real-valued decision variables");
 			}
 		}
 	}
@@ -312,7 +330,7 @@ public class CMAES extends AbstractAlgorithm {
 	 * @throws IllegalArgumentException if any of the checks fail
 	 */
 	private void postInitChecks() {
-		if (problem.getNumberOfVariables() == 0) {
+		if (lowerBounds.length == 0) {
 			throw new IllegalArgumentException("dimension must be greater than zero");
 		}
 		
@@ -361,10 +379,14 @@ public class CMAES extends AbstractAlgorithm {
 	public void initialize() {
 		super.initialize();
 		
-		int N = problem.getNumberOfVariables();
 		Solution prototypeSolution = problem.newSolution();
 		
 		preInitChecks(prototypeSolution);
+		
+		lowerBounds = EncodingUtils.getLowerBounds(prototypeSolution);
+		upperBounds = EncodingUtils.getUpperBounds(prototypeSolution);
+		
+		int N = lowerBounds.length;
 
 		// initialization
 		if (sigma < 0) {
@@ -404,16 +426,15 @@ public class CMAES extends AbstractAlgorithm {
 			
 			if (initialSearchPoint == null) {
 				for (int i = 0; i < N; i++) {
-					RealVariable variable = (RealVariable)prototypeSolution.getVariable(i);
 					double offset = sigma * diagD[i];
-					double range = (variable.getUpperBound() - variable.getLowerBound() - 2*sigma*diagD[i]);
+					double range = (upperBounds[i] - lowerBounds[i] - 2*sigma*diagD[i]);
 					
-					if (offset > 0.4 * (variable.getUpperBound() - variable.getLowerBound())) {
-						offset = 0.4 * (variable.getUpperBound() - variable.getLowerBound());
-						range = 0.2 * (variable.getUpperBound() - variable.getLowerBound());
+					if (offset > 0.4 * (upperBounds[i] - lowerBounds[i])) {
+						offset = 0.4 * (upperBounds[i] - lowerBounds[i]);
+						range = 0.2 * (upperBounds[i] - lowerBounds[i]);
 					}
 					
-					xmean[i] = variable.getLowerBound() + offset + PRNG.nextDouble() * range;
+					xmean[i] = lowerBounds[i] + offset + PRNG.nextDouble() * range;
 				}
 			} else {
 				for (int i = 0; i < N; i++) {
@@ -468,7 +489,7 @@ public class CMAES extends AbstractAlgorithm {
 	 * Performs eigenvalue decomposition to update B and diagD.
 	 */
 	private void eigendecomposition() {
-		int N = problem.getNumberOfVariables();
+		int N = lowerBounds.length;
 
 		lastEigenupdate = iteration;
 
@@ -531,7 +552,7 @@ public class CMAES extends AbstractAlgorithm {
 		if (fac != 1.0) {
 			sigma /= fac;
 			
-			for (int i = 0; i < problem.getNumberOfVariables(); i++) {
+			for (int i = 0; i < lowerBounds.length; i++) {
 				pc[i] *= fac;
 				diagD[i] *= fac;
 				
@@ -547,7 +568,8 @@ public class CMAES extends AbstractAlgorithm {
 	 */
 	private void samplePopulation() {
 		boolean feasible = true;
-		int N = problem.getNumberOfVariables();
+		int N = lowerBounds.length;
+		double[] x = new double[N];
 
 		if ((iteration - lastEigenupdate) > 1.0 / ccov / N / 5.0) {
 			eigendecomposition();
@@ -569,15 +591,14 @@ public class CMAES extends AbstractAlgorithm {
 					feasible = true;
 
 					for (int j = 0; j < N; j++) {
-						RealVariable variable = (RealVariable)solution.getVariable(j);
 						double value = xmean[j] + sigma * diagD[j] * PRNG.nextGaussian();
 
-						if (value < variable.getLowerBound() || value > variable.getUpperBound()) {
+						if (value < lowerBounds[j] || value > upperBounds[j]) {
 							feasible = false;
 							break;
 						}
 
-						variable.setValue(value);
+						x[j] = value;
 					}
 				} while (!feasible);
 			} else {
@@ -593,7 +614,6 @@ public class CMAES extends AbstractAlgorithm {
 
 					// add mutation (sigma * B * (D*z))
 					for (int j = 0; j < N; j++) {
-						RealVariable variable = (RealVariable)solution.getVariable(j);
 						double sum = 0.0;
 
 						for (int k = 0; k < N; k++) {
@@ -602,16 +622,18 @@ public class CMAES extends AbstractAlgorithm {
 
 						double value = xmean[j] + sigma * sum;
 
-						if (value < variable.getLowerBound() || value > variable.getUpperBound()) {
+						if (value < lowerBounds[j] || value > upperBounds[j]) {
 							feasible = false;
 							break;
 						}
 
-						variable.setValue(value);
+						x[j] = value;
 					}
 				} while (!feasible);
 			}
 			
+			EncodingUtils.setReal(solution, x);
+			
 			population.add(solution);
 		}
 
@@ -648,7 +670,7 @@ public class CMAES extends AbstractAlgorithm {
 	 * Updates the internal parameters given the evaluated population.
 	 */
 	private void updateDistribution() {
-		int N = problem.getNumberOfVariables();
+		int N = lowerBounds.length;
 		double[] xold = Arrays.copyOf(xmean, xmean.length);
 		double[] BDz = new double[N];
 		double[] artmp = new double[N];
@@ -664,12 +686,19 @@ public class CMAES extends AbstractAlgorithm {
 			}
 		}
 
+		// extract the decision variables of the mu best solutions once
+		double[][] x = new double[mu][];
+		
+		for (int j = 0; j < mu; j++) {
+			x[j] = EncodingUtils.getReal(population.get(j));
+		}
+
 		// calculate xmean and BDz
 		for (int i = 0; i < N; i++) {
 			xmean[i] = 0;
 
 			for (int j = 0; j < mu; j++) {
-				xmean[i] += weights[j] * EncodingUtils.getReal(population.get(j).getVariable(i));
+				xmean[i] += weights[j] * x[j][i];
 			}
 
 			BDz[i] = Math.sqrt(mueff) * (xmean[i] - xold[i]) / sigma;
@@ -727,7 +756,7 @@ public class CMAES extends AbstractAlgorithm {
 				C[i][j] = (1.0 - (diagonalIterations >= iteration ? ccovsep : ccov)) * C[i][j] + ccov * (1.0 / mueff) * (pc[i] * pc[j] + (1 - hsig) * cc * (2.0 - cc) * C[i][j]);
 
 				for (int k = 0; k < mu; k++) {
-					C[i][j] += ccov * (1 - 1.0 / mueff) * weights[k] * (EncodingUtils.getReal(population.get(k).getVariable(i)) - xold[i]) * (EncodingUtils.getReal(population.get(k).getVariable(j)) - xold[j]) / sigma / sigma;
+					C[i][j] += ccov * (1 - 1.0 / mueff) * weights[k] * (x[k][i] - xold[i]) * (x[k][j] - xold[j]) / sigma / sigma;
 				}
 			}
 		}
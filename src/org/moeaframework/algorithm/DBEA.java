@@ -33,6 +33,7 @@ import org.apache.commons.math3.linear.Array2DRowRealMatrix;
 import org.apache.commons.math3.linear.LUDecomposition;
 import org.apache.commons.math3.linear.MatrixUtils;
 import org.apache.commons.math3.linear.RealMatrix;
+import org.moeaframework.util.weights.NormalBoundaryIntersectionGenerator;
 
 /* The original Matlab version of I-DBEA was written by Md. Asafuddoula,
  * Tapabrata Ray and Ruhul Sarker.  This class has been tested against their
@@ -130,32 +131,9 @@ public class DBEA extends AbstractEvolutionaryAlgorithm {
 	 * outer and inner divisions.
 	 */
 	void generateWeights() {
-		if (divisionsInner > 0) {
-			if (divisionsOuter >= problem.getNumberOfObjectives()) {
-				System.err.println("The specified number of outer divisions produces intermediate reference points, recommend setting divisionsOuter < numberOfObjectives.");
-			}
-
-			weights = generateWeights(divisionsOuter);
-
-			// offset the inner weights
-			List<double[]> inner = generateWeights(divisionsInner);
-
-			for (int i = 0; i < inner.size(); i++) {
-				double[] weight = inner.get(i);
-
-				for (int j = 0; j < weight.length; j++) {
-					weight[j] = (1.0/problem.getNumberOfObjectives() + weight[j])/2;
-				}
-			}
-
-			weights.addAll(inner);
-		} else {
-			if (divisionsOuter < problem.getNumberOfObjectives()) {
-				System.err.println("No intermediate reference points will be generated for the specified number of divisions, recommend increasing divisions");
-			}
-
-			weights = generateWeights(divisionsOuter);
-		}
+		weights = new NormalBoundaryIntersectionGenerator(
+				problem.getNumberOfObjectives(), divisionsOuter,
+				divisionsInner).generate();
 	}
 	
 	/**
@@ -753,45 +731,6 @@ public class DBEA extends AbstractEvolutionaryAlgorithm {
 		return objectiveValues;
 	}
 	
-	/**
-	 * Generates the reference points (weights) for the given number of
-	 * divisions.
-	 * 
-	 * @param divisions the number of divisions
-	 * @return the list of reference points
-	 */
-	private List<double[]> generateWeights(int divisions) {
-		List<double[]> result = new ArrayList<double[]>();
-		double[] weight = new double[problem.getNumberOfObjectives()];
-		
-		generateRecursive(result, weight, problem.getNumberOfObjectives(), divisions, divisions, 0);
-		
-		return result;
-	}
-	
-	/**
-	 * Generate reference points (weights) recursively.
-	 * 
-	 * @param weights list storing the generated reference points
-	 * @param weight the partial reference point being recursively generated
-	 * @param numberOfObjectives the number of objectives
-	 * @param left the number of remaining divisions
-	 * @param total the total number of divisions
-	 * @param index the current index being generated
-	 */
-	private void generateRecursive(List<double[]> weights,
-			double[] weight, int numberOfObjectives, int left, int total, int index) {
-		if (index == (numberOfObjectives - 1)) {
-			weight[index] = (double)left/total;
-			weights.add(weight.clone());
-		} else {
-			for (int i = 0; i <= left; i += 1) {
-				weight[index] = (double) i / total;
-				generateRecursive(weights, weight, numberOfObjectives, left - i, total, index + 1);
-			}
-		}
-	}
-
 	@Override
 	public NondominatedPopulation getResult() {
 		NondominatedPopulation result = super.getResult();
@@ -91,7 +91,9 @@ public class IBEA extends AbstractEvolutionaryAlgorithm {
 	protected void initialize() {
 		super.initialize();
 		
+		long start = startTiming();
 		fitnessEvaluator.evaluate(population);
+		stopTiming(Profiler.Phase.FITNESS_ASSIGNMENT, start);
 	}
 
 	@Override
@@ -100,39 +102,25 @@ public class IBEA extends AbstractEvolutionaryAlgorithm {
 		int populationSize = population.size();
 		
 		while (offspring.size() < populationSize) {
+			long start = startTiming();
 			Solution[] parents = selection.select(variation.getArity(),
 					population);
+			stopTiming(Profiler.Phase.SELECTION, start);
+			
+			start = startTiming();
 			Solution[] children = variation.evolve(parents);
+			stopTiming(Profiler.Phase.VARIATION, start);
 
 			offspring.addAll(children);
 		}
 		
-		evaluateAll(offspring);
+		evaluateOffspring(offspring);
 		population.addAll(offspring);
-		fitnessEvaluator.evaluate(population);
 		
-		while (population.size() > populationSize) {
-			int worstIndex = findWorstIndex();
-			fitnessEvaluator.removeAndUpdate(population, worstIndex);
-		}
-	}
-	
-	/**
-	 * Returns the index of the solution with the worst fitness value.
-	 * 
-	 * @return the index of the solution with the worst fitness value
-	 */
-	private int findWorstIndex() {
-		int worstIndex = 0;
-		
-		for (int i = 1; i < population.size(); i++) {
-			if (fitnessComparator.compare(population.get(worstIndex),
-					population.get(i)) == -1) {
-				worstIndex = i;
-			}
-		}
-		
-		return worstIndex;
+		long start = startTiming();
+		fitnessEvaluator.evaluate(population);
+		fitnessEvaluator.truncate(population, populationSize);
+		stopTiming(Profiler.Phase.FITNESS_ASSIGNMENT, start);
 	}
 
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,366 @@
+/* Copyright 2009-2018 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.apache.commons.math3.random.MersenneTwister;
+import org.apache.commons.math3.random.RandomAdaptor;
+import org.moeaframework.core.Algorithm;
+import org.moeaframework.core.EpsilonBoxDominanceArchive;
+import org.moeaframework.core.EvolutionaryAlgorithm;
+import org.moeaframework.core.NondominatedPopulation;
+import org.moeaframework.core.PRNG;
+import org.moeaframework.core.Population;
+import org.moeaframework.core.Problem;
+import org.moeaframework.core.Solution;
+import org.moeaframework.util.ParallelLoop;
+import org.moeaframework.util.ThreadRandom;
+
+/**
+ * Island model running several algorithms, called islands, on the same
+ * problem while periodically exchanging solutions.  Each iteration of the
+ * island model, called an epoch, runs the following on every island:
+ * <ol>
+ *   <li>the immigrants received since the previous epoch replace randomly
+ *       selected members of the island's population;
+ *   <li>the island is stepped for the configured number of iterations; and
+ *   <li>copies of randomly selected members of the island's result are sent
+ *       to the neighboring islands defined by the {@link MigrationTopology}.
+ * </ol>
+ * Immigrants are delivered through a non-blocking queue per island, so
+ * islands never wait on one another within an epoch.  After each epoch, the
+ * results of all islands are merged into a global
+ * {@link EpsilonBoxDominanceArchive}.
+ * <p>
+ * The islands can be different algorithms, but only islands implementing
+ * {@link EvolutionaryAlgorithm} accept immigrants; other islands only send
+ * emigrants.  By calling {@link #setNumberOfThreads(int)}, the islands run
+ * concurrently, in which case the problem must be thread-safe.  Since the
+ * generator in {@code PRNG} is not thread-safe, each island then draws from
+ * its own random stream during an epoch, seeded from {@code PRNG} before the
+ * epoch and installed using {@link ThreadRandom}.  The results are no longer
+ * reproducible from a fixed seed, since the emigrants an island receives
+ * depend on the order in which the islands run.
+ */
+public class IslandModel extends AbstractAlgorithm {
+	
+	/**
+	 * The islands.
+	 */
+	private final List<Algorithm> islands;
+	
+	/**
+	 * The immigrants received by each island since the previous epoch.
+	 */
+	private final List<Queue<Solution>> mailboxes;
+	
+	/**
+	 * The indices of the neighbors receiving the emigrants of each island.
+	 */
+	private final int[][] neighbors;
+	
+	/**
+	 * The global archive merging the results of all islands.
+	 */
+	private final EpsilonBoxDominanceArchive archive;
+	
+	/**
+	 * The number of iterations each island runs between migrations.
+	 */
+	private final int migrationInterval;
+	
+	/**
+	 * The number of emigrants sent to each neighbor.
+	 */
+	private final int migrationSize;
+	
+	/**
+	 * The number of threads running the islands.
+	 */
+	private int numberOfThreads;
+	
+	/**
+	 * Constructs a new island model.
+	 * 
+	 * @param problem the problem being solved
+	 * @param islands the islands, each solving the same problem
+	 * @param archive the global archive merging the results of all islands
+	 * @param topology the topology connecting the islands
+	 * @param migrationInterval the number of iterations each island runs
+	 *        between migrations
+	 * @param migrationSize the number of emigrants sent to each neighbor
+	 * @throws IllegalArgumentException if no islands are given, the migration
+	 *         interval is not positive, or the migration size is negative
+	 */
+	public IslandModel(Problem problem, List<? extends Algorithm> islands,
+			EpsilonBoxDominanceArchive archive, MigrationTopology topology,
+			int migrationInterval, int migrationSize) {
+		super(problem);
+		
+		if (islands.isEmpty()) {
+			throw new IllegalArgumentException("requires at least one island");
+		}
+		
+		if (migrationInterval <= 0) {
+			throw new IllegalArgumentException(
+					"migration interval must be positive");
+		}
+		
+		if (migrationSize < 0) {
+			throw new IllegalArgumentException(
+					"migration size must be non-negative");
+		}
+		
+		this.islands = new ArrayList<Algorithm>(islands);
+		this.archive = archive;
+		this.migrationInterval = migrationInterval;
+		this.migrationSize = migrationSize;
+		
+		numberOfThreads = 1;
+		mailboxes = new ArrayList<Queue<Solution>>();
+		neighbors = new int[islands.size()][];
+		
+		for (int i = 0; i < islands.size(); i++) {
+			mailboxes.add(new ConcurrentLinkedQueue<Solution>());
+			neighbors[i] = topology.getNeighbors(i, islands.size());
+		}
+	}
+	
+	/**
+	 * Returns the number of threads running the islands.
+	 * 
+	 * @return the number of threads running the islands
+	 */
+	public int getNumberOfThreads() {
+		return numberOfThreads;
+	}
+	
+	/**
+	 * Sets the number of threads running the islands.  The default is
+	 * {@code 1}, running the islands in turn on the calling thread.  Using
+	 * more threads than islands has no additional benefit.
+	 * 
+	 * @param numberOfThreads the number of threads running the islands
+	 * @throws IllegalArgumentException if the number of threads is not
+	 *         positive
+	 */
+	public void setNumberOfThreads(int numberOfThreads) {
+		if (numberOfThreads <= 0) {
+			throw new IllegalArgumentException(
+					"number of threads must be positive");
+		}
+		
+		this.numberOfThreads = numberOfThreads;
+	}
+	
+	/**
+	 * Returns an unmodifiable view of the islands.
+	 * 
+	 * @return an unmodifiable view of the islands
+	 */
+	public List<Algorithm> getIslands() {
+		return Collections.unmodifiableList(islands);
+	}
+	
+	/**
+	 * Returns the global archive merging the results of all islands.
+	 * 
+	 * @return the global archive merging the results of all islands
+	 */
+	public EpsilonBoxDominanceArchive getArchive() {
+		return archive;
+	}
+	
+	@Override
+	public int getNumberOfEvaluations() {
+		int total = 0;
+		
+		for (Algorithm island : islands) {
+			total += island.getNumberOfEvaluations();
+		}
+		
+		return total;
+	}
+
+	@Override
+	public NondominatedPopulation getResult() {
+		return archive;
+	}
+
+	@Override
+	protected void initialize() {
+		super.initialize();
+		
+		runIslands(new ParallelLoop.Body() {
+
+			@Override
+			public void run(int index, int thread) {
+				islands.get(index).step();
+			}
+			
+		});
+		
+		updateArchive();
+	}
+
+	@Override
+	protected void iterate() {
+		runIslands(new ParallelLoop.Body() {
+
+			@Override
+			public void run(int index, int thread) {
+				Algorithm island = islands.get(index);
+				
+				receive(index);
+				
+				for (int i = 0; i < migrationInterval; i++) {
+					island.step();
+				}
+				
+				send(index);
+			}
+			
+		});
+		
+		updateArchive();
+	}
+	
+	/**
+	 * Runs the loop body for each island.  When using multiple threads, each
+	 * island draws from its own random stream, seeded from {@code PRNG} before
+	 * any island runs.
+	 * 
+	 * @param body the loop body, invoked with the index of each island
+	 */
+	private void runIslands(final ParallelLoop.Body body) {
+		if (numberOfThreads == 1) {
+			ParallelLoop.run(islands.size(), numberOfThreads, body);
+			return;
+		}
+		
+		final long[] seeds = new long[islands.size()];
+		
+		for (int i = 0; i < seeds.length; i++) {
+			seeds[i] = PRNG.nextLong();
+		}
+		
+		final ThreadRandom random = ThreadRandom.install();
+		
+		try {
+			ParallelLoop.run(islands.size(), numberOfThreads,
+					new ParallelLoop.Body() {
+
+				@Override
+				public void run(int index, int thread) {
+					random.set(new RandomAdaptor(new MersenneTwister(
+							seeds[index])));
+					
+					try {
+						body.run(index, thread);
+					} finally {
+						random.remove();
+					}
+				}
+				
+			});
+		} finally {
+			random.uninstall();
+		}
+	}
+	
+	/**
+	 * Replaces randomly selected members of the island's population with the
+	 * immigrants received since the previous epoch.  This method is only
+	 * called by the thread running the island.
+	 * 
+	 * @param index the index of the island
+	 */
+	private void receive(int index) {
+		Algorithm island = islands.get(index);
+		Queue<Solution> mailbox = mailboxes.get(index);
+		Solution immigrant = null;
+		
+		if (!(island instanceof EvolutionaryAlgorithm)) {
+			mailbox.clear();
+			return;
+		}
+		
+		Population population = ((EvolutionaryAlgorithm)island).getPopulation();
+		
+		while ((immigrant = mailbox.poll()) != null) {
+			if (population.isEmpty()) {
+				population.add(immigrant);
+			} else {
+				population.replace(PRNG.nextInt(population.size()), immigrant);
+			}
+		}
+	}
+	
+	/**
+	 * Sends copies of randomly selected members of the island's result to
+	 * each neighbor.  This method is only called by the thread running the
+	 * island.
+	 * 
+	 * @param index the index of the island
+	 */
+	private void send(int index) {
+		if ((migrationSize == 0) || (neighbors[index].length == 0)) {
+			return;
+		}
+		
+		NondominatedPopulation result = islands.get(index).getResult();
+		
+		if (result.isEmpty()) {
+			return;
+		}
+		
+		for (int neighbor : neighbors[index]) {
+			Queue<Solution> mailbox = mailboxes.get(neighbor);
+			
+			for (int i = 0; i < migrationSize; i++) {
+				mailbox.offer(result.get(PRNG.nextInt(result.size())).copy());
+			}
+		}
+	}
+	
+	/**
+	 * Merges the results of all islands into the global archive.
+	 */
+	private void updateArchive() {
+		for (Algorithm island : islands) {
+			archive.addAll(island.getResult());
+		}
+	}
+
+	@Override
+	public void terminate() {
+		super.terminate();
+		
+		for (Algorithm island : islands) {
+			if (!island.isTerminated()) {
+				island.terminate();
+			}
+		}
+	}
+
+}
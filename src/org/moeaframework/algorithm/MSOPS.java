@@ -91,7 +91,7 @@ public class MSOPS extends AbstractEvolutionaryAlgorithm {
 			offspring.addAll(children);
 		}
 
-		evaluateAll(offspring);
+		evaluateOffspring(offspring);
 		
 		population.addAll(offspring);
 		population.truncate(populationSize);
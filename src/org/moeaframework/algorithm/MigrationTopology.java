@@ -0,0 +1,174 @@
+/* Copyright 2009-2018 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm;
+
+import java.util.Arrays;
+
+/**
+ * Enumeration of the topologies connecting the islands in an
+ * {@link IslandModel}.  The topology determines which islands receive the
+ * emigrants of each island.
+ */
+public enum MigrationTopology {
+
+	/**
+	 * Each island sends emigrants to the next island, with the last island
+	 * sending to the first.
+	 */
+	RING {
+
+		@Override
+		public int[] getNeighbors(int island, int numberOfIslands) {
+			checkArguments(island, numberOfIslands);
+			
+			if (numberOfIslands == 1) {
+				return new int[0];
+			} else {
+				return new int[] { (island + 1) % numberOfIslands };
+			}
+		}
+
+	},
+
+	/**
+	 * The islands are arranged on a two-dimensional grid that wraps around at
+	 * its edges, and each island sends emigrants to the adjacent islands above,
+	 * below, left and right.  The grid has the largest number of rows not
+	 * exceeding the number of columns that evenly divides the islands, so a
+	 * prime number of islands forms a bidirectional ring.
+	 */
+	TORUS {
+
+		@Override
+		public int[] getNeighbors(int island, int numberOfIslands) {
+			checkArguments(island, numberOfIslands);
+			
+			int rows = (int)Math.sqrt(numberOfIslands);
+			
+			while (numberOfIslands % rows != 0) {
+				rows--;
+			}
+			
+			int columns = numberOfIslands / rows;
+			int row = island / columns;
+			int column = island % columns;
+			
+			int[] candidates = new int[] {
+					((row + rows - 1) % rows) * columns + column,
+					((row + 1) % rows) * columns + column,
+					row * columns + (column + columns - 1) % columns,
+					row * columns + (column + 1) % columns };
+			
+			// remove duplicates and self-loops on small grids
+			int[] neighbors = new int[candidates.length];
+			int count = 0;
+			
+			for (int candidate : candidates) {
+				boolean duplicate = (candidate == island);
+				
+				for (int i = 0; (i < count) && !duplicate; i++) {
+					duplicate = (neighbors[i] == candidate);
+				}
+				
+				if (!duplicate) {
+					neighbors[count++] = candidate;
+				}
+			}
+			
+			return Arrays.copyOf(neighbors, count);
+		}
+
+	},
+
+	/**
+	 * Each island sends emigrants to every other island.
+	 */
+	FULLY_CONNECTED {
+
+		@Override
+		public int[] getNeighbors(int island, int numberOfIslands) {
+			checkArguments(island, numberOfIslands);
+			
+			int[] neighbors = new int[numberOfIslands - 1];
+			
+			for (int i = 0; i < neighbors.length; i++) {
+				neighbors[i] = (i < island) ? i : i + 1;
+			}
+			
+			return neighbors;
+		}
+
+	};
+
+	/**
+	 * Returns the indices of the islands receiving the emigrants of the
+	 * specified island.  The returned array never contains the island itself.
+	 * 
+	 * @param island the index of the island sending the emigrants
+	 * @param numberOfIslands the number of islands
+	 * @return the indices of the islands receiving the emigrants of the
+	 *         specified island
+	 * @throws IllegalArgumentException if the number of islands is not
+	 *         positive or the island index is out of range
+	 */
+	public abstract int[] getNeighbors(int island, int numberOfIslands);
+
+	/**
+	 * Validates the arguments to {@link #getNeighbors(int, int)}.
+	 * 
+	 * @param island the index of the island sending the emigrants
+	 * @param numberOfIslands the number of islands
+	 * @throws IllegalArgumentException if the number of islands is not
+	 *         positive or the island index is out of range
+	 */
+	private static void checkArguments(int island, int numberOfIslands) {
+		if (numberOfIslands <= 0) {
+			throw new IllegalArgumentException(
+					"number of islands must be positive");
+		}
+		
+		if ((island < 0) || (island >= numberOfIslands)) {
+			throw new IllegalArgumentException("island index out of range");
+		}
+	}
+	
+	/**
+	 * Returns the topology with the specified name, ignoring case and treating
+	 * hyphens as underscores.  The name {@code "full"} is accepted for
+	 * {@link #FULLY_CONNECTED}.
+	 * 
+	 * @param name the name of the topology
+	 * @return the topology with the specified name
+	 * @throws IllegalArgumentException if no topology exists with the
+	 *         specified name
+	 */
+	public static MigrationTopology forName(String name) {
+		if (name.equalsIgnoreCase("full")) {
+			return FULLY_CONNECTED;
+		}
+		
+		for (MigrationTopology topology : values()) {
+			if (topology.name().equalsIgnoreCase(name.replace('-', '_'))) {
+				return topology;
+			}
+		}
+		
+		throw new IllegalArgumentException("unknown topology: " + name);
+	}
+
+}
@@ -115,6 +115,7 @@ public class NSGAII extends AbstractEvolutionaryAlgorithm implements
 				}
 				
 				// select the parents using a binary tournament
+				long start = startTiming();
 				Solution[] parents = new Solution[variation.getArity()];
 				
 				for (int i = 0; i < parents.length; i++) {
@@ -124,28 +125,40 @@ public class NSGAII extends AbstractEvolutionaryAlgorithm implements
 							comparator);
 				}
 				
+				stopTiming(Profiler.Phase.SELECTION, start);
+				
 				// evolve the children
+				start = startTiming();
 				offspring.addAll(variation.evolve(parents));
+				stopTiming(Profiler.Phase.VARIATION, start);
 			}
 		} else {
 			// run NSGA-II using selection with replacement; this version allows
 			// using custom selection operators
 			while (offspring.size() < populationSize) {
+				long start = startTiming();
 				Solution[] parents = selection.select(variation.getArity(),
 						population);
+				stopTiming(Profiler.Phase.SELECTION, start);
 
+				start = startTiming();
 				offspring.addAll(variation.evolve(parents));
+				stopTiming(Profiler.Phase.VARIATION, start);
 			}
 		}
 
-		evaluateAll(offspring);
+		evaluateOffspring(offspring);
 
 		if (archive != null) {
+			long start = startTiming();
 			archive.addAll(offspring);
+			stopTiming(Profiler.Phase.ARCHIVING, start);
 		}
 
+		long start = startTiming();
 		population.addAll(offspring);
 		population.truncate(populationSize);
+		stopTiming(Profiler.Phase.SORTING, start);
 	}
 
 	@Override
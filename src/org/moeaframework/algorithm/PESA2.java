@@ -65,7 +65,7 @@ public class PESA2 extends AbstractEvolutionaryAlgorithm {
 	 * A mapping from grid index to the solutions occupying that grid index.
 	 * This enables PESA2's region-based selection.
 	 */
-	protected Map<Integer, List<Solution>> gridMap;
+	protected Map<Long, List<Solution>> gridMap;
 
 	/**
 	 * Constructs a new PESA2 instance.
@@ -122,12 +122,12 @@ public class PESA2 extends AbstractEvolutionaryAlgorithm {
 	 * @return a mapping from grid index to the solutions occupying that grid
 	 *         index
 	 */
-	protected Map<Integer, List<Solution>> createGridMap() {
+	protected Map<Long, List<Solution>> createGridMap() {
 		AdaptiveGridArchive archive = getArchive();
-		Map<Integer, List<Solution>> result = new HashMap<Integer, List<Solution>>();
+		Map<Long, List<Solution>> result = new HashMap<Long, List<Solution>>();
 		
 		for (Solution solution : archive) {
-			int index = archive.findIndex(solution);
+			long index = archive.findIndex(solution);
 			List<Solution> solutions = result.get(index);
 			
 			if (solutions == null) {
@@ -172,12 +172,12 @@ public class PESA2 extends AbstractEvolutionaryAlgorithm {
 		 * 
 		 * @return the randomly selected map entry
 		 */
-		protected Entry<Integer, List<Solution>> draw() {
+		protected Entry<Long, List<Solution>> draw() {
 			int index = PRNG.nextInt(gridMap.size());
-			Iterator<Entry<Integer, List<Solution>>> iterator = gridMap.entrySet().iterator();
+			Iterator<Entry<Long, List<Solution>>> iterator = gridMap.entrySet().iterator();
 			
 			while (iterator.hasNext()) {
-				Entry<Integer, List<Solution>> entry = iterator.next();
+				Entry<Long, List<Solution>> entry = iterator.next();
 				
 				if (index == 0) {
 					return entry;
@@ -196,9 +196,9 @@ public class PESA2 extends AbstractEvolutionaryAlgorithm {
 		 */
 		protected Solution select() {
 			AdaptiveGridArchive archive = getArchive();
-			Entry<Integer, List<Solution>> entry1 = draw();
-			Entry<Integer, List<Solution>> entry2 = draw();
-			Entry<Integer, List<Solution>> selection = entry1;
+			Entry<Long, List<Solution>> entry1 = draw();
+			Entry<Long, List<Solution>> entry2 = draw();
+			Entry<Long, List<Solution>> selection = entry1;
 			
 			// pick the grid index with smaller density
 			if (entry1 != entry2) {
@@ -0,0 +1,199 @@
+/* Copyright 2009-2018 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm;
+
+import java.io.PrintStream;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Records the time, in nanoseconds, and the number of invocations of each
+ * phase of an algorithm.  Attach a profiler to an algorithm with
+ * {@link AbstractAlgorithm#setProfiler(Profiler)}.  Every
+ * {@code AbstractAlgorithm} records initialization and evaluation; the
+ * remaining phases are recorded by the algorithms performing them.  Phases
+ * may nest, for example the initialization phase includes evaluating the
+ * initial population, so the times should not be summed.
+ * <p>
+ * When solutions are evaluated asynchronously, such as by
+ * {@link org.moeaframework.util.distributed.DistributedProblem}, the
+ * evaluation phase only measures submitting each solution, and the time
+ * waiting for the result is recorded by the phase that first reads the
+ * objectives.
+ * <p>
+ * This class is thread-safe, so a single profiler can be shared by several
+ * algorithms running concurrently.
+ */
+public class Profiler {
+
+	/**
+	 * The phases of an algorithm recorded by a profiler.
+	 */
+	public static enum Phase {
+
+		/**
+		 * Initializing the algorithm, including evaluating the initial
+		 * population.
+		 */
+		INITIALIZATION("Initialization"),
+
+		/**
+		 * Selecting parents from the population.
+		 */
+		SELECTION("Selection"),
+
+		/**
+		 * Applying the variation operator to produce offspring.
+		 */
+		VARIATION("Variation"),
+
+		/**
+		 * Evaluating solutions.
+		 */
+		EVALUATION("Evaluation"),
+
+		/**
+		 * Non-dominated sorting and truncating the population.
+		 */
+		SORTING("Non-Dominated Sorting"),
+
+		/**
+		 * Adding solutions to the archive.
+		 */
+		ARCHIVING("Archive Update"),
+
+		/**
+		 * Assigning fitness values to solutions.
+		 */
+		FITNESS_ASSIGNMENT("Fitness Assignment");
+
+		/**
+		 * The display name of this phase.
+		 */
+		private final String displayName;
+
+		/**
+		 * Constructs a phase with the specified display name.
+		 * 
+		 * @param displayName the display name of this phase
+		 */
+		private Phase(String displayName) {
+			this.displayName = displayName;
+		}
+
+		@Override
+		public String toString() {
+			return displayName;
+		}
+
+	}
+
+	/**
+	 * The time, in nanoseconds, spent in each phase.
+	 */
+	private final AtomicLongArray times;
+
+	/**
+	 * The number of times each phase was recorded.
+	 */
+	private final AtomicLongArray counts;
+
+	/**
+	 * Constructs a new profiler with no recorded timings.
+	 */
+	public Profiler() {
+		super();
+
+		times = new AtomicLongArray(Phase.values().length);
+		counts = new AtomicLongArray(Phase.values().length);
+	}
+
+	/**
+	 * Records one invocation of the specified phase.
+	 * 
+	 * @param phase the phase
+	 * @param time the time, in nanoseconds, spent in the phase
+	 */
+	public void record(Phase phase, long time) {
+		record(phase, time, 1);
+	}
+
+	/**
+	 * Records several invocations of the specified phase.
+	 * 
+	 * @param phase the phase
+	 * @param time the total time, in nanoseconds, spent in the phase
+	 * @param count the number of invocations
+	 */
+	public void record(Phase phase, long time, long count) {
+		times.addAndGet(phase.ordinal(), time);
+		counts.addAndGet(phase.ordinal(), count);
+	}
+
+	/**
+	 * Returns the time, in nanoseconds, spent in the specified phase.
+	 * 
+	 * @param phase the phase
+	 * @return the time, in nanoseconds, spent in the specified phase
+	 */
+	public long getTime(Phase phase) {
+		return times.get(phase.ordinal());
+	}
+
+	/**
+	 * Returns the number of times the specified phase was recorded.
+	 * 
+	 * @param phase the phase
+	 * @return the number of times the specified phase was recorded
+	 */
+	public long getCount(Phase phase) {
+		return counts.get(phase.ordinal());
+	}
+
+	/**
+	 * Clears all recorded timings.
+	 */
+	public void clear() {
+		for (int i = 0; i < times.length(); i++) {
+			times.set(i, 0);
+			counts.set(i, 0);
+		}
+	}
+
+	/**
+	 * Prints a table summarizing the time, number of invocations and mean
+	 * time of each recorded phase.
+	 * 
+	 * @param ps the stream where the summary is printed
+	 */
+	public void print(PrintStream ps) {
+		ps.println(String.format("%-24s %12s %14s %14s", "Phase", "Count",
+				"Time (s)", "Mean (ms)"));
+
+		for (Phase phase : Phase.values()) {
+			long count = getCount(phase);
+
+			if (count > 0) {
+				long time = getTime(phase);
+
+				ps.println(String.format("%-24s %12d %14.6f %14.6f", phase,
+						count, time / 1e9, time / 1e6 / count));
+			}
+		}
+	}
+
+}
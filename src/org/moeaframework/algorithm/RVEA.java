@@ -130,7 +130,7 @@ public class RVEA extends AbstractEvolutionaryAlgorithm {
 			offspring.addAll(children);
 		}
 
-		evaluateAll(offspring);
+		evaluateOffspring(offspring);
 
 		// select the survivors
 		population.addAll(offspring);
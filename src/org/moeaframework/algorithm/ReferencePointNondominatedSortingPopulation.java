@@ -22,9 +22,7 @@ import static org.moeaframework.core.FastNondominatedSorting.RANK_ATTRIBUTE;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 import org.moeaframework.core.FrameworkException;
 import org.moeaframework.core.NondominatedSortingPopulation;
@@ -55,6 +53,11 @@ import org.moeaframework.util.weights.NormalBoundaryIntersectionGenerator;
  * for developing the first publicly available implementation of NSGA-III in
  * C++.
  * <p>
+ * The association of solutions to reference points is computed on primitive
+ * arrays and can be distributed across multiple threads using
+ * {@link #setNumberOfThreads(int)}, which is beneficial when there are many
+ * objectives and reference points.
+ * <p>
  * References:
  * <ol>
  *   <li>Deb, K. and Jain, H.  "An Evolutionary Many-Objective Optimization
@@ -99,6 +102,16 @@ public class ReferencePointNondominatedSortingPopulation extends NondominatedSor
 	 * The list of reference points, or weights.
 	 */
 	private List<double[]> weights;
+	
+	/**
+	 * The kernel associating solutions to the reference points.
+	 */
+	private ReferenceVectorAssociation association;
+	
+	/**
+	 * The number of threads used to associate solutions to reference points.
+	 */
+	private int numberOfThreads = 1;
 
 	/**
 	 * Constructs an empty population that maintains the {@code rank}
@@ -265,6 +278,38 @@ public class ReferencePointNondominatedSortingPopulation extends NondominatedSor
 		
 		weights = new NormalBoundaryIntersectionGenerator(numberOfObjectives,
 				divisionsOuter, divisionsInner).generate();
+		association = new ReferenceVectorAssociation(weights, numberOfThreads);
+	}
+	
+	/**
+	 * Returns the number of threads used to associate solutions to reference
+	 * points.
+	 * 
+	 * @return the number of threads used to associate solutions to reference
+	 *         points
+	 */
+	public int getNumberOfThreads() {
+		return numberOfThreads;
+	}
+	
+	/**
+	 * Sets the number of threads used to associate solutions to reference
+	 * points.  The default is {@code 1}, associating solutions on the calling
+	 * thread.
+	 * 
+	 * @param numberOfThreads the number of threads used to associate
+	 *        solutions to reference points
+	 * @throws IllegalArgumentException if the number of threads is not
+	 *         positive
+	 */
+	public void setNumberOfThreads(int numberOfThreads) {
+		if (numberOfThreads <= 0) {
+			throw new IllegalArgumentException(
+					"number of threads must be positive");
+		}
+		
+		this.numberOfThreads = numberOfThreads;
+		association = new ReferenceVectorAssociation(weights, numberOfThreads);
 	}
 
 	/**
@@ -542,26 +587,36 @@ public class ReferencePointNondominatedSortingPopulation extends NondominatedSor
 		for (int i = 0; i < weights.size(); i++) {
 			result.add(new ArrayList<Solution>());
 		}
+		
+		int[] indices = new int[population.size()];
+		association.associateByDistance(getNormalizedObjectives(population),
+				indices, null);
 
-		for (Solution solution : population) {
-			double[] objectives = (double[])solution.getAttribute(NORMALIZED_OBJECTIVES);
-			double minDistance = Double.POSITIVE_INFINITY;
-			int minIndex = -1;
-
-			for (int i = 0; i < weights.size(); i++) {
-				double distance = pointLineDistance(weights.get(i), objectives);
-
-				if (distance < minDistance) {
-					minDistance = distance;
-					minIndex = i;
-				}
-			}
-
-			result.get(minIndex).add(solution);
+		for (int i = 0; i < population.size(); i++) {
+			result.get(indices[i]).add(population.get(i));
 		}
 
 		return result;
 	}
+	
+	/**
+	 * Returns the normalized objectives of the solutions in the population.
+	 * The arrays stored in the {@value NORMALIZED_OBJECTIVES} attribute are
+	 * not copied.
+	 * 
+	 * @param population the population of solutions
+	 * @return the normalized objectives of the solutions in the population
+	 */
+	private static double[][] getNormalizedObjectives(Population population) {
+		double[][] result = new double[population.size()][];
+		
+		for (int i = 0; i < population.size(); i++) {
+			result[i] = (double[])population.get(i).getAttribute(
+					NORMALIZED_OBJECTIVES);
+		}
+		
+		return result;
+	}
 
 	/**
 	 * Returns the solution with the minimum perpendicular distance to the
@@ -635,48 +690,48 @@ public class ReferencePointNondominatedSortingPopulation extends NondominatedSor
 			removeAll(front);
 
 			// associate each solution to a reference point
-			List<List<Solution>> members = associateToReferencePoint(this);
-			List<List<Solution>> potentialMembers = associateToReferencePoint(front);
-			Set<Integer> excluded = new HashSet<Integer>();
+			int[] counts = new int[association.size()];
+			int[] indices = new int[size()];
+			
+			association.associateByDistance(getNormalizedObjectives(this),
+					indices, null);
+			
+			for (int i = 0; i < indices.length; i++) {
+				counts[indices[i]]++;
+			}
+			
+			PotentialMembers potentialMembers = new PotentialMembers(front);
+			boolean[] excluded = new boolean[association.size()];
+			int[] minIndices = new int[association.size()];
 
 			// loop over niche-preservation operation until population is full
 			while (size() < size) {
 				// identify reference point with the fewest associated members
-				List<Integer> minIndices = new ArrayList<Integer>();
+				int numberOfMinIndices = 0;
 				int minCount = Integer.MAX_VALUE;
 
-				for (int i = 0; i < members.size(); i++) {
-					if (!excluded.contains(i) && (members.get(i).size() <= minCount)) {
-						if (members.get(i).size() < minCount) {
-							minIndices.clear();
-							minCount = members.get(i).size();
+				for (int i = 0; i < counts.length; i++) {
+					if (!excluded[i] && (counts[i] <= minCount)) {
+						if (counts[i] < minCount) {
+							numberOfMinIndices = 0;
+							minCount = counts[i];
 						}
 						
-						minIndices.add(i);
+						minIndices[numberOfMinIndices++] = i;
 					}
 				}
 				
-				int minIndex = PRNG.nextItem(minIndices);
+				int minIndex = minIndices[PRNG.nextInt(numberOfMinIndices)];
 
 				// add associated solution
-				if (minCount == 0) {
-					if (potentialMembers.get(minIndex).isEmpty()) {
-						excluded.add(minIndex);
-					} else {
-						Solution minSolution = findSolutionWithMinimumDistance(potentialMembers.get(minIndex), weights.get(minIndex));
-						add(minSolution);
-						members.get(minIndex).add(minSolution);
-						potentialMembers.get(minIndex).remove(minSolution);
-					}
+				if (potentialMembers.isEmpty(minIndex)) {
+					excluded[minIndex] = true;
+				} else if (minCount == 0) {
+					add(potentialMembers.removeNearest(minIndex));
+					counts[minIndex]++;
 				} else {
-					if (potentialMembers.get(minIndex).isEmpty()) {
-						excluded.add(minIndex);
-					} else {
-						Solution randSolution = PRNG.nextItem(potentialMembers.get(minIndex));
-						add(randSolution);
-						members.get(minIndex).add(randSolution);
-						potentialMembers.get(minIndex).remove(randSolution);
-					}
+					add(potentialMembers.removeRandom(minIndex));
+					counts[minIndex]++;
 				}
 			}
 		}
@@ -691,4 +746,190 @@ public class ReferencePointNondominatedSortingPopulation extends NondominatedSor
 		truncate(size, new RankComparator());
 	}
 	
+	
+	/**
+	 * The solutions in the last front associated with each reference point,
+	 * which are the potential members added during niche preservation.  The
+	 * solutions associated with each reference point are stored twice: in
+	 * population order, for selecting a random solution identically to
+	 * selecting from a list; and sorted by their perpendicular distance, for
+	 * selecting the nearest solution.  Selected solutions are marked and
+	 * skipped lazily in the sorted order.
+	 */
+	private class PotentialMembers {
+		
+		/**
+		 * The solutions in the last front.
+		 */
+		private final Population front;
+		
+		/**
+		 * The offset of each reference point in {@code members} and
+		 * {@code nearest}.
+		 */
+		private final int[] offsets;
+		
+		/**
+		 * The number of remaining solutions associated with each reference
+		 * point.
+		 */
+		private final int[] sizes;
+		
+		/**
+		 * The indices of the remaining solutions associated with each
+		 * reference point, in population order.
+		 */
+		private final int[] members;
+		
+		/**
+		 * The indices of the solutions associated with each reference point,
+		 * sorted by increasing perpendicular distance.
+		 */
+		private final int[] nearest;
+		
+		/**
+		 * The position in {@code nearest} of the next candidate for each
+		 * reference point.
+		 */
+		private final int[] cursors;
+		
+		/**
+		 * {@code true} if the solution has been selected; {@code false}
+		 * otherwise.
+		 */
+		private final boolean[] selected;
+		
+		/**
+		 * Associates the solutions in the last front to the reference points.
+		 * 
+		 * @param front the solutions in the last front
+		 */
+		public PotentialMembers(Population front) {
+			super();
+			this.front = front;
+			
+			int n = front.size();
+			final int[] indices = new int[n];
+			final double[] distances = new double[n];
+			
+			association.associateByDistance(getNormalizedObjectives(front),
+					indices, distances);
+			
+			offsets = new int[association.size() + 1];
+			sizes = new int[association.size()];
+			members = new int[n];
+			nearest = new int[n];
+			cursors = new int[association.size()];
+			selected = new boolean[n];
+			
+			for (int i = 0; i < n; i++) {
+				sizes[indices[i]]++;
+			}
+			
+			for (int i = 0; i < sizes.length; i++) {
+				offsets[i+1] = offsets[i] + sizes[i];
+				cursors[i] = offsets[i];
+			}
+			
+			int[] positions = offsets.clone();
+			
+			for (int i = 0; i < n; i++) {
+				members[positions[indices[i]]++] = i;
+			}
+			
+			// stable sort by reference point and distance, so ties select the
+			// solution appearing first in the population
+			Integer[] order = new Integer[n];
+			
+			for (int i = 0; i < n; i++) {
+				order[i] = i;
+			}
+			
+			Arrays.sort(order, new Comparator<Integer>() {
+
+				@Override
+				public int compare(Integer i1, Integer i2) {
+					if (indices[i1] != indices[i2]) {
+						return indices[i1] < indices[i2] ? -1 : 1;
+					}
+					
+					return Double.compare(distances[i1], distances[i2]);
+				}
+				
+			});
+			
+			for (int i = 0; i < n; i++) {
+				nearest[i] = order[i];
+			}
+		}
+		
+		/**
+		 * Returns {@code true} if no solutions remain associated with the
+		 * reference point; {@code false} otherwise.
+		 * 
+		 * @param index the index of the reference point
+		 * @return {@code true} if no solutions remain associated with the
+		 *         reference point; {@code false} otherwise
+		 */
+		public boolean isEmpty(int index) {
+			return sizes[index] == 0;
+		}
+		
+		/**
+		 * Removes and returns the solution associated with the reference point
+		 * having the minimum perpendicular distance.
+		 * 
+		 * @param index the index of the reference point
+		 * @return the solution nearest to the reference point
+		 */
+		public Solution removeNearest(int index) {
+			while (selected[nearest[cursors[index]]]) {
+				cursors[index]++;
+			}
+			
+			int member = nearest[cursors[index]];
+			
+			for (int i = 0; i < sizes[index]; i++) {
+				if (members[offsets[index] + i] == member) {
+					return remove(index, i);
+				}
+			}
+			
+			throw new IllegalStateException();
+		}
+		
+		/**
+		 * Removes and returns a randomly selected solution associated with the
+		 * reference point.
+		 * 
+		 * @param index the index of the reference point
+		 * @return the randomly selected solution
+		 */
+		public Solution removeRandom(int index) {
+			return remove(index, PRNG.nextInt(sizes[index]));
+		}
+		
+		/**
+		 * Removes and returns the solution at the specified position in the
+		 * list of solutions associated with the reference point.
+		 * 
+		 * @param index the index of the reference point
+		 * @param position the position of the solution
+		 * @return the removed solution
+		 */
+		private Solution remove(int index, int position) {
+			int start = offsets[index];
+			int member = members[start + position];
+			
+			System.arraycopy(members, start + position + 1, members,
+					start + position, sizes[index] - position - 1);
+			sizes[index]--;
+			selected[member] = true;
+			
+			return front.get(member);
+		}
+		
+	}
+	
+
 }
@@ -0,0 +1,205 @@
+/* Copyright 2009-2018 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm;
+
+import java.util.List;
+
+import org.moeaframework.util.ParallelLoop;
+
+/**
+ * Associates points in objective space with reference vectors, shared by the
+ * populations used in {@link NSGAIII} and {@link RVEA}.  The reference
+ * vectors are copied into a primitive matrix along with their squared
+ * magnitudes, and the points are provided as a primitive matrix, so the inner
+ * loop only performs arithmetic on arrays.  Points are processed in
+ * interleaved blocks by one or more threads.
+ */
+class ReferenceVectorAssociation {
+	
+	/**
+	 * The reference vectors.
+	 */
+	private final double[][] weights;
+	
+	/**
+	 * The squared magnitude of each reference vector.
+	 */
+	private final double[] squaredMagnitudes;
+	
+	/**
+	 * The number of threads used to associate points.
+	 */
+	private final int numberOfThreads;
+	
+	/**
+	 * Constructs a new association kernel for the specified reference vectors.
+	 * The reference vectors are copied.
+	 * 
+	 * @param weights the reference vectors
+	 * @param numberOfThreads the number of threads used to associate points
+	 */
+	public ReferenceVectorAssociation(List<double[]> weights,
+			int numberOfThreads) {
+		super();
+		this.numberOfThreads = numberOfThreads;
+		
+		this.weights = new double[weights.size()][];
+		squaredMagnitudes = new double[weights.size()];
+		
+		for (int i = 0; i < weights.size(); i++) {
+			this.weights[i] = weights.get(i).clone();
+			squaredMagnitudes[i] = dot(this.weights[i], this.weights[i]);
+		}
+	}
+	
+	/**
+	 * Returns the number of reference vectors.
+	 * 
+	 * @return the number of reference vectors
+	 */
+	public int size() {
+		return weights.length;
+	}
+	
+	/**
+	 * Associates each point with the reference vector at the minimum
+	 * perpendicular distance.  When several reference vectors are equally
+	 * distant, the first is selected.
+	 * 
+	 * @param points the points
+	 * @param indices the array receiving the index of the reference vector
+	 *        associated with each point
+	 * @param distances the array receiving the perpendicular distance between
+	 *        each point and its associated reference vector; or {@code null}
+	 *        if the distances are not required
+	 */
+	public void associateByDistance(final double[][] points,
+			final int[] indices, final double[] distances) {
+		ParallelLoop.run(points.length, numberOfThreads,
+				new ParallelLoop.Body() {
+
+			@Override
+			public void run(int index, int thread) {
+				double[] point = points[index];
+				double minDistance = Double.POSITIVE_INFINITY;
+				int minIndex = -1;
+				
+				for (int i = 0; i < weights.length; i++) {
+					double distance = squaredDistance(i, point);
+					
+					if (distance < minDistance) {
+						minDistance = distance;
+						minIndex = i;
+					}
+				}
+				
+				indices[index] = Math.max(minIndex, 0);
+				
+				if (distances != null) {
+					distances[index] = Math.sqrt(minDistance);
+				}
+			}
+			
+		});
+	}
+	
+	/**
+	 * Associates each point with the reference vector forming the smallest
+	 * angle, which is the reference vector with the largest cosine.  The
+	 * reference vectors must be normalized to have a magnitude of {@code 1}.
+	 * Since the magnitude of the point is the same for all reference vectors,
+	 * only the dot products are compared.  When several reference vectors
+	 * have the same cosine, or the cosine is undefined because the point is at
+	 * the origin, the first is selected.
+	 * 
+	 * @param points the points
+	 * @param indices the array receiving the index of the reference vector
+	 *        associated with each point
+	 * @param cosines the array receiving the cosine between each point and its
+	 *        associated reference vector; or {@code null} if the cosines are
+	 *        not required
+	 */
+	public void associateByCosine(final double[][] points,
+			final int[] indices, final double[] cosines) {
+		ParallelLoop.run(points.length, numberOfThreads,
+				new ParallelLoop.Body() {
+
+			@Override
+			public void run(int index, int thread) {
+				double[] point = points[index];
+				double maxDot = Double.NEGATIVE_INFINITY;
+				int maxIndex = -1;
+				
+				for (int i = 0; i < weights.length; i++) {
+					double value = dot(point, weights[i]);
+					
+					if (value > maxDot) {
+						maxDot = value;
+						maxIndex = i;
+					}
+				}
+				
+				indices[index] = Math.max(maxIndex, 0);
+				
+				if (cosines != null) {
+					cosines[index] = maxDot / Math.sqrt(dot(point, point));
+				}
+			}
+			
+		});
+	}
+	
+	/**
+	 * Returns the squared perpendicular distance between a point and the line
+	 * through the origin and the specified reference vector.
+	 * 
+	 * @param index the index of the reference vector
+	 * @param point the point
+	 * @return the squared perpendicular distance
+	 */
+	public double squaredDistance(int index, double[] point) {
+		double[] weight = weights[index];
+		double scale = dot(weight, point) / squaredMagnitudes[index];
+		double sum = 0.0;
+		
+		for (int i = 0; i < weight.length; i++) {
+			double difference = scale * weight[i] - point[i];
+			sum += difference * difference;
+		}
+		
+		return sum;
+	}
+	
+	/**
+	 * Returns the dot product of two vectors.
+	 * 
+	 * @param u the first vector
+	 * @param v the second vector
+	 * @return the dot product of the two vectors
+	 */
+	private static double dot(double[] u, double[] v) {
+		double sum = 0.0;
+		
+		for (int i = 0; i < u.length; i++) {
+			sum += u[i] * v[i];
+		}
+		
+		return sum;
+	}
+
+}
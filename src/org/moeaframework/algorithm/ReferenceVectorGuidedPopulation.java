@@ -94,6 +94,11 @@ public class ReferenceVectorGuidedPopulation extends Population {
 	 */
 	private final double alpha;
 	
+	/**
+	 * The number of threads used to associate solutions to reference vectors.
+	 */
+	private int numberOfThreads = 1;
+	
 	/**
 	 * Constructs a new population for RVEA.
 	 * 
@@ -193,6 +198,36 @@ public class ReferenceVectorGuidedPopulation extends Population {
 		this.scalingFactor = scalingFactor;
 	}
 	
+	/**
+	 * Returns the number of threads used to associate solutions to reference
+	 * vectors.
+	 * 
+	 * @return the number of threads used to associate solutions to reference
+	 *         vectors
+	 */
+	public int getNumberOfThreads() {
+		return numberOfThreads;
+	}
+	
+	/**
+	 * Sets the number of threads used to associate solutions to reference
+	 * vectors.  The default is {@code 1}, associating solutions on the calling
+	 * thread.
+	 * 
+	 * @param numberOfThreads the number of threads used to associate
+	 *        solutions to reference vectors
+	 * @throws IllegalArgumentException if the number of threads is not
+	 *         positive
+	 */
+	public void setNumberOfThreads(int numberOfThreads) {
+		if (numberOfThreads <= 0) {
+			throw new IllegalArgumentException(
+					"number of threads must be positive");
+		}
+		
+		this.numberOfThreads = numberOfThreads;
+	}
+	
 	/**
 	 * Normalize the reference vectors.
 	 */
@@ -342,30 +377,23 @@ public class ReferenceVectorGuidedPopulation extends Population {
 		for (int i = 0; i < weights.size(); i++) {
 			result.add(new ArrayList<Solution>());
 		}
+		
+		double[][] points = new double[population.size()][];
+		int[] indices = new int[population.size()];
+		
+		for (int i = 0; i < population.size(); i++) {
+			points[i] = (double[])population.get(i).getAttribute(
+					NORMALIZED_OBJECTIVES);
+		}
+		
+		// if there is only a single solution, then the normalized objectives
+		// will be 0 (since the ideal point == the solution); in this case,
+		// the solution is associated with the first reference vector
+		new ReferenceVectorAssociation(weights, numberOfThreads)
+				.associateByCosine(points, indices, null);
 
-		for (Solution solution : population) {
-			double[] objectives = (double[])solution.getAttribute(NORMALIZED_OBJECTIVES);
-			double maxDistance = Double.NEGATIVE_INFINITY;
-			int maxIndex = -1;
-
-			for (int i = 0; i < weights.size(); i++) {
-				double distance = cosine(weights.get(i), objectives);
-
-				if (distance > maxDistance) {
-					maxDistance = distance;
-					maxIndex = i;
-				}
-			}
-			
-			// if there is only a single solution, then the normalized
-			// objectives will be 0 (since the ideal point == the solution);
-			// in this case, the solution could be associated with any
-			// reference vector
-			if (maxIndex < 0) {
-				maxIndex = 0;
-			}
-
-			result.get(maxIndex).add(solution);
+		for (int i = 0; i < population.size(); i++) {
+			result.get(indices[i]).add(population.get(i));
 		}
 
 		return result;
@@ -17,15 +17,9 @@
  */
 package org.moeaframework.algorithm;
 
-import java.util.Collections;
-import java.util.Comparator;
 import java.util.Iterator;
-import java.util.LinkedList;
-import java.util.List;
-import java.util.ListIterator;
 
 import org.apache.commons.math3.util.KthSelector;
-import org.apache.commons.math3.util.Pair;
 import org.moeaframework.core.FitnessEvaluator;
 import org.moeaframework.core.Initialization;
 import org.moeaframework.core.Population;
@@ -38,6 +32,7 @@ import org.moeaframework.core.comparator.FitnessComparator;
 import org.moeaframework.core.comparator.ParetoDominanceComparator;
 import org.moeaframework.core.indicator.IndicatorUtils;
 import org.moeaframework.core.operator.TournamentSelection;
+import org.moeaframework.util.ParallelLoop;
 
 /**
  * Implementation of the strength-based evolutionary algorithm (SPEA2).  SPEA2
@@ -55,6 +50,10 @@ import org.moeaframework.core.operator.TournamentSelection;
  * option.  {@code k} should be at least {@code 1} and no larger than
  * {@code population.size()}.
  * <p>
+ * The pair-wise distances between solutions are computed once per iteration,
+ * optionally using multiple threads, and shared by the fitness evaluation and
+ * the truncation of the archive.
+ * <p>
  * References:
  * <ol>
  *   <li>Zitzler, E., M. Laumanns, and L. Thiele (2001).  SPEA2: Improving the
@@ -87,6 +86,24 @@ public class SPEA2 extends AbstractEvolutionaryAlgorithm {
 	 * Compares solutions based on strength.
 	 */
 	protected final FitnessComparator fitnessComparator;
+	
+	/**
+	 * The number of threads used to compute the distance matrix.
+	 */
+	private int numberOfThreads;
+	
+	/**
+	 * The solutions used to compute {@link #distanceMatrix}; or {@code null}
+	 * if no distance matrix is cached.
+	 */
+	private Solution[] distanceMatrixSolutions;
+	
+	/**
+	 * The distance matrix computed by the last call to the fitness evaluator,
+	 * which is reused when truncating the same solutions; or {@code null} if
+	 * no distance matrix is cached.
+	 */
+	private double[][] distanceMatrix;
 
 	/**
 	 * Constructs a new instance of SPEA2.
@@ -107,13 +124,43 @@ public class SPEA2 extends AbstractEvolutionaryAlgorithm {
 		fitnessEvaluator = new StrengthFitnessEvaluator(k);
 		fitnessComparator = new FitnessComparator(fitnessEvaluator.areLargerValuesPreferred());
 		selection = new TournamentSelection(fitnessComparator);
+		numberOfThreads = 1;
+	}
+	
+	/**
+	 * Returns the number of threads used to compute the distance matrix.
+	 * 
+	 * @return the number of threads used to compute the distance matrix
+	 */
+	public int getNumberOfThreads() {
+		return numberOfThreads;
+	}
+	
+	/**
+	 * Sets the number of threads used to compute the distance matrix.  The
+	 * default is {@code 1}, computing the distances on the calling thread.
+	 * 
+	 * @param numberOfThreads the number of threads used to compute the
+	 *        distance matrix
+	 * @throws IllegalArgumentException if the number of threads is not
+	 *         positive
+	 */
+	public void setNumberOfThreads(int numberOfThreads) {
+		if (numberOfThreads <= 0) {
+			throw new IllegalArgumentException(
+					"number of threads must be positive");
+		}
+		
+		this.numberOfThreads = numberOfThreads;
 	}
 
 	@Override
 	protected void initialize() {
 		super.initialize();
 		
+		long start = startTiming();
 		fitnessEvaluator.evaluate(population);
+		stopTiming(Profiler.Phase.FITNESS_ASSIGNMENT, start);
 	}
 
 	@Override
@@ -123,23 +170,30 @@ public class SPEA2 extends AbstractEvolutionaryAlgorithm {
 		int populationSize = population.size();
 
 		while (offspring.size() < numberOfOffspring) {
+			long start = startTiming();
 			Solution[] parents = selection.select(variation.getArity(),
 					population);
+			stopTiming(Profiler.Phase.SELECTION, start);
+			
+			start = startTiming();
 			Solution[] children = variation.evolve(parents);
+			stopTiming(Profiler.Phase.VARIATION, start);
 
 			offspring.addAll(children);
 		}
 
 		// evaluate the offspring
-		evaluateAll(offspring);
+		evaluateOffspring(offspring);
 		
 		// evaluate the fitness of the population and offspring
+		long start = startTiming();
 		offspring.addAll(population);
 		fitnessEvaluator.evaluate(offspring);
 		
 		// perform environmental selection to downselect the next population
 		population.clear();
 		population.addAll(truncate(offspring, populationSize));
+		stopTiming(Profiler.Phase.FITNESS_ASSIGNMENT, start);
 	}
 	
 	/**
@@ -150,7 +204,10 @@ public class SPEA2 extends AbstractEvolutionaryAlgorithm {
 	 * @return the population of solutions that survive to the next generation
 	 */
 	protected Population truncate(Population offspring, int size) {
+		double[][] distances = getCachedDistanceMatrix(offspring);
 		Population survivors = new Population();
+		int[] points = new int[offspring.size()];
+		int index = 0;
 		
 		// add all non-dominated solutions with a fitness < 1
 		Iterator<Solution> iterator = offspring.iterator();
@@ -161,9 +218,12 @@ public class SPEA2 extends AbstractEvolutionaryAlgorithm {
 					FitnessEvaluator.FITNESS_ATTRIBUTE);
 			
 			if (fitness < 1.0) {
+				points[survivors.size()] = index;
 				survivors.add(solution);
 				iterator.remove();
 			}
+			
+			index++;
 		}
 		
 		if (survivors.size() < size) {
@@ -176,19 +236,72 @@ public class SPEA2 extends AbstractEvolutionaryAlgorithm {
 			}
 		} else if (survivors.size() > size) {
 			// some of the survivors must be truncated
-			MutableDistanceMap map = new MutableDistanceMap(computeDistanceMatrix(survivors));
+			int[] rows = new int[survivors.size()];
+			
+			if (distances == null) {
+				distances = computeDistanceMatrix(survivors);
+				
+				for (int i = 0; i < rows.length; i++) {
+					rows[i] = i;
+				}
+			} else {
+				System.arraycopy(points, 0, rows, 0, rows.length);
+			}
+			
+			MutableDistanceMap map = new MutableDistanceMap(distances, rows,
+					numberOfThreads);
 			
 			while (survivors.size() > size) {
-				int index = map.findMostCrowdedPoint();
+				int mostCrowded = map.findMostCrowdedPoint();
 				
-				map.removePoint(index);
-				survivors.remove(index);
+				map.removePoint(mostCrowded);
+				survivors.remove(mostCrowded);
 			}
 		}
 		
+		distanceMatrixSolutions = null;
+		distanceMatrix = null;
+		
 		return survivors;
 	}
 	
+	/**
+	 * Returns the distance matrix computed by the last call to the fitness
+	 * evaluator if it was computed for the same solutions as the specified
+	 * population; otherwise returns {@code null}.
+	 * 
+	 * @param population the population of solutions
+	 * @return the cached distance matrix for the specified population; or
+	 *         {@code null} if no such distance matrix is cached
+	 */
+	private double[][] getCachedDistanceMatrix(Population population) {
+		boolean cached = (distanceMatrixSolutions != null) &&
+				(distanceMatrixSolutions.length == population.size());
+		
+		for (int i = 0; cached && (i < population.size()); i++) {
+			cached = (distanceMatrixSolutions[i] == population.get(i));
+		}
+		
+		return cached ? distanceMatrix : null;
+	}
+	
+	/**
+	 * Caches the distance matrix computed for the specified population so it
+	 * can be reused when truncating the same solutions.
+	 * 
+	 * @param population the population of solutions
+	 * @param distances the distance matrix
+	 */
+	private void cacheDistanceMatrix(Population population,
+			double[][] distances) {
+		distanceMatrix = distances;
+		distanceMatrixSolutions = new Solution[population.size()];
+		
+		for (int i = 0; i < population.size(); i++) {
+			distanceMatrixSolutions[i] = population.get(i);
+		}
+	}
+	
 	/**
 	 * Computes the distance matrix containing the pair-wise distances between
 	 * solutions in objective space.  The diagonal will contain all 0's.
@@ -196,18 +309,24 @@ public class SPEA2 extends AbstractEvolutionaryAlgorithm {
 	 * @param population the population of solutions
 	 * @return the distance matrix
 	 */
-	protected double[][] computeDistanceMatrix(Population population) {
-		double[][] distances = new double[population.size()][population.size()];
+	protected double[][] computeDistanceMatrix(final Population population) {
+		final int n = population.size();
+		final double[][] distances = new double[n][n];
 		
-		for (int i = 0; i < population.size(); i++) {
-			distances[i][i] = 0.0;
-			
-			for (int j = i+1; j < population.size(); j++) {
-				distances[i][j] = distances[j][i] = 
-						IndicatorUtils.euclideanDistance(problem,
-								population.get(i), population.get(j));
+		ParallelLoop.run(n, numberOfThreads, new ParallelLoop.Body() {
+
+			@Override
+			public void run(int i, int thread) {
+				distances[i][i] = 0.0;
+				
+				for (int j = i+1; j < n; j++) {
+					distances[i][j] = distances[j][i] = 
+							IndicatorUtils.euclideanDistance(problem,
+									population.get(i), population.get(j));
+				}
 			}
-		}
+			
+		});
 		
 		return distances;
 	}
@@ -215,13 +334,45 @@ public class SPEA2 extends AbstractEvolutionaryAlgorithm {
 	/**
 	 * Mapping of pair-wise distances between points.  This mapping is mutable,
 	 * allowing points to be removed.
+	 * <p>
+	 * The neighbors of each point are stored in primitive arrays sorted by
+	 * distance.  Removed points are marked and skipped lazily when scanning the
+	 * neighbors, so removing a point takes {@code O(N)} time rather than
+	 * updating the neighbors of every other point.
 	 */
 	public static class MutableDistanceMap {
 		
 		/**
-		 * The internal mapping of distances.
+		 * The neighbors of each point, sorted by increasing distance.
+		 */
+		private int[][] neighbors;
+		
+		/**
+		 * The distances to the neighbors of each point, sorted in increasing
+		 * order.
+		 */
+		private double[][] distances;
+		
+		/**
+		 * The position of the nearest neighbor of each point that has not been
+		 * removed.  Positions before this value only reference removed points.
+		 */
+		private int[] nearest;
+		
+		/**
+		 * {@code true} if the point has been removed; {@code false} otherwise.
 		 */
-		private List<List<Pair<Integer, Double>>> distanceMatrix;
+		private boolean[] removed;
+		
+		/**
+		 * The point stored at each index in this mapping.
+		 */
+		private int[] points;
+		
+		/**
+		 * The number of points remaining in this mapping.
+		 */
+		private int size;
 		
 		/**
 		 * Constructs a new mapping of pair-wise distances between points.
@@ -233,35 +384,197 @@ public class SPEA2 extends AbstractEvolutionaryAlgorithm {
 			initialize(rawDistanceMatrix);
 		}
 		
+		/**
+		 * Constructs a new mapping of pair-wise distances between a subset of
+		 * the points in the distance matrix.  The point at index {@code i}
+		 * in this mapping corresponds to row {@code rows[i]} in the distance
+		 * matrix.
+		 * 
+		 * @param rawDistanceMatrix the distance matrix
+		 * @param rows the rows in the distance matrix included in this mapping
+		 * @param numberOfThreads the number of threads used to sort the
+		 *        distances
+		 */
+		public MutableDistanceMap(double[][] rawDistanceMatrix, int[] rows,
+				int numberOfThreads) {
+			super();
+			initialize(rawDistanceMatrix, rows, numberOfThreads);
+		}
+		
 		/**
 		 * Initializes the internal data structures.
 		 * 
 		 * @param rawDistanceMatrix the distance matrix
 		 */
 		protected void initialize(double[][] rawDistanceMatrix) {
-			distanceMatrix = new LinkedList<List<Pair<Integer, Double>>>();
+			int[] rows = new int[rawDistanceMatrix.length];
 			
-			for (int i = 0; i < rawDistanceMatrix.length; i++) {
-				List<Pair<Integer, Double>> distances = new LinkedList<Pair<Integer, Double>>();
-				
-				for (int j = 0; j < rawDistanceMatrix[i].length; j++) {
-					if (i != j) {
-						distances.add(new Pair<Integer, Double>(j, rawDistanceMatrix[i][j]));
+			for (int i = 0; i < rows.length; i++) {
+				rows[i] = i;
+			}
+			
+			initialize(rawDistanceMatrix, rows, 1);
+		}
+		
+		/**
+		 * Initializes the internal data structures.
+		 * 
+		 * @param rawDistanceMatrix the distance matrix
+		 * @param rows the rows in the distance matrix included in this mapping
+		 * @param numberOfThreads the number of threads used to sort the
+		 *        distances
+		 */
+		protected void initialize(final double[][] rawDistanceMatrix,
+				final int[] rows, int numberOfThreads) {
+			final int n = rows.length;
+			
+			neighbors = new int[n][];
+			distances = new double[n][];
+			nearest = new int[n];
+			removed = new boolean[n];
+			points = new int[n];
+			size = n;
+			
+			for (int i = 0; i < n; i++) {
+				points[i] = i;
+			}
+			
+			ParallelLoop.run(n, numberOfThreads, new ParallelLoop.Body() {
+
+				@Override
+				public void run(int i, int thread) {
+					double[] row = rawDistanceMatrix[rows[i]];
+					int[] neighbor = new int[n-1];
+					double[] distance = new double[n-1];
+					int count = 0;
+					
+					for (int j = 0; j < n; j++) {
+						if (i != j) {
+							neighbor[count] = j;
+							distance[count] = row[rows[j]];
+							count++;
+						}
 					}
+					
+					sort(distance, neighbor, 0, count-1);
+					
+					neighbors[i] = neighbor;
+					distances[i] = distance;
 				}
 				
-				Collections.sort(distances, new Comparator<Pair<Integer, Double>>() {
-
-					@Override
-					public int compare(Pair<Integer, Double> o1,
-							Pair<Integer, Double> o2) {
-						return Double.compare(o1.getSecond(), o2.getSecond());
+			});
+		}
+		
+		/**
+		 * Sorts the distances in increasing order, applying the same
+		 * permutation to the neighbors.
+		 * 
+		 * @param distance the distances
+		 * @param neighbor the neighbors
+		 * @param lo the first index to sort, inclusive
+		 * @param hi the last index to sort, inclusive
+		 */
+		private static void sort(double[] distance, int[] neighbor, int lo,
+				int hi) {
+			while (hi - lo > 16) {
+				int mid = (lo + hi) >>> 1;
+				
+				// median of three pivot
+				if (Double.compare(distance[mid], distance[lo]) < 0) {
+					swap(distance, neighbor, lo, mid);
+				}
+				
+				if (Double.compare(distance[hi], distance[lo]) < 0) {
+					swap(distance, neighbor, lo, hi);
+				}
+				
+				if (Double.compare(distance[hi], distance[mid]) < 0) {
+					swap(distance, neighbor, mid, hi);
+				}
+				
+				double pivot = distance[mid];
+				int i = lo;
+				int j = hi;
+				
+				while (i <= j) {
+					while (Double.compare(distance[i], pivot) < 0) {
+						i++;
 					}
 					
-				});
+					while (Double.compare(distance[j], pivot) > 0) {
+						j--;
+					}
+					
+					if (i <= j) {
+						swap(distance, neighbor, i, j);
+						i++;
+						j--;
+					}
+				}
+				
+				// recurse on the smaller partition to limit the stack depth
+				if (j - lo < hi - i) {
+					sort(distance, neighbor, lo, j);
+					lo = i;
+				} else {
+					sort(distance, neighbor, i, hi);
+					hi = j;
+				}
+			}
+			
+			for (int i = lo + 1; i <= hi; i++) {
+				double key = distance[i];
+				int value = neighbor[i];
+				int j = i - 1;
+				
+				while ((j >= lo) && (Double.compare(distance[j], key) > 0)) {
+					distance[j+1] = distance[j];
+					neighbor[j+1] = neighbor[j];
+					j--;
+				}
 				
-				distanceMatrix.add(distances);
+				distance[j+1] = key;
+				neighbor[j+1] = value;
+			}
+		}
+		
+		/**
+		 * Swaps two entries in the distance and neighbor arrays.
+		 * 
+		 * @param distance the distances
+		 * @param neighbor the neighbors
+		 * @param i the first index
+		 * @param j the second index
+		 */
+		private static void swap(double[] distance, int[] neighbor, int i,
+				int j) {
+			double tempDistance = distance[i];
+			distance[i] = distance[j];
+			distance[j] = tempDistance;
+			
+			int tempNeighbor = neighbor[i];
+			neighbor[i] = neighbor[j];
+			neighbor[j] = tempNeighbor;
+		}
+		
+		/**
+		 * Returns the position of the next neighbor of the point that has not
+		 * been removed, starting at the given position.
+		 * 
+		 * @param point the point
+		 * @param position the starting position
+		 * @return the position of the next neighbor that has not been removed;
+		 *         or the number of neighbors if no such neighbor exists
+		 */
+		private int next(int point, int position) {
+			int[] neighbor = neighbors[point];
+			
+			while ((position < neighbor.length) &&
+					removed[neighbor[position]]) {
+				position++;
 			}
+			
+			return position;
 		}
 		
 		/**
@@ -276,17 +589,34 @@ public class SPEA2 extends AbstractEvolutionaryAlgorithm {
 			double minimumDistance = Double.POSITIVE_INFINITY;
 			int minimumIndex = -1;
 			
-			for (int i = 0; i < distanceMatrix.size(); i++) {
-				List<Pair<Integer, Double>> distances = distanceMatrix.get(i);
-				Pair<Integer, Double> point = distances.get(0);
+			for (int i = 0; i < size; i++) {
+				int point = points[i];
+				nearest[point] = next(point, nearest[point]);
+				
+				double distance = nearest[point] < distances[point].length ?
+						distances[point][nearest[point]] :
+						Double.POSITIVE_INFINITY;
 				
-				if (point.getSecond() < minimumDistance) {
-					minimumDistance = point.getSecond();
+				if (distance < minimumDistance) {
+					minimumDistance = distance;
 					minimumIndex = i;
-				} else if (point.getSecond() == minimumDistance) {
-					for (int k = 0; k < distances.size(); k++) {
-						double kdist1 = distances.get(k).getSecond();
-						double kdist2 = distanceMatrix.get(minimumIndex).get(k).getSecond();
+				} else if ((distance == minimumDistance) &&
+						(minimumIndex >= 0)) {
+					int minimumPoint = points[minimumIndex];
+					int k1 = nearest[point];
+					int k2 = nearest[minimumPoint];
+					
+					while (true) {
+						k1 = next(point, k1);
+						k2 = next(minimumPoint, k2);
+						
+						if ((k1 >= distances[point].length) ||
+								(k2 >= distances[minimumPoint].length)) {
+							break;
+						}
+						
+						double kdist1 = distances[point][k1];
+						double kdist2 = distances[minimumPoint][k2];
 
 						if (kdist1 < kdist2) {
 							minimumIndex = i;
@@ -294,6 +624,9 @@ public class SPEA2 extends AbstractEvolutionaryAlgorithm {
 						} else if (kdist2 < kdist1) {
 							break;
 						}
+						
+						k1++;
+						k2++;
 					}
 				}
 			}
@@ -302,29 +635,15 @@ public class SPEA2 extends AbstractEvolutionaryAlgorithm {
 		}
 		
 		/**
-		 * Removes the point with the given index.
+		 * Removes the point with the given index.  The indices of the points
+		 * following the removed point are decremented.
 		 * 
 		 * @param index the index to remove
 		 */
 		public void removePoint(int index) {
-			distanceMatrix.remove(index);
-			
-			for (List<Pair<Integer, Double>> distances : distanceMatrix) {
-				ListIterator<Pair<Integer, Double>> iterator = distances.listIterator();
-				
-				while (iterator.hasNext()) {
-					Pair<Integer, Double> point = iterator.next();
-					
-					if (point.getFirst() == index) {
-						iterator.remove();
-					} else if (point.getFirst() > index) {
-						// decrement the index so it stays aligned with the
-						// index in distanceMatrix
-						iterator.set(new Pair<Integer, Double>(
-								point.getFirst()-1, point.getSecond()));
-					}
-				}
-			}
+			removed[points[index]] = true;
+			System.arraycopy(points, index+1, points, index, size-index-1);
+			size--;
 		}
 		
 	}
@@ -393,12 +712,16 @@ public class SPEA2 extends AbstractEvolutionaryAlgorithm {
 				}
 			}
 			
-			// add density to the fitness
+			// add density to the fitness, selecting from a copy of each row
+			// since the distance matrix is reused during truncation
 			double[][] distances = computeDistanceMatrix(population);
+			cacheDistanceMatrix(population, distances);
+			double[] buffer = new double[population.size()];
 			KthSelector selector = new KthSelector();
 			
 			for (int i = 0; i < population.size(); i++) {
-				double kdist = selector.select(distances[i], null, k);
+				System.arraycopy(distances[i], 0, buffer, 0, buffer.length);
+				double kdist = selector.select(buffer, null, k);
 				fitness[i] += 1.0 / (kdist + 2.0);
 			}
 			
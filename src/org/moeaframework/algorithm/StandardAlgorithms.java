@@ -17,6 +17,7 @@
  */
 package org.moeaframework.algorithm;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Properties;
 
@@ -61,11 +62,14 @@ import org.moeaframework.core.operator.UniformSelection;
 import org.moeaframework.core.operator.real.DifferentialEvolutionSelection;
 import org.moeaframework.core.operator.real.DifferentialEvolutionVariation;
 import org.moeaframework.core.operator.real.UM;
+import org.moeaframework.core.spi.AlgorithmFactory;
 import org.moeaframework.core.spi.AlgorithmProvider;
 import org.moeaframework.core.spi.OperatorFactory;
 import org.moeaframework.core.spi.ProviderLookupException;
 import org.moeaframework.core.spi.ProviderNotFoundException;
+import org.moeaframework.core.variable.EncodingUtils;
 import org.moeaframework.core.variable.RealVariable;
+import org.moeaframework.core.variable.RealVectorVariable;
 import org.moeaframework.util.TypedProperties;
 import org.moeaframework.util.Vector;
 import org.moeaframework.util.weights.RandomGenerator;
@@ -244,6 +248,16 @@ import org.moeaframework.util.weights.RandomGenerator;
  * the result.  For example, you can create the algorithm {@code RSO(GA)} to
  * run the single-objective genetic algorithm ({@code GA}) multiple times.  The
  * {@code instances} property controls the number of repeated runs.
+ * <p>
+ * Similarly, the {@code Island} algorithm runs several algorithms as islands
+ * that periodically exchange solutions, merging their results into an
+ * &epsilon;-box dominance archive.  For example, {@code Island(NSGAII)} runs
+ * NSGA-II on each island.  The {@code islands} property controls the number
+ * of islands, and a comma-separated {@code algorithms} property assigns
+ * different algorithms to the islands in turn.  The {@code topology} property
+ * is one of {@code ring}, {@code torus} or {@code full}, and the
+ * {@code migrationInterval}, {@code migrationSize}, {@code epsilon} and
+ * {@code numberOfThreads} properties configure the remaining settings.
  */
 public class StandardAlgorithms extends AlgorithmProvider {
 
@@ -324,6 +338,12 @@ public class StandardAlgorithms extends AlgorithmProvider {
 			} else if (name.toUpperCase().startsWith("RSO(") && name.endsWith(")")) {
 				typedProperties.setString("algorithm", name.substring(4, name.length()-1));
 				return newRSO(typedProperties, problem);
+			} else if (name.equalsIgnoreCase("Island") ||
+					name.equalsIgnoreCase("IslandModel")) {
+				return newIslandModel(typedProperties, problem);
+			} else if (name.toUpperCase().startsWith("ISLAND(") && name.endsWith(")")) {
+				typedProperties.setString("algorithm", name.substring(7, name.length()-1));
+				return newIslandModel(typedProperties, problem);
 			} else {
 				return null;
 			}
@@ -333,19 +353,22 @@ public class StandardAlgorithms extends AlgorithmProvider {
 	}
 	
 	/**
-	 * Returns {@code true} if all decision variables are assignment-compatible
-	 * with the specified type; {@code false} otherwise.
+	 * Returns {@code true} if all decision variables are real-valued, either
+	 * {@link RealVariable} or {@link RealVectorVariable}; {@code false}
+	 * otherwise.
 	 * 
-	 * @param type the type of decision variable
 	 * @param problem the problem
-	 * @return {@code true} if all decision variables are assignment-compatible
-	 *         with the specified type; {@code false} otherwise
+	 * @return {@code true} if all decision variables are real-valued;
+	 *         {@code false} otherwise
 	 */
-	private boolean checkType(Class<? extends Variable> type, Problem problem) {
+	private boolean checkReal(Problem problem) {
 		Solution solution = problem.newSolution();
 		
 		for (int i=0; i<solution.getNumberOfVariables(); i++) {
-			if (!type.isInstance(solution.getVariable(i))) {
+			Variable variable = solution.getVariable(i);
+			
+			if (!(variable instanceof RealVariable) &&
+					!(variable instanceof RealVectorVariable)) {
 				return false;
 			}
 		}
@@ -484,6 +507,8 @@ public class StandardAlgorithms extends AlgorithmProvider {
 		
 		ReferencePointNondominatedSortingPopulation population = new ReferencePointNondominatedSortingPopulation(
 				problem.getNumberOfObjectives(), divisionsOuter, divisionsInner);
+		population.setNumberOfThreads((int)properties.getDouble(
+				"numberOfThreads", 1));
 
 		Selection selection = null;
 		
@@ -561,7 +586,7 @@ public class StandardAlgorithms extends AlgorithmProvider {
 		//default to de+pm for real-encodings
 		String operator = properties.getString("operator", null);
 		
-		if ((operator == null) && checkType(RealVariable.class, problem)) {
+		if ((operator == null) && checkReal(problem)) {
 			operator = "de+pm";
 		}
 
@@ -608,7 +633,7 @@ public class StandardAlgorithms extends AlgorithmProvider {
 	 * @throws FrameworkException if the decision variables are not real valued
 	 */
 	private Algorithm newGDE3(TypedProperties properties, Problem problem) {
-		if (!checkType(RealVariable.class, problem)) {
+		if (!checkReal(problem)) {
 			throw new FrameworkException("unsupported decision variable type");
 		}
 		
@@ -688,7 +713,7 @@ public class StandardAlgorithms extends AlgorithmProvider {
 	 * @return a new {@code CMAES} instance
 	 */
 	private Algorithm newCMAES(TypedProperties properties, Problem problem) {
-		if (!checkType(RealVariable.class, problem)) {
+		if (!checkReal(problem)) {
 			throw new FrameworkException("unsupported decision variable type");
 		}
 		
@@ -745,7 +770,12 @@ public class StandardAlgorithms extends AlgorithmProvider {
 		Variation variation = OperatorFactory.getInstance().getVariation(null, 
 				properties, problem);
 
-		return new SPEA2(problem, initialization, variation, offspringSize, k);
+		SPEA2 algorithm = new SPEA2(problem, initialization, variation,
+				offspringSize, k);
+		algorithm.setNumberOfThreads((int)properties.getDouble(
+				"numberOfThreads", 1));
+		
+		return algorithm;
 	}
 	
 	/**
@@ -799,7 +829,7 @@ public class StandardAlgorithms extends AlgorithmProvider {
 	 * @return a new {@code OMOPSO} instance
 	 */
 	private Algorithm newOMOPSO(TypedProperties properties, Problem problem) {
-		if (!checkType(RealVariable.class, problem)) {
+		if (!checkReal(problem)) {
 			throw new FrameworkException("unsupported decision variable type");
 		}
 		
@@ -808,7 +838,8 @@ public class StandardAlgorithms extends AlgorithmProvider {
 		int maxIterations = (int)properties.getDouble("maxEvaluations", 25000) /
 				populationSize;
 		double mutationProbability = properties.getDouble("mutationProbability",
-				1.0 / problem.getNumberOfVariables());
+				1.0 / EncodingUtils.getNumberOfReals(
+						problem.newSolution()));
 		double perturbationIndex = properties.getDouble("perturbationIndex",
 				0.5);
 		double[] epsilon = properties.getDoubleArray("epsilon",
@@ -827,14 +858,15 @@ public class StandardAlgorithms extends AlgorithmProvider {
 	 * @return a new {@code SMPSO} instance
 	 */
 	private Algorithm newSMPSO(TypedProperties properties, Problem problem) {
-		if (!checkType(RealVariable.class, problem)) {
+		if (!checkReal(problem)) {
 			throw new FrameworkException("unsupported decision variable type");
 		}
 		
 		int populationSize = (int)properties.getDouble("populationSize", 100);
 		int archiveSize = (int)properties.getDouble("archiveSize", 100);
 		double mutationProbability = properties.getDouble("pm.rate",
-				1.0 / problem.getNumberOfVariables());
+				1.0 / EncodingUtils.getNumberOfReals(
+						problem.newSolution()));
 		double distributionIndex = properties.getDouble("pm.distributionIndex",
 				20.0);
 		
@@ -875,6 +907,9 @@ public class StandardAlgorithms extends AlgorithmProvider {
 			throw new IllegalArgumentException("invalid indicator: " +
 					indicator);
 		}
+		
+		fitnessEvaluator.setNumberOfThreads((int)properties.getDouble(
+				"numberOfThreads", 1));
 
 		return new IBEA(problem, null, initialization, variation,
 				fitnessEvaluator);
@@ -1050,6 +1085,8 @@ public class StandardAlgorithms extends AlgorithmProvider {
 		ReferenceVectorGuidedPopulation population = new ReferenceVectorGuidedPopulation(
 				problem.getNumberOfObjectives(), divisionsOuter, divisionsInner,
 				properties.getDouble("alpha", 2.0));
+		population.setNumberOfThreads((int)properties.getDouble(
+				"numberOfThreads", 1));
 
 		if (!properties.contains("sbx.swap")) {
 			properties.setBoolean("sbx.swap", false);
@@ -1110,7 +1147,7 @@ public class StandardAlgorithms extends AlgorithmProvider {
 	 * @return a new {@code MSOPS} instance
 	 */
 	private Algorithm newMSOPS(TypedProperties properties, Problem problem) {
-		if (!checkType(RealVariable.class, problem)) {
+		if (!checkReal(problem)) {
 			throw new FrameworkException("unsupported decision variable type");
 		}
 		
@@ -1138,6 +1175,49 @@ public class StandardAlgorithms extends AlgorithmProvider {
 				initialization);
 	}
 	
+	/**
+	 * Returns a new {@link IslandModel} instance.
+	 * 
+	 * @param properties the properties for customizing the new
+	 *        {@code IslandModel} instance
+	 * @param problem the problem
+	 * @return a new {@code IslandModel} instance
+	 */
+	private Algorithm newIslandModel(TypedProperties properties,
+			Problem problem) {
+		int numberOfIslands = (int)properties.getDouble("islands", 4);
+		String[] algorithmNames = properties.getStringArray("algorithms",
+				new String[] { properties.getString("algorithm", "NSGAII") });
+		
+		// the islands already run concurrently, so each island is sequential
+		TypedProperties islandProperties = new TypedProperties(
+				new Properties());
+		islandProperties.addAll(properties);
+		islandProperties.remove("numberOfThreads");
+		
+		List<Algorithm> islands = new ArrayList<Algorithm>();
+		
+		for (int i = 0; i < numberOfIslands; i++) {
+			islands.add(AlgorithmFactory.getInstance().getAlgorithm(
+					algorithmNames[i % algorithmNames.length].trim(),
+					islandProperties.getProperties(), problem));
+		}
+		
+		EpsilonBoxDominanceArchive archive = new EpsilonBoxDominanceArchive(
+				properties.getDoubleArray("epsilon", 
+						new double[] { EpsilonHelper.getEpsilon(problem) }));
+		
+		IslandModel algorithm = new IslandModel(problem, islands, archive,
+				MigrationTopology.forName(
+						properties.getString("topology", "ring")),
+				(int)properties.getDouble("migrationInterval", 10),
+				(int)properties.getDouble("migrationSize", 2));
+		algorithm.setNumberOfThreads(
+				(int)properties.getDouble("numberOfThreads", 1));
+		
+		return algorithm;
+	}
+	
 	/**
 	 * Returns a new single-objective {@link RepeatedSingleObjective} instance.
 	 * 
@@ -1154,8 +1234,14 @@ public class StandardAlgorithms extends AlgorithmProvider {
 			properties.setString("method", "min-max");
 		}
 
-		return new RepeatedSingleObjective(problem, algorithmName,
-				properties.getProperties(), instances);
+		RepeatedSingleObjective algorithm = new RepeatedSingleObjective(
+				problem, algorithmName, properties.getProperties(), instances);
+		algorithm.setNumberOfThreads(
+				(int)properties.getDouble("numberOfThreads", 1));
+		algorithm.setAsynchronous(
+				properties.getBoolean("asynchronous", false));
+		
+		return algorithm;
 	}
 	
 	/**
@@ -1199,7 +1285,7 @@ public class StandardAlgorithms extends AlgorithmProvider {
 	 * @return a new {@code EvolutionaryStrategy} instance
 	 */
 	private Algorithm newEvolutionaryStrategy(TypedProperties properties, Problem problem) {
-		if (!checkType(RealVariable.class, problem)) {
+		if (!checkReal(problem)) {
 			throw new FrameworkException("unsupported decision variable type");
 		}
 		
@@ -1233,7 +1319,7 @@ public class StandardAlgorithms extends AlgorithmProvider {
 	 * @return a new {@code DE/rand/1/bin} instance
 	 */
 	private Algorithm newDifferentialEvolution(TypedProperties properties, Problem problem) {
-		if (!checkType(RealVariable.class, problem)) {
+		if (!checkReal(problem)) {
 			throw new FrameworkException("unsupported decision variable type");
 		}
 		
@@ -17,12 +17,14 @@
  */
 package org.moeaframework.algorithm.pisa;
 
-import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileReader;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.PrintWriter;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -421,81 +423,172 @@ public class PISAAlgorithm extends AbstractAlgorithm {
 
 	/**
 	 * Reads either the {@code sel} or {@code arc} files, returning the list
-	 * of identifiers contained in the file.
+	 * of identifiers contained in the file.  The file is read in a single
+	 * pass and parsed without creating intermediate strings.
 	 * 
 	 * @param file the {@code sel} or {@code arc} file
 	 * @return the list of identifiers contained in the file
 	 * @throws IOException if an I/O error occurred
 	 */
 	private int[] readList(File file) throws IOException {
-		BufferedReader reader = null;
-		String line = null;
+		byte[] content = readFile(file);
+		int[] position = new int[1];
+		int size = parseInt(content, position);
+		int[] result = new int[size];
 
-		try {
-			reader = new BufferedReader(new FileReader(file));
-			line = reader.readLine();
-
-			if (line == null) {
-				throw new IOException("unexpected end of file");
-			}
-
-			int size = Integer.parseInt(line);
-			int[] result = new int[size];
+		for (int i = 0; i < size; i++) {
+			result[i] = parseInt(content, position);
+		}
 
-			for (int i = 0; i < size; i++) {
-				line = reader.readLine();
+		// sanity check
+		skipWhitespace(content, position);
+		
+		if (!"END".equals(new String(content, position[0],
+				Math.min(3, content.length - position[0]), "US-ASCII"))) {
+			throw new IOException("expected END on last line");
+		}
 
-				if (line == null) {
-					throw new IOException("unexpected end of file");
+		return result;
+	}
+	
+	/**
+	 * Returns the contents of the specified file.
+	 * 
+	 * @param file the file
+	 * @return the contents of the file
+	 * @throws IOException if an I/O error occurred
+	 */
+	private byte[] readFile(File file) throws IOException {
+		InputStream input = null;
+		
+		try {
+			input = new FileInputStream(file);
+			
+			byte[] content = new byte[(int)Math.max(file.length(), 64)];
+			int length = 0;
+			int count;
+			
+			while ((count = input.read(content, length,
+					content.length - length)) >= 0) {
+				length += count;
+				
+				if (length == content.length) {
+					content = Arrays.copyOf(content, 2 * content.length);
 				}
-
-				result[i] = Integer.parseInt(line);
-			}
-
-			// sanity check
-			if (!"END".equals(reader.readLine())) {
-				throw new IOException("expected END on last line");
 			}
-
-			return result;
+			
+			return Arrays.copyOf(content, length);
 		} finally {
-			if (reader != null) {
-				reader.close();
+			if (input != null) {
+				input.close();
+			}
+		}
+	}
+	
+	/**
+	 * Advances the position past any whitespace.
+	 * 
+	 * @param content the file contents
+	 * @param position the current position, which is updated by this method
+	 */
+	private void skipWhitespace(byte[] content, int[] position) {
+		while ((position[0] < content.length) &&
+				Character.isWhitespace(content[position[0]])) {
+			position[0]++;
+		}
+	}
+	
+	/**
+	 * Parses the next integer in the file contents.
+	 * 
+	 * @param content the file contents
+	 * @param position the current position, which is updated by this method
+	 * @return the integer value
+	 * @throws IOException if the end of file was reached or the value is not
+	 *         a valid integer
+	 */
+	private int parseInt(byte[] content, int[] position) throws IOException {
+		skipWhitespace(content, position);
+		
+		int i = position[0];
+		boolean negative = false;
+		long value = 0;
+		
+		if (i >= content.length) {
+			throw new IOException("unexpected end of file");
+		}
+		
+		if ((content[i] == '-') || (content[i] == '+')) {
+			negative = (content[i] == '-');
+			i++;
+		}
+		
+		int start = i;
+		
+		while ((i < content.length) && (content[i] >= '0') &&
+				(content[i] <= '9')) {
+			value = 10 * value + (content[i] - '0');
+			i++;
+			
+			if (value > Integer.MAX_VALUE + 1L) {
+				throw new NumberFormatException("integer out of range");
 			}
 		}
+		
+		if ((i == start) || ((i < content.length) &&
+				!Character.isWhitespace(content[i]))) {
+			throw new NumberFormatException("invalid integer");
+		}
+		
+		value = negative ? -value : value;
+		
+		if (value > Integer.MAX_VALUE) {
+			throw new NumberFormatException("integer out of range");
+		}
+		
+		position[0] = i;
+		return (int)value;
 	}
 
 	/**
 	 * Writes either the {@code ini} or {@code var} file with the specified
-	 * identifiers.
+	 * identifiers.  The contents are formatted in memory and written to the
+	 * file in a single operation.
 	 * 
 	 * @param file the {@code ini} or {@code var} file
 	 * @param ids the identifiers of solutions written to the file
 	 * @throws IOException if an I/O error occurred
 	 */
 	private void writePopulation(File file, int[] ids) throws IOException {
-		PrintWriter writer = null;
-
-		try {
-			writer = new PrintWriter(new BufferedWriter(new FileWriter(file)));
-
-			writer.println(ids.length * (problem.getNumberOfObjectives() + 1));
-
-			for (int i = 0; i < ids.length; i++) {
-				writer.print(ids[i]);
+		String newline = System.getProperty("line.separator");
+		StringBuilder sb = new StringBuilder();
+		
+		sb.append(ids.length * (problem.getNumberOfObjectives() + 1));
+		sb.append(newline);
 
-				for (int j = 0; j < problem.getNumberOfObjectives(); j++) {
-					writer.print(' ');
-					writer.print(solutions.get(ids[i]).getObjective(j));
-				}
+		for (int i = 0; i < ids.length; i++) {
+			Solution solution = solutions.get(ids[i]);
+			sb.append(ids[i]);
 
-				writer.println();
+			for (int j = 0; j < problem.getNumberOfObjectives(); j++) {
+				sb.append(' ');
+				sb.append(solution.getObjective(j));
 			}
 
-			writer.println("END");
+			sb.append(newline);
+		}
+
+		sb.append("END");
+		sb.append(newline);
+		
+		OutputStream output = null;
+		
+		try {
+			output = new FileOutputStream(file);
+			output.write(sb.toString().getBytes("US-ASCII"));
 		} finally {
-			if (writer != null) {
-				writer.close();
+			if (output != null) {
+				output.close();
 			}
 		}
 	}
@@ -17,27 +17,44 @@
  */
 package org.moeaframework.algorithm.pisa;
 
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileReader;
-import java.io.FileWriter;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.PrintWriter;
+import java.io.InputStream;
+import java.io.OutputStream;
 
 import org.moeaframework.core.Settings;
 
 /**
  * Reads and writes PISA state files.
+ * <p>
+ * Since PISA selectors are external processes that only communicate through
+ * files, changes to the state must be detected by reading the state file.
+ * Rather than sleeping for the full poll rate between reads, this class
+ * re-reads the state file after an exponentially increasing delay, starting
+ * at {@value #MIN_DELAY} millisecond and capped at the poll rate.  This
+ * detects quick state transitions with little latency while idle waits still
+ * read the state file no more often than the poll rate.  The state file is
+ * read and written directly as bytes without intermediate readers or
+ * writers.
  */
 public class State {
 
+	/**
+	 * The initial delay in milliseconds between successive reads of the state
+	 * file.
+	 */
+	private static final long MIN_DELAY = 1;
+
 	/**
 	 * The state file.
 	 */
 	private final File file;
 
 	/**
-	 * The delay in milliseconds between successive reads of the state file.
+	 * The maximum delay in milliseconds between successive reads of the state
+	 * file.
 	 */
 	private static final long pollRate = Settings.getPISAPollRate();
 	
@@ -47,6 +64,11 @@ public class State {
 	 * selectors locking the state file.
 	 */
 	private static final int numberOfRetries = 5;
+	
+	/**
+	 * The buffer storing the contents of the state file.
+	 */
+	private final byte[] buffer;
 
 	/**
 	 * Constructs a state indicator backed by the specified file.
@@ -56,31 +78,51 @@ public class State {
 	public State(File file) {
 		super();
 		this.file = file;
+		
+		buffer = new byte[32];
 	}
 
 	/**
 	 * Reads the state.
 	 * 
-	 * @return the state
+	 * @return the state; or {@code -1} if the state file is empty
 	 * @throws IOException if an I/O error occurred
 	 */
-	public int get() throws IOException {
-		BufferedReader reader = null;
+	public synchronized int get() throws IOException {
+		InputStream input = null;
+		int length = 0;
 
 		try {
-			reader = new BufferedReader(new FileReader(file));
-			String line = reader.readLine();
-
-			if (line == null) {
-				return -1;
-			} else {
-				return Integer.parseInt(line);
+			input = new FileInputStream(file);
+			
+			while (length < buffer.length) {
+				int count = input.read(buffer, length, buffer.length - length);
+				
+				if (count < 0) {
+					break;
+				}
+				
+				length += count;
 			}
 		} finally {
-			if (reader != null) {
-				reader.close();
+			if (input != null) {
+				input.close();
 			}
 		}
+		
+		// parse the first line, matching Integer.parseInt
+		int end = 0;
+		
+		while ((end < length) && (buffer[end] != '\n') &&
+				(buffer[end] != '\r')) {
+			end++;
+		}
+		
+		if (end == 0) {
+			return -1;
+		}
+		
+		return Integer.parseInt(new String(buffer, 0, end, "US-ASCII"));
 	}
 
 	/**
@@ -92,13 +134,15 @@ public class State {
 	 *         interrupted
 	 */
 	public void set(int state) throws IOException, InterruptedException {
-		PrintWriter writer = null;
+		byte[] content = Integer.toString(state).getBytes("US-ASCII");
 		int retriesRemaining = numberOfRetries;
 
 		while (true) {
+			OutputStream output = null;
+			
 			try {
-				writer = new PrintWriter(new FileWriter(file));
-				writer.print(state);
+				output = new FileOutputStream(file);
+				output.write(content);
 				break;
 			} catch (IOException e) {
 				retriesRemaining--;
@@ -107,8 +151,8 @@ public class State {
 					throw e;
 				}
 			} finally {
-				if (writer != null) {
-					writer.close();
+				if (output != null) {
+					output.close();
 				}
 			}
 			
@@ -125,8 +169,11 @@ public class State {
 	 *         interrupted
 	 */
 	public void waitFor(int state) throws IOException, InterruptedException {
+		long delay = MIN_DELAY;
+		
 		while (!file.exists() || (get() != state)) {
-			Thread.sleep(pollRate);
+			Thread.sleep(delay);
+			delay = nextDelay(delay);
 		}
 	}
 
@@ -141,13 +188,26 @@ public class State {
 	 *         interrupted
 	 */
 	public int waitWhile(int state) throws IOException, InterruptedException {
+		long delay = MIN_DELAY;
 		int current;
 
-		do {
-			Thread.sleep(pollRate);
-		} while (!file.exists() || ((current = get()) == state));
+		while (!file.exists() || ((current = get()) == state)) {
+			Thread.sleep(delay);
+			delay = nextDelay(delay);
+		}
 
 		return current;
 	}
+	
+	/**
+	 * Returns the delay before the next read of the state file, doubling the
+	 * current delay up to the poll rate.
+	 * 
+	 * @param delay the current delay in milliseconds
+	 * @return the next delay in milliseconds
+	 */
+	private static long nextDelay(long delay) {
+		return Math.max(MIN_DELAY, Math.min(2 * delay, pollRate));
+	}
 
 }
@@ -34,7 +34,6 @@ import org.moeaframework.core.comparator.DominanceComparator;
 import org.moeaframework.core.fitness.FitnessBasedArchive;
 import org.moeaframework.core.operator.RandomInitialization;
 import org.moeaframework.core.variable.EncodingUtils;
-import org.moeaframework.core.variable.RealVariable;
 
 /**
  * Abstract multi-objective particle swarm optimizer (MOPSO).
@@ -87,6 +86,18 @@ public abstract class AbstractPSOAlgorithm extends AbstractAlgorithm {
 	 */
 	protected double[][] velocities;
 	
+	/**
+	 * The lower bounds of the decision variables, with one entry for each
+	 * real value stored in a particle.
+	 */
+	protected double[] lowerBounds;
+	
+	/**
+	 * The upper bounds of the decision variables, with one entry for each
+	 * real value stored in a particle.
+	 */
+	protected double[] upperBounds;
+	
 	/**
 	 * Comparator for selecting leaders.
 	 */
@@ -134,7 +145,11 @@ public abstract class AbstractPSOAlgorithm extends AbstractAlgorithm {
 
 		particles = new Solution[swarmSize];
 		localBestParticles =  new Solution[swarmSize];
-		velocities = new double[swarmSize][problem.getNumberOfVariables()];
+		
+		Solution prototypeSolution = problem.newSolution();
+		lowerBounds = EncodingUtils.getLowerBounds(prototypeSolution);
+		upperBounds = EncodingUtils.getUpperBounds(prototypeSolution);
+		velocities = new double[swarmSize][lowerBounds.length];
 	}
 	
 	/**
@@ -162,14 +177,14 @@ public abstract class AbstractPSOAlgorithm extends AbstractAlgorithm {
 		double C2 = PRNG.nextDouble(1.5, 2.0);
 		double W = PRNG.nextDouble(0.1, 0.5);
 		
-		for (int j = 0; j < problem.getNumberOfVariables(); j++) {
-			double particleValue = EncodingUtils.getReal(particle.getVariable(j));
-			double localBestValue = EncodingUtils.getReal(localBestParticle.getVariable(j));
-			double leaderValue = EncodingUtils.getReal(leader.getVariable(j));
-			
+		double[] particleValues = EncodingUtils.getReal(particle);
+		double[] localBestValues = EncodingUtils.getReal(localBestParticle);
+		double[] leaderValues = EncodingUtils.getReal(leader);
+		
+		for (int j = 0; j < particleValues.length; j++) {
 			velocities[i][j] = W * velocities[i][j] + 
-					C1*r1*(localBestValue - particleValue) +
-					C2*r2*(leaderValue - particleValue);
+					C1*r1*(localBestValues[j] - particleValues[j]) +
+					C2*r2*(leaderValues[j] - particleValues[j]);
 		}
 	}
 	
@@ -190,22 +205,24 @@ public abstract class AbstractPSOAlgorithm extends AbstractAlgorithm {
 	protected void updatePosition(int i) {
 		Solution parent = particles[i];
 		Solution offspring = parent.copy();
+		double[] values = EncodingUtils.getReal(offspring);
 		
-		for (int j = 0; j < problem.getNumberOfVariables(); j++) {
-			RealVariable variable = (RealVariable)offspring.getVariable(j);
-			double value = variable.getValue() + velocities[i][j];
+		for (int j = 0; j < values.length; j++) {
+			double value = values[j] + velocities[i][j];
 			
-			if (value < variable.getLowerBound()) {
-				value = variable.getLowerBound();
+			if (value < lowerBounds[j]) {
+				value = lowerBounds[j];
 				velocities[i][j] *= -1;
-			} else if (value > variable.getUpperBound()) {
-				value = variable.getUpperBound();
+			} else if (value > upperBounds[j]) {
+				value = upperBounds[j];
 				velocities[i][j] *= -1;
 			}
 			
-			variable.setValue(value);
+			values[j] = value;
 		}
 		
+		EncodingUtils.setReal(offspring, values);
+		
 		particles[i] = offspring;
 	}
 	
@@ -373,7 +390,7 @@ public abstract class AbstractPSOAlgorithm extends AbstractAlgorithm {
 		}
 		
 		for (int i = 0; i < swarmSize; i++) {
-			for (int j = 0; j < problem.getNumberOfVariables(); j++) {
+			for (int j = 0; j < velocities[i].length; j++) {
 				velocities[i][j] = state.getVelocities()[i][j];
 			}
 		}
@@ -26,7 +26,7 @@ import org.moeaframework.core.comparator.CrowdingComparator;
 import org.moeaframework.core.comparator.ParetoDominanceComparator;
 import org.moeaframework.core.fitness.CrowdingDistanceFitnessEvaluator;
 import org.moeaframework.core.fitness.FitnessBasedArchive;
-import org.moeaframework.core.variable.RealVariable;
+import org.moeaframework.core.variable.EncodingUtils;
 
 // NOTE: This implementation is derived from the original manuscripts and the
 // JMetal implementation.
@@ -125,28 +125,30 @@ public class OMOPSO extends AbstractPSOAlgorithm {
 		@Override
 		public Solution[] evolve(Solution[] parents) {
 			Solution offspring = parents[0].copy();
+			double[] values = EncodingUtils.getReal(offspring);
 			
-			for (int i = 0; i < offspring.getNumberOfVariables(); i++) {
+			for (int i = 0; i < values.length; i++) {
 				if (PRNG.nextDouble() < probability) {
-					RealVariable variable = (RealVariable)offspring.getVariable(i);
-					double value = variable.getValue();
+					double value = values[i];
 					
 					if (PRNG.nextBoolean()) {
-						value += getDelta(variable.getUpperBound() - value);
+						value += getDelta(upperBounds[i] - value);
 					} else {
-						value += getDelta(variable.getLowerBound() - value);
+						value += getDelta(lowerBounds[i] - value);
 					}
 
-					if (value < variable.getLowerBound()) {
-						value = variable.getLowerBound();
-					} else if (value > variable.getUpperBound()) {
-						value = variable.getUpperBound();
+					if (value < lowerBounds[i]) {
+						value = lowerBounds[i];
+					} else if (value > upperBounds[i]) {
+						value = upperBounds[i];
 					}
 					
-					variable.setValue(value);
+					values[i] = value;
 				}
 			}
 			
+			EncodingUtils.setReal(offspring, values);
+			
 			return new Solution[] { offspring };
 		}
 		
@@ -183,24 +185,25 @@ public class OMOPSO extends AbstractPSOAlgorithm {
 		@Override
 		public Solution[] evolve(Solution[] parents) {
 			Solution offspring = parents[0].copy();
+			double[] values = EncodingUtils.getReal(offspring);
 			
-			for (int i = 0; i < offspring.getNumberOfVariables(); i++) {
+			for (int i = 0; i < values.length; i++) {
 				if (PRNG.nextDouble() < probability) {
-					RealVariable variable = (RealVariable)offspring.getVariable(i);
-					double value = variable.getValue();
-					
-					value += (PRNG.nextDouble() - 0.5) * perturbation;
+					double value = values[i] + (PRNG.nextDouble() - 0.5) *
+							perturbation;
 					
-					if (value < variable.getLowerBound()) {
-						value = variable.getLowerBound();
-					} else if (value > variable.getUpperBound()) {
-						value = variable.getUpperBound();
+					if (value < lowerBounds[i]) {
+						value = lowerBounds[i];
+					} else if (value > upperBounds[i]) {
+						value = upperBounds[i];
 					}
 					
-					variable.setValue(value);
+					values[i] = value;
 				}
 			}
 			
+			EncodingUtils.setReal(offspring, values);
+			
 			return new Solution[] { offspring };
 		}
 		
@@ -26,7 +26,6 @@ import org.moeaframework.core.fitness.CrowdingDistanceFitnessEvaluator;
 import org.moeaframework.core.fitness.FitnessBasedArchive;
 import org.moeaframework.core.operator.real.PM;
 import org.moeaframework.core.variable.EncodingUtils;
-import org.moeaframework.core.variable.RealVariable;
 
 //NOTE: This implementation is derived from the original manuscripts and the
 //JMetal implementation.
@@ -68,14 +67,11 @@ public class SMPSO extends AbstractPSOAlgorithm {
 				new PM(mutationProbability, distributionIndex));
 
 		// initialize the minimum and maximum velocities
-		minimumVelocity = new double[problem.getNumberOfVariables()];
-		maximumVelocity = new double[problem.getNumberOfVariables()];
+		minimumVelocity = new double[lowerBounds.length];
+		maximumVelocity = new double[lowerBounds.length];
 		
-		Solution prototypeSolution = problem.newSolution();
-		
-		for (int i = 0; i < problem.getNumberOfVariables(); i++) {
-			RealVariable variable = (RealVariable)prototypeSolution.getVariable(i);
-			maximumVelocity[i] = (variable.getUpperBound() - variable.getLowerBound()) / 2.0;
+		for (int i = 0; i < lowerBounds.length; i++) {
+			maximumVelocity[i] = (upperBounds[i] - lowerBounds[i]) / 2.0;
 			minimumVelocity[i] = -maximumVelocity[i];
 		}
 	}
@@ -92,15 +88,15 @@ public class SMPSO extends AbstractPSOAlgorithm {
 		double C2 = PRNG.nextDouble(1.5, 2.5);
 		double W = PRNG.nextDouble(0.1, 0.1);
 		
-		for (int j = 0; j < problem.getNumberOfVariables(); j++) {
-			double particleValue = EncodingUtils.getReal(particle.getVariable(j));
-			double localBestValue = EncodingUtils.getReal(localBestParticle.getVariable(j));
-			double leaderValue = EncodingUtils.getReal(leader.getVariable(j));
-			
+		double[] particleValues = EncodingUtils.getReal(particle);
+		double[] localBestValues = EncodingUtils.getReal(localBestParticle);
+		double[] leaderValues = EncodingUtils.getReal(leader);
+		
+		for (int j = 0; j < particleValues.length; j++) {
 			double velocity = constrictionCoefficient(C1, C2) * 
 					(W * velocities[i][j] + 
-					C1*r1*(localBestValue - particleValue) +
-					C2*r2*(leaderValue - particleValue));
+					C1*r1*(localBestValues[j] - particleValues[j]) +
+					C2*r2*(leaderValues[j] - particleValues[j]));
 			
 			if (velocity > maximumVelocity[j]) {
 				velocity = maximumVelocity[j];
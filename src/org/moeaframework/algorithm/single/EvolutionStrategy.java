@@ -86,7 +86,7 @@ public class EvolutionStrategy extends AbstractEvolutionaryAlgorithm {
 			offspring.addAll(children);
 		}
 
-		evaluateAll(offspring);
+		evaluateOffspring(offspring);
 
 		population.addAll(offspring);
 		population.truncate(populationSize, comparator);
@@ -103,7 +103,7 @@ public class GeneticAlgorithm extends AbstractEvolutionaryAlgorithm {
 			offspring.addAll(children);
 		}
 
-		evaluateAll(offspring);
+		evaluateOffspring(offspring);
 
 		population.clear();
 		population.add(eliteSolution);
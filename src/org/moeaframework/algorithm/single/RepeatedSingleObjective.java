@@ -20,12 +20,27 @@ package org.moeaframework.algorithm.single;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Properties;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 
+import org.apache.commons.math3.random.MersenneTwister;
+import org.apache.commons.math3.random.RandomAdaptor;
 import org.moeaframework.algorithm.AbstractAlgorithm;
+import org.moeaframework.algorithm.AlgorithmException;
+import org.moeaframework.algorithm.AlgorithmInitializationException;
 import org.moeaframework.core.Algorithm;
 import org.moeaframework.core.NondominatedPopulation;
+import org.moeaframework.core.PRNG;
 import org.moeaframework.core.Problem;
 import org.moeaframework.core.spi.AlgorithmFactory;
+import org.moeaframework.util.ThreadRandom;
 import org.moeaframework.util.TypedProperties;
 import org.moeaframework.util.weights.RandomGenerator;
 
@@ -43,6 +58,21 @@ import org.moeaframework.util.weights.RandomGenerator;
  * occur each step.  In [1], they decrease the population size for the single
  * objective optimizers.
  * <p>
+ * The instances are independent and, by calling
+ * {@link #setNumberOfThreads(int)}, can be stepped concurrently on a thread
+ * pool owned by this algorithm.  By default, each step waits for all
+ * instances to complete one iteration.  With {@link #setAsynchronous(boolean)},
+ * each step instead resubmits every idle instance and returns as soon as any
+ * instance completes an iteration, so fast instances are not held back by
+ * slow ones.  The instances share the problem, so the problem must be
+ * thread-safe when using multiple threads.  Since the generator in
+ * {@code PRNG} is not thread-safe, each instance draws from its own random
+ * stream, seeded from {@code PRNG} when the thread pool is created, which is
+ * installed in {@code PRNG} using {@link ThreadRandom} only while the
+ * instance is being stepped.  The results of the instances are only read once all
+ * running iterations complete, and are then merged into a single
+ * nondominated population.
+ * <p>
  * References:
  * <ol>
  *   <li>E. J. Hughes.  "Evolutionary many-objective optimization: many once or
@@ -66,6 +96,50 @@ public class RepeatedSingleObjective extends AbstractAlgorithm {
 	 * A list of the instantiated algorithms.
 	 */
 	private final List<Algorithm> algorithms;
+	
+	/**
+	 * The number of threads used to step the instances.
+	 */
+	private int numberOfThreads;
+	
+	/**
+	 * {@code true} if the instances are stepped asynchronously;
+	 * {@code false} if each step waits for all instances.
+	 */
+	private boolean asynchronous;
+	
+	/**
+	 * The thread pool stepping the instances; or {@code null} if the
+	 * instances are stepped on the calling thread.
+	 */
+	private ExecutorService executor;
+	
+	/**
+	 * Collects the instances as they complete each iteration.
+	 */
+	private CompletionService<Integer> completionService;
+	
+	/**
+	 * {@code true} if the instance at each index has a pending iteration;
+	 * {@code false} otherwise.
+	 */
+	private boolean[] running;
+	
+	/**
+	 * The number of instances with a pending iteration.
+	 */
+	private int numberOfRunning;
+	
+	/**
+	 * The number of evaluations of each instance after its last completed
+	 * iteration.
+	 */
+	private int[] evaluations;
+	
+	/**
+	 * The random stream of each instance when stepped on the thread pool.
+	 */
+	private Random[] randoms;
 
 	/**
 	 * Constructs a new instance of the Many-Once algorithm, which runs many
@@ -89,21 +163,122 @@ public class RepeatedSingleObjective extends AbstractAlgorithm {
 		for (double[] weight : weights) {
 			algorithms.add(createInstance(weight));
 		}
+		
+		numberOfThreads = 1;
+		running = new boolean[algorithms.size()];
+		evaluations = new int[algorithms.size()];
+	}
+	
+	/**
+	 * Returns the number of threads used to step the instances.
+	 * 
+	 * @return the number of threads used to step the instances
+	 */
+	public int getNumberOfThreads() {
+		return numberOfThreads;
+	}
+	
+	/**
+	 * Sets the number of threads used to step the instances.  The default is
+	 * {@code 1}, stepping the instances sequentially on the calling thread
+	 * unless asynchronous execution is enabled.  This method must be called
+	 * before the first step.
+	 * 
+	 * @param numberOfThreads the number of threads used to step the
+	 *        instances
+	 * @throws IllegalArgumentException if the number of threads is not
+	 *         positive
+	 * @throws AlgorithmInitializationException if this algorithm is already
+	 *         initialized
+	 */
+	public void setNumberOfThreads(int numberOfThreads) {
+		if (numberOfThreads <= 0) {
+			throw new IllegalArgumentException(
+					"number of threads must be positive");
+		}
+		
+		checkNotInitialized();
+		this.numberOfThreads = numberOfThreads;
+	}
+	
+	/**
+	 * Returns {@code true} if the instances are stepped asynchronously;
+	 * {@code false} if each step waits for all instances.
+	 * 
+	 * @return {@code true} if the instances are stepped asynchronously;
+	 *         {@code false} if each step waits for all instances
+	 */
+	public boolean isAsynchronous() {
+		return asynchronous;
+	}
+	
+	/**
+	 * Sets whether the instances are stepped asynchronously.  When
+	 * {@code true}, each step resubmits all idle instances to the thread pool
+	 * and returns once any instance completes an iteration.  This method must
+	 * be called before the first step.
+	 * 
+	 * @param asynchronous {@code true} if the instances are stepped
+	 *        asynchronously; {@code false} if each step waits for all
+	 *        instances
+	 * @throws AlgorithmInitializationException if this algorithm is already
+	 *         initialized
+	 */
+	public void setAsynchronous(boolean asynchronous) {
+		checkNotInitialized();
+		this.asynchronous = asynchronous;
+	}
+	
+	/**
+	 * Throws an exception if this algorithm is already initialized.
+	 * 
+	 * @throws AlgorithmInitializationException if this algorithm is already
+	 *         initialized
+	 */
+	private void checkNotInitialized() {
+		if (isInitialized()) {
+			throw new AlgorithmInitializationException(this, 
+					"algorithm already initialized");
+		}
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * When using multiple threads, the count only includes the evaluations
+	 * from completed iterations.
+	 */
 	@Override
 	public int getNumberOfEvaluations() {
-		int evaluations = 0;
-		
-		for (Algorithm algorithm : algorithms) {
-			evaluations += algorithm.getNumberOfEvaluations();
+		if (executor == null) {
+			int total = 0;
+			
+			for (Algorithm algorithm : algorithms) {
+				total += algorithm.getNumberOfEvaluations();
+			}
+			
+			return total;
+		} else {
+			int total = 0;
+			
+			for (int i = 0; i < evaluations.length; i++) {
+				total += evaluations[i];
+			}
+			
+			return total;
 		}
-		
-		return evaluations;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * When stepping asynchronously, this method waits for all pending
+	 * iterations to complete before reading the results of each instance.
+	 */
 	@Override
 	public NondominatedPopulation getResult() {
+		awaitAll();
+		
 		NondominatedPopulation result = new NondominatedPopulation();
 		
 		for (Algorithm algorithm : algorithms) {
@@ -123,8 +298,155 @@ public class RepeatedSingleObjective extends AbstractAlgorithm {
 
 	@Override
 	protected void iterate() {
-		for (Algorithm algorithm : algorithms) {
-			algorithm.step();
+		if ((numberOfThreads == 1) && !asynchronous) {
+			for (Algorithm algorithm : algorithms) {
+				algorithm.step();
+			}
+		} else {
+			if (executor == null) {
+				createExecutor();
+			}
+			
+			for (int i = 0; i < algorithms.size(); i++) {
+				if (!running[i]) {
+					final int index = i;
+					
+					completionService.submit(new Callable<Integer>() {
+
+						@Override
+						public Integer call() {
+							ThreadRandom random = ThreadRandom.install();
+							
+							try {
+								random.set(randoms[index]);
+								algorithms.get(index).step();
+							} finally {
+								random.remove();
+								random.uninstall();
+							}
+							
+							return index;
+						}
+						
+					});
+					
+					running[i] = true;
+					numberOfRunning++;
+				}
+			}
+			
+			if (asynchronous) {
+				awaitNext();
+				
+				// also collect any other instances that completed
+				Future<Integer> future = null;
+				
+				while ((future = completionService.poll()) != null) {
+					complete(future);
+				}
+			} else {
+				awaitAll();
+			}
+		}
+	}
+	
+	@Override
+	public void terminate() {
+		super.terminate();
+		
+		if (executor != null) {
+			try {
+				awaitAll();
+			} finally {
+				executor.shutdown();
+			}
+		}
+	}
+	
+	/**
+	 * Creates the thread pool used to step the instances and the random
+	 * stream of each instance.  The threads are daemon threads so an
+	 * algorithm that is never terminated does not prevent the JVM from
+	 * exiting.
+	 */
+	private void createExecutor() {
+		randoms = new Random[algorithms.size()];
+		
+		for (int i = 0; i < randoms.length; i++) {
+			randoms[i] = new RandomAdaptor(new MersenneTwister(
+					PRNG.nextLong()));
+		}
+		
+		executor = Executors.newFixedThreadPool(numberOfThreads,
+				new ThreadFactory() {
+
+			@Override
+			public Thread newThread(Runnable runnable) {
+				Thread thread = new Thread(runnable);
+				thread.setDaemon(true);
+				return thread;
+			}
+			
+		});
+		
+		completionService = new ExecutorCompletionService<Integer>(executor);
+	}
+	
+	/**
+	 * Blocks until all pending iterations complete.
+	 */
+	private void awaitAll() {
+		while (numberOfRunning > 0) {
+			awaitNext();
+		}
+	}
+	
+	/**
+	 * Blocks until the next pending iteration completes.
+	 */
+	private void awaitNext() {
+		try {
+			complete(completionService.take());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new AlgorithmException(this, e);
+		}
+	}
+	
+	/**
+	 * Records the completion of an iteration, propagating any exception
+	 * thrown by the instance.
+	 * 
+	 * @param future the completed iteration
+	 */
+	private void complete(Future<Integer> future) {
+		try {
+			int index = future.get();
+			
+			running[index] = false;
+			numberOfRunning--;
+			evaluations[index] = algorithms.get(index).getNumberOfEvaluations();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new AlgorithmException(this, e);
+		} catch (ExecutionException e) {
+			// the failed instance remains marked as running, so wait for the
+			// remaining instances before propagating the error
+			numberOfRunning--;
+			
+			try {
+				awaitAll();
+			} catch (RuntimeException suppressed) {
+				// report the first error
+			}
+			
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException)e.getCause();
+			} else if (e.getCause() instanceof Error) {
+				throw (Error)e.getCause();
+			} else {
+				throw new AlgorithmException(this, e.getCause());
+			}
 		}
 	}
 	
@@ -19,8 +19,11 @@ package org.moeaframework.algorithm.single;
 
 import org.moeaframework.core.PRNG;
 import org.moeaframework.core.Solution;
+import org.moeaframework.core.Variable;
 import org.moeaframework.core.Variation;
+import org.moeaframework.core.variable.EncodingUtils;
 import org.moeaframework.core.variable.RealVariable;
+import org.moeaframework.core.variable.RealVectorVariable;
 
 /**
  * Self adaptive variation based on the normal distribution.  The self adaptive
@@ -49,7 +52,8 @@ public class SelfAdaptiveNormalVariation implements Variation {
 	public Solution[] evolve(Solution[] parents) {
 		Solution child = parents[0].copy();
 		double sigma = 1.0;
-		double tau = 1.0 / Math.sqrt(2.0 * child.getNumberOfVariables());
+		double tau = 1.0 / Math.sqrt(2.0 * EncodingUtils.getNumberOfReals(
+				child));
 		
 		if (child.hasAttribute(SIGMA)) {
 			sigma = (Double)child.getAttribute(SIGMA);
@@ -59,20 +63,48 @@ public class SelfAdaptiveNormalVariation implements Variation {
 		child.setAttribute(SIGMA, sigma);
 		
 		for (int i = 0; i < child.getNumberOfVariables(); i++) {
-			RealVariable variable = (RealVariable)child.getVariable(i);
-			double value = variable.getValue();
-			value += sigma * PRNG.nextGaussian();
+			Variable variable = child.getVariable(i);
 			
-			if (value < variable.getLowerBound()) {
-				value = variable.getLowerBound();
-			} else if (value > variable.getUpperBound()) {
-				value = variable.getUpperBound();
+			if (variable instanceof RealVectorVariable) {
+				RealVectorVariable vector = (RealVectorVariable)variable;
+				double[] values = vector.getValues();
+				
+				for (int j = 0; j < values.length; j++) {
+					values[j] = evolve(values[j], sigma,
+							vector.getLowerBound(j), vector.getUpperBound(j));
+				}
+			} else {
+				RealVariable real = (RealVariable)variable;
+				real.setValue(evolve(real.getValue(), sigma,
+						real.getLowerBound(), real.getUpperBound()));
 			}
-			
-			variable.setValue(value);
 		}
 		
 		return new Solution[] { child };
 	}
+	
+	/**
+	 * Returns the value after adding normally-distributed noise, clamped to
+	 * the bounds.
+	 * 
+	 * @param value the current value
+	 * @param sigma the standard deviation of the noise
+	 * @param lowerBound the lower bound
+	 * @param upperBound the upper bound
+	 * @return the value after adding normally-distributed noise, clamped to
+	 *         the bounds
+	 */
+	private static double evolve(double value, double sigma,
+			double lowerBound, double upperBound) {
+		value += sigma * PRNG.nextGaussian();
+		
+		if (value < lowerBound) {
+			value = lowerBound;
+		} else if (value > upperBound) {
+			value = upperBound;
+		}
+		
+		return value;
+	}
 
 }
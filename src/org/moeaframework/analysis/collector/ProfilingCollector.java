@@ -0,0 +1,84 @@
+/* Copyright 2009-2018 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.analysis.collector;
+
+import org.moeaframework.algorithm.AbstractAlgorithm;
+import org.moeaframework.algorithm.Profiler;
+
+/**
+ * Collects the time, in seconds, and the number of invocations of each phase
+ * of an algorithm using a {@link Profiler}.  If the algorithm is not already
+ * profiled, attaching this collector assigns it a new profiler.  Only the
+ * outermost {@link AbstractAlgorithm} is profiled.
+ */
+public class ProfilingCollector implements Collector {
+
+	/**
+	 * The profiler used by this collector; or {@code null} if this collector
+	 * has not yet been attached.
+	 */
+	private final Profiler profiler;
+
+	/**
+	 * Constructs an unattached collector for recording the time spent in each
+	 * phase of an algorithm.
+	 */
+	public ProfilingCollector() {
+		this(null);
+	}
+
+	/**
+	 * Constructs a collector for recording the time spent in each phase of an
+	 * algorithm using the specified profiler.
+	 * 
+	 * @param profiler the profiler this collector records data from
+	 */
+	public ProfilingCollector(Profiler profiler) {
+		super();
+		this.profiler = profiler;
+	}
+
+	@Override
+	public AttachPoint getAttachPoint() {
+		return AttachPoint.isSubclass(AbstractAlgorithm.class).and(
+				AttachPoint.not(AttachPoint.isNestedIn(
+						AbstractAlgorithm.class)));
+	}
+
+	@Override
+	public Collector attach(Object object) {
+		AbstractAlgorithm algorithm = (AbstractAlgorithm)object;
+		Profiler profiler = algorithm.getProfiler();
+
+		if (profiler == null) {
+			profiler = new Profiler();
+			algorithm.setProfiler(profiler);
+		}
+
+		return new ProfilingCollector(profiler);
+	}
+
+	@Override
+	public void collect(Accumulator accumulator) {
+		for (Profiler.Phase phase : Profiler.Phase.values()) {
+			accumulator.add(phase + " Time", profiler.getTime(phase) * 1e-9);
+			accumulator.add(phase + " Count", profiler.getCount(phase));
+		}
+	}
+
+}
@@ -20,11 +20,22 @@ package org.moeaframework.analysis.sensitivity;
 import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
+import java.util.LinkedList;
 import java.util.Properties;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
 
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.OptionBuilder;
 import org.apache.commons.cli.Options;
+import org.apache.commons.math3.random.MersenneTwister;
+import org.apache.commons.math3.random.RandomAdaptor;
 import org.moeaframework.core.Algorithm;
 import org.moeaframework.core.FrameworkException;
 import org.moeaframework.core.NondominatedPopulation;
@@ -36,6 +47,7 @@ import org.moeaframework.core.spi.AlgorithmFactory;
 import org.moeaframework.core.spi.ProblemFactory;
 import org.moeaframework.problem.TimingProblem;
 import org.moeaframework.util.CommandLineUtility;
+import org.moeaframework.util.ThreadRandom;
 import org.moeaframework.util.TypedProperties;
 
 /**
@@ -101,6 +113,15 @@ import org.moeaframework.util.TypedProperties;
  *     <td>{@code -n, --novariables}</td>
  *     <td>To save on space, do not save decision variables in the results.</td>
  *   </tr>
+ *   <tr>
+ *     <td>{@code -t, --threads}</td>
+ *     <td>The number of parameterizations evaluated concurrently.  Each
+ *         thread uses its own problem instance, and each parameterization
+ *         uses its own random number stream derived from the seed and its
+ *         position in the parameter sample file, so resuming an interrupted
+ *         run reproduces the remaining results.  Results are written in the
+ *         order of the parameter sample file.</td>
+ *   </tr>
  * </table>
  */
 public class Evaluator extends CommandLineUtility {
@@ -193,6 +214,11 @@ public class Evaluator extends CommandLineUtility {
 		options.addOption(OptionBuilder
 				.withLongOpt("force")
 				.create('f'));
+		options.addOption(OptionBuilder
+				.withLongOpt("threads")
+				.hasArg()
+				.withArgName("number")
+				.create('t'));
 
 		return options;
 	}
@@ -253,7 +279,9 @@ public class Evaluator extends CommandLineUtility {
 					}
 
 					// resume at the last good output
-					for (int i = 0; i < output.getNumberOfEntries(); i++) {
+					int resumed = output.getNumberOfEntries();
+					
+					for (int i = 0; i < resumed; i++) {
 						if (input.hasNext()) {
 							input.next();
 						} else {
@@ -292,12 +320,26 @@ public class Evaluator extends CommandLineUtility {
 					}
 
 					// process the remaining runs
-					while (input.hasNext()) {
-						Properties properties = input.next();
-						properties.putAll(defaultProperties);
+					int numberOfThreads = 1;
+					
+					if (commandLine.hasOption("threads")) {
+						numberOfThreads = Integer.parseInt(
+								commandLine.getOptionValue("threads"));
+					}
+					
+					if (numberOfThreads > 1) {
+						processConcurrently(
+								commandLine.getOptionValue("algorithm"),
+								commandLine.getOptionValue("problem"),
+								defaultProperties, resumed, numberOfThreads);
+					} else {
+						while (input.hasNext()) {
+							Properties properties = input.next();
+							properties.putAll(defaultProperties);
 
-						process(commandLine.getOptionValue("algorithm"),
-								properties);
+							process(commandLine.getOptionValue("algorithm"),
+									properties);
+						}
 					}
 				} finally {
 					if (output != null) {
@@ -325,6 +367,143 @@ public class Evaluator extends CommandLineUtility {
 	 */
 	protected void process(String algorithmName, Properties properties)
 			throws IOException {
+		output.append(evaluate(algorithmName, properties, problem));
+	}
+	
+	/**
+	 * Processes the remaining parameterizations concurrently.  Each thread
+	 * evaluates parameterizations using its own instance of the problem, and
+	 * each parameterization uses its own random number stream seeded by
+	 * {@link PRNG} and the position of the parameterization in the input.
+	 * Results are written in the order of the input as soon as all preceding
+	 * results are available, so an interrupted run leaves a contiguous
+	 * prefix of results from which the run can be resumed.
+	 * 
+	 * @param algorithmName the algorithm name
+	 * @param problemName the problem name
+	 * @param defaultProperties the parameters applied to every run
+	 * @param resumed the number of parameterizations already processed
+	 * @param numberOfThreads the number of threads
+	 * @throws IOException if an I/O error occurred
+	 */
+	protected void processConcurrently(final String algorithmName,
+			String problemName, Properties defaultProperties, int resumed,
+			int numberOfThreads) throws IOException {
+		final BlockingQueue<Problem> problems =
+				new LinkedBlockingQueue<Problem>();
+		final long seed = PRNG.nextLong();
+		LinkedList<Future<ResultEntry>> pending =
+				new LinkedList<Future<ResultEntry>>();
+		ExecutorService executor = null;
+		
+		problems.add(problem);
+		
+		final ThreadRandom random = ThreadRandom.install();
+		
+		try {
+			for (int i = 1; i < numberOfThreads; i++) {
+				problems.add(ProblemFactory.getInstance().getProblem(
+						problemName));
+			}
+			
+			executor = Executors.newFixedThreadPool(numberOfThreads,
+					new ThreadFactory() {
+
+				@Override
+				public Thread newThread(Runnable runnable) {
+					Thread thread = new Thread(runnable);
+					thread.setDaemon(true);
+					return thread;
+				}
+				
+			});
+			
+			int index = resumed;
+			
+			while (input.hasNext() || !pending.isEmpty()) {
+				// keep a bounded number of runs ahead of the output
+				while (input.hasNext() &&
+						(pending.size() < 2 * numberOfThreads)) {
+					final Properties properties = input.next();
+					final int sample = index++;
+					
+					properties.putAll(defaultProperties);
+					
+					pending.add(executor.submit(new Callable<ResultEntry>() {
+
+						@Override
+						public ResultEntry call() throws Exception {
+							Problem instance = problems.take();
+							
+							try {
+								random.set(new RandomAdaptor(
+										new MersenneTwister(new int[] {
+										(int)(seed >>> 32), (int)seed,
+										sample })));
+								
+								return evaluate(algorithmName, properties,
+										instance);
+							} finally {
+								random.remove();
+								problems.add(instance);
+							}
+						}
+						
+					}));
+				}
+				
+				output.append(get(pending.removeFirst()));
+			}
+		} finally {
+			if (executor != null) {
+				executor.shutdownNow();
+			}
+			
+			random.uninstall();
+			problems.remove(problem);
+			
+			for (Problem instance : problems) {
+				instance.close();
+			}
+		}
+	}
+	
+	/**
+	 * Waits for and returns the result of a concurrent run.
+	 * 
+	 * @param future the pending result
+	 * @return the result of the run
+	 * @throws FrameworkException if the run failed with a checked exception or
+	 *         the calling thread was interrupted
+	 */
+	private ResultEntry get(Future<ResultEntry> future) {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new FrameworkException(e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException)e.getCause();
+			} else if (e.getCause() instanceof Error) {
+				throw (Error)e.getCause();
+			} else {
+				throw new FrameworkException(e.getCause());
+			}
+		}
+	}
+
+	/**
+	 * Performs a single run of the specified algorithm using the parameters
+	 * and returns the end-of-run result.
+	 * 
+	 * @param algorithmName the algorithm name
+	 * @param properties the parameters stored in a properties object
+	 * @param problem the problem being evaluated
+	 * @return the end-of-run result and timing data
+	 */
+	protected ResultEntry evaluate(String algorithmName, Properties properties,
+			Problem problem) {
 		// instrument the problem to record timing information
 		TimingProblem timingProblem = new TimingProblem(problem);
 
@@ -366,8 +545,7 @@ public class Evaluator extends CommandLineUtility {
 		timingData.setProperty("TotalTime",
 				Double.toString((endTime - startTime) / 1e9));
 
-		// write result to output
-		output.append(new ResultEntry(result, timingData));
+		return new ResultEntry(result, timingData);
 	}
 
 	/**
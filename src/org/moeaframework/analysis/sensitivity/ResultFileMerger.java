@@ -18,17 +18,21 @@
 package org.moeaframework.analysis.sensitivity;
 
 import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.OptionBuilder;
 import org.apache.commons.cli.OptionGroup;
 import org.apache.commons.cli.Options;
-import org.moeaframework.core.EpsilonBoxDominanceArchive;
 import org.moeaframework.core.NondominatedPopulation;
+import org.moeaframework.core.Population;
 import org.moeaframework.core.PopulationIO;
 import org.moeaframework.core.Problem;
 import org.moeaframework.core.spi.ProblemFactory;
 import org.moeaframework.util.CommandLineUtility;
+import org.moeaframework.util.StreamingMerger;
 import org.moeaframework.util.TypedProperties;
 import org.moeaframework.util.io.FileUtils;
 
@@ -66,6 +70,16 @@ import org.moeaframework.util.io.FileUtils;
  *     <td>Output a result file, which includes all of the decision variables
  *         when combined with the -b option.</td>
  *   </tr>
+ *   <tr>
+ *     <td>{@code -t, --threads}</td>
+ *     <td>The number of threads used to read and merge the result files.
+ *         The problem must support creating solutions concurrently.</td>
+ *   </tr>
+ *   <tr>
+ *     <td>{@code -s, --spill}</td>
+ *     <td>The directory storing the intermediate sets, which reduces the
+ *         memory required to merge a large number of result files.</td>
+ *   </tr>
  * </table>
  */
 public class ResultFileMerger extends CommandLineUtility {
@@ -111,6 +125,16 @@ public class ResultFileMerger extends CommandLineUtility {
 		options.addOption(OptionBuilder
 				.withLongOpt("resultFile")
 				.create('r'));
+		options.addOption(OptionBuilder
+				.withLongOpt("threads")
+				.hasArg()
+				.withArgName("number")
+				.create('t'));
+		options.addOption(OptionBuilder
+				.withLongOpt("spill")
+				.hasArg()
+				.withArgName("directory")
+				.create('s'));
 		
 		return options;
 	}
@@ -119,16 +143,26 @@ public class ResultFileMerger extends CommandLineUtility {
 	public void run(CommandLine commandLine) throws Exception {
 		Problem problem = null;
 		NondominatedPopulation mergedSet = null;
-		ResultFileReader reader = null;
+		StreamingMerger merger = null;
 
-		// setup the merged non-dominated population
+		// setup the merger
 		if (commandLine.hasOption("epsilon")) {
 			double[] epsilon = TypedProperties.withProperty("epsilon",
 					commandLine.getOptionValue("epsilon")).getDoubleArray(
 					"epsilon", null);
-			mergedSet = new EpsilonBoxDominanceArchive(epsilon);
+			merger = new StreamingMerger(epsilon);
 		} else {
-			mergedSet = new NondominatedPopulation();
+			merger = new StreamingMerger();
+		}
+		
+		if (commandLine.hasOption("threads")) {
+			merger.setNumberOfThreads(Integer.parseInt(
+					commandLine.getOptionValue("threads")));
+		}
+		
+		if (commandLine.hasOption("spill")) {
+			merger.setSpillDirectory(new File(
+					commandLine.getOptionValue("spill")));
 		}
 
 		try {
@@ -142,20 +176,15 @@ public class ResultFileMerger extends CommandLineUtility {
 			}
 
 			// read in result files
+			List<StreamingMerger.Input> inputs =
+					new ArrayList<StreamingMerger.Input>();
+			
 			for (String filename : commandLine.getArgs()) {
-				try {
-					reader = new ResultFileReader(problem, new File(filename));
-
-					while (reader.hasNext()) {
-						mergedSet.addAll(reader.next().getPopulation());
-					}
-				} finally {
-					if (reader != null) {
-						reader.close();
-					}
-				}
+				inputs.add(new ResultFileInput(problem, new File(filename)));
 			}
 			
+			mergedSet = merger.merge(inputs);
+			
 			File output = new File(commandLine.getOptionValue("output"));
 
 			// output merged set
@@ -185,6 +214,54 @@ public class ResultFileMerger extends CommandLineUtility {
 		}
 	}
 	
+	/**
+	 * Input to the {@link StreamingMerger} that reads the approximation sets
+	 * stored in a result file.
+	 */
+	private static class ResultFileInput implements StreamingMerger.Input {
+		
+		/**
+		 * The problem.
+		 */
+		private final Problem problem;
+		
+		/**
+		 * The result file.
+		 */
+		private final File file;
+		
+		/**
+		 * Constructs a new input for reading the approximation sets stored in
+		 * a result file.
+		 * 
+		 * @param problem the problem
+		 * @param file the result file
+		 */
+		public ResultFileInput(Problem problem, File file) {
+			super();
+			this.problem = problem;
+			this.file = file;
+		}
+
+		@Override
+		public void read(Population population) throws IOException {
+			ResultFileReader reader = null;
+			
+			try {
+				reader = new ResultFileReader(problem, file);
+
+				while (reader.hasNext()) {
+					population.addAll(reader.next().getPopulation());
+				}
+			} finally {
+				if (reader != null) {
+					reader.close();
+				}
+			}
+		}
+		
+	}
+	
 	/**
 	 * Starts the command line utility for merging the approximation sets 
 	 * stored in one or more result files.
@@ -30,9 +30,11 @@ import org.moeaframework.core.PRNG;
 import org.moeaframework.util.CommandLineUtility;
 import org.moeaframework.util.OptionCompleter;
 import org.moeaframework.util.sequence.LatinHypercube;
-import org.moeaframework.util.sequence.Saltelli;
+import org.moeaframework.util.sequence.SaltelliStream;
 import org.moeaframework.util.sequence.Sequence;
-import org.moeaframework.util.sequence.Sobol;
+import org.moeaframework.util.sequence.SequenceStream;
+import org.moeaframework.util.sequence.SobolStream;
+import org.moeaframework.util.sequence.SobolStream.Scrambling;
 import org.moeaframework.util.sequence.Uniform;
 
 /**
@@ -69,6 +71,21 @@ import org.moeaframework.util.sequence.Uniform;
  *     <td>{@code -o, --output}</td>
  *     <td>The output file where the parameter samples are saved.</td>
  *   </tr>
+ *   <tr>
+ *     <td>{@code -k, --partition}</td>
+ *     <td>Outputs only part {@code k} of {@code m} equal, contiguous parts
+ *         of the samples, specified as {@code k/m} with {@code k} starting
+ *         at {@code 0}.  Concatenating the parts in order produces the
+ *         complete samples.  Only supported by the {@code sobol} and
+ *         {@code saltelli} methods.</td>
+ *   </tr>
+ *   <tr>
+ *     <td>{@code -c, --scramble}</td>
+ *     <td>Scrambles the {@code sobol} and {@code saltelli} sequences using
+ *         the {@code shift} (random digital shift) or {@code matrix} (random
+ *         linear matrix scramble) method.  The scrambling is determined by
+ *         the seed.</td>
+ *   </tr>
  * </table>
  */
 public class SampleGenerator extends CommandLineUtility {
@@ -114,6 +131,16 @@ public class SampleGenerator extends CommandLineUtility {
 				.hasArg()
 				.withArgName("file")
 				.create('o'));
+		options.addOption(OptionBuilder
+				.withLongOpt("partition")
+				.hasArg()
+				.withArgName("k/m")
+				.create('k'));
+		options.addOption(OptionBuilder
+				.withLongOpt("scramble")
+				.hasArg()
+				.withArgName("name")
+				.create('c'));
 
 		return options;
 	}
@@ -137,6 +164,30 @@ public class SampleGenerator extends CommandLineUtility {
 		}
 
 		Sequence sequence = null;
+		SequenceStream stream = null;
+		int groupSize = 1;
+
+		if (commandLine.hasOption("seed")) {
+			PRNG.setSeed(Long.parseLong(commandLine.getOptionValue("seed")));
+		}
+		
+		Scrambling scrambling = Scrambling.NONE;
+		
+		if (commandLine.hasOption("scramble")) {
+			OptionCompleter completer = new OptionCompleter("shift",
+					"matrix");
+			String method = completer.lookup(
+					commandLine.getOptionValue("scramble"));
+			
+			if (method == null) {
+				throw new IllegalArgumentException("invalid scramble method: "
+						+ commandLine.getOptionValue("scramble"));
+			} else if (method.equals("shift")) {
+				scrambling = Scrambling.DIGITAL_SHIFT;
+			} else {
+				scrambling = Scrambling.LINEAR_MATRIX;
+			}
+		}
 
 		if (commandLine.hasOption("method")) {
 			OptionCompleter completer = new OptionCompleter("uniform", "latin",
@@ -150,10 +201,10 @@ public class SampleGenerator extends CommandLineUtility {
 			} else if (method.equals("latin")) {
 				sequence = new LatinHypercube();
 			} else if (method.equals("sobol")) {
-				sequence = new Sobol();
+				stream = new SobolStream(D, scrambling, PRNG.nextLong());
 			} else if (method.equals("saltelli")) {
-				N *= (2 * D + 2);
-				sequence = new Saltelli();
+				groupSize = 2 * D + 2;
+				stream = new SaltelliStream(D, scrambling, PRNG.nextLong());
 			} else if (method.equals("uniform")) {
 				sequence = new Uniform();
 			} else {
@@ -161,11 +212,38 @@ public class SampleGenerator extends CommandLineUtility {
 						+ commandLine.getOptionValue("method"));
 			}
 		} else {
-			sequence = new Sobol();
+			stream = new SobolStream(D, scrambling, PRNG.nextLong());
 		}
-
-		if (commandLine.hasOption("seed")) {
-			PRNG.setSeed(Long.parseLong(commandLine.getOptionValue("seed")));
+		
+		if ((stream == null) && (commandLine.hasOption("partition") ||
+				commandLine.hasOption("scramble"))) {
+			throw new IllegalArgumentException(
+					"partition and scramble require the sobol or saltelli " +
+					"method");
+		}
+		
+		// determine the range of samples, in groups, being output
+		long start = 0;
+		long end = N;
+		
+		if (commandLine.hasOption("partition")) {
+			String[] tokens = commandLine.getOptionValue("partition").split(
+					"/");
+			
+			if (tokens.length != 2) {
+				throw new IllegalArgumentException(
+						"partition must be formatted as k/m");
+			}
+			
+			int k = Integer.parseInt(tokens[0]);
+			int m = Integer.parseInt(tokens[1]);
+			
+			if ((m <= 0) || (k < 0) || (k >= m)) {
+				throw new IllegalArgumentException("invalid partition");
+			}
+			
+			start = N * (long)k / m;
+			end = N * (long)(k + 1) / m;
 		}
 
 		PrintStream output = System.out;
@@ -177,23 +255,21 @@ public class SampleGenerator extends CommandLineUtility {
 								commandLine.getOptionValue("output"))));
 			}
 
-			double[][] samples = sequence.generate(N, D);
-
-			for (int i = 0; i < N; i++) {
-				output.print(parameterFile.get(0).getLowerBound()
-						+ samples[i][0]
-						* (parameterFile.get(0).getUpperBound() -
-								parameterFile.get(0).getLowerBound()));
+			if (stream == null) {
+				double[][] samples = sequence.generate(N, D);
 
-				for (int j = 1; j < D; j++) {
-					output.print(' ');
-					output.print(parameterFile.get(j).getLowerBound()
-							+ samples[i][j]
-							* (parameterFile.get(j).getUpperBound() -
-									parameterFile.get(j).getLowerBound()));
+				for (int i = 0; i < N; i++) {
+					print(output, parameterFile, samples[i]);
+				}
+			} else {
+				double[] sample = new double[D];
+				
+				stream.skipTo(start * groupSize);
+				
+				for (long i = start * groupSize; i < end * groupSize; i++) {
+					stream.next(sample);
+					print(output, parameterFile, sample);
 				}
-
-				output.println();
 			}
 		} finally {
 			if ((output != null) && (output != System.out)) {
@@ -201,6 +277,31 @@ public class SampleGenerator extends CommandLineUtility {
 			}
 		}
 	}
+	
+	/**
+	 * Prints a sample, scaled to the bounds of each parameter.
+	 * 
+	 * @param output the output stream
+	 * @param parameterFile the parameter file
+	 * @param sample the sample, with each value in the range {@code [0, 1]}
+	 */
+	private void print(PrintStream output, ParameterFile parameterFile,
+			double[] sample) {
+		output.print(parameterFile.get(0).getLowerBound()
+				+ sample[0]
+				* (parameterFile.get(0).getUpperBound() -
+						parameterFile.get(0).getLowerBound()));
+
+		for (int j = 1; j < sample.length; j++) {
+			output.print(' ');
+			output.print(parameterFile.get(j).getLowerBound()
+					+ sample[j]
+					* (parameterFile.get(j).getUpperBound() -
+							parameterFile.get(j).getLowerBound()));
+		}
+
+		output.println();
+	}
 
 	/**
 	 * Command line utility for producing randomly-generated parameters for use
@@ -0,0 +1,658 @@
+/* Copyright 2009-2018 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.analysis.sensitivity;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.apache.commons.math3.stat.StatUtils;
+import org.moeaframework.core.PRNG;
+import org.moeaframework.util.ParallelLoop;
+import org.moeaframework.util.statistics.Resampler;
+
+/**
+ * Computes the first-, total- and second-order Sobol' sensitivities of model
+ * output using Saltelli's improved Sobol' global variance decomposition
+ * procedure, along with their bootstrap confidence intervals.  This class
+ * provides the library interface to {@link SobolAnalysis}.
+ * <p>
+ * The model output is read in a single pass and stored column-wise, so each
+ * sensitivity is computed directly from the stored columns without copying.
+ * The sensitivities of different parameters, and of different pairs of
+ * parameters, are computed in parallel.  The bootstrap resamples are computed
+ * by {@link Resampler}s whose seeds are drawn from {@link PRNG} before any
+ * work is distributed, so the results are reproducible for a given
+ * {@link PRNG} seed regardless of the number of threads.
+ * 
+ * @see SobolAnalysis
+ */
+public class SobolSensitivity {
+	
+	/**
+	 * The number of parameters.
+	 */
+	private final int P;
+	
+	/**
+	 * The number of samples.
+	 */
+	private int N;
+	
+	/**
+	 * {@code true} if the model output contained a partial sample, which was
+	 * ignored; {@code false} otherwise.
+	 */
+	private boolean incomplete;
+	
+	/**
+	 * Output from the original parameters.
+	 */
+	private double[] A;
+
+	/**
+	 * Output from the resampled parameters.
+	 */
+	private double[] B;
+
+	/**
+	 * Output from the original samples where the j-th parameter is replaced by
+	 * the corresponding resampled parameter, stored as {@code C_A[j][i]}.
+	 */
+	private double[][] C_A;
+
+	/**
+	 * Output from the resampled samples where the j-th parameter is replaced by
+	 * the corresponding original parameter, stored as {@code C_B[j][i]}.
+	 */
+	private double[][] C_B;
+	
+	/**
+	 * The number of resamples used to bootstrap the confidence intervals.
+	 */
+	private int resamples;
+	
+	/**
+	 * The number of threads.
+	 */
+	private int numberOfThreads;
+	
+	/**
+	 * Constructs a new Sobol' sensitivity analysis for the specified number of
+	 * parameters.
+	 * 
+	 * @param numberOfParameters the number of parameters
+	 * @throws IllegalArgumentException if the number of parameters is not
+	 *         positive
+	 */
+	public SobolSensitivity(int numberOfParameters) {
+		super();
+		
+		if (numberOfParameters <= 0) {
+			throw new IllegalArgumentException(
+					"number of parameters must be positive");
+		}
+		
+		P = numberOfParameters;
+		resamples = 1000;
+		numberOfThreads = 1;
+		
+		A = new double[0];
+		B = new double[0];
+		C_A = new double[P][0];
+		C_B = new double[P][0];
+	}
+	
+	/**
+	 * Reads the model output from the file.  Each line in the file must
+	 * contain the output produced using the parameters generated by
+	 * {@link org.moeaframework.util.sequence.Saltelli}, where each sample
+	 * consists of {@code 2P+2} lines.  Reading stops at the first line without
+	 * the specified column; any trailing partial sample is ignored.
+	 * 
+	 * @param file the model output file
+	 * @param index the column of the model output being analyzed
+	 * @throws IOException if an I/O error occurred
+	 */
+	public void load(File file, int index) throws IOException {
+		MatrixReader reader = null;
+		int capacity = 1024;
+		double[] group = new double[2*P + 2];
+		
+		N = 0;
+		incomplete = false;
+		A = new double[capacity];
+		B = new double[capacity];
+		C_A = new double[P][capacity];
+		C_B = new double[P][capacity];
+		
+		try {
+			reader = new MatrixReader(file);
+			
+			outer: while (reader.hasNext()) {
+				for (int k = 0; k < group.length; k++) {
+					double[] row = reader.hasNext() ? reader.next() : null;
+					
+					if ((row == null) || (row.length <= index)) {
+						incomplete = k > 0;
+						break outer;
+					}
+					
+					group[k] = row[index];
+				}
+				
+				if (N == capacity) {
+					capacity *= 2;
+					A = Arrays.copyOf(A, capacity);
+					B = Arrays.copyOf(B, capacity);
+					
+					for (int j = 0; j < P; j++) {
+						C_A[j] = Arrays.copyOf(C_A[j], capacity);
+						C_B[j] = Arrays.copyOf(C_B[j], capacity);
+					}
+				}
+				
+				A[N] = group[0];
+				
+				for (int j = 0; j < P; j++) {
+					C_A[j][N] = group[1 + j];
+					C_B[j][N] = group[1 + P + j];
+				}
+				
+				B[N] = group[2*P + 1];
+				N++;
+			}
+		} finally {
+			if (reader != null) {
+				reader.close();
+			}
+		}
+	}
+	
+	/**
+	 * Returns the number of parameters.
+	 * 
+	 * @return the number of parameters
+	 */
+	public int getNumberOfParameters() {
+		return P;
+	}
+	
+	/**
+	 * Returns the number of samples read from the model output.
+	 * 
+	 * @return the number of samples read from the model output
+	 */
+	public int getNumberOfSamples() {
+		return N;
+	}
+	
+	/**
+	 * Returns {@code true} if the model output ended with a partial sample,
+	 * which was ignored; {@code false} otherwise.
+	 * 
+	 * @return {@code true} if the model output ended with a partial sample;
+	 *         {@code false} otherwise
+	 */
+	public boolean isIncomplete() {
+		return incomplete;
+	}
+	
+	/**
+	 * Returns the number of resamples used to bootstrap the confidence
+	 * intervals.  Defaults to {@code 1000}.
+	 * 
+	 * @return the number of resamples used to bootstrap the confidence
+	 *         intervals
+	 */
+	public int getResamples() {
+		return resamples;
+	}
+	
+	/**
+	 * Sets the number of resamples used to bootstrap the confidence intervals.
+	 * 
+	 * @param resamples the number of resamples
+	 * @throws IllegalArgumentException if the number of resamples is not
+	 *         positive
+	 */
+	public void setResamples(int resamples) {
+		if (resamples <= 0) {
+			throw new IllegalArgumentException(
+					"number of resamples must be positive");
+		}
+		
+		this.resamples = resamples;
+	}
+	
+	/**
+	 * Returns the number of threads.  Defaults to {@code 1}.
+	 * 
+	 * @return the number of threads
+	 */
+	public int getNumberOfThreads() {
+		return numberOfThreads;
+	}
+	
+	/**
+	 * Sets the number of threads.
+	 * 
+	 * @param numberOfThreads the number of threads
+	 * @throws IllegalArgumentException if the number of threads is not
+	 *         positive
+	 */
+	public void setNumberOfThreads(int numberOfThreads) {
+		if (numberOfThreads <= 0) {
+			throw new IllegalArgumentException(
+					"number of threads must be positive");
+		}
+		
+		this.numberOfThreads = numberOfThreads;
+	}
+	
+	/**
+	 * Returns the first-order sensitivity of each parameter.
+	 * 
+	 * @return the first-order sensitivity of each parameter
+	 */
+	public double[] getFirstOrder() {
+		final double[] result = new double[P];
+		
+		ParallelLoop.run(P, numberOfThreads, new ParallelLoop.Body() {
+
+			@Override
+			public void run(int j, int thread) {
+				result[j] = computeFirstOrder(A, C_A[j], B, null, N);
+			}
+			
+		});
+		
+		return result;
+	}
+	
+	/**
+	 * Returns the half-width of the 95% bootstrap confidence interval of the
+	 * first-order sensitivity of each parameter.
+	 * 
+	 * @return the half-width of the confidence interval of the first-order
+	 *         sensitivity of each parameter
+	 */
+	public double[] getFirstOrderConfidence() {
+		return computeConfidence(P, new Statistic() {
+
+			@Override
+			public double evaluate(int j, int[] indices) {
+				return computeFirstOrder(A, C_A[j], B, indices, N);
+			}
+			
+		});
+	}
+	
+	/**
+	 * Returns the total-order sensitivity of each parameter.
+	 * 
+	 * @return the total-order sensitivity of each parameter
+	 */
+	public double[] getTotalOrder() {
+		final double[] result = new double[P];
+		
+		ParallelLoop.run(P, numberOfThreads, new ParallelLoop.Body() {
+
+			@Override
+			public void run(int j, int thread) {
+				result[j] = computeTotalOrder(A, C_A[j], null, N);
+			}
+			
+		});
+		
+		return result;
+	}
+	
+	/**
+	 * Returns the half-width of the 95% bootstrap confidence interval of the
+	 * total-order sensitivity of each parameter.
+	 * 
+	 * @return the half-width of the confidence interval of the total-order
+	 *         sensitivity of each parameter
+	 */
+	public double[] getTotalOrderConfidence() {
+		return computeConfidence(P, new Statistic() {
+
+			@Override
+			public double evaluate(int j, int[] indices) {
+				return computeTotalOrder(A, C_A[j], indices, N);
+			}
+			
+		});
+	}
+	
+	/**
+	 * Returns the second-order sensitivity of each pair of parameters.  The
+	 * value for parameters {@code j < k} is stored in both {@code [j][k]} and
+	 * {@code [k][j]}; the diagonal is {@code 0}.
+	 * 
+	 * @return the second-order sensitivity of each pair of parameters
+	 */
+	public double[][] getSecondOrder() {
+		final int[][] pairs = getPairs();
+		final double[] values = new double[pairs.length];
+		
+		ParallelLoop.run(pairs.length, numberOfThreads,
+				new ParallelLoop.Body() {
+
+			@Override
+			public void run(int index, int thread) {
+				int j = pairs[index][0];
+				int k = pairs[index][1];
+				
+				values[index] = computeSecondOrder(A, C_B[j], C_A[k], C_A[j],
+						B, null, N);
+			}
+			
+		});
+		
+		return toMatrix(pairs, values);
+	}
+	
+	/**
+	 * Returns the half-width of the 95% bootstrap confidence interval of the
+	 * second-order sensitivity of each pair of parameters, stored as in
+	 * {@link #getSecondOrder()}.
+	 * 
+	 * @return the half-width of the confidence interval of the second-order
+	 *         sensitivity of each pair of parameters
+	 */
+	public double[][] getSecondOrderConfidence() {
+		final int[][] pairs = getPairs();
+		
+		double[] values = computeConfidence(pairs.length, new Statistic() {
+
+			@Override
+			public double evaluate(int index, int[] indices) {
+				int j = pairs[index][0];
+				int k = pairs[index][1];
+				
+				return computeSecondOrder(A, C_B[j], C_A[k], C_A[j], B,
+						indices, N);
+			}
+			
+		});
+		
+		return toMatrix(pairs, values);
+	}
+	
+	/**
+	 * Returns each pair of parameters {@code j < k}, in the order they are
+	 * displayed by {@link SobolAnalysis}.
+	 * 
+	 * @return each pair of parameters
+	 */
+	private int[][] getPairs() {
+		int[][] pairs = new int[P * (P - 1) / 2][];
+		int index = 0;
+		
+		for (int j = 0; j < P; j++) {
+			for (int k = j + 1; k < P; k++) {
+				pairs[index++] = new int[] { j, k };
+			}
+		}
+		
+		return pairs;
+	}
+	
+	/**
+	 * Stores the value of each pair of parameters in a symmetric matrix.
+	 * 
+	 * @param pairs the pairs of parameters
+	 * @param values the value of each pair
+	 * @return the symmetric matrix
+	 */
+	private double[][] toMatrix(int[][] pairs, double[] values) {
+		double[][] result = new double[P][P];
+		
+		for (int i = 0; i < pairs.length; i++) {
+			result[pairs[i][0]][pairs[i][1]] = values[i];
+			result[pairs[i][1]][pairs[i][0]] = values[i];
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Computes the half-width of the 95% bootstrap confidence interval of
+	 * several statistics.  The statistics are distributed among the threads,
+	 * and any remaining threads compute the resamples of each statistic in
+	 * parallel.
+	 * 
+	 * @param count the number of statistics
+	 * @param statistic the statistics
+	 * @return the half-width of the confidence interval of each statistic
+	 */
+	private double[] computeConfidence(int count, final Statistic statistic) {
+		final double[] result = new double[count];
+		final long[] seeds = new long[count];
+		final int innerThreads = Math.max(1, numberOfThreads / Math.max(1,
+				count));
+		
+		for (int i = 0; i < count; i++) {
+			seeds[i] = PRNG.nextLong();
+		}
+		
+		ParallelLoop.run(count, numberOfThreads, new ParallelLoop.Body() {
+
+			@Override
+			public void run(final int index, int thread) {
+				Resampler resampler = new Resampler(resamples);
+				resampler.setNumberOfThreads(innerThreads);
+				resampler.setSeed(seeds[index]);
+				
+				double[] s = resampler.bootstrap(N,
+						new Resampler.IndexedStatistic() {
+
+					@Override
+					public double evaluate(int[] indices) {
+						return statistic.evaluate(index, indices);
+					}
+					
+				});
+				
+				double ss = StatUtils.sum(s) / resamples;
+				double sss = 0.0;
+				
+				for (int i = 0; i < resamples; i++) {
+					sss += Math.pow(s[i] - ss, 2.0);
+				}
+
+				result[index] = 1.96 * Math.sqrt(sss / (resamples - 1));
+			}
+			
+		});
+		
+		return result;
+	}
+
+	/**
+	 * Returns the first-order sensitivity of the i-th parameter.  Note how
+	 * the contents of the array {@code a1} specify the parameter being
+	 * analyzed.
+	 * 
+	 * @param a0 the output from the first independent samples
+	 * @param a1 the output from the samples produced by swapping the i-th
+	 *        parameter in the first independent samples with the i-th parameter
+	 *        from the second independent samples
+	 * @param a2 the output from the second independent samples
+	 * @param indices the indices of the resampled samples; or {@code null} to
+	 *        use the original samples
+	 * @param nsample the number of samples
+	 * @return the first-order sensitivity of the i-th parameter
+	 */
+	static double computeFirstOrder(double[] a0, double[] a1, double[] a2,
+			int[] indices, int nsample) {
+		double c = 0.0;
+		
+		for (int i = 0; i < nsample; i++) {
+			c += a0[indices == null ? i : indices[i]];
+		}
+		
+		c /= nsample;
+
+		double tmp1 = 0.0;
+		double tmp2 = 0.0;
+		double tmp3 = 0.0;
+		double EY2 = 0.0;
+
+		for (int i = 0; i < nsample; i++) {
+			int k = indices == null ? i : indices[i];
+			
+			EY2 += (a0[k] - c) * (a2[k] - c);
+			tmp1 += (a2[k] - c) * (a2[k] - c);
+			tmp2 += (a2[k] - c);
+			tmp3 += (a1[k] - c) * (a2[k] - c);
+		}
+
+		EY2 /= nsample;
+
+		double V = (tmp1 / (nsample - 1)) - Math.pow(tmp2 / nsample, 2.0);
+		double U = tmp3 / (nsample - 1);
+
+		return (U - EY2) / V;
+	}
+
+	/**
+	 * Returns the total-order sensitivity of the i-th parameter.  Note how
+	 * the contents of the array {@code a1} specify the parameter being
+	 * analyzed.
+	 * 
+	 * @param a0 the output from the first independent samples
+	 * @param a1 the output from the samples produced by swapping the i-th
+	 *        parameter in the first independent samples with the i-th parameter
+	 *        from the second independent samples
+	 * @param indices the indices of the resampled samples; or {@code null} to
+	 *        use the original samples
+	 * @param nsample the number of samples
+	 * @return the total-order sensitivity of the i-th parameter
+	 */
+	static double computeTotalOrder(double[] a0, double[] a1, int[] indices,
+			int nsample) {
+		double c = 0.0;
+		
+		for (int i = 0; i < nsample; i++) {
+			c += a0[indices == null ? i : indices[i]];
+		}
+		
+		c /= nsample;
+
+		double tmp1 = 0.0;
+		double tmp2 = 0.0;
+		double tmp3 = 0.0;
+
+		for (int i = 0; i < nsample; i++) {
+			int k = indices == null ? i : indices[i];
+			
+			tmp1 += (a0[k] - c) * (a0[k] - c);
+			tmp2 += (a0[k] - c) * (a1[k] - c);
+			tmp3 += (a0[k] - c);
+		}
+
+		double EY2 = Math.pow(tmp3 / nsample, 2.0);
+		double V = (tmp1 / (nsample - 1)) - EY2;
+		double U = tmp2 / (nsample - 1);
+
+		return 1.0 - ((U - EY2) / V);
+	}
+
+	/**
+	 * Returns the second-order sensitivity of the i-th and j-th parameters.  
+	 * Note how the contents of the arrays {@code a1}, {@code a2}, and
+	 * {@code a3} specify the two parameters being analyzed.
+	 * 
+	 * @param a0 the output from the first independent samples
+	 * @param a1 the output from the samples produced by swapping the i-th
+	 *        parameter in the second independent samples with the i-th
+	 *        parameter from the first independent samples
+	 * @param a2 the output from the samples produced by swapping the j-th
+	 *        parameter in the first independent samples with the j-th parameter
+	 *        from the second independent samples
+	 * @param a3 the output from the samples produced by swapping the i-th
+	 *        parameter in the first independent samples with the i-th parameter
+	 *        from the second independent samples
+	 * @param a4 the output from the second independent samples
+	 * @param indices the indices of the resampled samples; or {@code null} to
+	 *        use the original samples
+	 * @param nsample the number of samples
+	 * @return the second-order sensitivity of the i-th and j-th parameters
+	 */
+	static double computeSecondOrder(double[] a0, double[] a1, double[] a2,
+			double[] a3, double[] a4, int[] indices, int nsample) {
+		double c = 0.0;
+		
+		for (int i = 0; i < nsample; i++) {
+			c += a0[indices == null ? i : indices[i]];
+		}
+		
+		c /= nsample;
+
+		double EY = 0.0;
+		double EY2 = 0.0;
+		double tmp1 = 0.0;
+		double tmp2 = 0.0;
+		double tmp3 = 0.0;
+		double tmp4 = 0.0;
+		double tmp5 = 0.0;
+
+		for (int i = 0; i < nsample; i++) {
+			int k = indices == null ? i : indices[i];
+			
+			EY += (a0[k] - c) * (a4[k] - c);
+			EY2 += (a1[k] - c) * (a3[k] - c);
+			tmp1 += (a1[k] - c) * (a1[k] - c);
+			tmp2 += (a1[k] - c);
+			tmp3 += (a1[k] - c) * (a2[k] - c);
+			tmp4 += (a2[k] - c) * (a4[k] - c);
+			tmp5 += (a3[k] - c) * (a4[k] - c);
+		}
+
+		EY /= nsample;
+		EY2 /= nsample;
+
+		double V = (tmp1 / (nsample - 1)) - Math.pow(tmp2 / nsample, 2.0);
+		double Vij = (tmp3 / (nsample - 1)) - EY2;
+		double Vi = (tmp4 / (nsample - 1)) - EY;
+		double Vj = (tmp5 / (nsample - 1)) - EY2;
+
+		return (Vij - Vi - Vj) / V;
+	}
+	
+	/**
+	 * One of several statistics computed over resampled samples.
+	 */
+	private static interface Statistic {
+		
+		/**
+		 * Returns the value of the statistic computed over the resampled
+		 * samples.
+		 * 
+		 * @param index the index of the statistic
+		 * @param indices the indices of the resampled samples
+		 * @return the value of the statistic
+		 */
+		public double evaluate(int index, int[] indices);
+		
+	}
+
+}
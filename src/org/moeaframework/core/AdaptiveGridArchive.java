@@ -17,6 +17,7 @@
  */
 package org.moeaframework.core;
 
+import java.io.Serializable;
 import java.util.Arrays;
 import java.util.Iterator;
 
@@ -30,10 +31,15 @@ import org.moeaframework.core.comparator.ParetoDominanceComparator;
  * the size of the archive exceeds a specified capacity, a solution from the
  * most crowded grid cell is selected and removed from the archive.
  * <p>
- * This implementation currently stores the density of each grid cell in an
- * array.  As such, {@code pow(numberOfDivisions, numberOfObjectives)} can not
- * exceed the storage capacity of an array, or {@code pow(2, 32)}.  We may
- * consider at some point using sparse arrays to remove this limitation.
+ * The grid is sparse.  Only occupied grid cells are stored, in a hash map
+ * keyed by the index of the grid cell, so the memory used is proportional to
+ * the size of the archive rather than the number of grid cells.  As such,
+ * {@code pow(numberOfDivisions, numberOfObjectives)} can not exceed the range
+ * of a {@code long}.  The number of grid cells with each density is also
+ * tracked, so the density of the most crowded grid cell is available in
+ * constant time.  The grid bounds are only recomputed when they change,
+ * either because a solution falls outside the grid or because a solution
+ * defining a bound is removed and leaves its grid cell empty.
  * <p>
  * References:
  * <ol>
@@ -73,9 +79,32 @@ public class AdaptiveGridArchive extends NondominatedPopulation {
 	protected double[] maximum;
 
 	/**
-	 * The number of solutions in each grid cell.
+	 * The number of solutions in each occupied grid cell.
 	 */
-	protected int[] density;
+	private final DensityMap density;
+
+	/**
+	 * The weight of each objective when computing the index of a grid cell,
+	 * {@code pow(numberOfDivisions, i)} for the {@code i}-th objective.
+	 */
+	private final long[] weights;
+
+	/**
+	 * The number of grid cells with each density.
+	 */
+	private int[] cellsWithDensity;
+
+	/**
+	 * The largest density of any grid cell.
+	 */
+	private int maximumDensity;
+
+	/**
+	 * {@code true} if a solution defining a bound was removed without
+	 * recomputing the bounds, in which case the bounds may be larger than
+	 * necessary; {@code false} if the bounds are exact.
+	 */
+	private boolean stale;
 
 	/**
 	 * Constructs an adaptive grid archive with the specified capacity with the
@@ -87,7 +116,7 @@ public class AdaptiveGridArchive extends NondominatedPopulation {
 	 *        split each objective
 	 * @throws FrameworkException if
 	 *         {@code pow(numberOfDivisions, numberOfObjectives)} exceeds the
-	 *         storage capacity of an array
+	 *         range of a {@code long}
 	 */
 	public AdaptiveGridArchive(int capacity, Problem problem,
 			int numberOfDivisions) {
@@ -99,17 +128,22 @@ public class AdaptiveGridArchive extends NondominatedPopulation {
 
 		minimum = new double[problem.getNumberOfObjectives()];
 		maximum = new double[problem.getNumberOfObjectives()];
+		weights = new long[problem.getNumberOfObjectives()];
 		
 		// guard against integer overflow
 		try {
-			density = new int[ArithmeticUtils.pow(
-					numberOfDivisions,
-					problem.getNumberOfObjectives())];
+			for (int i = 0; i < weights.length; i++) {
+				weights[i] = ArithmeticUtils.pow((long)numberOfDivisions, i);
+			}
+			
+			ArithmeticUtils.pow((long)numberOfDivisions, weights.length);
 		} catch (MathArithmeticException e) {
 			throw new FrameworkException("number of divisions (bisections) " +
 					"too large for adaptive grid archive", e);
 		}
 
+		density = new DensityMap();
+		cellsWithDensity = new int[capacity + 2];
 		adaptGrid();
 	}
 
@@ -169,19 +203,19 @@ public class AdaptiveGridArchive extends NondominatedPopulation {
 		
 		// temporarily add the candidate solution
 		super.forceAddWithoutCheck(solution);
-		int index = findIndex(solution);
+		long index = findIndex(solution);
 		
 		if (index < 0) {
 			adaptGrid();
 			index = findIndex(solution);
 		} else {
-			density[index]++;
+			increment(index);
 		}
 		
 		if (size() <= capacity) {
 			// if archive is not exceeding capacity, keep the candidate
 			return true;
-		} else if (density[index] == density[findDensestCell()]) {
+		} else if (density.get(index) == maximumDensity) {
 			// if the candidate is in the most dense cell, reject the candidate
 			remove(solution);
 			return false;
@@ -195,15 +229,10 @@ public class AdaptiveGridArchive extends NondominatedPopulation {
 
 	@Override
 	public void remove(int index) {
-		int gridIndex = findIndex(get(index));
-
+		Solution solution = get(index);
+		
 		super.remove(index);
-
-		if (density[gridIndex] > 1) {
-			density[gridIndex]--;
-		} else {
-			adaptGrid();
-		}
+		removeFromGrid(solution);
 	}
 
 	@Override
@@ -211,13 +240,7 @@ public class AdaptiveGridArchive extends NondominatedPopulation {
 		boolean removed = super.remove(solution);
 
 		if (removed) {
-			int index = findIndex(solution);
-			
-			if (density[index] > 1) {
-				density[index]--;
-			} else {
-				adaptGrid();
-			}
+			removeFromGrid(solution);
 		}
 
 		return removed;
@@ -230,25 +253,98 @@ public class AdaptiveGridArchive extends NondominatedPopulation {
 	}
 	
 	/**
-	 * Returns the index of the grid cell with the largest density.
+	 * Updates the grid after removing the specified solution.  The bounds are
+	 * only recomputed if the grid cell of the solution becomes empty and the
+	 * bounds may change as a result.
 	 * 
-	 * @return the index of the grid cell with the largest density
+	 * @param solution the removed solution
 	 */
-	protected int findDensestCell() {
-		int index = -1;
-		int value = -1;
+	private void removeFromGrid(Solution solution) {
+		long index = findIndex(solution);
 		
-		for (int i = 0; i < size(); i++) {
-			int tempIndex = findIndex(get(i));
-			int tempValue = density[tempIndex];
+		if (index < 0) {
+			adaptGrid();
+		} else if (density.get(index) > 1) {
+			stale |= isOnBoundary(solution);
+			decrement(index);
+		} else if (stale || isOnBoundary(solution)) {
+			adaptGrid();
+		} else {
+			decrement(index);
+		}
+	}
+	
+	/**
+	 * Returns {@code true} if the specified solution lies on the lower or
+	 * upper bound of any objective; {@code false} otherwise.
+	 * 
+	 * @param solution the solution
+	 * @return {@code true} if the specified solution lies on the lower or
+	 *         upper bound of any objective; {@code false} otherwise
+	 */
+	private boolean isOnBoundary(Solution solution) {
+		for (int i = 0; i < problem.getNumberOfObjectives(); i++) {
+			double value = solution.getObjective(i);
 			
-			if (tempValue > value) {
-				value = tempValue;
-				index = tempIndex;
+			if ((value == minimum[i]) || (value == maximum[i])) {
+				return true;
 			}
 		}
 		
-		return index;
+		return false;
+	}
+	
+	/**
+	 * Increments the density of the specified grid cell.
+	 * 
+	 * @param index the index of the grid cell
+	 */
+	private void increment(long index) {
+		int value = density.increment(index);
+		
+		if (value >= cellsWithDensity.length) {
+			cellsWithDensity = Arrays.copyOf(cellsWithDensity, 2 * value);
+		}
+		
+		if (value > 1) {
+			cellsWithDensity[value - 1]--;
+		}
+		
+		cellsWithDensity[value]++;
+		maximumDensity = Math.max(maximumDensity, value);
+	}
+	
+	/**
+	 * Decrements the density of the specified grid cell, removing the grid
+	 * cell if it becomes empty.
+	 * 
+	 * @param index the index of the grid cell
+	 */
+	private void decrement(long index) {
+		int value = density.decrement(index);
+		
+		cellsWithDensity[value + 1]--;
+		
+		if (value > 0) {
+			cellsWithDensity[value]++;
+		}
+		
+		while ((maximumDensity > 0) && (cellsWithDensity[maximumDensity] == 0)) {
+			maximumDensity--;
+		}
+	}
+	
+	/**
+	 * Returns the index of the grid cell with the largest density; or
+	 * {@code -1} if this archive is empty.  If multiple cells have the same
+	 * density, the cell containing the first such solution is returned.
+	 * 
+	 * @return the index of the grid cell with the largest density; or
+	 *         {@code -1} if this archive is empty
+	 */
+	protected long findDensestCell() {
+		Solution solution = pickSolutionFromDensestCell();
+		return solution == null ? -1 : findIndex(solution);
 	}
 
 	/**
@@ -259,19 +355,31 @@ public class AdaptiveGridArchive extends NondominatedPopulation {
 	 * @return a solution residing in the densest grid cell
 	 */
 	protected Solution pickSolutionFromDensestCell() {
-		Solution solution = null;
-		int value = -1;
-
 		for (int i = 0; i < size(); i++) {
-			int tempValue = density[findIndex(get(i))];
-
-			if (tempValue > value) {
-				solution = get(i);
-				value = tempValue;
+			if (density.get(findIndex(get(i))) == maximumDensity) {
+				return get(i);
 			}
 		}
 
-		return solution;
+		return null;
+	}
+	
+	/**
+	 * Returns the density of the most crowded grid cell.
+	 * 
+	 * @return the density of the most crowded grid cell
+	 */
+	public int getMaximumDensity() {
+		return maximumDensity;
+	}
+	
+	/**
+	 * Returns the number of occupied grid cells.
+	 * 
+	 * @return the number of occupied grid cells
+	 */
+	public int getNumberOfOccupiedCells() {
+		return density.size();
 	}
 
 	/**
@@ -281,7 +389,10 @@ public class AdaptiveGridArchive extends NondominatedPopulation {
 	protected void adaptGrid() {
 		Arrays.fill(minimum, Double.POSITIVE_INFINITY);
 		Arrays.fill(maximum, Double.NEGATIVE_INFINITY);
-		Arrays.fill(density, 0);
+		Arrays.fill(cellsWithDensity, 0);
+		density.clear();
+		maximumDensity = 0;
+		stale = false;
 
 		for (Solution solution : this) {
 			for (int i = 0; i < problem.getNumberOfObjectives(); i++) {
@@ -291,7 +402,7 @@ public class AdaptiveGridArchive extends NondominatedPopulation {
 		}
 
 		for (Solution solution : this) {
-			density[findIndex(solution)]++;
+			increment(findIndex(solution));
 		}
 	}
 
@@ -305,8 +416,8 @@ public class AdaptiveGridArchive extends NondominatedPopulation {
 	 *         archive, or {@code -1} if the solution is not within the current
 	 *         lower and upper bounds
 	 */
-	public int findIndex(Solution solution) {
-		int index = 0;
+	public long findIndex(Solution solution) {
+		long index = 0;
 
 		for (int i = 0; i < problem.getNumberOfObjectives(); i++) {
 			double value = solution.getObjective(i);
@@ -322,7 +433,7 @@ public class AdaptiveGridArchive extends NondominatedPopulation {
 					tempIndex--;
 				}
 
-				index += tempIndex * ArithmeticUtils.pow(numberOfDivisions, i);
+				index += tempIndex * weights[i];
 			}
 		}
 
@@ -330,13 +441,214 @@ public class AdaptiveGridArchive extends NondominatedPopulation {
 	}
 	
 	/**
-	 * Returns the density of the solution at the given index.
+	 * Returns the density of the grid cell at the given index.
 	 * 
-	 * @param index the solution index
-	 * @return the density of the solution at the given index
+	 * @param index the index of the grid cell
+	 * @return the density of the grid cell at the given index
+	 */
+	public int getDensity(long index) {
+		return density.get(index);
+	}
+	
+	/**
+	 * Hash map from the index of each occupied grid cell to its density,
+	 * using open addressing with linear probing over primitive arrays.  Empty
+	 * slots are identified by a density of {@code 0}.
 	 */
-	public int getDensity(int index) {
-		return density[index];
+	private static class DensityMap implements Serializable {
+
+		private static final long serialVersionUID = 3164574553154935405L;
+
+		/**
+		 * The initial number of slots, which must be a power of two.
+		 */
+		private static final int INITIAL_CAPACITY = 16;
+
+		/**
+		 * The grid cell index stored in each slot.
+		 */
+		private long[] keys;
+
+		/**
+		 * The density stored in each slot; or {@code 0} if the slot is empty.
+		 */
+		private int[] values;
+
+		/**
+		 * The number of occupied slots.
+		 */
+		private int size;
+
+		/**
+		 * Constructs an empty density map.
+		 */
+		public DensityMap() {
+			super();
+			
+			keys = new long[INITIAL_CAPACITY];
+			values = new int[INITIAL_CAPACITY];
+		}
+
+		/**
+		 * Returns the density of the specified grid cell; or {@code 0} if the
+		 * grid cell is empty.
+		 * 
+		 * @param key the index of the grid cell
+		 * @return the density of the specified grid cell
+		 */
+		public int get(long key) {
+			int slot = find(key);
+			return slot < 0 ? 0 : values[slot];
+		}
+
+		/**
+		 * Increments the density of the specified grid cell.
+		 * 
+		 * @param key the index of the grid cell
+		 * @return the new density of the grid cell
+		 */
+		public int increment(long key) {
+			int mask = keys.length - 1;
+			int slot = hash(key) & mask;
+			
+			while (values[slot] != 0) {
+				if (keys[slot] == key) {
+					return ++values[slot];
+				}
+				
+				slot = (slot + 1) & mask;
+			}
+			
+			keys[slot] = key;
+			values[slot] = 1;
+			size++;
+			
+			if (2 * size > keys.length) {
+				resize(2 * keys.length);
+			}
+			
+			return 1;
+		}
+
+		/**
+		 * Decrements the density of the specified grid cell, removing the
+		 * grid cell if it becomes empty.
+		 * 
+		 * @param key the index of the grid cell
+		 * @return the new density of the grid cell
+		 * @throws IllegalStateException if the grid cell is empty
+		 */
+		public int decrement(long key) {
+			int slot = find(key);
+			
+			if (slot < 0) {
+				throw new IllegalStateException("grid cell is empty");
+			}
+			
+			if (--values[slot] > 0) {
+				return values[slot];
+			}
+			
+			// shift subsequent entries backward to close the gap
+			int mask = keys.length - 1;
+			int gap = slot;
+			int next = (gap + 1) & mask;
+			
+			while (values[next] != 0) {
+				int home = hash(keys[next]) & mask;
+				
+				if (((next - home) & mask) >= ((next - gap) & mask)) {
+					keys[gap] = keys[next];
+					values[gap] = values[next];
+					values[next] = 0;
+					gap = next;
+				}
+				
+				next = (next + 1) & mask;
+			}
+			
+			size--;
+			return 0;
+		}
+
+		/**
+		 * Returns the number of occupied grid cells.
+		 * 
+		 * @return the number of occupied grid cells
+		 */
+		public int size() {
+			return size;
+		}
+
+		/**
+		 * Removes all grid cells.
+		 */
+		public void clear() {
+			Arrays.fill(values, 0);
+			size = 0;
+		}
+
+		/**
+		 * Returns the slot storing the specified grid cell; or {@code -1} if
+		 * the grid cell is empty.
+		 * 
+		 * @param key the index of the grid cell
+		 * @return the slot storing the specified grid cell; or {@code -1} if
+		 *         the grid cell is empty
+		 */
+		private int find(long key) {
+			int mask = keys.length - 1;
+			int slot = hash(key) & mask;
+			
+			while (values[slot] != 0) {
+				if (keys[slot] == key) {
+					return slot;
+				}
+				
+				slot = (slot + 1) & mask;
+			}
+			
+			return -1;
+		}
+
+		/**
+		 * Rehashes all grid cells into the specified number of slots.
+		 * 
+		 * @param capacity the new number of slots, a power of two
+		 */
+		private void resize(int capacity) {
+			long[] oldKeys = keys;
+			int[] oldValues = values;
+			int mask = capacity - 1;
+			
+			keys = new long[capacity];
+			values = new int[capacity];
+			
+			for (int i = 0; i < oldKeys.length; i++) {
+				if (oldValues[i] != 0) {
+					int slot = hash(oldKeys[i]) & mask;
+					
+					while (values[slot] != 0) {
+						slot = (slot + 1) & mask;
+					}
+					
+					keys[slot] = oldKeys[i];
+					values[slot] = oldValues[i];
+				}
+			}
+		}
+
+		/**
+		 * Returns the hash of the specified grid cell index.
+		 * 
+		 * @param key the index of the grid cell
+		 * @return the hash of the specified grid cell index
+		 */
+		private static int hash(long key) {
+			long h = key * 0x9E3779B97F4A7C15L;
+			return (int)(h ^ (h >>> 32));
+		}
+
 	}
 
 }
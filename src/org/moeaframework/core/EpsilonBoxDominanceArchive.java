@@ -17,7 +17,13 @@
  */
 package org.moeaframework.core;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 
 import org.moeaframework.core.comparator.EpsilonBoxDominanceComparator;
 
@@ -28,6 +34,15 @@ import org.moeaframework.core.comparator.EpsilonBoxDominanceComparator;
  * conditions hold [1].  In addition, this archive also tracks 
  * &epsilon;-progress [2] by counting the number of &epsilon;-box improvements.
  * <p>
+ * The &epsilon;-box index of each feasible member is cached, along with a
+ * hash map from &epsilon;-box to member.  A candidate landing in an occupied
+ * &epsilon;-box is resolved with a single comparison, and the remaining
+ * dominance checks scan the cached &epsilon;-box indices stored contiguously
+ * in a primitive array.  Infeasible solutions and subclasses of
+ * {@link EpsilonBoxDominanceComparator} fall back to comparing the candidate
+ * with every member.  The objectives and constraints of members must not be
+ * modified while stored in this archive.
+ * <p>
  * References:
  * <ol>
  *   <li>Laumanns, M. et al.  "Combining Convergence and Diversity in
@@ -50,6 +65,13 @@ public class EpsilonBoxDominanceArchive extends NondominatedPopulation {
 	 * that have occurred.
 	 */
 	private int numberOfDominatingImprovements;
+	
+	/**
+	 * The &epsilon;-box index of the feasible members of this archive; or
+	 * {@code null} if the index must be rebuilt.  The index is created lazily
+	 * since solutions can be added by the superclass constructor.
+	 */
+	private transient BoxIndex index;
 
 	/**
 	 * Constructs an empty &epsilon;-box dominance archive using an additive
@@ -128,6 +150,20 @@ public class EpsilonBoxDominanceArchive extends NondominatedPopulation {
 
 	@Override
 	public boolean add(Solution newSolution) {
+		if (isIndexed(newSolution)) {
+			return addIndexed(newSolution);
+		} else {
+			return addLinear(newSolution);
+		}
+	}
+	
+	/**
+	 * Adds the specified solution by comparing it with every member.
+	 * 
+	 * @param newSolution the solution being added
+	 * @return {@code true} if the solution was added; {@code false} otherwise
+	 */
+	private boolean addLinear(Solution newSolution) {
 		Iterator<Solution> iterator = iterator();
 
 		boolean same = false;
@@ -160,6 +196,190 @@ public class EpsilonBoxDominanceArchive extends NondominatedPopulation {
 
 		return forceAddWithoutCheck(newSolution);
 	}
+	
+	/**
+	 * Returns {@code true} if the specified solution can be added using the
+	 * &epsilon;-box index; {@code false} otherwise.  The index is used when
+	 * the candidate and all members are feasible, the members occupy distinct
+	 * &epsilon;-boxes, and this archive uses the standard comparator.
+	 * 
+	 * @param newSolution the solution being added
+	 * @return {@code true} if the specified solution can be added using the
+	 *         &epsilon;-box index; {@code false} otherwise
+	 */
+	private boolean isIndexed(Solution newSolution) {
+		return (getComparator().getClass() ==
+				EpsilonBoxDominanceComparator.class) &&
+				!newSolution.violatesConstraints() &&
+				(getIndex().size() == size());
+	}
+	
+	/**
+	 * Adds the specified feasible solution using the &epsilon;-box index.
+	 * This produces the same result as comparing the candidate with every
+	 * member, since the members of an &epsilon;-box dominance archive are
+	 * mutually non-dominated.  A member in the same &epsilon;-box as the
+	 * candidate therefore prevents the candidate from dominating or being
+	 * dominated by any other member.
+	 * 
+	 * @param newSolution the solution being added
+	 * @return {@code true} if the solution was added; {@code false} otherwise
+	 */
+	private boolean addIndexed(Solution newSolution) {
+		double[] box = toBox(newSolution);
+		
+		if (box == null) {
+			return addLinear(newSolution);
+		}
+		
+		Solution oldSolution = index.get(box);
+		
+		if (oldSolution != null) {
+			if (getComparator().compare(newSolution, oldSolution) > 0) {
+				return false;
+			}
+			
+			remove(oldSolution);
+			return forceAddWithoutCheck(newSolution);
+		}
+		
+		List<Solution> dominatedSolutions = new ArrayList<Solution>();
+		
+		if (index.isDominated(box, dominatedSolutions)) {
+			return false;
+		}
+		
+		for (Solution solution : dominatedSolutions) {
+			remove(solution);
+		}
+		
+		numberOfImprovements++;
+		
+		if (!dominatedSolutions.isEmpty()) {
+			numberOfDominatingImprovements++;
+		}
+		
+		return forceAddWithoutCheck(newSolution);
+	}
+	
+	/**
+	 * Returns the &epsilon;-box index of the specified solution, computed
+	 * identically to {@link EpsilonBoxDominanceComparator}; or {@code null} if
+	 * any index is {@code NaN} or negative zero.  Such indices are ordered
+	 * differently by {@link Double#compare(double, double)} and the primitive
+	 * comparison operators, so these solutions are not indexed.
+	 * 
+	 * @param solution the solution
+	 * @return the &epsilon;-box index of the specified solution; or
+	 *         {@code null} if the solution can not be indexed
+	 */
+	private double[] toBox(Solution solution) {
+		EpsilonBoxDominanceComparator comparator = getComparator();
+		double[] box = new double[solution.getNumberOfObjectives()];
+		
+		for (int i = 0; i < box.length; i++) {
+			box[i] = Math.floor(solution.getObjective(i) /
+					comparator.getEpsilon(i));
+			
+			if (Double.isNaN(box[i]) || ((box[i] == 0.0) &&
+					(Double.doubleToRawLongBits(box[i]) != 0L))) {
+				return null;
+			}
+		}
+		
+		return box;
+	}
+	
+	/**
+	 * Returns the &epsilon;-box index, rebuilding it if necessary.
+	 * 
+	 * @return the &epsilon;-box index
+	 */
+	private BoxIndex getIndex() {
+		if (index == null) {
+			index = new BoxIndex();
+			
+			for (Solution solution : this) {
+				addToIndex(solution);
+			}
+		}
+		
+		return index;
+	}
+	
+	/**
+	 * Adds the specified member to the &epsilon;-box index if it is feasible
+	 * and its &epsilon;-box is unoccupied.
+	 * 
+	 * @param solution the member
+	 */
+	private void addToIndex(Solution solution) {
+		if ((index != null) && !solution.violatesConstraints()) {
+			double[] box = toBox(solution);
+			
+			if (box != null) {
+				index.add(box, solution);
+			}
+		}
+	}
+	
+	/**
+	 * Removes the specified member from the &epsilon;-box index.
+	 * 
+	 * @param solution the member
+	 */
+	private void removeFromIndex(Solution solution) {
+		if ((index != null) && !solution.violatesConstraints()) {
+			double[] box = toBox(solution);
+			
+			if (box != null) {
+				index.remove(box, solution);
+			}
+		}
+	}
+	
+	@Override
+	protected boolean forceAddWithoutCheck(Solution newSolution) {
+		boolean result = super.forceAddWithoutCheck(newSolution);
+		addToIndex(newSolution);
+		return result;
+	}
+	
+	@Override
+	public void remove(int index) {
+		Solution solution = get(index);
+		super.remove(index);
+		removeFromIndex(solution);
+	}
+	
+	@Override
+	public boolean remove(Solution solution) {
+		boolean removed = super.remove(solution);
+		
+		if (removed) {
+			removeFromIndex(solution);
+		}
+		
+		return removed;
+	}
+	
+	@Override
+	public void replace(int index, Solution newSolution) {
+		super.replace(index, newSolution);
+		this.index = null;
+	}
+	
+	@Override
+	public void truncate(int size, Comparator<? super Solution> comparator) {
+		super.truncate(size, comparator);
+		index = null;
+	}
+	
+	@Override
+	public void clear() {
+		super.clear();
+		index = null;
+	}
 
 	/**
 	 * Returns the &epsilon;-box dominance comparator used by this archive.
@@ -190,5 +410,229 @@ public class EpsilonBoxDominanceArchive extends NondominatedPopulation {
 	public int getNumberOfDominatingImprovements() {
 		return numberOfDominatingImprovements;
 	}
+	
+	/**
+	 * Index of the members occupying distinct &epsilon;-boxes.  The
+	 * &epsilon;-box indices are stored contiguously so dominance checks scan
+	 * a primitive array, and a hash map locates the member occupying an
+	 * &epsilon;-box.
+	 */
+	private static class BoxIndex {
+		
+		/**
+		 * The slot of each occupied &epsilon;-box.
+		 */
+		private final Map<Box, Integer> slots;
+		
+		/**
+		 * The &epsilon;-box indices of the members, {@code numberOfObjectives}
+		 * values per slot.
+		 */
+		private double[] boxes;
+		
+		/**
+		 * The member stored in each slot.
+		 */
+		private Solution[] members;
+		
+		/**
+		 * The number of occupied slots.
+		 */
+		private int size;
+		
+		/**
+		 * The number of objectives; or {@code 0} if the index is empty.
+		 */
+		private int numberOfObjectives;
+		
+		/**
+		 * Constructs an empty &epsilon;-box index.
+		 */
+		public BoxIndex() {
+			super();
+			
+			slots = new HashMap<Box, Integer>();
+			boxes = new double[0];
+			members = new Solution[0];
+		}
+		
+		/**
+		 * Returns the number of indexed members.
+		 * 
+		 * @return the number of indexed members
+		 */
+		public int size() {
+			return size;
+		}
+		
+		/**
+		 * Returns the member occupying the specified &epsilon;-box; or
+		 * {@code null} if the &epsilon;-box is unoccupied.
+		 * 
+		 * @param box the &epsilon;-box index
+		 * @return the member occupying the specified &epsilon;-box; or
+		 *         {@code null} if the &epsilon;-box is unoccupied
+		 */
+		public Solution get(double[] box) {
+			Integer slot = slots.get(new Box(box));
+			return slot == null ? null : members[slot];
+		}
+		
+		/**
+		 * Adds the member to the specified &epsilon;-box if the &epsilon;-box
+		 * is unoccupied.
+		 * 
+		 * @param box the &epsilon;-box index of the member
+		 * @param solution the member
+		 */
+		public void add(double[] box, Solution solution) {
+			Box key = new Box(box);
+			
+			if (slots.containsKey(key)) {
+				return;
+			}
+			
+			if (size == 0) {
+				numberOfObjectives = box.length;
+			} else if (box.length != numberOfObjectives) {
+				throw new IllegalArgumentException(
+						"incorrect number of objectives");
+			}
+			
+			if (size == members.length) {
+				int capacity = Math.max(16, 2 * size);
+				members = Arrays.copyOf(members, capacity);
+				boxes = Arrays.copyOf(boxes, capacity * numberOfObjectives);
+			}
+			
+			System.arraycopy(box, 0, boxes, size * numberOfObjectives,
+					numberOfObjectives);
+			members[size] = solution;
+			slots.put(key, size);
+			size++;
+		}
+		
+		/**
+		 * Removes the member from the specified &epsilon;-box if it occupies
+		 * the &epsilon;-box.  The last slot is moved into the vacated slot.
+		 * 
+		 * @param box the &epsilon;-box index of the member
+		 * @param solution the member
+		 */
+		public void remove(double[] box, Solution solution) {
+			Box key = new Box(box);
+			Integer slot = slots.get(key);
+			
+			if ((slot == null) || (members[slot] != solution)) {
+				return;
+			}
+			
+			slots.remove(key);
+			size--;
+			
+			if (slot != size) {
+				System.arraycopy(boxes, size * numberOfObjectives, boxes,
+						slot * numberOfObjectives, numberOfObjectives);
+				members[slot] = members[size];
+				slots.put(new Box(Arrays.copyOfRange(boxes,
+						slot * numberOfObjectives,
+						(slot + 1) * numberOfObjectives)), slot);
+			}
+			
+			members[size] = null;
+		}
+		
+		/**
+		 * Returns {@code true} if the specified &epsilon;-box is dominated by
+		 * any indexed &epsilon;-box.  Otherwise, the members whose
+		 * &epsilon;-boxes are dominated by the specified &epsilon;-box are
+		 * added to the given list.
+		 * 
+		 * @param box the &epsilon;-box index
+		 * @param dominatedSolutions the list receiving the dominated members
+		 * @return {@code true} if the specified &epsilon;-box is dominated by
+		 *         any indexed &epsilon;-box; {@code false} otherwise
+		 */
+		public boolean isDominated(double[] box,
+				List<Solution> dominatedSolutions) {
+			for (int i = 0; i < size; i++) {
+				int offset = i * numberOfObjectives;
+				boolean dominate1 = false;
+				boolean dominate2 = false;
+				
+				for (int j = 0; j < numberOfObjectives; j++) {
+					double value = boxes[offset + j];
+					
+					if (box[j] < value) {
+						dominate1 = true;
+						
+						if (dominate2) {
+							break;
+						}
+					} else if (box[j] > value) {
+						dominate2 = true;
+						
+						if (dominate1) {
+							break;
+						}
+					}
+				}
+				
+				if (dominate1 && !dominate2) {
+					dominatedSolutions.add(members[i]);
+				} else if (dominate2 && !dominate1) {
+					return true;
+				}
+			}
+			
+			return false;
+		}
+		
+	}
+	
+	/**
+	 * Wraps an &epsilon;-box index so it can be used as a hash map key.
+	 */
+	private static class Box {
+		
+		/**
+		 * The &epsilon;-box index along each objective.
+		 */
+		private final double[] index;
+		
+		/**
+		 * The cached hash code.
+		 */
+		private final int hashCode;
+		
+		/**
+		 * Constructs a hash map key for the specified &epsilon;-box index.
+		 * 
+		 * @param index the &epsilon;-box index along each objective
+		 */
+		public Box(double[] index) {
+			super();
+			this.index = index;
+			
+			hashCode = Arrays.hashCode(index);
+		}
+		
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+		
+		@Override
+		public boolean equals(Object obj) {
+			if (obj == this) {
+				return true;
+			} else if ((obj == null) || (obj.getClass() != getClass())) {
+				return false;
+			} else {
+				return Arrays.equals(index, ((Box)obj).index);
+			}
+		}
+		
+	}
 
 }
@@ -17,8 +17,7 @@
  */
 package org.moeaframework.core;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 
 import org.moeaframework.core.comparator.DominanceComparator;
 
@@ -64,6 +63,11 @@ public class FastNondominatedSorting extends NondominatedSorting {
 	@Override
 	public void evaluate(Population population) {
 		int N = population.size();
+		double[][] objectives = new double[N][];
+		
+		for (int i = 0; i < N; i++) {
+			objectives[i] = population.get(i).getObjectives();
+		}
 		
 		// precompute the dominance relations
 		int[][] dominanceChecks = new int[N][N];
@@ -72,30 +76,29 @@ public class FastNondominatedSorting extends NondominatedSorting {
 			Solution si = population.get(i);
 			
 			for (int j = i+1; j < N; j++) {
-				if (i != j) {
-					Solution sj = population.get(j);
-					
-					dominanceChecks[i][j] = comparator.compare(si, sj);
-					dominanceChecks[j][i] = -dominanceChecks[i][j];
-				}
+				Solution sj = population.get(j);
+				
+				dominanceChecks[i][j] = comparator.compare(si, sj);
+				dominanceChecks[j][i] = -dominanceChecks[i][j];
 			}
 		}
 		
 		// compute for each solution s_i the solutions s_j that it dominates
 		// and the number of times it is dominated
 		int[] dominatedCounts = new int[N];
-		List<List<Integer>> dominatesList = new ArrayList<List<Integer>>();
-		List<Integer> currentFront = new ArrayList<Integer>();
-		
+		int[][] dominatesList = new int[N][];
+		int[] currentFront = new int[N];
+		int currentSize = 0;
 		
 		for (int i = 0; i < N; i++) {
-			List<Integer> dominates = new ArrayList<Integer>();
+			int[] dominates = new int[N];
+			int dominatesCount = 0;
 			int dominatedCount = 0;
 			
 			for (int j = 0; j < N; j++) {
 				if (i != j) {
 					if (dominanceChecks[i][j] < 0) {
-						dominates.add(j);
+						dominates[dominatesCount++] = j;
 					} else if (dominanceChecks[j][i] < 0) {
 						dominatedCount += 1;
 					}
@@ -103,40 +106,48 @@ public class FastNondominatedSorting extends NondominatedSorting {
 			}
 			
 			if (dominatedCount == 0) {
-				currentFront.add(i);
+				currentFront[currentSize++] = i;
 			}
 			
-			dominatesList.add(dominates);
+			dominatesList[i] = Arrays.copyOf(dominates, dominatesCount);
 			dominatedCounts[i] = dominatedCount;
 		}
 		
 		// assign ranks
+		int[] nextFront = new int[N];
 		int rank = 0;
 		
-		while (!currentFront.isEmpty()) {
-			List<Integer> nextFront = new ArrayList<Integer>();
-			Population solutionsInFront = new Population();
+		while (currentSize > 0) {
+			int nextSize = 0;
+			double[][] frontObjectives = new double[currentSize][];
 			
-			for (int i = 0; i < currentFront.size(); i++) {
-				Solution solution = population.get(currentFront.get(i));
-				solution.setAttribute(RANK_ATTRIBUTE, rank);
+			for (int i = 0; i < currentSize; i++) {
+				population.get(currentFront[i]).setAttribute(RANK_ATTRIBUTE,
+						rank);
+				frontObjectives[i] = objectives[currentFront[i]];
 				
 				// update the dominated counts as compute next front
-				for (Integer j : dominatesList.get(currentFront.get(i))) {
+				for (int j : dominatesList[currentFront[i]]) {
 					dominatedCounts[j] -= 1;
 					
 					if (dominatedCounts[j] == 0) {
-						nextFront.add(j);
+						nextFront[nextSize++] = j;
 					}
 				}
-				
-				solutionsInFront.add(solution);
 			}
 			
-			updateCrowdingDistance(solutionsInFront);
+			double[] distances = computeCrowdingDistance(frontObjectives);
 			
-			rank += 1;
+			for (int i = 0; i < currentSize; i++) {
+				population.get(currentFront[i]).setAttribute(
+						CROWDING_ATTRIBUTE, distances[i]);
+			}
+			
+			int[] swap = currentFront;
 			currentFront = nextFront;
+			nextFront = swap;
+			currentSize = nextSize;
+			rank += 1;
 		}
 	}
 
@@ -131,66 +131,164 @@ public class NondominatedSorting {
 	 * @param front the population whose solutions are to be evaluated
 	 */
 	public void updateCrowdingDistance(Population front) {
-		// initially assign all crowding distances of 0.0
-		for (Solution solution : front) {
-			solution.setAttribute(CROWDING_ATTRIBUTE, 0.0);
+		double[][] objectives = new double[front.size()][];
+		
+		for (int i = 0; i < front.size(); i++) {
+			objectives[i] = front.get(i).getObjectives();
 		}
 		
+		double[] distances = computeCrowdingDistance(objectives);
+		
+		for (int i = 0; i < front.size(); i++) {
+			front.get(i).setAttribute(CROWDING_ATTRIBUTE, distances[i]);
+		}
+	}
+	
+	/**
+	 * Computes the crowding distances of the solutions in a front, given the
+	 * objective values of each solution.  Duplicate solutions are assigned a
+	 * crowding distance of {@code 0.0}.  The solutions are sorted by each
+	 * objective using a permutation of indices into the objective matrix, so
+	 * no solutions are copied or boxed.  The result is identical to sorting
+	 * the front with {@link ObjectiveComparator}.
+	 * 
+	 * @param objectives the objective values of each solution in the front,
+	 *        which are not modified
+	 * @return the crowding distance of each solution in the front
+	 */
+	protected static double[] computeCrowdingDistance(double[][] objectives) {
+		int N = objectives.length;
+		double[] distances = new double[N];
+		
 		// remove any duplicate solutions, the duplicate solutions will retain
 		// the crowding distance of 0.0
-		Population uniqueFront = new Population();
+		int[] front = new int[N];
+		int n = 0;
 		
-		for (Solution s1 : front) {
+		for (int i = 0; i < N; i++) {
 			boolean isDuplicate = false;
 			
-			for (Solution s2 : uniqueFront) {
-				if (NondominatedPopulation.distance(s1, s2) < Settings.EPS) {
+			for (int j = 0; j < n; j++) {
+				if (distance(objectives[i], objectives[front[j]]) <
+						Settings.EPS) {
 					isDuplicate = true;
 					break;
 				}
 			}
 			
 			if (!isDuplicate) {
-				uniqueFront.add(s1);
+				front[n++] = i;
 			}
 		}
-		
-		front = uniqueFront;
 
 		// then compute the crowding distance for the unique solutions
-		int n = front.size();
-		
 		if (n < 3) {
-			for (Solution solution : front) {
-				solution.setAttribute(CROWDING_ATTRIBUTE,
-						Double.POSITIVE_INFINITY);
+			for (int i = 0; i < n; i++) {
+				distances[front[i]] = Double.POSITIVE_INFINITY;
 			}
 		} else {
-			int numberOfObjectives = front.get(0).getNumberOfObjectives();
+			int numberOfObjectives = objectives[front[0]].length;
+			int[] buffer = new int[n];
 
 			for (int i = 0; i < numberOfObjectives; i++) {
-				front.sort(new ObjectiveComparator(i));
+				// the order from the previous objective breaks ties
+				sort(front, buffer, 0, n, objectives, i);
 
-				double minObjective = front.get(0).getObjective(i);
-				double maxObjective = front.get(n - 1).getObjective(i);
+				double minObjective = objectives[front[0]][i];
+				double maxObjective = objectives[front[n - 1]][i];
 				
 				if (maxObjective - minObjective >= Settings.EPS) {
-					front.get(0).setAttribute(CROWDING_ATTRIBUTE,
-							Double.POSITIVE_INFINITY);
-					front.get(n - 1).setAttribute(CROWDING_ATTRIBUTE,
-							Double.POSITIVE_INFINITY);
+					distances[front[0]] = Double.POSITIVE_INFINITY;
+					distances[front[n - 1]] = Double.POSITIVE_INFINITY;
 
 					for (int j = 1; j < n - 1; j++) {
-						double distance = (Double)front.get(j).getAttribute(
-								CROWDING_ATTRIBUTE);
-						distance += (front.get(j + 1).getObjective(i) - 
-								front.get(j - 1).getObjective(i))
+						distances[front[j]] += (objectives[front[j + 1]][i] - 
+								objectives[front[j - 1]][i])
 								/ (maxObjective - minObjective);
-						front.get(j).setAttribute(CROWDING_ATTRIBUTE, distance);
 					}
 				}
 			}
 		}
+		
+		return distances;
+	}
+	
+	/**
+	 * Returns the Euclidean distance between two objective vectors.  This is
+	 * computed identically to {@link NondominatedPopulation#distance}.
+	 * 
+	 * @param objectives1 the first objective vector
+	 * @param objectives2 the second objective vector
+	 * @return the Euclidean distance between the two objective vectors
+	 */
+	private static double distance(double[] objectives1,
+			double[] objectives2) {
+		double distance = 0.0;
+
+		for (int i = 0; i < objectives1.length; i++) {
+			distance += Math.pow(objectives1[i] - objectives2[i], 2.0);
+		}
+
+		return Math.sqrt(distance);
+	}
+	
+	/**
+	 * Stable merge sort of the indices in the range {@code [from, to)} by
+	 * the specified objective.  Since the sort is stable, the result matches
+	 * {@link java.util.Collections#sort} with {@link ObjectiveComparator}.
+	 * 
+	 * @param indices the indices into the objective matrix
+	 * @param buffer the temporary storage, with the same length as the
+	 *        indices
+	 * @param from the start of the range, inclusive
+	 * @param to the end of the range, exclusive
+	 * @param objectives the objective matrix
+	 * @param objective the objective used to order the indices
+	 */
+	private static void sort(int[] indices, int[] buffer, int from, int to,
+			double[][] objectives, int objective) {
+		if (to - from <= 16) {
+			for (int i = from + 1; i < to; i++) {
+				int index = indices[i];
+				double value = objectives[index][objective];
+				int j = i - 1;
+				
+				while ((j >= from) && (Double.compare(
+						objectives[indices[j]][objective], value) > 0)) {
+					indices[j + 1] = indices[j];
+					j--;
+				}
+				
+				indices[j + 1] = index;
+			}
+			
+			return;
+		}
+		
+		int mid = (from + to) >>> 1;
+		sort(indices, buffer, from, mid, objectives, objective);
+		sort(indices, buffer, mid, to, objectives, objective);
+		
+		// skip merging if the two halves are already in order
+		if (Double.compare(objectives[indices[mid - 1]][objective],
+				objectives[indices[mid]][objective]) <= 0) {
+			return;
+		}
+		
+		System.arraycopy(indices, from, buffer, from, to - from);
+		
+		int i = from;
+		int j = mid;
+		
+		for (int k = from; k < to; k++) {
+			if ((j >= to) || ((i < mid) && (Double.compare(
+					objectives[buffer[i]][objective],
+					objectives[buffer[j]][objective]) <= 0))) {
+				indices[k] = buffer[i++];
+			} else {
+				indices[k] = buffer[j++];
+			}
+		}
 	}
 
 }
@@ -17,6 +17,7 @@
  */
 package org.moeaframework.core;
 
+import static org.moeaframework.core.NondominatedSorting.CROWDING_ATTRIBUTE;
 import static org.moeaframework.core.NondominatedSorting.RANK_ATTRIBUTE;
 
 import java.util.Comparator;
@@ -172,12 +173,211 @@ public class NondominatedSortingPopulation extends Population {
 
 	/**
 	 * Equivalent to calling {@code truncate(size, 
-	 * new NondominatedSortingComparator())}.
+	 * new NondominatedSortingComparator())}.  Rather than sorting the entire
+	 * population, the ranks and crowding distances are copied into arrays and
+	 * the solutions are grouped by rank.  Fronts that fit entirely are
+	 * retained, and the solutions retained from the last front are found with
+	 * a selection algorithm.  Only the retained solutions are sorted, producing
+	 * the same ordering as {@link NondominatedSortingComparator}.
 	 * 
 	 * @param size the target population size after truncation
 	 */
 	public void truncate(int size) {
-		truncate(size, new NondominatedSortingComparator());
+		if (modified) {
+			update();
+		}
+		
+		int N = size();
+		int[] ranks = new int[N];
+		double[] crowding = new double[N];
+		Solution[] solutions = new Solution[N];
+		int maxRank = -1;
+		
+		//note the use of super to prevent repeatedly triggering update()
+		for (int i = 0; i < N; i++) {
+			solutions[i] = super.get(i);
+			ranks[i] = (Integer)solutions[i].getAttribute(RANK_ATTRIBUTE);
+			crowding[i] = (Double)solutions[i].getAttribute(CROWDING_ATTRIBUTE);
+			maxRank = Math.max(maxRank, ranks[i]);
+		}
+		
+		//group the solutions by rank, preserving their order within each front
+		int[] offsets = new int[maxRank + 2];
+		int[] order = new int[N];
+		
+		for (int i = 0; i < N; i++) {
+			offsets[ranks[i] + 1]++;
+		}
+		
+		for (int i = 0; i <= maxRank; i++) {
+			offsets[i + 1] += offsets[i];
+		}
+		
+		int[] positions = offsets.clone();
+		
+		for (int i = 0; i < N; i++) {
+			order[positions[ranks[i]]++] = i;
+		}
+		
+		//retain whole fronts, selecting from the last front if it does not fit
+		int count = Math.max(0, Math.min(size, N));
+		
+		for (int i = 0; (i <= maxRank) && (offsets[i] < count); i++) {
+			int to = Math.min(offsets[i + 1], count);
+			
+			if (to < offsets[i + 1]) {
+				select(order, offsets[i], offsets[i + 1], to, crowding);
+			}
+			
+			sort(order, offsets[i], to, crowding);
+		}
+		
+		super.clear();
+		
+		for (int i = 0; i < count; i++) {
+			super.add(solutions[order[i]]);
+		}
+	}
+	
+	/**
+	 * Returns a negative integer, zero, or a positive integer if the first
+	 * solution is preferred, equal to, or worse than the second solution in
+	 * the same front.  Solutions with a larger crowding distance are
+	 * preferred, with ties broken by their position in the population.
+	 * 
+	 * @param index1 the position of the first solution
+	 * @param index2 the position of the second solution
+	 * @param crowding the crowding distance of each solution
+	 * @return a negative integer, zero, or a positive integer if the first
+	 *         solution is preferred, equal to, or worse than the second
+	 *         solution
+	 */
+	private static int compare(int index1, int index2, double[] crowding) {
+		int result = -Double.compare(crowding[index1], crowding[index2]);
+		
+		if (result == 0) {
+			result = Integer.compare(index1, index2);
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Swaps two entries in an array.
+	 * 
+	 * @param order the array
+	 * @param i the first entry
+	 * @param j the second entry
+	 */
+	private static void swap(int[] order, int i, int j) {
+		int temp = order[i];
+		order[i] = order[j];
+		order[j] = temp;
+	}
+	
+	/**
+	 * Partitions the range {@code [from, to)} around the median of the first,
+	 * middle and last entries, returning the final position of the pivot.
+	 * 
+	 * @param order the positions of the solutions
+	 * @param from the start of the range, inclusive
+	 * @param to the end of the range, exclusive
+	 * @param crowding the crowding distance of each solution
+	 * @return the final position of the pivot
+	 */
+	private static int partition(int[] order, int from, int to,
+			double[] crowding) {
+		int last = to - 1;
+		int mid = (from + last) >>> 1;
+		
+		if (compare(order[mid], order[from], crowding) < 0) {
+			swap(order, mid, from);
+		}
+		
+		if (compare(order[last], order[from], crowding) < 0) {
+			swap(order, last, from);
+		}
+		
+		if (compare(order[last], order[mid], crowding) < 0) {
+			swap(order, last, mid);
+		}
+		
+		swap(order, mid, last);
+		
+		int pivot = order[last];
+		int store = from;
+		
+		for (int i = from; i < last; i++) {
+			if (compare(order[i], pivot, crowding) < 0) {
+				swap(order, i, store++);
+			}
+		}
+		
+		swap(order, store, last);
+		return store;
+	}
+	
+	/**
+	 * Rearranges the range {@code [from, to)} so that the preferred
+	 * solutions occupy the positions {@code [from, k)}, in no particular
+	 * order.
+	 * 
+	 * @param order the positions of the solutions
+	 * @param from the start of the range, inclusive
+	 * @param to the end of the range, exclusive
+	 * @param k the end of the selected range, exclusive
+	 * @param crowding the crowding distance of each solution
+	 */
+	private static void select(int[] order, int from, int to, int k,
+			double[] crowding) {
+		while (to - from > 1) {
+			int pivot = partition(order, from, to, crowding);
+			
+			if (pivot < k) {
+				from = pivot + 1;
+			} else if (pivot > k) {
+				to = pivot;
+			} else {
+				return;
+			}
+		}
+	}
+	
+	/**
+	 * Sorts the range {@code [from, to)} from the most to the least preferred
+	 * solution.
+	 * 
+	 * @param order the positions of the solutions
+	 * @param from the start of the range, inclusive
+	 * @param to the end of the range, exclusive
+	 * @param crowding the crowding distance of each solution
+	 */
+	private static void sort(int[] order, int from, int to,
+			double[] crowding) {
+		while (to - from > 16) {
+			int pivot = partition(order, from, to, crowding);
+			
+			//recurse into the smaller side to bound the stack depth
+			if (pivot - from < to - pivot) {
+				sort(order, from, pivot, crowding);
+				from = pivot + 1;
+			} else {
+				sort(order, pivot + 1, to, crowding);
+				to = pivot;
+			}
+		}
+		
+		for (int i = from + 1; i < to; i++) {
+			int index = order[i];
+			int j = i - 1;
+			
+			while ((j >= from) && (compare(order[j], index, crowding) > 0)) {
+				order[j + 1] = order[j];
+				j--;
+			}
+			
+			order[j + 1] = index;
+		}
 	}
 	
 	/**
@@ -164,6 +164,17 @@ public class PRNG {
 		return min + random.nextInt(max - min + 1);
 	}
 
+	/**
+	 * Returns the next random, uniformly distributed {@code long} value
+	 * between {@code Long.MIN_VALUE} and {@code Long.MAX_VALUE}.
+	 * 
+	 * @return the next random, uniformly distributed {@code long} value
+	 *         between {@code Long.MIN_VALUE} and {@code Long.MAX_VALUE}.
+	 */
+	public static long nextLong() {
+		return random.nextLong();
+	}
+
 	/**
 	 * Returns the next random, uniformly distributed {@code boolean} value.
 	 * 
@@ -30,6 +30,9 @@ import org.moeaframework.core.comparator.ParetoDominanceComparator;
  * the fitness calculation.  The fitness calculation only occurs when the
  * addition of a solution exceeds the capacity.  The fitness can be manually
  * calculated by calling {@link #update()}.
+ * <p>
+ * When using an {@link IndicatorFitnessEvaluator}, solutions are removed one at
+ * a time, updating the fitness of the remaining solutions after each removal.
  */
 public class FitnessBasedArchive extends NondominatedPopulation {
 	
@@ -115,7 +118,13 @@ public class FitnessBasedArchive extends NondominatedPopulation {
 		if (solutionAdded) {
 			if (size() > capacity) {
 				update();
-				truncate(capacity, fitnessComparator);
+				
+				if (fitnessEvaluator instanceof IndicatorFitnessEvaluator) {
+					((IndicatorFitnessEvaluator)fitnessEvaluator).truncate(this,
+							capacity);
+				} else {
+					truncate(capacity, fitnessComparator);
+				}
 			}
 		}
 		
@@ -17,17 +17,33 @@
  */
 package org.moeaframework.core.fitness;
 
+import java.util.Arrays;
+
 import org.moeaframework.core.FitnessEvaluator;
 import org.moeaframework.core.FrameworkException;
 import org.moeaframework.core.Population;
 import org.moeaframework.core.Problem;
 import org.moeaframework.core.Solution;
 import org.moeaframework.core.indicator.Normalizer;
+import org.moeaframework.util.ParallelLoop;
 
 /**
  * Abstract class for assigning fitness based on a binary indicator.  This
  * class combines the pair-wise fitness of each solution into an aggregate
  * fitness within the entire population.
+ * <p>
+ * The fitness values and the pair-wise fitness components are stored in
+ * primitive arrays indexed by the position of each solution at the time
+ * {@link #evaluate(Population)} was called.  Removed solutions are marked
+ * rather than shifting the matrix of fitness components, and
+ * {@link #truncate(Population, int)} selects the solutions to remove using an
+ * indexed heap, requiring {@code O(N^2 log N)} time rather than the
+ * {@code O(N^3)} time needed to repeatedly search for and remove the worst
+ * solution.
+ * <p>
+ * The indicator values can optionally be computed by multiple threads.  In
+ * this case, {@link #calculateIndicator(Solution, Solution)} must be
+ * thread-safe.
  */
 public abstract class IndicatorFitnessEvaluator implements FitnessEvaluator {
 
@@ -42,16 +58,34 @@ public abstract class IndicatorFitnessEvaluator implements FitnessEvaluator {
 	private static final double kappa = 0.05;
 	
 	/**
-	 * Record of the maximum indicator value from the last call to
-	 * {@link #evaluate(Population)}.
+	 * The number of threads used to compute the indicator values.
 	 */
-	private double maxAbsIndicatorValue;
+	private int numberOfThreads;
 	
 	/**
 	 * Record of the fitness components from the last call to
-	 * {@link #evaluate(Population)}.
+	 * {@link #evaluate(Population)}.  The entry {@code contribution[i][j]}
+	 * is the amount solution {@code i} adds to the fitness of solution
+	 * {@code j}.
+	 */
+	private double[][] contribution;
+	
+	/**
+	 * The fitness of each solution, indexed by the row in the matrix of
+	 * fitness components.
+	 */
+	private double[] fitness;
+	
+	/**
+	 * The row in the matrix of fitness components of the solution at each
+	 * index in the population.
+	 */
+	private int[] rows;
+	
+	/**
+	 * The number of solutions remaining in the population.
 	 */
-	private double[][] fitcomp;
+	private int size;
 
 	/**
 	 * Constructs an indicator-based fitness for the specified problem.
@@ -60,6 +94,8 @@ public abstract class IndicatorFitnessEvaluator implements FitnessEvaluator {
 	 */
 	public IndicatorFitnessEvaluator(Problem problem) {
 		this.problem = problem;
+		
+		numberOfThreads = 1;
 	}
 
 	/**
@@ -70,6 +106,34 @@ public abstract class IndicatorFitnessEvaluator implements FitnessEvaluator {
 	public Problem getProblem() {
 		return problem;
 	}
+	
+	/**
+	 * Returns the number of threads used to compute the indicator values.
+	 * 
+	 * @return the number of threads used to compute the indicator values
+	 */
+	public int getNumberOfThreads() {
+		return numberOfThreads;
+	}
+	
+	/**
+	 * Sets the number of threads used to compute the indicator values.  The
+	 * default is {@code 1}, computing the indicator values on the calling
+	 * thread.
+	 * 
+	 * @param numberOfThreads the number of threads used to compute the
+	 *        indicator values
+	 * @throws IllegalArgumentException if the number of threads is not
+	 *         positive
+	 */
+	public void setNumberOfThreads(int numberOfThreads) {
+		if (numberOfThreads <= 0) {
+			throw new IllegalArgumentException(
+					"number of threads must be positive");
+		}
+		
+		this.numberOfThreads = numberOfThreads;
+	}
 
 	/*
 	 * The following method is modified from the IBEA implementation for the
@@ -109,33 +173,74 @@ public abstract class IndicatorFitnessEvaluator implements FitnessEvaluator {
 	@Override
 	public void evaluate(Population population) {
 		Normalizer normalizer = new Normalizer(problem, population);
-		Population normalizedPopulation = normalizer.normalize(population);
+		final Population normalizedPopulation = normalizer.normalize(population);
+		final int n = population.size();
+		final int threads = ParallelLoop.getNumberOfThreads(n, numberOfThreads);
 
 		// compute fitness components
-		fitcomp = new double[population.size()][population.size()];
-		maxAbsIndicatorValue = Double.NEGATIVE_INFINITY;
+		final double[][] fitcomp = new double[n][n];
+		final double[] maxAbsIndicatorValues = new double[threads];
+		
+		ParallelLoop.run(n, threads, new ParallelLoop.Body() {
 
-		for (int i = 0; i < population.size(); i++) {
-			for (int j = 0; j < population.size(); j++) {
-				fitcomp[i][j] = calculateIndicator(normalizedPopulation.get(i),
-						normalizedPopulation.get(j));
+			@Override
+			public void run(int i, int thread) {
+				double max = maxAbsIndicatorValues[thread];
+				
+				for (int j = 0; j < n; j++) {
+					fitcomp[i][j] = calculateIndicator(
+							normalizedPopulation.get(i),
+							normalizedPopulation.get(j));
 
-				if (Math.abs(fitcomp[i][j]) > maxAbsIndicatorValue) {
-					maxAbsIndicatorValue = Math.abs(fitcomp[i][j]);
+					if (Math.abs(fitcomp[i][j]) > max) {
+						max = Math.abs(fitcomp[i][j]);
+					}
 				}
+				
+				maxAbsIndicatorValues[thread] = max;
+			}
+			
+		});
+		
+		double max = Double.NEGATIVE_INFINITY;
+		
+		for (int i = 0; i < threads; i++) {
+			if (maxAbsIndicatorValues[i] > max) {
+				max = maxAbsIndicatorValues[i];
 			}
 		}
+		
+		final double maxAbsIndicatorValue = max;
+		
+		ParallelLoop.run(n, threads, new ParallelLoop.Body() {
+
+			@Override
+			public void run(int i, int thread) {
+				for (int j = 0; j < n; j++) {
+					fitcomp[i][j] = Math.exp(
+							(-fitcomp[i][j] / maxAbsIndicatorValue) / kappa);
+				}
+			}
+			
+		});
 
 		// calculate fitness from fitness components
-		for (int i = 0; i < population.size(); i++) {
+		contribution = fitcomp;
+		fitness = new double[n];
+		rows = new int[n];
+		size = n;
+		
+		for (int i = 0; i < n; i++) {
 			double sum = 0.0;
 			
-			for (int j = 0; j < population.size(); j++) {
+			for (int j = 0; j < n; j++) {
 				if (i != j) {
-					sum += Math.exp((-fitcomp[j][i] / maxAbsIndicatorValue) / kappa);
+					sum += contribution[j][i];
 				}
 			}
 			
+			fitness[i] = sum;
+			rows[i] = i;
 			population.get(i).setAttribute(FitnessEvaluator.FITNESS_ATTRIBUTE, sum);
 		}
 	}
@@ -145,41 +250,119 @@ public abstract class IndicatorFitnessEvaluator implements FitnessEvaluator {
 	 * iteratively remove solutions from the population while updating the
 	 * fitness value. There must be no other modifications to the population
 	 * between invocations of {@link #evaluate(Population)} and this method
-	 * other than removing solutions using this method.
+	 * other than removing solutions using this method or
+	 * {@link #truncate(Population, int)}.
 	 * 
 	 * @param population the population
 	 * @param removeIndex the index to remove
 	 */
 	public void removeAndUpdate(Population population, int removeIndex) {
-		if (fitcomp == null) {
-			throw new FrameworkException("evaluate must be called first");
-		}
+		checkEvaluated(population);
+		
+		double[] removed = contribution[rows[removeIndex]];
 		
-		for (int i = 0; i < population.size(); i++) {
+		for (int i = 0; i < size; i++) {
 			if (i != removeIndex) {
-				Solution solution = population.get(i);
-				double fitness = (Double)solution.getAttribute(
-						FitnessEvaluator.FITNESS_ATTRIBUTE);
-				
-				fitness -= Math.exp((-fitcomp[removeIndex][i] / maxAbsIndicatorValue) / kappa);
+				int row = rows[i];
+				fitness[row] -= removed[row];
+				population.get(i).setAttribute(FITNESS_ATTRIBUTE, fitness[row]);
+			}
+		}
+		
+		System.arraycopy(rows, removeIndex+1, rows, removeIndex,
+				size-removeIndex-1);
+		size--;
+
+		population.remove(removeIndex);
+	}
+	
+	/**
+	 * After calling {@link #evaluate(Population)}, this method iteratively
+	 * removes the solution with the worst fitness from the population, updating
+	 * the fitness of the remaining solutions, until the population contains
+	 * the specified number of solutions.  When several solutions have the
+	 * worst fitness, the one appearing first in the population is removed.
+	 * The result is identical to repeatedly calling
+	 * {@link #removeAndUpdate(Population, int)} with the index of the worst
+	 * solution, but requires {@code O(N^2 log N)} rather than {@code O(N^3)}
+	 * time.  There must be no other modifications to the population between
+	 * invocations of {@link #evaluate(Population)} and this method other than
+	 * removing solutions using this method or
+	 * {@link #removeAndUpdate(Population, int)}.
+	 * 
+	 * @param population the population
+	 * @param size the number of solutions to retain
+	 */
+	public void truncate(Population population, int size) {
+		checkEvaluated(population);
+		
+		if (this.size <= size) {
+			return;
+		}
+		
+		boolean[] removed = new boolean[contribution.length];
+		Heap heap = new Heap(contribution.length);
+		
+		for (int i = 0; i < this.size; i++) {
+			heap.add(rows[i]);
+		}
+		
+		for (int remaining = this.size; remaining > size; remaining--) {
+			int worst = heap.poll();
+			double[] values = contribution[worst];
+			removed[worst] = true;
+			
+			for (int i = 0; i < this.size; i++) {
+				int row = rows[i];
 				
-				solution.setAttribute(FITNESS_ATTRIBUTE, fitness);
+				if (!removed[row]) {
+					fitness[row] -= values[row];
+					heap.update(row);
+				}
 			}
 		}
 		
-		for (int i = 0; i < population.size(); i++) {
-			for (int j = removeIndex+1; j < population.size(); j++) {
-				fitcomp[i][j-1] = fitcomp[i][j];
+		// remove solutions in descending order to preserve the indices
+		for (int i = this.size-1; i >= 0; i--) {
+			if (removed[rows[i]]) {
+				population.remove(i);
 			}
+		}
+		
+		int count = 0;
+		
+		for (int i = 0; i < this.size; i++) {
+			int row = rows[i];
 			
-			if (i > removeIndex) {
-				fitcomp[i-1] = fitcomp[i];
+			if (!removed[row]) {
+				population.get(count).setAttribute(FITNESS_ATTRIBUTE,
+						fitness[row]);
+				rows[count++] = row;
 			}
 		}
-
-		population.remove(removeIndex);
+		
+		this.size = count;
 	}
-
+	
+	/**
+	 * Checks if {@link #evaluate(Population)} was called on the given
+	 * population.
+	 * 
+	 * @param population the population
+	 * @throws FrameworkException if {@link #evaluate(Population)} was not
+	 *         called or the population was modified
+	 */
+	private void checkEvaluated(Population population) {
+		if (contribution == null) {
+			throw new FrameworkException("evaluate must be called first");
+		}
+		
+		if (population.size() != size) {
+			throw new FrameworkException(
+					"population modified since evaluate was called");
+		}
+	}
+	
 	/**
 	 * Returns the indicator value relative to the two solutions.
 	 * 
@@ -189,5 +372,180 @@ public abstract class IndicatorFitnessEvaluator implements FitnessEvaluator {
 	 */
 	protected abstract double calculateIndicator(Solution solution1,
 			Solution solution2);
+	
+	/**
+	 * Indexed binary heap storing rows in the matrix of fitness components,
+	 * with the row of the worst solution at the root.  Ties are broken in favor
+	 * of the lowest row, which is the solution appearing first in the
+	 * population.
+	 */
+	private class Heap {
+		
+		/**
+		 * The rows stored in this heap, in heap order.
+		 */
+		private final int[] heap;
+		
+		/**
+		 * The index in {@code heap} of each row; or {@code -1} if the row is
+		 * not stored in this heap.
+		 */
+		private final int[] index;
+		
+		/**
+		 * {@code true} if larger fitness values are preferred; {@code false}
+		 * otherwise.
+		 */
+		private final boolean largerPreferred;
+		
+		/**
+		 * The number of rows stored in this heap.
+		 */
+		private int count;
+		
+		/**
+		 * Constructs an empty heap.
+		 * 
+		 * @param capacity the number of rows in the matrix of fitness
+		 *        components
+		 */
+		public Heap(int capacity) {
+			super();
+			
+			heap = new int[capacity];
+			index = new int[capacity];
+			largerPreferred = areLargerValuesPreferred();
+			
+			Arrays.fill(index, -1);
+		}
+		
+		/**
+		 * Adds the specified row to this heap.
+		 * 
+		 * @param row the row
+		 */
+		public void add(int row) {
+			heap[count] = row;
+			index[row] = count;
+			count++;
+			siftUp(count-1);
+		}
+		
+		/**
+		 * Removes and returns the row of the worst solution.
+		 * 
+		 * @return the row of the worst solution
+		 */
+		public int poll() {
+			int row = heap[0];
+			count--;
+			index[row] = -1;
+			
+			if (count > 0) {
+				move(heap[count], 0);
+				siftDown(0);
+			}
+			
+			return row;
+		}
+		
+		/**
+		 * Restores the heap order after the fitness of the specified row
+		 * changed.
+		 * 
+		 * @param row the row
+		 */
+		public void update(int row) {
+			siftDown(siftUp(index[row]));
+		}
+		
+		/**
+		 * Returns {@code true} if the solution at the first row is removed
+		 * before the solution at the second row; {@code false} otherwise.
+		 * 
+		 * @param row1 the first row
+		 * @param row2 the second row
+		 * @return {@code true} if the solution at the first row is removed
+		 *         before the solution at the second row; {@code false}
+		 *         otherwise
+		 */
+		private boolean isWorse(int row1, int row2) {
+			int cmp = Double.compare(fitness[row1], fitness[row2]);
+			
+			if (largerPreferred) {
+				cmp = -cmp;
+			}
+			
+			return (cmp > 0) || ((cmp == 0) && (row1 < row2));
+		}
+		
+		/**
+		 * Stores the row at the specified index in the heap.
+		 * 
+		 * @param row the row
+		 * @param i the index in the heap
+		 */
+		private void move(int row, int i) {
+			heap[i] = row;
+			index[row] = i;
+		}
+		
+		/**
+		 * Moves the row at the specified index towards the root until the heap
+		 * order is satisfied.
+		 * 
+		 * @param i the index in the heap
+		 * @return the new index of the row
+		 */
+		private int siftUp(int i) {
+			int row = heap[i];
+			
+			while (i > 0) {
+				int parent = (i - 1) / 2;
+				
+				if (!isWorse(row, heap[parent])) {
+					break;
+				}
+				
+				move(heap[parent], i);
+				i = parent;
+			}
+			
+			move(row, i);
+			return i;
+		}
+		
+		/**
+		 * Moves the row at the specified index away from the root until the
+		 * heap order is satisfied.
+		 * 
+		 * @param i the index in the heap
+		 */
+		private void siftDown(int i) {
+			int row = heap[i];
+			
+			while (true) {
+				int child = 2*i + 1;
+				
+				if (child >= count) {
+					break;
+				}
+				
+				if ((child + 1 < count) && isWorse(heap[child+1], heap[child])) {
+					child++;
+				}
+				
+				if (!isWorse(heap[child], row)) {
+					break;
+				}
+				
+				move(heap[child], i);
+				i = child;
+			}
+			
+			move(row, i);
+		}
+		
+	}
 
 }
@@ -25,7 +25,8 @@ import org.moeaframework.core.Settings;
  * Generational distance indicator. Represents average distance from solutions
  * in an approximation set to the nearest solution in the reference set.
  */
-public class GenerationalDistance extends NormalizedIndicator {
+public class GenerationalDistance extends NormalizedIndicator
+		implements NormalizedEvaluator {
 	
 	/**
 	 * Set to {@code 2.0} to replicate generational distance as seen in the
@@ -63,7 +64,13 @@ public class GenerationalDistance extends NormalizedIndicator {
 
 	@Override
 	public double evaluate(NondominatedPopulation approximationSet) {
-		return evaluate(problem, normalize(approximationSet), 
+		return evaluateNormalized(normalize(approximationSet));
+	}
+
+	@Override
+	public double evaluateNormalized(
+			NondominatedPopulation normalizedApproximationSet) {
+		return evaluate(problem, normalizedApproximationSet,
 				getNormalizedReferenceSet(), d);
 	}
 
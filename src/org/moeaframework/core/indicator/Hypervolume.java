@@ -71,7 +71,8 @@ import org.moeaframework.util.io.RedirectStream;
  * hypervolume calculation to an external third-party executable is provided.
  * See {@link #invokeNativeHypervolume} for details.
  */
-public class Hypervolume extends NormalizedIndicator {
+public class Hypervolume extends NormalizedIndicator
+		implements NormalizedEvaluator {
 
 	/**
 	 * Constructs a hypervolume evaluator for the specified problem and 
@@ -295,7 +296,13 @@ public class Hypervolume extends NormalizedIndicator {
 
 	@Override
 	public double evaluate(NondominatedPopulation approximationSet) {
-		return evaluate(problem, normalize(approximationSet));
+		return evaluateNormalized(normalize(approximationSet));
+	}
+
+	@Override
+	public double evaluateNormalized(
+			NondominatedPopulation normalizedApproximationSet) {
+		return evaluate(problem, normalizedApproximationSet);
 	}
 
 	/**
@@ -0,0 +1,175 @@
+/* Copyright 2009-2018 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core.indicator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.moeaframework.core.Indicator;
+import org.moeaframework.core.NondominatedPopulation;
+import org.moeaframework.util.ParallelLoop;
+
+/**
+ * Evaluates a fixed collection of indicators on many approximation sets.
+ * Each approximation set is evaluated by all indicators in one pass.
+ * Indicators using equivalent normalizers, such as
+ * {@link GenerationalDistance}, {@link InvertedGenerationalDistance},
+ * {@link AdditiveEpsilonIndicator} and {@link MaximumParetoFrontError}
+ * constructed with the same reference set, share one normalized copy of the
+ * approximation set instead of each normalizing it separately.  The
+ * normalized reference sets and the weights of the R-indicators are computed
+ * once when the indicators are constructed.
+ * <p>
+ * When evaluating multiple approximation sets, the sets can be evaluated in
+ * parallel.  The indicators must then support concurrent evaluation, which
+ * is true for all indicators provided by the MOEA Framework.
+ */
+public class IndicatorEngine {
+	
+	/**
+	 * The indicators.
+	 */
+	private final List<Indicator> indicators;
+	
+	/**
+	 * The number of threads used to evaluate multiple approximation sets.
+	 */
+	private int numberOfThreads;
+	
+	/**
+	 * Constructs a new engine for evaluating the specified indicators.
+	 * 
+	 * @param indicators the indicators
+	 */
+	public IndicatorEngine(List<? extends Indicator> indicators) {
+		super();
+		this.indicators = new ArrayList<Indicator>(indicators);
+		
+		numberOfThreads = 1;
+	}
+	
+	/**
+	 * Returns the indicators evaluated by this engine.
+	 * 
+	 * @return the indicators evaluated by this engine
+	 */
+	public List<Indicator> getIndicators() {
+		return Collections.unmodifiableList(indicators);
+	}
+	
+	/**
+	 * Returns the number of threads used to evaluate multiple approximation
+	 * sets.  Defaults to {@code 1}.
+	 * 
+	 * @return the number of threads used to evaluate multiple approximation
+	 *         sets
+	 */
+	public int getNumberOfThreads() {
+		return numberOfThreads;
+	}
+	
+	/**
+	 * Sets the number of threads used to evaluate multiple approximation sets.
+	 * 
+	 * @param numberOfThreads the number of threads used to evaluate multiple
+	 *        approximation sets
+	 * @throws IllegalArgumentException if the number of threads is not
+	 *         positive
+	 */
+	public void setNumberOfThreads(int numberOfThreads) {
+		if (numberOfThreads <= 0) {
+			throw new IllegalArgumentException(
+					"number of threads must be positive");
+		}
+		
+		this.numberOfThreads = numberOfThreads;
+	}
+	
+	/**
+	 * Evaluates the approximation set using each indicator.
+	 * 
+	 * @param approximationSet the approximation set
+	 * @return the value of each indicator, in the order the indicators were
+	 *         provided
+	 */
+	public double[] evaluate(NondominatedPopulation approximationSet) {
+		double[] values = new double[indicators.size()];
+		List<Normalizer> normalizers = new ArrayList<Normalizer>();
+		List<NondominatedPopulation> normalizedSets =
+				new ArrayList<NondominatedPopulation>();
+		
+		for (int i = 0; i < indicators.size(); i++) {
+			Indicator indicator = indicators.get(i);
+			
+			if ((indicator instanceof NormalizedIndicator) &&
+					(indicator instanceof NormalizedEvaluator)) {
+				Normalizer normalizer =
+						((NormalizedIndicator)indicator).getNormalizer();
+				NondominatedPopulation normalizedSet = null;
+				
+				for (int j = 0; j < normalizers.size(); j++) {
+					if (normalizers.get(j).isEquivalent(normalizer)) {
+						normalizedSet = normalizedSets.get(j);
+						break;
+					}
+				}
+				
+				if (normalizedSet == null) {
+					normalizedSet = normalizer.normalize(approximationSet);
+					normalizers.add(normalizer);
+					normalizedSets.add(normalizedSet);
+				}
+				
+				values[i] = ((NormalizedEvaluator)indicator)
+						.evaluateNormalized(normalizedSet);
+			} else {
+				values[i] = indicator.evaluate(approximationSet);
+			}
+		}
+		
+		return values;
+	}
+	
+	/**
+	 * Evaluates each approximation set using each indicator.  The
+	 * approximation sets are evaluated in parallel if more than one thread is
+	 * used.
+	 * 
+	 * @param approximationSets the approximation sets
+	 * @return the value of each indicator for each approximation set, indexed
+	 *         first by the approximation set and then by the indicator
+	 */
+	public double[][] evaluateAll(
+			final List<NondominatedPopulation> approximationSets) {
+		final double[][] values = new double[approximationSets.size()][];
+		
+		ParallelLoop.run(approximationSets.size(), numberOfThreads,
+				new ParallelLoop.Body() {
+
+			@Override
+			public void run(int index, int thread) {
+				values[index] = evaluate(approximationSets.get(index));
+			}
+			
+		});
+		
+		return values;
+	}
+
+}
@@ -26,7 +26,8 @@ import org.moeaframework.core.Settings;
  * solutions in the reference set to the nearest solution in an approximation
  * set.
  */
-public class InvertedGenerationalDistance extends NormalizedIndicator {
+public class InvertedGenerationalDistance extends NormalizedIndicator
+		implements NormalizedEvaluator {
 	
 	/**
 	 * Set to {@code 1.0} to replicate inverted generational distance as seen
@@ -63,7 +64,13 @@ public class InvertedGenerationalDistance extends NormalizedIndicator {
 
 	@Override
 	public double evaluate(NondominatedPopulation approximationSet) {
-		return evaluate(problem, normalize(approximationSet), 
+		return evaluateNormalized(normalize(approximationSet));
+	}
+
+	@Override
+	public double evaluateNormalized(
+			NondominatedPopulation normalizedApproximationSet) {
+		return evaluate(problem, normalizedApproximationSet,
 				getNormalizedReferenceSet(), d);
 	}
 
@@ -25,7 +25,8 @@ import org.moeaframework.core.Problem;
  * solutions in an approximation set to the nearest solution in the reference
  * set.
  */
-public class MaximumParetoFrontError extends NormalizedIndicator {
+public class MaximumParetoFrontError extends NormalizedIndicator
+		implements NormalizedEvaluator {
 
 	/**
 	 * Constructs a maximum Pareto front error evaluator for the specified
@@ -41,7 +42,13 @@ public class MaximumParetoFrontError extends NormalizedIndicator {
 
 	@Override
 	public double evaluate(NondominatedPopulation approximationSet) {
-		return evaluate(problem, normalize(approximationSet), 
+		return evaluateNormalized(normalize(approximationSet));
+	}
+
+	@Override
+	public double evaluateNormalized(
+			NondominatedPopulation normalizedApproximationSet) {
+		return evaluate(problem, normalizedApproximationSet,
 				getNormalizedReferenceSet());
 	}
 
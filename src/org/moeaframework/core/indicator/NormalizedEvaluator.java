@@ -0,0 +1,42 @@
+/* Copyright 2009-2018 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core.indicator;
+
+import org.moeaframework.core.NondominatedPopulation;
+
+/**
+ * Interface for {@link NormalizedIndicator}s that can evaluate approximation
+ * sets already normalized by their normalizer, allowing
+ * {@link IndicatorEngine} to share one normalized approximation set between
+ * indicators with equivalent normalizers.
+ */
+interface NormalizedEvaluator {
+
+	/**
+	 * Evaluates the approximation set after it was normalized by this
+	 * indicator's normalizer.  The result must be identical to calling
+	 * {@link NormalizedIndicator#evaluate(NondominatedPopulation)} with the
+	 * original approximation set.
+	 * 
+	 * @param normalizedApproximationSet the normalized approximation set
+	 * @return the value of this indicator
+	 */
+	public double evaluateNormalized(
+			NondominatedPopulation normalizedApproximationSet);
+
+}
@@ -155,5 +155,14 @@ public abstract class NormalizedIndicator implements Indicator {
 	protected NondominatedPopulation getNormalizedReferenceSet() {
 		return normalizedReferenceSet;
 	}
+	
+	/**
+	 * Returns the normalizer used by this indicator.
+	 * 
+	 * @return the normalizer used by this indicator
+	 */
+	Normalizer getNormalizer() {
+		return normalizer;
+	}
 
 }
@@ -226,6 +226,20 @@ public class Normalizer {
 		}
 	}
 	
+	/**
+	 * Returns {@code true} if this normalizer and the specified normalizer
+	 * produce identical normalized populations; {@code false} otherwise.
+	 * 
+	 * @param other the other normalizer
+	 * @return {@code true} if this normalizer and the specified normalizer
+	 *         produce identical normalized populations; {@code false}
+	 *         otherwise
+	 */
+	boolean isEquivalent(Normalizer other) {
+		return (other == this) || (Arrays.equals(minimum, other.minimum) &&
+				Arrays.equals(maximum, other.maximum));
+	}
+	
 	/**
 	 * Returns a new non-dominated population containing the normalized 
 	 * solutions from the specified population.
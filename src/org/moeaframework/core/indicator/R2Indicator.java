@@ -64,8 +64,13 @@ public class R2Indicator extends RIndicator {
 	
 	@Override
 	public double evaluate(NondominatedPopulation population) {
-		return expectedUtility(
-				getNormalizedReferenceSet()) - expectedUtility(population);
+		double sum = 0.0;
+		
+		for (int i = 0; i < weights.length; i++) {
+			sum += getReferenceUtility(i);
+		}
+		
+		return sum / weights.length - expectedUtility(population);
 	}
 
 }
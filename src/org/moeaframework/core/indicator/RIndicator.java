@@ -99,6 +99,12 @@ public abstract class RIndicator extends NormalizedIndicator {
 	 */
 	protected double[][] weights;
 	
+	/**
+	 * The maximum utility of the normalized reference set for each weight,
+	 * which is computed once since the reference set does not change.
+	 */
+	private final double[] referenceUtilities;
+	
 	/**
 	 * Constructs a new R indicator using the Chebychev utility function.
 	 * 
@@ -127,6 +133,45 @@ public abstract class RIndicator extends NormalizedIndicator {
 		
 		weights = generateUniformWeights(subdivisions,
 				problem.getNumberOfObjectives());
+		referenceUtilities = new double[weights.length];
+		
+		for (int i = 0; i < weights.length; i++) {
+			referenceUtilities[i] = maximumUtility(
+					getNormalizedReferenceSet(), i);
+		}
+	}
+	
+	/**
+	 * Returns the maximum utility of any solution in the population for the
+	 * specified weight.
+	 * 
+	 * @param population the population
+	 * @param index the index of the weight
+	 * @return the maximum utility of any solution in the population for the
+	 *         specified weight
+	 */
+	protected double maximumUtility(NondominatedPopulation population,
+			int index) {
+		double max = Double.NEGATIVE_INFINITY;
+		
+		for (Solution solution : population) {
+			max = Math.max(max, utilityFunction.computeUtility(solution,
+					weights[index]));
+		}
+		
+		return max;
+	}
+	
+	/**
+	 * Returns the maximum utility of the normalized reference set for the
+	 * specified weight.
+	 * 
+	 * @param index the index of the weight
+	 * @return the maximum utility of the normalized reference set for the
+	 *         specified weight
+	 */
+	protected double getReferenceUtility(int index) {
+		return referenceUtilities[index];
 	}
 	
 	/**
@@ -139,14 +184,7 @@ public abstract class RIndicator extends NormalizedIndicator {
 		double sum = 0.0;
 		
 		for (int i = 0; i < weights.length; i++) {
-			double max = Double.NEGATIVE_INFINITY;
-			
-			for (Solution solution : population) {
-				max = Math.max(max, utilityFunction.computeUtility(solution,
-						weights[i]));
-			}
-			
-			sum += max;
+			sum += maximumUtility(population, i);
 		}
 		
 		return sum / weights.length;
@@ -49,10 +49,12 @@ import org.moeaframework.core.operator.subset.SSX;
 import org.moeaframework.core.spi.OperatorProvider;
 import org.moeaframework.core.spi.ProviderLookupException;
 import org.moeaframework.core.variable.BinaryVariable;
+import org.moeaframework.core.variable.EncodingUtils;
 import org.moeaframework.core.variable.Grammar;
 import org.moeaframework.core.variable.Permutation;
 import org.moeaframework.core.variable.Program;
 import org.moeaframework.core.variable.RealVariable;
+import org.moeaframework.core.variable.RealVectorVariable;
 import org.moeaframework.core.variable.Subset;
 import org.moeaframework.util.TypedProperties;
 
@@ -225,6 +227,9 @@ public class StandardOperators extends OperatorProvider {
 			
 			if (variable == null) {
 				throw new ProviderLookupException("variable is null");
+			} else if (variable instanceof RealVectorVariable) {
+				// the real-valued operators support both types
+				types.add(RealVariable.class);
 			} else {
 				types.add(variable.getClass());
 			}
@@ -263,6 +268,9 @@ public class StandardOperators extends OperatorProvider {
 			
 			if (variable == null) {
 				throw new ProviderLookupException("variable is null");
+			} else if (variable instanceof RealVectorVariable) {
+				// the real-valued operators support both types
+				types.add(RealVariable.class);
 			} else {
 				types.add(variable.getClass());
 			}
@@ -305,7 +313,8 @@ public class StandardOperators extends OperatorProvider {
 		} else if (name.equalsIgnoreCase("pm")) {
 			return new PM(
 					typedProperties.getDouble("pm.rate", 
-							1.0 / problem.getNumberOfVariables()), 
+							1.0 / EncodingUtils.getNumberOfReals(
+									problem.newSolution())), 
 							typedProperties.getDouble("pm.distributionIndex", 20.0));
 		} else if (name.equalsIgnoreCase("de")) {	
 			return new DifferentialEvolutionVariation(
@@ -331,7 +340,8 @@ public class StandardOperators extends OperatorProvider {
 		} else if (name.equalsIgnoreCase("um")) {
 			return new UM(
 					typedProperties.getDouble("um.rate", 
-							1.0 / problem.getNumberOfVariables()));
+							1.0 / EncodingUtils.getNumberOfReals(
+									problem.newSolution())));
 		} else if (name.equalsIgnoreCase("am")) {
 			return new AdaptiveMetropolis(
 					(int)typedProperties.getDouble("am.parents", 10),
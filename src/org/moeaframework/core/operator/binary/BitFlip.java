@@ -25,7 +25,10 @@ import org.moeaframework.core.variable.BinaryVariable;
 
 /**
  * Bit flip mutation operator.  Each bit is flipped (switched from a {@code 0}
- * to a {@code 1}, or vice versa) using the specified probability.
+ * to a {@code 1}, or vice versa) using the specified probability.  Rather
+ * than drawing a random number for every bit, the distance to the next
+ * flipped bit is sampled from a geometric distribution, so the cost of this
+ * operator is proportional to the number of flipped bits.
  * <p>
  * This operator is type-safe.
  */
@@ -76,12 +79,48 @@ public class BitFlip implements Variation {
 	 * @param variable the variable to be mutated
 	 */
 	public static void evolve(BinaryVariable variable, double probability) {
-		for (int i = 0; i < variable.getNumberOfBits(); i++) {
-			if (PRNG.nextDouble() <= probability) {
-				variable.set(i, !variable.get(i));
+		int numberOfBits = variable.getNumberOfBits();
+		
+		if ((probability <= 0.0) || (numberOfBits == 0)) {
+			return;
+		} else if (probability >= 1.0) {
+			long[] words = variable.getWords();
+			
+			for (int i = 0; i < words.length; i++) {
+				words[i] = ~words[i];
+			}
+			
+			words[words.length - 1] &= variable.getLastWordMask();
+		} else {
+			double logq = Math.log1p(-probability);
+			
+			if (logq == 0.0) {
+				// the probability is too small to flip any bits
+				return;
+			}
+			
+			for (int i = nextSkip(logq, numberOfBits); i < numberOfBits;
+					i += 1 + nextSkip(logq, numberOfBits)) {
+				variable.flip(i);
 			}
 		}
 	}
+	
+	/**
+	 * Returns the number of bits skipped before the next flipped bit, which
+	 * follows a geometric distribution with success probability
+	 * {@code 1 - exp(logq)}.
+	 * 
+	 * @param logq the natural logarithm of the probability of not flipping a
+	 *        bit
+	 * @param limit the maximum value returned, preventing overflow
+	 * @return the number of bits skipped before the next flipped bit; or
+	 *         {@code limit} if the skip is not finite
+	 */
+	private static int nextSkip(double logq, int limit) {
+		double skip = Math.floor(Math.log(1.0 - PRNG.nextDouble()) / logq);
+		return (skip >= 0.0) && (skip < limit) ? (int)skip : limit;
+	}
 
 	@Override
 	public int getArity() {
@@ -26,7 +26,8 @@ import org.moeaframework.core.variable.BinaryVariable;
 
 /**
  * Half-uniform crossover (HUX) operator. Half of the non-matching bits are
- * swapped between the two parents.
+ * swapped between the two parents.  The bits are processed 64 at a time by
+ * swapping the non-matching bits selected by a random mask.
  * <p>
  * This variation operator is type-safe.
  */
@@ -76,12 +77,16 @@ public class HUX implements Variation {
 			throw new FrameworkException("binary variables not same length");
 		}
 
-		for (int i = 0; i < v1.getNumberOfBits(); i++) {
-			boolean value = v1.get(i);
+		long[] words1 = v1.getWords();
+		long[] words2 = v2.getWords();
 
-			if ((value != v2.get(i)) && PRNG.nextBoolean()) {
-				v1.set(i, !value);
-				v2.set(i, value);
+		for (int i = 0; i < words1.length; i++) {
+			long diff = words1[i] ^ words2[i];
+
+			if (diff != 0) {
+				long mask = diff & PRNG.nextLong();
+				words1[i] ^= mask;
+				words2[i] ^= mask;
 			}
 		}
 	}
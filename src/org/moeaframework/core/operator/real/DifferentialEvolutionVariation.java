@@ -19,8 +19,11 @@ package org.moeaframework.core.operator.real;
 
 import org.moeaframework.core.PRNG;
 import org.moeaframework.core.Solution;
+import org.moeaframework.core.Variable;
 import org.moeaframework.core.Variation;
+import org.moeaframework.core.variable.EncodingUtils;
 import org.moeaframework.core.variable.RealVariable;
+import org.moeaframework.core.variable.RealVectorVariable;
 
 /**
  * Differential evolution (DE) variation operator.  Differential evolution
@@ -96,26 +99,63 @@ public class DifferentialEvolutionVariation implements Variation {
 	public Solution[] evolve(Solution[] parents) {
 		Solution result = parents[0].copy();
 
-		int jrand = PRNG.nextInt(result.getNumberOfVariables());
+		int jrand = PRNG.nextInt(EncodingUtils.getNumberOfReals(result));
+		int k = 0;
 
 		for (int j = 0; j < result.getNumberOfVariables(); j++) {
-			if ((PRNG.nextDouble() <= CR) || (j == jrand)) {
-				RealVariable v0 = (RealVariable)result.getVariable(j);
-				RealVariable v1 = (RealVariable)parents[1].getVariable(j);
-				RealVariable v2 = (RealVariable)parents[2].getVariable(j);
-				RealVariable v3 = (RealVariable)parents[3].getVariable(j);
-
-				double y = v3.getValue() + F * (v1.getValue() - v2.getValue());
-
-				if (y < v0.getLowerBound()) {
-					y = v0.getLowerBound();
+			Variable variable = result.getVariable(j);
+			
+			if (variable instanceof RealVectorVariable) {
+				// operate on the backing arrays, where each element counts as
+				// one coordinate
+				RealVectorVariable v0 = (RealVectorVariable)variable;
+				double[] x0 = v0.getValues();
+				double[] x1 = ((RealVectorVariable)parents[1].getVariable(j))
+						.getValues();
+				double[] x2 = ((RealVectorVariable)parents[2].getVariable(j))
+						.getValues();
+				double[] x3 = ((RealVectorVariable)parents[3].getVariable(j))
+						.getValues();
+				double[] lowerBounds = v0.getLowerBounds();
+				double[] upperBounds = v0.getUpperBounds();
+				
+				for (int i = 0; i < x0.length; i++, k++) {
+					if ((PRNG.nextDouble() <= CR) || (k == jrand)) {
+						double y = x3[i] + F * (x1[i] - x2[i]);
+
+						if (y < lowerBounds[i]) {
+							y = lowerBounds[i];
+						}
+
+						if (y > upperBounds[i]) {
+							y = upperBounds[i];
+						}
+
+						x0[i] = y;
+					}
 				}
-
-				if (y > v0.getUpperBound()) {
-					y = v0.getUpperBound();
+			} else {
+				if ((PRNG.nextDouble() <= CR) || (k == jrand)) {
+					RealVariable v0 = (RealVariable)variable;
+					RealVariable v1 = (RealVariable)parents[1].getVariable(j);
+					RealVariable v2 = (RealVariable)parents[2].getVariable(j);
+					RealVariable v3 = (RealVariable)parents[3].getVariable(j);
+	
+					double y = v3.getValue() + F * (v1.getValue() -
+							v2.getValue());
+	
+					if (y < v0.getLowerBound()) {
+						y = v0.getLowerBound();
+					}
+	
+					if (y > v0.getUpperBound()) {
+						y = v0.getUpperBound();
+					}
+	
+					v0.setValue(y);
 				}
-
-				v0.setValue(y);
+				
+				k++;
 			}
 		}
 
@@ -23,7 +23,7 @@ import java.util.List;
 import org.moeaframework.core.PRNG;
 import org.moeaframework.core.Solution;
 import org.moeaframework.core.Variation;
-import org.moeaframework.core.variable.RealVariable;
+import org.moeaframework.core.variable.EncodingUtils;
 import org.moeaframework.util.Vector;
 
 /**
@@ -179,14 +179,13 @@ public class PCX implements Variation {
 		}
 
 		int k = parents.length;
-		int n = parents[0].getNumberOfVariables();
-		double[][] x = new double[k][n];
+		double[][] x = new double[k][];
 
 		for (int i = 0; i < k; i++) {
-			for (int j = 0; j < n; j++) {
-				x[i][j] = ((RealVariable)parents[i].getVariable(j)).getValue();
-			}
+			x[i] = EncodingUtils.getReal(parents[i]);
 		}
+		
+		int n = x[0].length;
 
 		double[] g = Vector.mean(x);
 
@@ -225,18 +224,18 @@ public class PCX implements Variation {
 
 		Solution result = parents[k - 1].copy();
 
-		for (int j = 0; j < n; j++) {
-			RealVariable variable = (RealVariable)result.getVariable(j);
-			double value = variables[j];
+		double[] lowerBounds = EncodingUtils.getLowerBounds(result);
+		double[] upperBounds = EncodingUtils.getUpperBounds(result);
 
-			if (value < variable.getLowerBound()) {
-				value = variable.getLowerBound();
-			} else if (value > variable.getUpperBound()) {
-				value = variable.getUpperBound();
+		for (int j = 0; j < n; j++) {
+			if (variables[j] < lowerBounds[j]) {
+				variables[j] = lowerBounds[j];
+			} else if (variables[j] > upperBounds[j]) {
+				variables[j] = upperBounds[j];
 			}
-
-			variable.setValue(value);
 		}
+		
+		EncodingUtils.setReal(result, variables);
 
 		return result;
 	}
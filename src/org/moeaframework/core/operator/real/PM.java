@@ -22,6 +22,7 @@ import org.moeaframework.core.Solution;
 import org.moeaframework.core.Variable;
 import org.moeaframework.core.Variation;
 import org.moeaframework.core.variable.RealVariable;
+import org.moeaframework.core.variable.RealVectorVariable;
 
 /**
  * Polynomial mutation (PM) operator.  PM attempts to simulate the offspring 
@@ -36,7 +37,8 @@ import org.moeaframework.core.variable.RealVariable;
  * {@code 1 / L}, where {@code L} is the number of decision variables.  This
  * results in one mutation per offspring on average.
  * <p>
- * This operator is type-safe.
+ * This operator is type-safe.  Each element of a {@link RealVectorVariable}
+ * is treated as an individual decision variable and is modified in place.
  * <p>
  * References:
  * <ol>
@@ -101,7 +103,19 @@ public class PM implements Variation {
 		for (int i = 0; i < result.getNumberOfVariables(); i++) {
 			Variable variable = result.getVariable(i);
 
-			if ((PRNG.nextDouble() <= probability)
+			if (variable instanceof RealVectorVariable) {
+				RealVectorVariable vector = (RealVectorVariable)variable;
+				double[] values = vector.getValues();
+				double[] lowerBounds = vector.getLowerBounds();
+				double[] upperBounds = vector.getUpperBounds();
+				
+				for (int j = 0; j < values.length; j++) {
+					if (PRNG.nextDouble() <= probability) {
+						values[j] = evolve(values[j], lowerBounds[j],
+								upperBounds[j], distributionIndex);
+					}
+				}
+			} else if ((PRNG.nextDouble() <= probability)
 					&& (variable instanceof RealVariable)) {
 				evolve((RealVariable)variable, distributionIndex);
 			}
@@ -153,10 +167,23 @@ public class PM implements Variation {
 	 *        the polynomial mutation
 	 */
 	public static void evolve(RealVariable v, double distributionIndex) {
+		v.setValue(evolve(v.getValue(), v.getLowerBound(), v.getUpperBound(),
+				distributionIndex));
+	}
+	
+	/**
+	 * Mutates the specified value using polynomial mutation.
+	 * 
+	 * @param x the value to be mutated
+	 * @param lb the lower bound of the value
+	 * @param ub the upper bound of the value
+	 * @param distributionIndex the distribution index controlling the shape of
+	 *        the polynomial mutation
+	 * @return the mutated value
+	 */
+	private static double evolve(double x, double lb, double ub,
+			double distributionIndex) {
 		double u = PRNG.nextDouble();
-		double x = v.getValue();
-		double lb = v.getLowerBound();
-		double ub = v.getUpperBound();
 		double dx = ub - lb;
 		double delta;
 
@@ -180,7 +207,7 @@ public class PM implements Variation {
 			x = ub;
 		}
 
-		v.setValue(x);
+		return x;
 	}
 
 	@Override
@@ -23,6 +23,7 @@ import org.moeaframework.core.Solution;
 import org.moeaframework.core.Variable;
 import org.moeaframework.core.Variation;
 import org.moeaframework.core.variable.RealVariable;
+import org.moeaframework.core.variable.RealVectorVariable;
 
 /**
  * Simulated binary crossover (SBX) operator.  SBX attempts to simulate the 
@@ -36,7 +37,9 @@ import org.moeaframework.core.variable.RealVariable;
  * Larger values for the distribution index generates offspring closer to the 
  * parents.
  * <p>
- * This operator is type-safe.
+ * This operator is type-safe.  Each element of a {@link RealVectorVariable}
+ * is treated as an individual decision variable and is modified in place
+ * without allocating additional objects.
  * <p>
  * References:
  * <ol>
@@ -154,20 +157,28 @@ public class SBX implements Variation {
 		Solution result2 = parents[1].copy();
 
 		if (PRNG.nextDouble() <= probability) {
+			double[] offspring = new double[2];
+			
 			for (int i = 0; i < result1.getNumberOfVariables(); i++) {
 				Variable variable1 = result1.getVariable(i);
 				Variable variable2 = result2.getVariable(i);
 
-				if (PRNG.nextBoolean() && (variable1 instanceof RealVariable)
+				if ((variable1 instanceof RealVectorVariable)
+						&& (variable2 instanceof RealVectorVariable)) {
+					evolve((RealVectorVariable)variable1,
+							(RealVectorVariable)variable2, distributionIndex,
+							swap, symmetric, offspring);
+				} else if (PRNG.nextBoolean()
+						&& (variable1 instanceof RealVariable)
 						&& (variable2 instanceof RealVariable)) {
-					if (symmetric) {
-						evolve_symmetric((RealVariable)variable1,
-								(RealVariable)variable2, distributionIndex,
-								swap);
-					} else {
-						evolve_asymmetric((RealVariable)variable1,
-								(RealVariable)variable2, distributionIndex,
-								swap);
+					RealVariable real1 = (RealVariable)variable1;
+					RealVariable real2 = (RealVariable)variable2;
+					
+					if (evolve(real1.getValue(), real2.getValue(),
+							real1.getLowerBound(), real1.getUpperBound(),
+							distributionIndex, swap, symmetric, offspring)) {
+						real1.setValue(offspring[0]);
+						real2.setValue(offspring[1]);
 					}
 				}
 			}
@@ -187,6 +198,77 @@ public class SBX implements Variation {
 			double distributionIndex) {
 		evolve_asymmetric(v1, v2, distributionIndex, true);
 	}
+	
+	/**
+	 * Evolves the elements of the specified vectors using the SBX operator.
+	 * Each element is crossed over with probability {@code 0.5}.
+	 * 
+	 * @param v1 the first variable
+	 * @param v2 the second variable
+	 * @param distributionIndex the distribution index of this SBX operator
+	 */
+	public static void evolve(RealVectorVariable v1, RealVectorVariable v2,
+			double distributionIndex) {
+		evolve(v1, v2, distributionIndex, true, false, new double[2]);
+	}
+	
+	/**
+	 * Evolves the elements of the specified vectors using the SBX operator.
+	 * Each element is crossed over with probability {@code 0.5}.  The values
+	 * are read and written directly in the backing arrays of the vectors.
+	 * 
+	 * @param v1 the first variable
+	 * @param v2 the second variable
+	 * @param distributionIndex the distribution index of this SBX operator
+	 * @param swap randomly swap the variable between the two parents
+	 * @param symmetric if {@code true}, symmetric distributions are used
+	 * @param offspring array of length two for storing intermediate results
+	 */
+	private static void evolve(RealVectorVariable v1, RealVectorVariable v2,
+			double distributionIndex, boolean swap, boolean symmetric,
+			double[] offspring) {
+		double[] values1 = v1.getValues();
+		double[] values2 = v2.getValues();
+		double[] lowerBounds = v1.getLowerBounds();
+		double[] upperBounds = v1.getUpperBounds();
+		
+		for (int j = 0; j < values1.length; j++) {
+			if (PRNG.nextBoolean() && evolve(values1[j], values2[j],
+					lowerBounds[j], upperBounds[j], distributionIndex, swap,
+					symmetric, offspring)) {
+				values1[j] = offspring[0];
+				values2[j] = offspring[1];
+			}
+		}
+	}
+	
+	/**
+	 * Applies the SBX operator to two real values, storing the two offspring
+	 * in the given array.  Returns {@code false}, leaving the array
+	 * unchanged, if the two values are too close to be crossed over.
+	 * 
+	 * @param x1 the first value
+	 * @param x2 the second value
+	 * @param lb the lower bound of the values
+	 * @param ub the upper bound of the values
+	 * @param distributionIndex the distribution index of this SBX operator
+	 * @param swap randomly swap the variable between the two parents
+	 * @param symmetric if {@code true}, symmetric distributions are used
+	 * @param offspring array of length two for storing the offspring
+	 * @return {@code true} if the offspring were generated; {@code false}
+	 *         otherwise
+	 */
+	private static boolean evolve(double x1, double x2, double lb, double ub,
+			double distributionIndex, boolean swap, boolean symmetric,
+			double[] offspring) {
+		if (symmetric) {
+			return evolve_symmetric(x1, x2, lb, ub, distributionIndex, swap,
+					offspring);
+		} else {
+			return evolve_asymmetric(x1, x2, lb, ub, distributionIndex, swap,
+					offspring);
+		}
+	}
 
 	/*
 	 * The following code was provided by Haitham Seada on Dec 14, 2015.  This
@@ -205,11 +287,33 @@ public class SBX implements Variation {
 	 */
 	public static void evolve_symmetric(RealVariable v1, RealVariable v2,
 			double distributionIndex, boolean swap) {
+		double[] offspring = new double[2];
+		
+		if (evolve_symmetric(v1.getValue(), v2.getValue(), v1.getLowerBound(),
+				v1.getUpperBound(), distributionIndex, swap, offspring)) {
+			v1.setValue(offspring[0]);
+			v2.setValue(offspring[1]);
+		}
+	}
+	
+	/**
+	 * Applies the SBX operator using symmetric distributions to two real
+	 * values, storing the two offspring in the given array.
+	 * 
+	 * @param x1 the first value
+	 * @param x2 the second value
+	 * @param lb the lower bound of the values
+	 * @param ub the upper bound of the values
+	 * @param distributionIndex the distribution index of this SBX operator
+	 * @param swap randomly swap the variable between the two parents
+	 * @param offspring array of length two for storing the offspring
+	 * @return {@code true} if the offspring were generated; {@code false} if
+	 *         the two values are too close to be crossed over
+	 */
+	private static boolean evolve_symmetric(double x1, double x2, double lb,
+			double ub, double distributionIndex, boolean swap,
+			double[] offspring) {
 		double y1, y2, betaq, beta, alpha, rand;
-		double x1 = v1.getValue();
-		double x2 = v2.getValue();
-		double lb = v1.getLowerBound();
-		double ub = v1.getUpperBound();
 
 		// avoid division by zero
 		if (Math.abs(x1 - x2) > Settings.EPS) {
@@ -267,8 +371,11 @@ public class SBX implements Variation {
 				x2 = temp;
 			}
 			
-			v1.setValue(x1);
-			v2.setValue(x2);
+			offspring[0] = x1;
+			offspring[1] = x2;
+			return true;
+		} else {
+			return false;
 		}
 	}
 	
@@ -283,11 +390,33 @@ public class SBX implements Variation {
 	 */
 	public static void evolve_asymmetric(RealVariable v1, RealVariable v2,
 			double distributionIndex, boolean swap) {
+		double[] offspring = new double[2];
+		
+		if (evolve_asymmetric(v1.getValue(), v2.getValue(), v1.getLowerBound(),
+				v1.getUpperBound(), distributionIndex, swap, offspring)) {
+			v1.setValue(offspring[0]);
+			v2.setValue(offspring[1]);
+		}
+	}
+	
+	/**
+	 * Applies the SBX operator using asymmetric distributions to two real
+	 * values, storing the two offspring in the given array.
+	 * 
+	 * @param x1 the first value
+	 * @param x2 the second value
+	 * @param lb the lower bound of the values
+	 * @param ub the upper bound of the values
+	 * @param distributionIndex the distribution index of this SBX operator
+	 * @param swap randomly swap the variable between the two parents
+	 * @param offspring array of length two for storing the offspring
+	 * @return {@code true} if the offspring were generated; {@code false} if
+	 *         the two values are too close to be crossed over
+	 */
+	private static boolean evolve_asymmetric(double x1, double x2, double lb,
+			double ub, double distributionIndex, boolean swap,
+			double[] offspring) {
 		double y1, y2, betaq, beta, alpha, rand;
-		double x1 = v1.getValue();
-		double x2 = v2.getValue();
-		double lb = v1.getLowerBound();
-		double ub = v1.getUpperBound();
 
 		// avoid division by zero
 		if (Math.abs(x1 - x2) > Settings.EPS) {
@@ -350,8 +479,11 @@ public class SBX implements Variation {
 				x2 = temp;
 			}
 			
-			v1.setValue(x1);
-			v2.setValue(x2);
+			offspring[0] = x1;
+			offspring[1] = x2;
+			return true;
+		} else {
+			return false;
 		}
 	}
 
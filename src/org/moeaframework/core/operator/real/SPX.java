@@ -20,7 +20,7 @@ package org.moeaframework.core.operator.real;
 import org.moeaframework.core.PRNG;
 import org.moeaframework.core.Solution;
 import org.moeaframework.core.Variation;
-import org.moeaframework.core.variable.RealVariable;
+import org.moeaframework.core.variable.EncodingUtils;
 
 /**
  * Simplex crossover (SPX) operator.  SPX is a multiparent operator, allowing a
@@ -90,18 +90,25 @@ public class SPX implements Variation {
 	@Override
 	public Solution[] evolve(Solution[] parents) {
 		int n = parents.length;
-		int m = parents[0].getNumberOfVariables();
+		double[][] p = new double[n][]; // parent decision variables
 
+		for (int i = 0; i < n; i++) {
+			p[i] = EncodingUtils.getReal(parents[i]);
+		}
+		
+		int m = p[0].length;
 		double[] G = new double[m]; // center of mass
 		double[][] x = new double[n][m]; // expanded simplex vertices
 		double[] r = new double[n - 1]; // random numbers
 		double[][] C = new double[n][m]; // random offset vectors
+		double[] lowerBounds = EncodingUtils.getLowerBounds(parents[n - 1]);
+		double[] upperBounds = EncodingUtils.getUpperBounds(parents[n - 1]);
 		Solution[] offspring = new Solution[numberOfOffspring];
 
 		// compute center of mass
 		for (int i = 0; i < n; i++) {
 			for (int j = 0; j < m; j++) {
-				G[j] += ((RealVariable)parents[i].getVariable(j)).getValue();
+				G[j] += p[i][j];
 			}
 		}
 
@@ -112,9 +119,7 @@ public class SPX implements Variation {
 		// compute simplex vertices expanded by epsilon
 		for (int i = 0; i < n; i++) {
 			for (int j = 0; j < m; j++) {
-				x[i][j] = G[j]
-						+ epsilon
-						* (((RealVariable)parents[i].getVariable(j)).getValue() - G[j]);
+				x[i][j] = G[j] + epsilon * (p[i][j] - G[j]);
 			}
 		}
 
@@ -137,18 +142,21 @@ public class SPX implements Variation {
 				}
 			}
 
+			double[] values = new double[m];
+
 			for (int j = 0; j < m; j++) {
-				RealVariable variable = (RealVariable)child.getVariable(j);
 				double value = x[n - 1][j] + C[n - 1][j];
 
-				if (value < variable.getLowerBound()) {
-					value = variable.getLowerBound();
-				} else if (value > variable.getUpperBound()) {
-					value = variable.getUpperBound();
+				if (value < lowerBounds[j]) {
+					value = lowerBounds[j];
+				} else if (value > upperBounds[j]) {
+					value = upperBounds[j];
 				}
 
-				variable.setValue(value);
+				values[j] = value;
 			}
+			
+			EncodingUtils.setReal(child, values);
 
 			offspring[k] = child;
 		}
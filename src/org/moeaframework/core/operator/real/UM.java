@@ -22,6 +22,7 @@ import org.moeaframework.core.Solution;
 import org.moeaframework.core.Variable;
 import org.moeaframework.core.Variation;
 import org.moeaframework.core.variable.RealVariable;
+import org.moeaframework.core.variable.RealVectorVariable;
 
 /**
  * Uniform mutation (UM) operator.  Each decision variable is mutated by
@@ -34,7 +35,8 @@ import org.moeaframework.core.variable.RealVariable;
  * {@code 1 / L}, where {@code L} is the number of decision variables.  This
  * results in one mutation per offspring on average.
  * <p>
- * This operator is type-safe.
+ * This operator is type-safe.  Each element of a {@link RealVectorVariable}
+ * is treated as an individual decision variable and is modified in place.
  */
 public class UM implements Variation {
 
@@ -70,7 +72,17 @@ public class UM implements Variation {
 		for (int i = 0; i < result.getNumberOfVariables(); i++) {
 			Variable variable = result.getVariable(i);
 
-			if ((PRNG.nextDouble() <= probability)
+			if (variable instanceof RealVectorVariable) {
+				RealVectorVariable vector = (RealVectorVariable)variable;
+				double[] values = vector.getValues();
+				
+				for (int j = 0; j < values.length; j++) {
+					if (PRNG.nextDouble() <= probability) {
+						values[j] = PRNG.nextDouble(vector.getLowerBound(j),
+								vector.getUpperBound(j));
+					}
+				}
+			} else if ((PRNG.nextDouble() <= probability)
 					&& (variable instanceof RealVariable)) {
 				evolve((RealVariable)variable);
 			}
@@ -17,6 +17,11 @@
  */
 package org.moeaframework.core.variable;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
+import java.util.Arrays;
 import java.util.BitSet;
 
 import org.apache.commons.lang3.builder.EqualsBuilder;
@@ -25,21 +30,41 @@ import org.moeaframework.core.PRNG;
 import org.moeaframework.core.Variable;
 
 /**
- * Decision variable for binary strings.
+ * Decision variable for binary strings.  The bits are stored in an array of
+ * {@code long} words, with bit {@code i} stored in bit {@code i % 64} of word
+ * {@code i / 64}.  Operators can access the words directly through
+ * {@link #getWords()} to process 64 bits at a time.
  */
 public class BinaryVariable implements Variable {
 
 	private static final long serialVersionUID = -682157453241538355L;
+	
+	/**
+	 * The serialized fields, which are retained from earlier versions that
+	 * stored the bits in a {@link BitSet}.
+	 */
+	private static final ObjectStreamField[] serialPersistentFields = {
+		new ObjectStreamField("numberOfBits", int.class),
+		new ObjectStreamField("bitSet", BitSet.class)
+	};
+	
+	/**
+	 * The number of bits stored in each word.
+	 */
+	private static final int BITS_PER_WORD = 64;
 
 	/**
-	 * The number of bits stored in this variable.
+	 * The number of bits stored in this variable.  This field is not final
+	 * only to support deserialization.
 	 */
-	private final int numberOfBits;
+	private int numberOfBits;
 
 	/**
-	 * The internal storage for the bits.
+	 * The internal storage for the bits.  Any bits at indices greater than or
+	 * equal to {@code numberOfBits} are always {@code 0}.  This field is not
+	 * final only to support deserialization.
 	 */
-	private final BitSet bitSet;
+	private long[] words;
 
 	/**
 	 * Constructs a binary variable with the specified number of bits. All bits
@@ -51,7 +76,19 @@ public class BinaryVariable implements Variable {
 		super();
 		this.numberOfBits = numberOfBits;
 
-		bitSet = new BitSet(numberOfBits);
+		words = new long[getNumberOfWords(numberOfBits)];
+	}
+	
+	/**
+	 * Returns the number of words required to store the specified number of
+	 * bits.
+	 * 
+	 * @param numberOfBits the number of bits
+	 * @return the number of words required to store the specified number of
+	 *         bits
+	 */
+	private static int getNumberOfWords(int numberOfBits) {
+		return (numberOfBits + BITS_PER_WORD - 1) / BITS_PER_WORD;
 	}
 
 	/**
@@ -69,14 +106,20 @@ public class BinaryVariable implements Variable {
 	 * @return the number of bits in this variable set to {@code true}
 	 */
 	public int cardinality() {
-		return bitSet.cardinality();
+		int count = 0;
+		
+		for (int i = 0; i < words.length; i++) {
+			count += Long.bitCount(words[i]);
+		}
+		
+		return count;
 	}
 
 	/**
 	 * Sets all bits in this variable to {@code false}.
 	 */
 	public void clear() {
-		bitSet.clear();
+		Arrays.fill(words, 0L);
 	}
 
 	/**
@@ -87,7 +130,13 @@ public class BinaryVariable implements Variable {
 	 *         {@code false}; {@code false} otherwise
 	 */
 	public boolean isEmpty() {
-		return bitSet.isEmpty();
+		for (int i = 0; i < words.length; i++) {
+			if (words[i] != 0) {
+				return false;
+			}
+		}
+		
+		return true;
 	}
 
 	/**
@@ -103,7 +152,7 @@ public class BinaryVariable implements Variable {
 			throw new IndexOutOfBoundsException();
 		}
 
-		return bitSet.get(index);
+		return (words[index / BITS_PER_WORD] & (1L << index)) != 0;
 	}
 
 	/**
@@ -119,16 +168,74 @@ public class BinaryVariable implements Variable {
 			throw new IndexOutOfBoundsException();
 		}
 
-		bitSet.set(index, value);
+		if (value) {
+			words[index / BITS_PER_WORD] |= (1L << index);
+		} else {
+			words[index / BITS_PER_WORD] &= ~(1L << index);
+		}
+	}
+	
+	/**
+	 * Inverts the value of the bit at the specified index.
+	 * 
+	 * @param index the index of the bit to invert
+	 * @throws IndexOutOfBoundsException if the index is out of bounds
+	 *         {@code (index < 0) || (index >= getNumberOfBits())}
+	 */
+	public void flip(int index) {
+		if ((index < 0) || (index >= numberOfBits)) {
+			throw new IndexOutOfBoundsException();
+		}
+		
+		words[index / BITS_PER_WORD] ^= (1L << index);
 	}
 
 	/**
-	 * Returns a {@link BitSet} representing the state of this variable.
+	 * Returns a {@link BitSet} representing the state of this variable.  A
+	 * new {@code BitSet} is created on every call; use {@link #get(int)} or
+	 * {@link #getWords()} to avoid the copy.
 	 * 
 	 * @return a {@code BitSet} representing the state of this variable
 	 */
 	public BitSet getBitSet() {
-		return (BitSet)bitSet.clone();
+		BitSet bitSet = new BitSet(numberOfBits);
+		
+		for (int i = 0; i < words.length; i++) {
+			long word = words[i];
+			
+			while (word != 0) {
+				bitSet.set(i * BITS_PER_WORD + Long.numberOfTrailingZeros(word));
+				word &= word - 1;
+			}
+		}
+		
+		return bitSet;
+	}
+	
+	/**
+	 * Returns the words storing the bits of this variable, where bit
+	 * {@code i} is stored in bit {@code i % 64} of word {@code i / 64}.  The
+	 * array is not copied, so changes to the array are reflected in this
+	 * variable.  Callers modifying the array must leave the bits at indices
+	 * greater than or equal to {@link #getNumberOfBits()} set to {@code 0},
+	 * for example by masking the last word with {@link #getLastWordMask()}.
+	 * 
+	 * @return the words storing the bits of this variable
+	 */
+	public long[] getWords() {
+		return words;
+	}
+	
+	/**
+	 * Returns the mask of the bits in the last word of {@link #getWords()}
+	 * that are stored in this variable.
+	 * 
+	 * @return the mask of the bits in the last word that are stored in this
+	 *         variable
+	 */
+	public long getLastWordMask() {
+		int remainder = numberOfBits % BITS_PER_WORD;
+		return remainder == 0 ? -1L : (1L << remainder) - 1;
 	}
 
 	/**
@@ -149,10 +256,8 @@ public class BinaryVariable implements Variable {
 
 		int count = 0;
 
-		for (int i = 0; i < numberOfBits; i++) {
-			if (bitSet.get(i) != variable.bitSet.get(i)) {
-				count++;
-			}
+		for (int i = 0; i < words.length; i++) {
+			count += Long.bitCount(words[i] ^ variable.words[i]);
 		}
 
 		return count;
@@ -161,7 +266,7 @@ public class BinaryVariable implements Variable {
 	@Override
 	public BinaryVariable copy() {
 		BinaryVariable copy = new BinaryVariable(numberOfBits);
-		copy.bitSet.or(bitSet);
+		System.arraycopy(words, 0, copy.words, 0, words.length);
 		return copy;
 	}
 	
@@ -169,7 +274,7 @@ public class BinaryVariable implements Variable {
 	public int hashCode() {
 		return new HashCodeBuilder()
 				.append(numberOfBits)
-				.append(bitSet)
+				.append(words)
 				.toHashCode();
 	}
 
@@ -184,7 +289,7 @@ public class BinaryVariable implements Variable {
 			
 			return new EqualsBuilder()
 					.append(numberOfBits, rhs.numberOfBits)
-					.append(bitSet, rhs.bitSet)
+					.append(words, rhs.words)
 					.isEquals();
 		}
 	}
@@ -194,7 +299,7 @@ public class BinaryVariable implements Variable {
 		StringBuilder sb = new StringBuilder();
 		
 		for (int i = 0; i < numberOfBits; i++) {
-			sb.append(bitSet.get(i) ? "1" : "0");
+			sb.append(get(i) ? "1" : "0");
 		}
 		
 		return sb.toString();
@@ -202,8 +307,51 @@ public class BinaryVariable implements Variable {
 
 	@Override
 	public void randomize() {
-		for (int i = 0; i < getNumberOfBits(); i++) {
-			set(i, PRNG.nextBoolean());
+		if (words.length > 0) {
+			for (int i = 0; i < words.length; i++) {
+				words[i] = PRNG.nextLong();
+			}
+			
+			words[words.length - 1] &= getLastWordMask();
+		}
+	}
+	
+	/**
+	 * Writes this variable using the serialized form of earlier versions,
+	 * which stored the bits in a {@link BitSet}.
+	 * 
+	 * @param stream the object output stream
+	 * @throws IOException if an I/O error occurred
+	 */
+	private void writeObject(ObjectOutputStream stream) throws IOException {
+		ObjectOutputStream.PutField fields = stream.putFields();
+		fields.put("numberOfBits", numberOfBits);
+		fields.put("bitSet", getBitSet());
+		stream.writeFields();
+	}
+	
+	/**
+	 * Reads this variable from the serialized form of earlier versions, which
+	 * stored the bits in a {@link BitSet}.
+	 * 
+	 * @param stream the object input stream
+	 * @throws IOException if an I/O error occurred
+	 * @throws ClassNotFoundException if the class of a serialized object
+	 *         could not be found
+	 */
+	private void readObject(ObjectInputStream stream) throws IOException,
+			ClassNotFoundException {
+		ObjectInputStream.GetField fields = stream.readFields();
+		BitSet bitSet = (BitSet)fields.get("bitSet", null);
+		
+		numberOfBits = fields.get("numberOfBits", 0);
+		words = new long[getNumberOfWords(numberOfBits)];
+		
+		if (bitSet != null) {
+			for (int i = bitSet.nextSetBit(0); (i >= 0) && (i < numberOfBits);
+					i = bitSet.nextSetBit(i + 1)) {
+				words[i / BITS_PER_WORD] |= (1L << i);
+			}
 		}
 	}
 
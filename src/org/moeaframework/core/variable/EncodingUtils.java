@@ -153,9 +153,7 @@ public class EncodingUtils {
 					"number of bits not sufficient to represent value");
 		}
 
-		for (int i = 0; i < numberOfBits; i++) {
-			binary.set(i, (value & (1L << i)) != 0);
-		}
+		binary.getWords()[0] = value;
 	}
 
 	/**
@@ -171,15 +169,7 @@ public class EncodingUtils {
 			throw new IllegalArgumentException(INVALID_BITS);
 		}
 
-		long value = 0;
-
-		for (int i = 0; i < numberOfBits; i++) {
-			if (binary.get(i)) {
-				value |= (1L << i);
-			}
-		}
-
-		return value;
+		return binary.getWords()[0];
 	}
 
 	/**
@@ -190,13 +180,17 @@ public class EncodingUtils {
 	 * @param variable the variable to be converted
 	 */
 	public static void binaryToGray(BinaryVariable variable) {
-		int n = variable.getNumberOfBits();
-
-		BitSet binary = variable.getBitSet();
+		long[] words = variable.getWords();
 
-		variable.set(n - 1, binary.get(n - 1));
-		for (int i = n - 2; i >= 0; i--) {
-			variable.set(i, binary.get(i + 1) ^ binary.get(i));
+		// gray = binary ^ (binary >>> 1) across the entire bit string
+		for (int i = 0; i < words.length; i++) {
+			long shifted = words[i] >>> 1;
+			
+			if (i + 1 < words.length) {
+				shifted |= words[i + 1] << 63;
+			}
+			
+			words[i] ^= shifted;
 		}
 	}
 
@@ -206,13 +200,29 @@ public class EncodingUtils {
 	 * @param variable the variable to be converted
 	 */
 	public static void grayToBinary(BinaryVariable variable) {
-		int n = variable.getNumberOfBits();
+		long[] words = variable.getWords();
+		boolean carry = false;
 
-		BitSet gray = variable.getBitSet();
-
-		variable.set(n - 1, gray.get(n - 1));
-		for (int i = n - 2; i >= 0; i--) {
-			variable.set(i, variable.get(i + 1) ^ gray.get(i));
+		// each binary bit is the parity of the gray bits at the same or higher
+		// indices, computed within each word and carried to the lower words
+		for (int i = words.length - 1; i >= 0; i--) {
+			long word = words[i];
+			
+			word ^= word >>> 1;
+			word ^= word >>> 2;
+			word ^= word >>> 4;
+			word ^= word >>> 8;
+			word ^= word >>> 16;
+			word ^= word >>> 32;
+			
+			// the last word never receives a carry, so inverting cannot set
+			// the unused bits
+			if (carry) {
+				word = ~word;
+			}
+			
+			words[i] = word;
+			carry = (word & 1L) != 0;
 		}
 	}
 	
@@ -229,6 +239,33 @@ public class EncodingUtils {
 		return new RealVariable(lowerBound, upperBound);
 	}
 	
+	/**
+	 * Returns a new dense vector of floating-point decision variables, each
+	 * bounded within the specified range.
+	 * 
+	 * @param size the number of floating-point values
+	 * @param lowerBound the lower bound of each floating-point value
+	 * @param upperBound the upper bound of each floating-point value
+	 * @return a new dense vector of floating-point decision variables
+	 */
+	public static RealVectorVariable newRealVector(int size, double lowerBound,
+			double upperBound) {
+		return new RealVectorVariable(size, lowerBound, upperBound);
+	}
+	
+	/**
+	 * Returns a new dense vector of floating-point decision variables bounded
+	 * within the specified ranges.
+	 * 
+	 * @param lowerBounds the lower bound of each floating-point value
+	 * @param upperBounds the upper bound of each floating-point value
+	 * @return a new dense vector of floating-point decision variables
+	 */
+	public static RealVectorVariable newRealVector(double[] lowerBounds,
+			double[] upperBounds) {
+		return new RealVectorVariable(lowerBounds, upperBounds);
+	}
+	
 	/**
 	 * Returns a new integer-valued decision variable bounded within the
 	 * specified range.  The integer value is encoded using a
@@ -503,13 +540,15 @@ public class EncodingUtils {
 	/**
 	 * Returns the array of floating-point decision variables stored in a
 	 * solution.  The solution must contain only floating-point decision
-	 * variables.
+	 * variables.  Each {@link RealVectorVariable} contributes all of its
+	 * elements to the array.
 	 * 
 	 * @param solution the solution
 	 * @return the array of floating-point decision variables stored in a
 	 *          solution
 	 * @throws IllegalArgumentException if any decision variable contained in
-	 *         the solution is not of type {@link RealVariable}
+	 *         the solution is not of type {@link RealVariable} or
+	 *         {@link RealVectorVariable}
 	 */
 	public static double[] getReal(Solution solution) {
 		return getReal(solution, 0, solution.getNumberOfVariables());
@@ -519,7 +558,8 @@ public class EncodingUtils {
 	 * Returns the array of floating-point decision variables stored in a
 	 * solution between the specified indices.  The decision variables located
 	 * between the start and end index must all be floating-point decision
-	 * variables.
+	 * variables.  Each {@link RealVectorVariable} contributes all of its
+	 * elements to the array.
 	 * 
 	 * @param solution the solution
 	 * @param startIndex the start index (inclusive)
@@ -528,14 +568,135 @@ public class EncodingUtils {
 	 *         solution between the specified indices
 	 * @throws IllegalArgumentException if any decision variable contained in
 	 *         the solution between the start and end index is not of type
-	 *         {@link RealVariable}
+	 *         {@link RealVariable} or {@link RealVectorVariable}
 	 */
 	public static double[] getReal(Solution solution, int startIndex,
 			int endIndex) {
-		double[] result = new double[endIndex - startIndex];
+		double[] result = new double[getNumberOfReals(solution, startIndex,
+				endIndex)];
+		int index = 0;
 		
 		for (int i=startIndex; i<endIndex; i++) {
-			result[i-startIndex] = getReal(solution.getVariable(i));
+			Variable variable = solution.getVariable(i);
+			
+			if (variable instanceof RealVectorVariable) {
+				double[] values = ((RealVectorVariable)variable).getValues();
+				System.arraycopy(values, 0, result, index, values.length);
+				index += values.length;
+			} else {
+				result[index++] = getReal(variable);
+			}
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Returns the number of floating-point values stored in the decision
+	 * variables of a solution, where each {@link RealVectorVariable}
+	 * contributes all of its elements and any other decision variable
+	 * contributes one value.  This is the length of the array returned by
+	 * {@link #getReal(Solution)}.
+	 * 
+	 * @param solution the solution
+	 * @return the number of floating-point values stored in the decision
+	 *         variables of a solution
+	 */
+	public static int getNumberOfReals(Solution solution) {
+		return getNumberOfReals(solution, 0, solution.getNumberOfVariables());
+	}
+	
+	/**
+	 * Returns the number of floating-point values stored in the decision
+	 * variables of a solution between the specified indices.
+	 * 
+	 * @param solution the solution
+	 * @param startIndex the start index (inclusive)
+	 * @param endIndex the end index (exclusive)
+	 * @return the number of floating-point values stored in the decision
+	 *         variables of a solution between the specified indices
+	 */
+	private static int getNumberOfReals(Solution solution, int startIndex,
+			int endIndex) {
+		int length = 0;
+		
+		for (int i=startIndex; i<endIndex; i++) {
+			Variable variable = solution.getVariable(i);
+			
+			if (variable instanceof RealVectorVariable) {
+				length += ((RealVectorVariable)variable).size();
+			} else {
+				length++;
+			}
+		}
+		
+		return length;
+	}
+	
+	/**
+	 * Returns the lower bounds of the floating-point decision variables stored
+	 * in a solution, in the same order as {@link #getReal(Solution)}.
+	 * 
+	 * @param solution the solution
+	 * @return the lower bounds of the floating-point decision variables stored
+	 *         in a solution
+	 * @throws IllegalArgumentException if any decision variable contained in
+	 *         the solution is not of type {@link RealVariable} or
+	 *         {@link RealVectorVariable}
+	 */
+	public static double[] getLowerBounds(Solution solution) {
+		return getBounds(solution, true);
+	}
+	
+	/**
+	 * Returns the upper bounds of the floating-point decision variables stored
+	 * in a solution, in the same order as {@link #getReal(Solution)}.
+	 * 
+	 * @param solution the solution
+	 * @return the upper bounds of the floating-point decision variables stored
+	 *         in a solution
+	 * @throws IllegalArgumentException if any decision variable contained in
+	 *         the solution is not of type {@link RealVariable} or
+	 *         {@link RealVectorVariable}
+	 */
+	public static double[] getUpperBounds(Solution solution) {
+		return getBounds(solution, false);
+	}
+	
+	/**
+	 * Returns the lower or upper bounds of the floating-point decision
+	 * variables stored in a solution.
+	 * 
+	 * @param solution the solution
+	 * @param lower {@code true} to return the lower bounds; {@code false} to
+	 *        return the upper bounds
+	 * @return the lower or upper bounds of the floating-point decision
+	 *         variables stored in a solution
+	 * @throws IllegalArgumentException if any decision variable contained in
+	 *         the solution is not of type {@link RealVariable} or
+	 *         {@link RealVectorVariable}
+	 */
+	private static double[] getBounds(Solution solution, boolean lower) {
+		double[] result = new double[getNumberOfReals(solution)];
+		int index = 0;
+		
+		for (int i=0; i<solution.getNumberOfVariables(); i++) {
+			Variable variable = solution.getVariable(i);
+			
+			if (variable instanceof RealVectorVariable) {
+				RealVectorVariable vector = (RealVectorVariable)variable;
+				double[] bounds = lower ? vector.getLowerBounds() :
+					vector.getUpperBounds();
+				
+				System.arraycopy(bounds, 0, result, index, bounds.length);
+				index += bounds.length;
+			} else if (variable instanceof RealVariable) {
+				RealVariable real = (RealVariable)variable;
+				result[index++] = lower ? real.getLowerBound() :
+					real.getUpperBound();
+			} else {
+				throw new IllegalArgumentException(NOT_REAL);
+			}
 		}
 		
 		return result;
@@ -602,12 +763,14 @@ public class EncodingUtils {
 	/**
 	 * Sets the values of all floating-point decision variables stored in the
 	 * solution.  The solution must contain only floating-point decision
-	 * variables.
+	 * variables.  Each {@link RealVectorVariable} is assigned as many values
+	 * as it has elements.
 	 * 
 	 * @param solution the solution
 	 * @param values the array of floating-point values to assign the solution
 	 * @throws IllegalArgumentException if any decision variable contained in
-	 *         the solution is not of type {@link RealVariable}
+	 *         the solution is not of type {@link RealVariable} or
+	 *         {@link RealVectorVariable}
 	 * @throws IllegalArgumentException if any of the values are out of bounds
 	 *         ({@code value < getLowerBound()) || (value > getUpperBound()})
 	 */
@@ -619,7 +782,8 @@ public class EncodingUtils {
 	 * Sets the values of the floating-point decision variables stored in a
 	 * solution between the specified indices.  The decision variables located
 	 * between the start and end index must all be floating-point decision
-	 * variables.
+	 * variables.  Each {@link RealVectorVariable} is assigned as many values
+	 * as it has elements.
 	 * 
 	 * @param solution the solution
 	 * @param startIndex the start index (inclusive)
@@ -628,7 +792,7 @@ public class EncodingUtils {
 	 *        decision variables
 	 * @throws IllegalArgumentException if any decision variable contained in
 	 *         the solution between the start and end index is not of type
-	 *         {@link RealVariable}
+	 *         {@link RealVariable} or {@link RealVectorVariable}
 	 * @throws IllegalArgumentException if an invalid number of values are
 	 *         provided
 	 * @throws IllegalArgumentException if any of the values are out of bounds
@@ -636,12 +800,25 @@ public class EncodingUtils {
 	 */
 	public static void setReal(Solution solution, int startIndex, int endIndex,
 			double[] values) {
-		if (values.length != (endIndex - startIndex)) {
+		if (values.length != getNumberOfReals(solution, startIndex,
+				endIndex)) {
 			throw new IllegalArgumentException(INVALID_LENGTH);
 		}
 		
+		int index = 0;
+		
 		for (int i=startIndex; i<endIndex; i++) {
-			setReal(solution.getVariable(i), values[i-startIndex]);
+			Variable variable = solution.getVariable(i);
+			
+			if (variable instanceof RealVectorVariable) {
+				RealVectorVariable vector = (RealVectorVariable)variable;
+				
+				for (int j=0; j<vector.size(); j++) {
+					vector.setValue(j, values[index++]);
+				}
+			} else {
+				setReal(variable, values[index++]);
+			}
 		}
 	}
 	
@@ -723,9 +900,12 @@ public class EncodingUtils {
 	public static void setBitSet(Variable variable, BitSet bitSet) {
 		if (variable instanceof BinaryVariable) {
 			BinaryVariable binaryVariable = (BinaryVariable)variable;
+			binaryVariable.clear();
 			
-			for (int i=0; i<binaryVariable.getNumberOfBits(); i++) {
-				binaryVariable.set(i, bitSet.get(i));
+			for (int i=bitSet.nextSetBit(0); (i >= 0) &&
+					(i < binaryVariable.getNumberOfBits());
+					i=bitSet.nextSetBit(i+1)) {
+				binaryVariable.set(i, true);
 			}
 		} else {
 			throw new IllegalArgumentException(NOT_BINARY);
@@ -0,0 +1,275 @@
+/* Copyright 2009-2018 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core.variable;
+
+import java.text.MessageFormat;
+import java.util.Arrays;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.moeaframework.core.PRNG;
+import org.moeaframework.core.Variable;
+
+/**
+ * Decision variable for a dense vector of real values.  This is equivalent to
+ * a sequence of {@link RealVariable}s, but stores the values in a single
+ * {@code double[]} array.  Problems with many real-valued decision variables
+ * can read the values through {@link #getValues()} without copying, and
+ * copying a solution copies a single array.  The bounds arrays are shared
+ * between copies and must not be modified.
+ * <p>
+ * The real-valued operators, such as {@link org.moeaframework.core.operator.real.SBX}
+ * and {@link org.moeaframework.core.operator.real.PM}, treat each element of
+ * this vector as an individual real-valued decision variable.
+ */
+public class RealVectorVariable implements Variable {
+
+	private static final long serialVersionUID = -6224163702719478380L;
+
+	private static final String VALUE_OUT_OF_BOUNDS =
+		"value out of bounds (index: {0}, value: {1}, min: {2}, max: {3})";
+
+	/**
+	 * The current values of this decision variable.
+	 */
+	private final double[] values;
+
+	/**
+	 * The lower bounds of each element, shared between copies.
+	 */
+	private final double[] lowerBounds;
+
+	/**
+	 * The upper bounds of each element, shared between copies.
+	 */
+	private final double[] upperBounds;
+
+	/**
+	 * Constructs a real vector variable with the specified number of elements,
+	 * each in the range {@code lowerBound <= x <= upperBound}, with
+	 * uninitialized values.
+	 *
+	 * @param size the number of elements
+	 * @param lowerBound the lower bound of each element, inclusive
+	 * @param upperBound the upper bound of each element, inclusive
+	 */
+	public RealVectorVariable(int size, double lowerBound, double upperBound) {
+		this(fill(size, lowerBound), fill(size, upperBound));
+	}
+
+	/**
+	 * Constructs a real vector variable with the specified bounds and
+	 * uninitialized values.  The bounds arrays are copied.
+	 *
+	 * @param lowerBounds the lower bound of each element, inclusive
+	 * @param upperBounds the upper bound of each element, inclusive
+	 * @throws IllegalArgumentException if the bounds arrays differ in length
+	 */
+	public RealVectorVariable(double[] lowerBounds, double[] upperBounds) {
+		this(fill(lowerBounds.length, Double.NaN), lowerBounds.clone(),
+				upperBounds.clone());
+	}
+
+	/**
+	 * Constructs a real vector variable with the specified values and bounds.
+	 * The arrays are used directly without copying.
+	 *
+	 * @param values the initial values
+	 * @param lowerBounds the lower bound of each element, inclusive
+	 * @param upperBounds the upper bound of each element, inclusive
+	 * @throws IllegalArgumentException if the arrays differ in length
+	 */
+	private RealVectorVariable(double[] values, double[] lowerBounds,
+			double[] upperBounds) {
+		super();
+		this.values = values;
+		this.lowerBounds = lowerBounds;
+		this.upperBounds = upperBounds;
+
+		if ((lowerBounds.length != values.length) ||
+				(upperBounds.length != values.length)) {
+			throw new IllegalArgumentException(
+					"bounds must have the same length");
+		}
+	}
+
+	/**
+	 * Returns an array of the given length filled with the specified value.
+	 *
+	 * @param size the length of the array
+	 * @param value the value
+	 * @return an array of the given length filled with the specified value
+	 */
+	private static double[] fill(int size, double value) {
+		double[] result = new double[size];
+		Arrays.fill(result, value);
+		return result;
+	}
+
+	/**
+	 * Returns the number of elements in this decision variable.
+	 *
+	 * @return the number of elements in this decision variable
+	 */
+	public int size() {
+		return values.length;
+	}
+
+	/**
+	 * Returns the value of the element at the specified index.
+	 *
+	 * @param index the index of the element
+	 * @return the value of the element at the specified index
+	 */
+	public double getValue(int index) {
+		return values[index];
+	}
+
+	/**
+	 * Sets the value of the element at the specified index.
+	 *
+	 * @param index the index of the element
+	 * @param value the new value
+	 * @throws IllegalArgumentException if the value is out of bounds
+	 *         {@code (value < getLowerBound(index)) ||
+	 *         (value > getUpperBound(index))}
+	 */
+	public void setValue(int index, double value) {
+		if ((value < lowerBounds[index]) || (value > upperBounds[index])) {
+			throw new IllegalArgumentException(MessageFormat.format(
+					VALUE_OUT_OF_BOUNDS, index, value, lowerBounds[index],
+					upperBounds[index]));
+		}
+
+		values[index] = value;
+	}
+
+	/**
+	 * Returns the array storing the values of this decision variable.  The
+	 * array is not copied, so changes to the array are reflected in this
+	 * decision variable.  Callers modifying the array are responsible for
+	 * keeping the values within bounds.
+	 *
+	 * @return the array storing the values of this decision variable
+	 */
+	public double[] getValues() {
+		return values;
+	}
+
+	/**
+	 * Copies the specified values into this decision variable.
+	 *
+	 * @param values the new values
+	 * @throws IllegalArgumentException if an invalid number of values are
+	 *         provided or any value is out of bounds
+	 */
+	public void setValues(double[] values) {
+		if (values.length != this.values.length) {
+			throw new IllegalArgumentException("invalid number of values");
+		}
+
+		for (int i = 0; i < values.length; i++) {
+			setValue(i, values[i]);
+		}
+	}
+
+	/**
+	 * Returns the lower bound of the element at the specified index.
+	 *
+	 * @param index the index of the element
+	 * @return the lower bound of the element at the specified index
+	 */
+	public double getLowerBound(int index) {
+		return lowerBounds[index];
+	}
+
+	/**
+	 * Returns the upper bound of the element at the specified index.
+	 *
+	 * @param index the index of the element
+	 * @return the upper bound of the element at the specified index
+	 */
+	public double getUpperBound(int index) {
+		return upperBounds[index];
+	}
+
+	/**
+	 * Returns the array storing the lower bounds.  The array is shared by all
+	 * copies of this decision variable and must not be modified.
+	 *
+	 * @return the array storing the lower bounds
+	 */
+	public double[] getLowerBounds() {
+		return lowerBounds;
+	}
+
+	/**
+	 * Returns the array storing the upper bounds.  The array is shared by all
+	 * copies of this decision variable and must not be modified.
+	 *
+	 * @return the array storing the upper bounds
+	 */
+	public double[] getUpperBounds() {
+		return upperBounds;
+	}
+
+	@Override
+	public RealVectorVariable copy() {
+		return new RealVectorVariable(values.clone(), lowerBounds,
+				upperBounds);
+	}
+
+	@Override
+	public void randomize() {
+		for (int i = 0; i < values.length; i++) {
+			values[i] = PRNG.nextDouble(lowerBounds[i], upperBounds[i]);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return Arrays.toString(values);
+	}
+
+	@Override
+	public int hashCode() {
+		return new HashCodeBuilder()
+				.append(lowerBounds)
+				.append(upperBounds)
+				.append(values)
+				.toHashCode();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (obj == this) {
+			return true;
+		} else if ((obj == null) || (obj.getClass() != getClass())) {
+			return false;
+		} else {
+			RealVectorVariable rhs = (RealVectorVariable)obj;
+
+			return new EqualsBuilder()
+					.append(lowerBounds, rhs.lowerBounds)
+					.append(upperBounds, rhs.upperBounds)
+					.append(values, rhs.values)
+					.isEquals();
+		}
+	}
+
+}
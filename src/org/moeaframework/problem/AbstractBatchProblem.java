@@ -0,0 +1,159 @@
+/* Copyright 2009-2018 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.problem;
+
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.variable.EncodingUtils;
+
+/**
+ * Abstract class for a {@link BatchProblem}.  Subclasses implement a single
+ * evaluation kernel, {@link #evaluate(double[], double[], double[], double[][])},
+ * that reads the decision variables from a primitive array and writes the
+ * objectives and constraints into the provided arrays.  Any temporary storage
+ * required by the kernel is created once by {@link #newWorkspace()} and
+ * reused, so evaluating a batch performs no per-solution allocations.
+ * <p>
+ * The kernel must not modify any state of the problem, which allows multiple
+ * threads to evaluate solutions concurrently as long as each thread uses its
+ * own workspace.
+ */
+public abstract class AbstractBatchProblem extends AbstractProblem
+implements BatchProblem {
+	
+	/**
+	 * The empty array used in place of the constraints of unconstrained
+	 * problems.
+	 */
+	private static final double[] EMPTY = new double[0];
+
+	/**
+	 * Constructs an unconstrained batch problem with the specified number of
+	 * decision variables and objectives.
+	 * 
+	 * @param numberOfVariables the number of decision variables
+	 * @param numberOfObjectives the number of objectives
+	 */
+	public AbstractBatchProblem(int numberOfVariables, int numberOfObjectives) {
+		super(numberOfVariables, numberOfObjectives);
+	}
+
+	/**
+	 * Constructs a batch problem with the specified number of decision
+	 * variables, objectives and constraints.
+	 * 
+	 * @param numberOfVariables the number of decision variables
+	 * @param numberOfObjectives the number of objectives
+	 * @param numberOfConstraints the number of constraints
+	 */
+	public AbstractBatchProblem(int numberOfVariables, int numberOfObjectives,
+			int numberOfConstraints) {
+		super(numberOfVariables, numberOfObjectives, numberOfConstraints);
+	}
+
+	/**
+	 * Evaluates the solution using the evaluation kernel.  The decision
+	 * variables must be real-valued.
+	 * 
+	 * @param solution the solution to be evaluated
+	 */
+	@Override
+	public void evaluate(Solution solution) {
+		double[] x = EncodingUtils.getReal(solution);
+		double[] f = new double[getNumberOfObjectives()];
+		double[] c = new double[getNumberOfConstraints()];
+		
+		evaluate(x, f, c, newWorkspace());
+		
+		solution.setObjectives(f);
+		
+		if (c.length > 0) {
+			solution.setConstraints(c);
+		}
+	}
+
+	@Override
+	public void evaluate(double[][] variables, double[][] objectives,
+			double[][] constraints) {
+		int numberOfConstraints = getNumberOfConstraints();
+		
+		if (objectives.length != variables.length) {
+			throw new IllegalArgumentException(
+					"objectives must have one row per solution");
+		}
+		
+		if ((numberOfConstraints > 0) && ((constraints == null) ||
+				(constraints.length != variables.length))) {
+			throw new IllegalArgumentException(
+					"constraints must have one row per solution");
+		}
+		
+		double[][] workspace = newWorkspace();
+		
+		for (int i = 0; i < variables.length; i++) {
+			double[] c = numberOfConstraints > 0 ? constraints[i] : EMPTY;
+			
+			if (variables[i].length != getNumberOfVariables()) {
+				throw new IllegalArgumentException(
+						"invalid number of variables");
+			}
+			
+			if (objectives[i].length != getNumberOfObjectives()) {
+				throw new IllegalArgumentException(
+						"invalid number of objectives");
+			}
+			
+			if (c.length != numberOfConstraints) {
+				throw new IllegalArgumentException(
+						"invalid number of constraints");
+			}
+			
+			evaluate(variables[i], objectives[i], c, workspace);
+		}
+	}
+	
+	/**
+	 * Returns new temporary storage for the evaluation kernel.  The
+	 * workspace is passed to every invocation of the kernel in a batch, and
+	 * its contents are undefined at the start of each invocation.  The
+	 * default implementation returns an empty workspace.
+	 * 
+	 * @return new temporary storage for the evaluation kernel
+	 */
+	public double[][] newWorkspace() {
+		return new double[0][];
+	}
+
+	/**
+	 * The evaluation kernel computing the objectives and constraints of a
+	 * single solution.  Implementations must not allocate memory or modify
+	 * the state of this problem; all temporary values are stored in the
+	 * workspace.  The constraints are written using the conventions of
+	 * {@link Solution#setConstraint(int, double)}, where {@code 0.0}
+	 * indicates a feasible constraint.
+	 * 
+	 * @param x the decision variables
+	 * @param f the array receiving the objectives
+	 * @param c the array receiving the constraints, which has length
+	 *        {@code 0} if this problem is unconstrained
+	 * @param workspace the temporary storage created by
+	 *        {@link #newWorkspace()}
+	 */
+	public abstract void evaluate(double[] x, double[] f, double[] c,
+			double[][] workspace);
+
+}
@@ -0,0 +1,56 @@
+/* Copyright 2009-2018 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.problem;
+
+import org.moeaframework.core.Problem;
+
+/**
+ * Interface for real-valued problems that can evaluate many solutions at once.
+ * The decision variables of each solution are stored in one row of a
+ * primitive matrix, and the objectives and constraints are written into the
+ * corresponding rows of the output matrices.  This avoids creating
+ * {@link org.moeaframework.core.Solution} objects and lets implementations
+ * reuse any temporary storage across the entire batch, which is useful when
+ * measuring the throughput of algorithms on inexpensive test problems.
+ * <p>
+ * Evaluating a row must produce the same objective and constraint values as
+ * {@link #evaluate(org.moeaframework.core.Solution)} would for a solution with
+ * the same decision variables.
+ */
+public interface BatchProblem extends Problem {
+
+	/**
+	 * Evaluates a batch of solutions.  Row {@code i} of {@code variables}
+	 * stores the decision variables of the {@code i}-th solution, and its
+	 * objectives and constraints are written into row {@code i} of
+	 * {@code objectives} and {@code constraints}, respectively.  The output
+	 * matrices must be allocated by the caller and can be reused between
+	 * calls.
+	 * 
+	 * @param variables the decision variables, one row per solution
+	 * @param objectives the matrix receiving the objectives, one row per
+	 *        solution
+	 * @param constraints the matrix receiving the constraints, one row per
+	 *        solution; may be {@code null} if this problem is unconstrained
+	 * @throws IllegalArgumentException if the dimensions of the matrices do
+	 *         not match this problem
+	 */
+	public void evaluate(double[][] variables, double[][] objectives,
+			double[][] constraints);
+
+}
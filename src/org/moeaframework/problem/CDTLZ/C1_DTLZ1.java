@@ -54,16 +54,17 @@ public class C1_DTLZ1 extends DTLZ1 {
 	}
 
 	@Override
-	public void evaluate(Solution solution) {
-		super.evaluate(solution);
+	public void evaluate(double[] x, double[] f, double[] c,
+			double[][] workspace) {
+		super.evaluate(x, f, c, workspace);
 		
-		double c = 1.0 - solution.getObjective(numberOfObjectives-1) / 0.6;
+		double constraint = 1.0 - f[numberOfObjectives-1] / 0.6;
 		
 		for (int i = 0; i < numberOfObjectives-2; i++) {
-			c -= solution.getObjective(i) / 0.5;
+			constraint -= f[i] / 0.5;
 		}
 		
-		solution.setConstraint(0, c >= 0.0 ? 0.0 : c);
+		c[0] = constraint >= 0.0 ? 0.0 : constraint;
 	}
 
 	@Override
@@ -54,18 +54,19 @@ public class C1_DTLZ3 extends DTLZ3 {
 	}
 
 	@Override
-	public void evaluate(Solution solution) {
-		super.evaluate(solution);
+	public void evaluate(double[] x, double[] f, double[] c,
+			double[][] workspace) {
+		super.evaluate(x, f, c, workspace);
 		
 		double sumsq = 0.0;
 		
 		for (int i = 0; i < numberOfObjectives; i++) {
-			sumsq += Math.pow(solution.getObjective(i), 2.0);
+			sumsq += Math.pow(f[i], 2.0);
 		}
 		
-		double c = (sumsq - 16) * (sumsq - Math.pow(getR(), 2.0));
+		double constraint = (sumsq - 16) * (sumsq - Math.pow(getR(), 2.0));
 		
-		solution.setConstraint(0, c >= 0.0 ? 0.0 : c);
+		c[0] = constraint >= 0.0 ? 0.0 : constraint;
 	}
 	
 	private double getR() {
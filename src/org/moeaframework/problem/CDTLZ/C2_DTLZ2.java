@@ -54,29 +54,30 @@ public class C2_DTLZ2 extends DTLZ2 {
 	}
 
 	@Override
-	public void evaluate(Solution solution) {
-		super.evaluate(solution);
+	public void evaluate(double[] x, double[] f, double[] c,
+			double[][] workspace) {
+		super.evaluate(x, f, c, workspace);
 		
 		double r = numberOfObjectives > 3 ? 0.5 : 0.4;
 		double v1 = Double.POSITIVE_INFINITY;
 		double v2 = 0.0;
 		
 		for (int i = 0; i < numberOfObjectives; i++) {
-			double sum = Math.pow(solution.getObjective(i)-1.0, 2.0);
+			double sum = Math.pow(f[i]-1.0, 2.0);
 			
 			for (int j = 0; j < numberOfObjectives; j++) {
 				if (i != j) {
-					sum += Math.pow(solution.getObjective(j), 2.0);
+					sum += Math.pow(f[j], 2.0);
 				}
 			}
 			
 			v1 = Math.min(v1, sum - Math.pow(r, 2.0));
-			v2 += Math.pow(solution.getObjective(i) -
+			v2 += Math.pow(f[i] -
 					1.0 / Math.sqrt(numberOfObjectives), 2.0);
 		}
 		
-		double c = Math.min(v1, v2 - Math.pow(r, 2.0));
-		solution.setConstraint(0, c <= 0.0 ? 0.0 : c);
+		double constraint = Math.min(v1, v2 - Math.pow(r, 2.0));
+		c[0] = constraint <= 0.0 ? 0.0 : constraint;
 	}
 
 	@Override
@@ -54,19 +54,20 @@ public class C3_DTLZ1 extends DTLZ1 {
 	}
 
 	@Override
-	public void evaluate(Solution solution) {
-		super.evaluate(solution);
+	public void evaluate(double[] x, double[] f, double[] c,
+			double[][] workspace) {
+		super.evaluate(x, f, c, workspace);
 		
 		for (int j = 0; j < numberOfObjectives; j++) {
-			double c = solution.getObjective(j) - 1;
+			double constraint = f[j] - 1;
 			
 			for (int i = 0; i < numberOfObjectives; i++) {
 				if (i != j) {
-					c += solution.getObjective(i)/0.5;
+					constraint += f[i]/0.5;
 				}
 			}
 			
-			solution.setConstraint(j, c >= 0.0 ? 0.0 : c);
+			c[j] = constraint >= 0.0 ? 0.0 : constraint;
 		}
 	}
 
@@ -54,19 +54,20 @@ public class C3_DTLZ4 extends DTLZ4 {
 	}
 
 	@Override
-	public void evaluate(Solution solution) {
-		super.evaluate(solution);
+	public void evaluate(double[] x, double[] f, double[] c,
+			double[][] workspace) {
+		super.evaluate(x, f, c, workspace);
 		
 		for (int j = 0; j < numberOfObjectives; j++) {
-			double c = Math.pow(solution.getObjective(j), 2.0) / 4.0 - 1.0;
+			double constraint = Math.pow(f[j], 2.0) / 4.0 - 1.0;
 			
 			for (int i = 0; i < numberOfObjectives; i++) {
 				if (i != j) {
-					c += Math.pow(solution.getObjective(i), 2.0);
+					constraint += Math.pow(f[i], 2.0);
 				}
 			}
 			
-			solution.setConstraint(j, c >= 0.0 ? 0.0 : c);
+			c[j] = constraint >= 0.0 ? 0.0 : constraint;
 		}
 	}
 
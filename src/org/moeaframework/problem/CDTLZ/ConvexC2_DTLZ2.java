@@ -65,25 +65,26 @@ public class ConvexC2_DTLZ2 extends ConvexDTLZ2 {
 	}
 
 	@Override
-	public void evaluate(Solution solution) {
-		super.evaluate(solution);
+	public void evaluate(double[] x, double[] f, double[] c,
+			double[][] workspace) {
+		super.evaluate(x, f, c, workspace);
 		
 		double lambda = 0.0;
-		double c = 0.0;
+		double constraint = 0.0;
 		
 		for (int i = 0; i < numberOfObjectives; i++) {
-			lambda += solution.getObjective(i);
+			lambda += f[i];
 		}
 		
 		lambda /= numberOfObjectives;
 		
 		for (int i = 0; i < numberOfObjectives; i++) {
-			c += Math.pow(solution.getObjective(i) - lambda, 2.0);
+			constraint += Math.pow(f[i] - lambda, 2.0);
 		}
 		
-		c -= Math.pow(getR(), 2.0);
+		constraint -= Math.pow(getR(), 2.0);
 		
-		solution.setConstraint(0, c >= 0 ? 0.0 : c);
+		c[0] = constraint >= 0 ? 0.0 : constraint;
 	}
 	
 	private double getR() {
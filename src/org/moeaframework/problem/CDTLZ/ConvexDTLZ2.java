@@ -48,15 +48,15 @@ public class ConvexDTLZ2 extends DTLZ2 {
 	}
 
 	@Override
-	public void evaluate(Solution solution) {
-		super.evaluate(solution);
+	public void evaluate(double[] x, double[] f, double[] c,
+			double[][] workspace) {
+		super.evaluate(x, f, c, workspace);
 		
 		for (int i = 0; i < numberOfObjectives-1; i++) {
-			solution.setObjective(i, Math.pow(solution.getObjective(i), 4.0));
+			f[i] = Math.pow(f[i], 4.0);
 		}
 		
-		solution.setObjective(numberOfObjectives-1,
-				Math.pow(solution.getObjective(numberOfObjectives-1), 2.0));
+		f[numberOfObjectives-1] = Math.pow(f[numberOfObjectives-1], 2.0);
 	}
 
 	@Override
@@ -840,8 +840,27 @@ class CEC2009 {
 	 */
 	public static void transform(double[] x, double[] zz, double[] psum, 
 			double[][] M, double[] lamda_l, int nx, int n_obj) {
+		transform(x, zz, psum, new double[nx], M, lamda_l, nx, n_obj);
+	}
+	
+	/**
+	 * Transforms the decision variables according to the given rotation matrix
+	 * and scaling values, storing the intermediate penalties in the provided
+	 * array.  This is used in the UF11 and UF12 problems.
+	 * 
+	 * @param x the original decision variables
+	 * @param zz the transformed decision variables output
+	 * @param psum the penalty value output
+	 * @param p the array of length {@code nx} storing the intermediate
+	 *        penalties
+	 * @param M the rotation matrix
+	 * @param lamda_l the scaling values
+	 * @param nx the number of decision variables
+	 * @param n_obj the number of objectives
+	 */
+	public static void transform(double[] x, double[] zz, double[] psum, 
+			double[] p, double[][] M, double[] lamda_l, int nx, int n_obj) {
 		int k = nx - n_obj + 1;
-		double[] p = new double[nx];
 		
 		for (int i = 0; i < nx; i++) {
 			double z = 0.0;
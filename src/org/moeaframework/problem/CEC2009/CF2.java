@@ -18,15 +18,14 @@
 package org.moeaframework.problem.CEC2009;
 
 import org.moeaframework.core.Solution;
-import org.moeaframework.core.variable.EncodingUtils;
 import org.moeaframework.core.variable.RealVariable;
-import org.moeaframework.problem.AbstractProblem;
+import org.moeaframework.problem.AbstractBatchProblem;
 
 /**
  * The constrained CF2 test problem from the CEC 2009 special session and
  * competition.
  */
-public class CF2 extends AbstractProblem {
+public class CF2 extends AbstractBatchProblem {
 
 	/**
 	 * Constructs a CF2 test problem with 10 decision variables.
@@ -46,15 +45,11 @@ public class CF2 extends AbstractProblem {
 	}
 
 	@Override
-	public void evaluate(Solution solution) {
-		double[] x = EncodingUtils.getReal(solution);
-		double[] f = new double[2];
-		double[] c = new double[1];
-
+	public void evaluate(double[] x, double[] f, double[] c,
+			double[][] workspace) {
 		CEC2009.CF2(x, f, c, numberOfVariables);
 
-		solution.setObjectives(f);
-		solution.setConstraint(0, c[0] >= 0.0 ? 0.0 : c[0]);
+		c[0] = c[0] >= 0.0 ? 0.0 : c[0];
 	}
 
 	@Override
@@ -18,15 +18,14 @@
 package org.moeaframework.problem.CEC2009;
 
 import org.moeaframework.core.Solution;
-import org.moeaframework.core.variable.EncodingUtils;
 import org.moeaframework.core.variable.RealVariable;
-import org.moeaframework.problem.AbstractProblem;
+import org.moeaframework.problem.AbstractBatchProblem;
 
 /**
  * The constrained CF6 test problem from the CEC 2009 special session and
  * competition.
  */
-public class CF6 extends AbstractProblem {
+public class CF6 extends AbstractBatchProblem {
 
 	/**
 	 * Constructs a CF6 test problem with 10 decision variables.
@@ -46,16 +45,12 @@ public class CF6 extends AbstractProblem {
 	}
 
 	@Override
-	public void evaluate(Solution solution) {
-		double[] x = EncodingUtils.getReal(solution);
-		double[] f = new double[2];
-		double[] c = new double[2];
-
+	public void evaluate(double[] x, double[] f, double[] c,
+			double[][] workspace) {
 		CEC2009.CF6(x, f, c, numberOfVariables);
 
-		solution.setObjectives(f);
-		solution.setConstraint(0, c[0] >= 0.0 ? 0.0 : c[0]);
-		solution.setConstraint(1, c[1] >= 0.0 ? 0.0 : c[1]);
+		c[0] = c[0] >= 0.0 ? 0.0 : c[0];
+		c[1] = c[1] >= 0.0 ? 0.0 : c[1];
 	}
 
 	@Override
@@ -18,16 +18,15 @@
 package org.moeaframework.problem.CEC2009;
 
 import org.moeaframework.core.Solution;
-import org.moeaframework.core.variable.EncodingUtils;
 import org.moeaframework.core.variable.RealVariable;
-import org.moeaframework.problem.AbstractProblem;
+import org.moeaframework.problem.AbstractBatchProblem;
 import org.moeaframework.problem.DTLZ.DTLZ3;
 
 /**
  * The unconstrained UF12 test problem from the CEC 2009 special session and
  * competition.
  */
-public class UF12 extends AbstractProblem {
+public class UF12 extends AbstractBatchProblem {
 
 	/**
 	 * The decision variable lower and upper bounds for the instance with 10 
@@ -208,28 +207,32 @@ public class UF12 extends AbstractProblem {
 	}
 
 	@Override
-	public void evaluate(Solution solution) {
-		double[] x = EncodingUtils.getReal(solution);
-		double[] psum = new double[numberOfObjectives];
-		double[] zz = new double[numberOfVariables];
+	public void evaluate(double[] x, double[] f, double[] c,
+			double[][] workspace) {
+		double[] zz = workspace[0];
+		double[] psum = workspace[1];
 		
 		//apply transform to convert from UF12 to DTLZ3
-		CEC2009.transform(x, zz, psum, 
+		CEC2009.transform(x, zz, psum, workspace[2],
 				numberOfVariables == 10 ? M_10D : M_30D, 
 				numberOfVariables == 10 ? lamda_l_10D : lamda_l_30D,
 				numberOfVariables, numberOfObjectives);
 		
-		//evaluate the transformed solution with DTLZ3
-		Solution transformedSolution = problem.newSolution();
-		EncodingUtils.setReal(transformedSolution, zz);
-		problem.evaluate(transformedSolution);
+		//evaluate the transformed solution with DTLZ3, which requires no
+		//workspace of its own
+		problem.evaluate(zz, f, c, workspace);
 		
 		//convert the DTLZ3 results back to UF12
 		for (int i=0; i<numberOfObjectives; i++) {
-			solution.setObjective(i, 2.0 / (1.0 + Math.exp(-psum[i])) * 
-					(transformedSolution.getObjective(i) + 1));
+			f[i] = 2.0 / (1.0 + Math.exp(-psum[i])) * (f[i] + 1);
 		}
 	}
+	
+	@Override
+	public double[][] newWorkspace() {
+		return new double[][] { new double[numberOfVariables],
+				new double[numberOfObjectives], new double[numberOfVariables] };
+	}
 
 	@Override
 	public Solution newSolution() {
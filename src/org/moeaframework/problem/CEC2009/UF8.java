@@ -18,15 +18,14 @@
 package org.moeaframework.problem.CEC2009;
 
 import org.moeaframework.core.Solution;
-import org.moeaframework.core.variable.EncodingUtils;
 import org.moeaframework.core.variable.RealVariable;
-import org.moeaframework.problem.AbstractProblem;
+import org.moeaframework.problem.AbstractBatchProblem;
 
 /**
  * The unconstrained UF8 test problem from the CEC 2009 special session and
  * competition.
  */
-public class UF8 extends AbstractProblem {
+public class UF8 extends AbstractBatchProblem {
 
 	/**
 	 * Constructs a UF8 test problem with 30 decision variables.
@@ -46,13 +45,9 @@ public class UF8 extends AbstractProblem {
 	}
 
 	@Override
-	public void evaluate(Solution solution) {
-		double[] x = EncodingUtils.getReal(solution);
-		double[] f = new double[3];
-
+	public void evaluate(double[] x, double[] f, double[] c,
+			double[][] workspace) {
 		CEC2009.UF8(x, f, numberOfVariables);
-
-		solution.setObjectives(f);
 	}
 
 	@Override
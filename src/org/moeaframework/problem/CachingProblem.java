@@ -0,0 +1,583 @@
+/* Copyright 2009-2018 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.problem;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.moeaframework.core.Problem;
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.Variable;
+
+/**
+ * Decorates a problem to reuse the objectives and constraints of previously
+ * evaluated solutions.  Two solutions are considered identical if their
+ * decision variables are equal according to {@link Variable#equals(Object)},
+ * so this decorator is most effective for discrete representations, such as
+ * permutations, subsets, binary strings and grammars, where search operators
+ * frequently regenerate existing solutions.  The problem must be
+ * deterministic, since a repeated solution is never re-evaluated while cached.
+ * Only the objectives and constraints are cached; attributes assigned during
+ * evaluation are not restored.
+ * <p>
+ * The cache holds at most the given number of solutions.  When full, either
+ * the least-recently used or the oldest solution is evicted, depending on the
+ * {@link EvictionPolicy}.  Solutions can also expire after a fixed time to
+ * live.  Algorithms still count cache hits as evaluations, so the number of
+ * evaluations reported by the algorithm is unchanged.
+ * <p>
+ * This class is thread-safe.  Large caches are split into independently locked
+ * segments so concurrent evaluations rarely contend, in which case the
+ * eviction policy applies within each segment.  Concurrent evaluations
+ * of the same solution may both miss the cache and evaluate the problem.  When
+ * combined with {@link org.moeaframework.util.distributed.DistributedProblem},
+ * the distributed problem should decorate this problem rather than the other
+ * way around, otherwise storing each result waits for its evaluation.
+ * Batches are forwarded to the decorated problem if it is a
+ * {@link ScreeningProblem}, in which case only the candidates missing from
+ * the cache are screened and only evaluated candidates are cached.
+ */
+public class CachingProblem implements ScreeningProblem {
+	
+	/**
+	 * The default maximum number of solutions stored in the cache.
+	 */
+	public static final int DEFAULT_CAPACITY = 10000;
+	
+	/**
+	 * The maximum number of segments.
+	 */
+	private static final int MAX_SEGMENTS = 16;
+	
+	/**
+	 * The minimum capacity of each segment, so small caches use a single
+	 * segment and follow the eviction policy exactly.
+	 */
+	private static final int MIN_SEGMENT_CAPACITY = 256;
+	
+	/**
+	 * The policy determining which solution is evicted when the cache is full.
+	 */
+	public static enum EvictionPolicy {
+		
+		/**
+		 * Evicts the least-recently used solution.
+		 */
+		LRU,
+		
+		/**
+		 * Evicts the oldest solution, regardless of how often it was used.
+		 */
+		FIFO
+		
+	}
+	
+	/**
+	 * The decorated problem.
+	 */
+	private final Problem problem;
+	
+	/**
+	 * The maximum number of solutions stored in the cache.
+	 */
+	private final int capacity;
+	
+	/**
+	 * The time to live, in nanoseconds, of each cached solution; or {@code 0}
+	 * if cached solutions never expire.
+	 */
+	private final long timeToLive;
+	
+	/**
+	 * The segments storing the cached solutions.
+	 */
+	private final Segment[] segments;
+	
+	/**
+	 * The number of evaluations using a cached solution.
+	 */
+	private final AtomicLong hits;
+	
+	/**
+	 * The number of evaluations of the decorated problem.
+	 */
+	private final AtomicLong misses;
+	
+	/**
+	 * Decorates the specified problem using the default capacity and the
+	 * least-recently used eviction policy.
+	 * 
+	 * @param problem the problem to decorate
+	 */
+	public CachingProblem(Problem problem) {
+		this(problem, DEFAULT_CAPACITY);
+	}
+	
+	/**
+	 * Decorates the specified problem using the least-recently used eviction
+	 * policy.
+	 * 
+	 * @param problem the problem to decorate
+	 * @param capacity the maximum number of solutions stored in the cache
+	 * @throws IllegalArgumentException if the capacity is not positive
+	 */
+	public CachingProblem(Problem problem, int capacity) {
+		this(problem, capacity, EvictionPolicy.LRU, 0, TimeUnit.NANOSECONDS);
+	}
+	
+	/**
+	 * Decorates the specified problem.
+	 * 
+	 * @param problem the problem to decorate
+	 * @param capacity the maximum number of solutions stored in the cache
+	 * @param policy the policy determining which solution is evicted when the
+	 *        cache is full
+	 * @param timeToLive the time after which cached solutions expire; or
+	 *        {@code 0} if cached solutions never expire
+	 * @param unit the unit of the time to live
+	 * @throws IllegalArgumentException if the capacity is not positive or the
+	 *         time to live is negative
+	 */
+	public CachingProblem(Problem problem, int capacity, EvictionPolicy policy,
+			long timeToLive, TimeUnit unit) {
+		super();
+		
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("capacity must be positive");
+		}
+		
+		if (timeToLive < 0) {
+			throw new IllegalArgumentException(
+					"time to live must be non-negative");
+		}
+		
+		this.problem = problem;
+		this.capacity = capacity;
+		this.timeToLive = unit.toNanos(timeToLive);
+		
+		hits = new AtomicLong();
+		misses = new AtomicLong();
+		segments = new Segment[Math.max(1, Math.min(MAX_SEGMENTS,
+				capacity / MIN_SEGMENT_CAPACITY))];
+		
+		for (int i = 0; i < segments.length; i++) {
+			segments[i] = new Segment(capacity / segments.length +
+					(i < capacity % segments.length ? 1 : 0),
+					policy == EvictionPolicy.LRU);
+		}
+	}
+
+	@Override
+	public String getName() {
+		return problem.getName();
+	}
+
+	@Override
+	public int getNumberOfVariables() {
+		return problem.getNumberOfVariables();
+	}
+
+	@Override
+	public int getNumberOfObjectives() {
+		return problem.getNumberOfObjectives();
+	}
+
+	@Override
+	public int getNumberOfConstraints() {
+		return problem.getNumberOfConstraints();
+	}
+
+	@Override
+	public void evaluate(Solution solution) {
+		Key key = new Key(solution);
+		
+		if (!restore(key, solution)) {
+			misses.incrementAndGet();
+			problem.evaluate(solution);
+			store(key, solution);
+		}
+	}
+
+	@Override
+	public List<Solution> evaluateAll(List<Solution> solutions) {
+		if (!(problem instanceof ScreeningProblem)) {
+			for (Solution solution : solutions) {
+				evaluate(solution);
+			}
+			
+			return solutions;
+		}
+		
+		int n = solutions.size();
+		Key[] keys = new Key[n];
+		boolean[] isCached = new boolean[n];
+		List<Solution> uncached = new ArrayList<Solution>(n);
+		
+		for (int i = 0; i < n; i++) {
+			Solution solution = solutions.get(i);
+			keys[i] = new Key(solution);
+			isCached[i] = restore(keys[i], solution);
+			
+			if (!isCached[i]) {
+				uncached.add(solution);
+			}
+		}
+		
+		if (uncached.isEmpty()) {
+			return solutions;
+		}
+		
+		List<Solution> evaluated =
+				((ScreeningProblem)problem).evaluateAll(uncached);
+		List<Solution> result = new ArrayList<Solution>(n);
+		int j = 0;
+		
+		misses.addAndGet(evaluated.size());
+		
+		// both lists are in batch order, so merge them in a single pass
+		for (int i = 0; i < n; i++) {
+			Solution solution = solutions.get(i);
+			
+			if (isCached[i]) {
+				result.add(solution);
+			} else if ((j < evaluated.size()) &&
+					(evaluated.get(j) == solution)) {
+				store(keys[i], solution);
+				result.add(solution);
+				j++;
+			}
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Returns the segment storing the specified key.
+	 * 
+	 * @param key the key
+	 * @return the segment storing the specified key
+	 */
+	private Segment getSegment(Key key) {
+		return segments[(key.hashCode() & 0x7fffffff) % segments.length];
+	}
+	
+	/**
+	 * Copies the cached objectives and constraints into the specified
+	 * solution, if present.
+	 * 
+	 * @param key the key identifying the solution
+	 * @param solution the solution
+	 * @return {@code true} if the solution was cached; {@code false}
+	 *         otherwise
+	 */
+	private boolean restore(Key key, Solution solution) {
+		Entry entry = getSegment(key).get(key);
+		
+		if (entry == null) {
+			return false;
+		}
+		
+		hits.incrementAndGet();
+		solution.setObjectives(entry.objectives);
+		solution.setConstraints(entry.constraints);
+		return true;
+	}
+	
+	/**
+	 * Caches the objectives and constraints of the specified solution.
+	 * 
+	 * @param key the key identifying the solution
+	 * @param solution the evaluated solution
+	 */
+	private void store(Key key, Solution solution) {
+		getSegment(key).put(key, new Entry(solution.getObjectives(),
+				solution.getConstraints(), timeToLive == 0 ? 0 :
+					System.nanoTime() + timeToLive));
+	}
+
+	@Override
+	public Solution newSolution() {
+		return problem.newSolution();
+	}
+	
+	/**
+	 * Removes all cached solutions and resets the hit and miss counts.
+	 */
+	public void clear() {
+		for (Segment segment : segments) {
+			segment.clear();
+		}
+		
+		hits.set(0);
+		misses.set(0);
+	}
+	
+	/**
+	 * Returns the number of solutions stored in the cache, which may include
+	 * expired solutions that have not yet been removed.
+	 * 
+	 * @return the number of solutions stored in the cache
+	 */
+	public int size() {
+		int size = 0;
+		
+		for (Segment segment : segments) {
+			size += segment.size();
+		}
+		
+		return size;
+	}
+	
+	/**
+	 * Returns the maximum number of solutions stored in the cache.
+	 * 
+	 * @return the maximum number of solutions stored in the cache
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+	
+	/**
+	 * Returns the number of evaluations using a cached solution.
+	 * 
+	 * @return the number of evaluations using a cached solution
+	 */
+	public long getHits() {
+		return hits.get();
+	}
+	
+	/**
+	 * Returns the number of evaluations of the decorated problem.
+	 * 
+	 * @return the number of evaluations of the decorated problem
+	 */
+	public long getMisses() {
+		return misses.get();
+	}
+	
+	/**
+	 * Returns the fraction of evaluations using a cached solution; or
+	 * {@code 0.0} if no solutions have been evaluated.
+	 * 
+	 * @return the fraction of evaluations using a cached solution
+	 */
+	public double getHitRate() {
+		long hits = getHits();
+		long total = hits + getMisses();
+		return total == 0 ? 0.0 : hits / (double)total;
+	}
+
+	@Override
+	public void close() {
+		problem.close();
+	}
+	
+	/**
+	 * Key identifying a solution by copies of its decision variables.
+	 */
+	private static class Key {
+		
+		/**
+		 * Copies of the decision variables.
+		 */
+		private final Variable[] variables;
+		
+		/**
+		 * The precomputed hash code.
+		 */
+		private final int hashCode;
+		
+		/**
+		 * Constructs the key for the specified solution.
+		 * 
+		 * @param solution the solution
+		 */
+		public Key(Solution solution) {
+			super();
+			
+			variables = new Variable[solution.getNumberOfVariables()];
+			
+			for (int i = 0; i < variables.length; i++) {
+				variables[i] = solution.getVariable(i).copy();
+			}
+			
+			hashCode = Arrays.hashCode(variables);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (obj == this) {
+				return true;
+			} else if ((obj == null) || (obj.getClass() != getClass())) {
+				return false;
+			} else {
+				Key rhs = (Key)obj;
+				
+				return (hashCode == rhs.hashCode) &&
+						Arrays.equals(variables, rhs.variables);
+			}
+		}
+		
+	}
+	
+	/**
+	 * The cached objectives and constraints of a solution.
+	 */
+	private static class Entry {
+		
+		/**
+		 * The objectives.
+		 */
+		private final double[] objectives;
+		
+		/**
+		 * The constraints.
+		 */
+		private final double[] constraints;
+		
+		/**
+		 * The value of {@link System#nanoTime()} when this entry expires; or
+		 * {@code 0} if this entry never expires.
+		 */
+		private final long expiration;
+		
+		/**
+		 * Constructs a new cache entry.
+		 * 
+		 * @param objectives the objectives
+		 * @param constraints the constraints
+		 * @param expiration the value of {@link System#nanoTime()} when this
+		 *        entry expires; or {@code 0} if this entry never expires
+		 */
+		public Entry(double[] objectives, double[] constraints,
+				long expiration) {
+			super();
+			this.objectives = objectives;
+			this.constraints = constraints;
+			this.expiration = expiration;
+		}
+		
+		/**
+		 * Returns {@code true} if this entry has expired; {@code false}
+		 * otherwise.
+		 * 
+		 * @param now the current value of {@link System#nanoTime()}
+		 * @return {@code true} if this entry has expired; {@code false}
+		 *         otherwise
+		 */
+		public boolean isExpired(long now) {
+			return (expiration != 0) && (now - expiration >= 0);
+		}
+		
+	}
+	
+	/**
+	 * A bounded, independently locked portion of the cache.
+	 */
+	private static class Segment {
+		
+		/**
+		 * The cached solutions, ordered from the next to be evicted.
+		 */
+		private final LinkedHashMap<Key, Entry> entries;
+		
+		/**
+		 * Constructs a new segment.
+		 * 
+		 * @param capacity the maximum number of solutions stored in this
+		 *        segment
+		 * @param accessOrder {@code true} to evict the least-recently used
+		 *        solution; {@code false} to evict the oldest solution
+		 */
+		public Segment(final int capacity, boolean accessOrder) {
+			super();
+			
+			entries = new LinkedHashMap<Key, Entry>(16, 0.75f, accessOrder) {
+
+				private static final long serialVersionUID =
+						2750123004876537216L;
+
+				@Override
+				protected boolean removeEldestEntry(
+						Map.Entry<Key, Entry> eldest) {
+					return (size() > capacity) ||
+							eldest.getValue().isExpired(System.nanoTime());
+				}
+				
+			};
+		}
+		
+		/**
+		 * Returns the unexpired entry for the specified key; or {@code null}
+		 * if no such entry exists.
+		 * 
+		 * @param key the key
+		 * @return the unexpired entry for the specified key; or {@code null}
+		 *         if no such entry exists
+		 */
+		public synchronized Entry get(Key key) {
+			Entry entry = entries.get(key);
+			
+			if ((entry != null) && entry.isExpired(System.nanoTime())) {
+				entries.remove(key);
+				return null;
+			}
+			
+			return entry;
+		}
+		
+		/**
+		 * Stores the entry for the specified key, evicting an entry if this
+		 * segment is full.
+		 * 
+		 * @param key the key
+		 * @param entry the entry
+		 */
+		public synchronized void put(Key key, Entry entry) {
+			entries.put(key, entry);
+		}
+		
+		/**
+		 * Removes all entries from this segment.
+		 */
+		public synchronized void clear() {
+			entries.clear();
+		}
+		
+		/**
+		 * Returns the number of entries in this segment.
+		 * 
+		 * @return the number of entries in this segment
+		 */
+		public synchronized int size() {
+			return entries.size();
+		}
+		
+	}
+
+}
@@ -19,13 +19,13 @@ package org.moeaframework.problem.DTLZ;
 
 import org.moeaframework.core.Solution;
 import org.moeaframework.core.variable.RealVariable;
-import org.moeaframework.problem.AbstractProblem;
+import org.moeaframework.problem.AbstractBatchProblem;
 import org.moeaframework.problem.AnalyticalProblem;
 
 /**
  * Implements methods shared by all problems in the DTLZ test suite.
  */
-public abstract class DTLZ extends AbstractProblem 
+public abstract class DTLZ extends AbstractBatchProblem 
 implements AnalyticalProblem {
 
 	/**
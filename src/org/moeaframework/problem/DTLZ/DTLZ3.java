@@ -19,7 +19,6 @@ package org.moeaframework.problem.DTLZ;
 
 import org.moeaframework.core.PRNG;
 import org.moeaframework.core.Solution;
-import org.moeaframework.core.variable.EncodingUtils;
 import org.moeaframework.core.variable.RealVariable;
 
 /**
@@ -50,10 +49,8 @@ public class DTLZ3 extends DTLZ {
 	}
 
 	@Override
-	public void evaluate(Solution solution) {
-		double[] x = EncodingUtils.getReal(solution);
-		double[] f = new double[numberOfObjectives];
-
+	public void evaluate(double[] x, double[] f, double[] c,
+			double[][] workspace) {
 		int k = numberOfVariables - numberOfObjectives + 1;
 
 		double g = 0.0;
@@ -74,8 +71,6 @@ public class DTLZ3 extends DTLZ {
 				f[i] *= Math.sin(0.5 * Math.PI * x[numberOfObjectives - i - 1]);
 			}
 		}
-
-		solution.setObjectives(f);
 	}
 
 	@Override
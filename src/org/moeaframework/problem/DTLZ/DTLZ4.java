@@ -19,7 +19,6 @@ package org.moeaframework.problem.DTLZ;
 
 import org.moeaframework.core.PRNG;
 import org.moeaframework.core.Solution;
-import org.moeaframework.core.variable.EncodingUtils;
 import org.moeaframework.core.variable.RealVariable;
 
 /**
@@ -52,10 +51,8 @@ public class DTLZ4 extends DTLZ {
 	}
 
 	@Override
-	public void evaluate(Solution solution) {
-		double[] x = EncodingUtils.getReal(solution);
-		double[] f = new double[numberOfObjectives];
-
+	public void evaluate(double[] x, double[] f, double[] c,
+			double[][] workspace) {
 		int k = numberOfVariables - numberOfObjectives + 1;
 
 		double g = 0.0;
@@ -75,8 +72,6 @@ public class DTLZ4 extends DTLZ {
 						* Math.pow(x[numberOfObjectives - i - 1], alpha));
 			}
 		}
-
-		solution.setObjectives(f);
 	}
 
 	@Override
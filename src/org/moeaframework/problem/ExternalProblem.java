@@ -34,6 +34,7 @@ import org.moeaframework.core.Variable;
 import org.moeaframework.core.variable.BinaryVariable;
 import org.moeaframework.core.variable.Permutation;
 import org.moeaframework.core.variable.RealVariable;
+import org.moeaframework.core.variable.RealVectorVariable;
 import org.moeaframework.util.io.RedirectStream;
 
 /**
@@ -272,6 +273,17 @@ public abstract class ExternalProblem implements Problem {
 		if (variable instanceof RealVariable) {
 			RealVariable rv = (RealVariable)variable;
 			sb.append(rv.getValue());
+		} else if (variable instanceof RealVectorVariable) {
+			RealVectorVariable rv = (RealVectorVariable)variable;
+			
+			// each element is sent as a separate real-valued variable
+			for (int i=0; i<rv.size(); i++) {
+				if (i > 0) {
+					sb.append(' ');
+				}
+				
+				sb.append(rv.getValue(i));
+			}
 		} else if (variable instanceof BinaryVariable) {
 			BinaryVariable bv = (BinaryVariable)variable;
 			
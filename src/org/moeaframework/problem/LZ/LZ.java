@@ -17,13 +17,9 @@
  */
 package org.moeaframework.problem.LZ;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import org.moeaframework.core.Solution;
-import org.moeaframework.core.variable.EncodingUtils;
 import org.moeaframework.core.variable.RealVariable;
-import org.moeaframework.problem.AbstractProblem;
+import org.moeaframework.problem.AbstractBatchProblem;
 
 /*
  * The following source code is modified from the complicated Pareto set test
@@ -37,7 +33,7 @@ import org.moeaframework.problem.AbstractProblem;
  * Abstract class for implementing problems from the complicated Pareto sets
  * test suite by Hui Li and Qingfu Zhang.
  */
-public abstract class LZ extends AbstractProblem {
+public abstract class LZ extends AbstractBatchProblem {
 
 	/**
 	 * The {@code ptype} code specifying the type of Pareto front.
@@ -105,11 +101,6 @@ public abstract class LZ extends AbstractProblem {
 		return dType;
 	}
 
-	@Override
-	public void evaluate(Solution solution) {
-		solution.setObjectives(evaluate(EncodingUtils.getReal(solution)));
-	}
-
 	@Override
 	public Solution newSolution() {
 		Solution solution = new Solution(numberOfVariables, numberOfObjectives);
@@ -156,50 +147,47 @@ public abstract class LZ extends AbstractProblem {
 	}
 
 	/**
-	 * Controls the Pareto front shape.
+	 * Controls the Pareto front shape, storing the result in the objectives
+	 * array.
 	 */
-	private double[] alphafunction(double[] x) {
+	private void alphafunction(double[] x, double[] f) {
 		if (numberOfObjectives == 2) {
+			f[0] = x[0];
+			
 			if (pType == 21) {
-				return new double[] { x[0], 1 - Math.sqrt(x[0]) };
+				f[1] = 1 - Math.sqrt(x[0]);
 			} else if (pType == 22) {
-				return new double[] { x[0], 1 - x[0] * x[0] };
+				f[1] = 1 - x[0] * x[0];
 			} else if (pType == 23) {
-				return new double[] {
-						x[0],
-						1 - Math.sqrt(x[0]) - x[0]
-								* Math.sin(10 * x[0] * x[0] * Math.PI) };
+				f[1] = 1 - Math.sqrt(x[0]) - x[0]
+						* Math.sin(10 * x[0] * x[0] * Math.PI);
 			} else if (pType == 24) {
-				return new double[] { x[0],
-						1 - x[0] - 0.05 * Math.sin(4 * Math.PI * x[0]) };
+				f[1] = 1 - x[0] - 0.05 * Math.sin(4 * Math.PI * x[0]);
 			} else {
 				throw new IllegalStateException();
 			}
 		} else if (numberOfObjectives == 3) {
 			if (pType == 31) {
-				return new double[] {
-						Math.cos(x[0] * Math.PI / 2)
-								* Math.cos(x[1] * Math.PI / 2),
-						Math.cos(x[0] * Math.PI / 2)
-								* Math.sin(x[1] * Math.PI / 2),
-						Math.sin(x[0] * Math.PI / 2) };
+				f[0] = Math.cos(x[0] * Math.PI / 2)
+						* Math.cos(x[1] * Math.PI / 2);
+				f[1] = Math.cos(x[0] * Math.PI / 2)
+						* Math.sin(x[1] * Math.PI / 2);
+				f[2] = Math.sin(x[0] * Math.PI / 2);
 			} else if (pType == 32) {
-				return new double[] {
-						1 - Math.cos(x[0] * Math.PI / 2)
-								* Math.cos(x[1] * Math.PI / 2),
-						1 - Math.cos(x[0] * Math.PI / 2)
-								* Math.sin(x[1] * Math.PI / 2),
-						1 - Math.sin(x[0] * Math.PI / 2) };
+				f[0] = 1 - Math.cos(x[0] * Math.PI / 2)
+						* Math.cos(x[1] * Math.PI / 2);
+				f[1] = 1 - Math.cos(x[0] * Math.PI / 2)
+						* Math.sin(x[1] * Math.PI / 2);
+				f[2] = 1 - Math.sin(x[0] * Math.PI / 2);
 			} else if (pType == 33) {
-				return new double[] {
-						x[0],
-						x[1],
-						3
-								- (Math.sin(3 * Math.PI * x[0]) + Math.sin(3
-										* Math.PI * x[1])) - 2 * (x[0] + x[1]) };
+				f[0] = x[0];
+				f[1] = x[1];
+				f[2] = 3 - (Math.sin(3 * Math.PI * x[0]) + Math.sin(3
+						* Math.PI * x[1])) - 2 * (x[0] + x[1]);
 			} else if (pType == 34) {
-				return new double[] { x[0] * x[1], x[0] * (1 - x[1]),
-						(1 - x[0]) };
+				f[0] = x[0] * x[1];
+				f[1] = x[0] * (1 - x[1]);
+				f[2] = (1 - x[0]);
 			} else {
 				throw new IllegalStateException();
 			}
@@ -209,11 +197,9 @@ public abstract class LZ extends AbstractProblem {
 	}
 
 	/**
-	 * Controls the distance.
+	 * Controls the distance, using the first {@code dim} values in the array.
 	 */
-	private double betafunction(double[] x) {
-		int dim = x.length;
-
+	private double betafunction(double[] x, int dim) {
 		if (dType == 1) {
 			double beta = 0;
 
@@ -331,111 +317,93 @@ public abstract class LZ extends AbstractProblem {
 		}
 	}
 
-	/**
-	 * Converts a {@code List<Double>} to a {@code double[]}.
-	 * 
-	 * @param list the list to be converted
-	 * @return an array of doubles containing the values in the list
-	 */
-	private double[] toArray(List<Double> list) {
-		double[] array = new double[list.size()];
-
-		for (int i = 0; i < list.size(); i++) {
-			array[i] = list.get(i);
-		}
-
-		return array;
-	}
-
-	/**
-	 * Evaluates the decision variables and returns the objectives.
-	 */
-	private double[] evaluate(double[] x_var) {
-		double[] y_obj = new double[numberOfObjectives];
+	@Override
+	public void evaluate(double[] x, double[] f, double[] c,
+			double[][] workspace) {
+		double[] aa = workspace[0];
+		double[] bb = workspace[1];
+		double[] cc = workspace[2];
+		int na = 0;
+		int nb = 0;
+		int nc = 0;
 
 		if (numberOfObjectives == 2) {
 			if ((lType == 21) || (lType == 22) || (lType == 23)
 					|| (lType == 24) || (lType == 26)) {
-				List<Double> aa = new ArrayList<Double>();
-				List<Double> bb = new ArrayList<Double>();
-
 				for (int n = 1; n < numberOfVariables; n++) {
 					if (n % 2 == 0) {
-						aa.add(psfunc2(x_var[n], x_var[0], n, 1));
+						aa[na++] = psfunc2(x[n], x[0], n, 1);
 					} else {
-						bb.add(psfunc2(x_var[n], x_var[0], n, 2));
+						bb[nb++] = psfunc2(x[n], x[0], n, 2);
 					}
 				}
 
-				double g = betafunction(toArray(aa));
-				double h = betafunction(toArray(bb));
-				double[] alpha = alphafunction(x_var);
+				double g = betafunction(aa, na);
+				double h = betafunction(bb, nb);
+				alphafunction(x, f);
 
-				y_obj[0] = alpha[0] + h;
-				y_obj[1] = alpha[1] + g;
+				f[0] += h;
+				f[1] += g;
 			} else if (lType == 25) {
-				List<Double> aa = new ArrayList<Double>();
-				List<Double> bb = new ArrayList<Double>();
-
 				for (int n = 1; n < numberOfVariables; n++) {
 					if (n % 3 == 0) {
-						aa.add(psfunc2(x_var[n], x_var[0], n, 1));
+						aa[na++] = psfunc2(x[n], x[0], n, 1);
 					} else if (n % 3 == 1) {
-						bb.add(psfunc2(x_var[n], x_var[0], n, 2));
+						bb[nb++] = psfunc2(x[n], x[0], n, 2);
 					} else {
-						double c = psfunc2(x_var[n], x_var[0], n, 3);
+						double value = psfunc2(x[n], x[0], n, 3);
 
 						if (n % 2 == 0) {
-							aa.add(c);
+							aa[na++] = value;
 						} else {
-							bb.add(c);
+							bb[nb++] = value;
 						}
 					}
 				}
 
-				double g = betafunction(toArray(aa));
-				double h = betafunction(toArray(bb));
-				double[] alpha = alphafunction(x_var);
+				double g = betafunction(aa, na);
+				double h = betafunction(bb, nb);
+				alphafunction(x, f);
 
-				y_obj[0] = alpha[0] + h;
-				y_obj[1] = alpha[1] + g;
+				f[0] += h;
+				f[1] += g;
 			} else {
 				throw new IllegalStateException();
 			}
 		} else if (numberOfObjectives == 3) {
 			if ((lType == 31) || (lType == 32)) {
-				List<Double> aa = new ArrayList<Double>();
-				List<Double> bb = new ArrayList<Double>();
-				List<Double> cc = new ArrayList<Double>();
-
 				for (int n = 2; n < numberOfVariables; n++) {
-					double a = psfunc3(x_var[n], x_var[0], x_var[1], n);
+					double a = psfunc3(x[n], x[0], x[1], n);
 
 					if (n % 3 == 0) {
-						aa.add(a);
+						aa[na++] = a;
 					} else if (n % 3 == 1) {
-						bb.add(a);
+						bb[nb++] = a;
 					} else {
-						cc.add(a);
+						cc[nc++] = a;
 					}
 				}
 
-				double g = betafunction(toArray(aa));
-				double h = betafunction(toArray(bb));
-				double e = betafunction(toArray(cc));
-				double[] alpha = alphafunction(x_var);
+				double g = betafunction(aa, na);
+				double h = betafunction(bb, nb);
+				double e = betafunction(cc, nc);
+				alphafunction(x, f);
 
-				y_obj[0] = alpha[0] + h;
-				y_obj[1] = alpha[1] + g;
-				y_obj[2] = alpha[2] + e;
+				f[0] += h;
+				f[1] += g;
+				f[2] += e;
 			} else {
 				throw new IllegalStateException();
 			}
 		} else {
 			throw new IllegalStateException();
 		}
+	}
 
-		return y_obj;
+	@Override
+	public double[][] newWorkspace() {
+		return new double[][] { new double[numberOfVariables],
+				new double[numberOfVariables], new double[numberOfVariables] };
 	}
 
 }
@@ -0,0 +1,279 @@
+/* Copyright 2009-2018 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.problem;
+
+import java.util.List;
+
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.Variable;
+import org.moeaframework.core.variable.BinaryVariable;
+import org.moeaframework.core.variable.RealVariable;
+import org.moeaframework.core.variable.RealVectorVariable;
+
+/**
+ * Surrogate model predicting the objectives and constraints of a solution by
+ * inverse-distance weighting of its {@code k} nearest neighbors in the
+ * training data.  Distances are measured in the decision space after
+ * normalizing each real-valued decision variable by its bounds, so each
+ * variable contributes equally.  Solutions matching a training solution
+ * exactly receive its objectives and constraints.
+ * <p>
+ * Supports {@link RealVariable}, {@link RealVectorVariable} and
+ * {@link BinaryVariable} decision variables, where each bit of a binary
+ * variable is treated as a coordinate in {@code [0, 1]}.  Training is
+ * immediate, and each prediction scans the training data, so this model is
+ * suited to the small training sets produced by expensive problems.
+ */
+public class NearestNeighborModel implements SurrogateModel {
+
+	/**
+	 * The default number of neighbors.
+	 */
+	public static final int DEFAULT_NEIGHBORS = 5;
+
+	/**
+	 * The number of neighbors used in each prediction.
+	 */
+	private final int neighbors;
+
+	/**
+	 * The normalized decision variables of the training solutions.
+	 */
+	private double[][] inputs;
+
+	/**
+	 * The objectives followed by the constraints of the training solutions.
+	 */
+	private double[][] outputs;
+
+	/**
+	 * Constructs a nearest neighbor model using the default number of
+	 * neighbors.
+	 */
+	public NearestNeighborModel() {
+		this(DEFAULT_NEIGHBORS);
+	}
+
+	/**
+	 * Constructs a nearest neighbor model.
+	 * 
+	 * @param neighbors the number of neighbors used in each prediction
+	 * @throws IllegalArgumentException if the number of neighbors is not
+	 *         positive
+	 */
+	public NearestNeighborModel(int neighbors) {
+		super();
+
+		if (neighbors <= 0) {
+			throw new IllegalArgumentException(
+					"number of neighbors must be positive");
+		}
+
+		this.neighbors = neighbors;
+	}
+
+	/**
+	 * Returns the number of neighbors used in each prediction.
+	 * 
+	 * @return the number of neighbors used in each prediction
+	 */
+	public int getNeighbors() {
+		return neighbors;
+	}
+
+	@Override
+	public void train(List<Solution> solutions) {
+		if (solutions.isEmpty()) {
+			throw new IllegalArgumentException("no training solutions");
+		}
+
+		inputs = new double[solutions.size()][];
+		outputs = new double[solutions.size()][];
+
+		for (int i = 0; i < solutions.size(); i++) {
+			Solution solution = solutions.get(i);
+			double[] output = new double[solution.getNumberOfObjectives() +
+					solution.getNumberOfConstraints()];
+
+			System.arraycopy(solution.getObjectives(), 0, output, 0,
+					solution.getNumberOfObjectives());
+			System.arraycopy(solution.getConstraints(), 0, output,
+					solution.getNumberOfObjectives(),
+					solution.getNumberOfConstraints());
+
+			inputs[i] = toInput(solution);
+			outputs[i] = output;
+		}
+	}
+
+	@Override
+	public void predict(Solution solution) {
+		if (inputs == null) {
+			throw new IllegalStateException("model is not trained");
+		}
+
+		double[] input = toInput(solution);
+		int k = Math.min(neighbors, inputs.length);
+		int[] nearest = new int[k];
+		double[] distances = new double[k];
+		int size = 0;
+
+		// insertion into the sorted list of the k nearest neighbors
+		for (int i = 0; i < inputs.length; i++) {
+			double distance = distance(input, inputs[i]);
+
+			if ((size < k) || (distance < distances[size - 1])) {
+				int j = (size < k) ? size++ : size - 1;
+
+				while ((j > 0) && (distances[j - 1] > distance)) {
+					distances[j] = distances[j - 1];
+					nearest[j] = nearest[j - 1];
+					j--;
+				}
+
+				distances[j] = distance;
+				nearest[j] = i;
+			}
+		}
+
+		double[] output = new double[outputs[0].length];
+
+		if (distances[0] == 0.0) {
+			System.arraycopy(outputs[nearest[0]], 0, output, 0,
+					output.length);
+		} else {
+			double totalWeight = 0.0;
+
+			for (int i = 0; i < k; i++) {
+				double weight = 1.0 / distances[i];
+				double[] neighbor = outputs[nearest[i]];
+
+				for (int j = 0; j < output.length; j++) {
+					output[j] += weight * neighbor[j];
+				}
+
+				totalWeight += weight;
+			}
+
+			for (int j = 0; j < output.length; j++) {
+				output[j] /= totalWeight;
+			}
+		}
+
+		for (int i = 0; i < solution.getNumberOfObjectives(); i++) {
+			solution.setObjective(i, output[i]);
+		}
+
+		for (int i = 0; i < solution.getNumberOfConstraints(); i++) {
+			solution.setConstraint(i,
+					output[solution.getNumberOfObjectives() + i]);
+		}
+	}
+
+	/**
+	 * Returns the Euclidean distance between two inputs.
+	 * 
+	 * @param x the first input
+	 * @param y the second input
+	 * @return the Euclidean distance between two inputs
+	 */
+	private static double distance(double[] x, double[] y) {
+		double sum = 0.0;
+
+		for (int i = 0; i < x.length; i++) {
+			double difference = x[i] - y[i];
+			sum += difference * difference;
+		}
+
+		return Math.sqrt(sum);
+	}
+
+	/**
+	 * Returns the normalized decision variables of the specified solution.
+	 * 
+	 * @param solution the solution
+	 * @return the normalized decision variables of the specified solution
+	 * @throws IllegalArgumentException if the solution contains an
+	 *         unsupported decision variable
+	 */
+	private static double[] toInput(Solution solution) {
+		int length = 0;
+
+		for (int i = 0; i < solution.getNumberOfVariables(); i++) {
+			Variable variable = solution.getVariable(i);
+
+			if (variable instanceof RealVariable) {
+				length++;
+			} else if (variable instanceof RealVectorVariable) {
+				length += ((RealVectorVariable)variable).size();
+			} else if (variable instanceof BinaryVariable) {
+				length += ((BinaryVariable)variable).getNumberOfBits();
+			} else {
+				throw new IllegalArgumentException(
+						"unsupported decision variable type");
+			}
+		}
+
+		double[] input = new double[length];
+		int index = 0;
+
+		for (int i = 0; i < solution.getNumberOfVariables(); i++) {
+			Variable variable = solution.getVariable(i);
+
+			if (variable instanceof RealVariable) {
+				RealVariable real = (RealVariable)variable;
+
+				input[index++] = normalize(real.getValue(),
+						real.getLowerBound(), real.getUpperBound());
+			} else if (variable instanceof RealVectorVariable) {
+				RealVectorVariable vector = (RealVectorVariable)variable;
+
+				for (int j = 0; j < vector.size(); j++) {
+					input[index++] = normalize(vector.getValue(j),
+							vector.getLowerBound(j), vector.getUpperBound(j));
+				}
+			} else {
+				BinaryVariable binary = (BinaryVariable)variable;
+
+				for (int j = 0; j < binary.getNumberOfBits(); j++) {
+					input[index++] = binary.get(j) ? 1.0 : 0.0;
+				}
+			}
+		}
+
+		return input;
+	}
+
+	/**
+	 * Returns the value scaled to {@code [0, 1]} by the bounds.
+	 * 
+	 * @param value the value
+	 * @param lowerBound the lower bound
+	 * @param upperBound the upper bound
+	 * @return the value scaled to {@code [0, 1]} by the bounds
+	 */
+	private static double normalize(double value, double lowerBound,
+			double upperBound) {
+		if (upperBound == lowerBound) {
+			return 0.0;
+		} else {
+			return (value - lowerBound) / (upperBound - lowerBound);
+		}
+	}
+
+}
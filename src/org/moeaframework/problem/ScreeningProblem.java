@@ -0,0 +1,51 @@
+/* Copyright 2009-2018 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.problem;
+
+import java.util.List;
+
+import org.moeaframework.core.Problem;
+import org.moeaframework.core.Solution;
+
+/**
+ * Interface for problems that evaluate a batch of candidate solutions
+ * together and may screen out candidates that are not worth evaluating.
+ * Screened-out candidates are never evaluated, so their objectives and
+ * constraints are undefined and they must be discarded by the caller.
+ * Algorithms extending {@link org.moeaframework.algorithm.AbstractAlgorithm}
+ * pass their offspring to {@link #evaluateAll(List)} when calling
+ * {@link org.moeaframework.algorithm.AbstractAlgorithm#evaluateOffspring}.
+ * <p>
+ * Problems decorating another problem should implement this interface and
+ * forward batches to the decorated problem, so screening still takes place
+ * when the screening problem is wrapped.  Calls to
+ * {@link #evaluate(Solution)} must always evaluate the solution.
+ */
+public interface ScreeningProblem extends Problem {
+
+	/**
+	 * Evaluates a batch of candidate solutions, returning the candidates that
+	 * were evaluated in the order they appear in the batch.  Any candidates
+	 * not returned were screened out without being evaluated.
+	 * 
+	 * @param solutions the candidate solutions
+	 * @return the candidates that were evaluated
+	 */
+	public List<Solution> evaluateAll(List<Solution> solutions);
+
+}
@@ -0,0 +1,334 @@
+/* Copyright 2009-2018 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.problem;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.moeaframework.core.NondominatedSorting;
+import org.moeaframework.core.Population;
+import org.moeaframework.core.Problem;
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.comparator.NondominatedSortingComparator;
+
+/**
+ * Decorates an expensive problem with a {@link SurrogateModel} that
+ * pre-screens candidate solutions.  Algorithms calling
+ * {@link org.moeaframework.algorithm.AbstractAlgorithm#evaluateOffspring}
+ * pass each batch of offspring to {@link #evaluateAll(List)}.  The surrogate
+ * model predicts the objectives and constraints of every candidate, the
+ * candidates are ranked by non-dominated sorting and crowding distance on the
+ * predicted values, and only the most promising fraction of the batch is
+ * evaluated by the true problem.  The remaining candidates are screened out
+ * and discarded by the algorithm, so predicted values never reach the
+ * population, archives or result.  Algorithms whose offspring are tied to
+ * specific parents, such as differential evolution and particle swarm
+ * optimization, evaluate every candidate with the true problem.
+ * <p>
+ * Every true evaluation is archived.  All candidates are evaluated by the
+ * true problem until the archive contains the minimum number of training
+ * solutions, after which the model is retrained each time the given number
+ * of new true evaluations are archived.  Calls to {@link #evaluate(Solution)}
+ * always use the true problem.
+ * <p>
+ * Algorithms only count the candidates evaluated by the true problem as
+ * evaluations.  This problem can be wrapped by other decorators that forward
+ * batches, such as {@link CachingProblem} and {@link TimingProblem}.  When
+ * combined with {@link org.moeaframework.util.distributed.DistributedProblem},
+ * this problem should decorate the distributed problem, in which case the
+ * selected candidates of each batch are evaluated in parallel.
+ * <p>
+ * This class is not thread-safe.
+ */
+public class SurrogateAssistedProblem implements ScreeningProblem {
+
+	/**
+	 * The attribute storing the position of each candidate in the batch
+	 * while ranking.
+	 */
+	private static final String INDEX_ATTRIBUTE = "surrogateIndex";
+
+	/**
+	 * The decorated problem.
+	 */
+	private final Problem problem;
+
+	/**
+	 * The surrogate model.
+	 */
+	private final SurrogateModel model;
+
+	/**
+	 * The fraction of each batch evaluated by the true problem.
+	 */
+	private final double fraction;
+
+	/**
+	 * The number of true evaluations required before the surrogate model is
+	 * used.
+	 */
+	private final int minimumTrainingSize;
+
+	/**
+	 * The number of new true evaluations between retraining the surrogate
+	 * model.
+	 */
+	private final int retrainInterval;
+
+	/**
+	 * The copies of all solutions evaluated by the true problem.
+	 */
+	private final List<Solution> archive;
+
+	/**
+	 * The number of solutions archived since the model was last trained; or
+	 * {@code -1} if the model has never been trained.
+	 */
+	private int untrained;
+
+	/**
+	 * The number of candidates screened out without being evaluated.
+	 */
+	private long numberOfScreenedOut;
+
+	/**
+	 * Decorates the specified problem, evaluating the top quarter of each
+	 * batch with the true problem and retraining the model after every 10
+	 * true evaluations once 20 solutions are archived.
+	 * 
+	 * @param problem the problem to decorate
+	 * @param model the surrogate model
+	 */
+	public SurrogateAssistedProblem(Problem problem, SurrogateModel model) {
+		this(problem, model, 0.25, 20, 10);
+	}
+
+	/**
+	 * Decorates the specified problem.
+	 * 
+	 * @param problem the problem to decorate
+	 * @param model the surrogate model
+	 * @param fraction the fraction of each batch evaluated by the true
+	 *        problem; at least one candidate per batch is always evaluated
+	 * @param minimumTrainingSize the number of true evaluations required
+	 *        before the surrogate model is used
+	 * @param retrainInterval the number of new true evaluations between
+	 *        retraining the surrogate model
+	 * @throws IllegalArgumentException if the fraction is not in the range
+	 *         {@code (0, 1]}, or the minimum training size or retrain interval
+	 *         is not positive
+	 */
+	public SurrogateAssistedProblem(Problem problem, SurrogateModel model,
+			double fraction, int minimumTrainingSize, int retrainInterval) {
+		super();
+
+		if ((fraction <= 0.0) || (fraction > 1.0)) {
+			throw new IllegalArgumentException("fraction must be in (0, 1]");
+		}
+
+		if (minimumTrainingSize <= 0) {
+			throw new IllegalArgumentException(
+					"minimum training size must be positive");
+		}
+
+		if (retrainInterval <= 0) {
+			throw new IllegalArgumentException(
+					"retrain interval must be positive");
+		}
+
+		this.problem = problem;
+		this.model = model;
+		this.fraction = fraction;
+		this.minimumTrainingSize = minimumTrainingSize;
+		this.retrainInterval = retrainInterval;
+
+		archive = new ArrayList<Solution>();
+		untrained = -1;
+	}
+
+	/**
+	 * Evaluates the specified solution using the true problem.
+	 * 
+	 * @param solution the solution to evaluate
+	 */
+	@Override
+	public void evaluate(Solution solution) {
+		problem.evaluate(solution);
+		store(solution);
+	}
+
+	/**
+	 * Evaluates a batch of candidate solutions, evaluating the most promising
+	 * candidates using the true problem and screening out the rest.  The
+	 * screened-out candidates are left unevaluated.
+	 * 
+	 * @param solutions the candidate solutions
+	 * @return the candidates evaluated by the true problem, in the order they
+	 *         appear in the batch
+	 */
+	@Override
+	public List<Solution> evaluateAll(List<Solution> solutions) {
+		if (solutions.isEmpty() || (archive.size() < minimumTrainingSize)) {
+			evaluateTrue(solutions);
+			return solutions;
+		}
+
+		if ((untrained < 0) || (untrained >= retrainInterval)) {
+			model.train(archive);
+			untrained = 0;
+		}
+
+		int n = solutions.size();
+		int selected = Math.max(1, (int)Math.ceil(fraction * n));
+
+		if (selected >= n) {
+			evaluateTrue(solutions);
+			return solutions;
+		}
+
+		// predict and rank copies so the candidates are left unchanged
+		List<Solution> candidates = new ArrayList<Solution>(n);
+
+		for (int i = 0; i < n; i++) {
+			Solution candidate = solutions.get(i).copy();
+			model.predict(candidate);
+			candidate.setAttribute(INDEX_ATTRIBUTE, i);
+			candidates.add(candidate);
+		}
+
+		new NondominatedSorting().evaluate(new Population(candidates));
+		Collections.sort(candidates, new NondominatedSortingComparator());
+
+		boolean[] isSelected = new boolean[n];
+		List<Solution> evaluated = new ArrayList<Solution>(selected);
+
+		for (int i = 0; i < selected; i++) {
+			isSelected[(Integer)candidates.get(i).getAttribute(
+					INDEX_ATTRIBUTE)] = true;
+		}
+
+		for (int i = 0; i < n; i++) {
+			if (isSelected[i]) {
+				evaluated.add(solutions.get(i));
+			}
+		}
+
+		numberOfScreenedOut += n - selected;
+		evaluateTrue(evaluated);
+		return evaluated;
+	}
+
+	/**
+	 * Evaluates the specified solutions using the true problem.  All
+	 * solutions are submitted before any are archived, so decorated problems
+	 * evaluating solutions asynchronously can evaluate them in parallel.
+	 * 
+	 * @param solutions the solutions to evaluate
+	 */
+	private void evaluateTrue(List<Solution> solutions) {
+		for (Solution solution : solutions) {
+			problem.evaluate(solution);
+		}
+
+		for (Solution solution : solutions) {
+			store(solution);
+		}
+	}
+
+	/**
+	 * Archives a copy of the specified solution evaluated by the true
+	 * problem.
+	 * 
+	 * @param solution the evaluated solution
+	 */
+	private void store(Solution solution) {
+		archive.add(solution.copy());
+
+		if (untrained >= 0) {
+			untrained++;
+		}
+	}
+
+	/**
+	 * Returns the number of solutions evaluated by the true problem.
+	 * 
+	 * @return the number of solutions evaluated by the true problem
+	 */
+	public int getNumberOfTrueEvaluations() {
+		return archive.size();
+	}
+
+	/**
+	 * Returns the number of candidates screened out without being evaluated.
+	 * 
+	 * @return the number of candidates screened out without being evaluated
+	 */
+	public long getNumberOfScreenedOut() {
+		return numberOfScreenedOut;
+	}
+
+	/**
+	 * Returns the copies of all solutions evaluated by the true problem.
+	 * 
+	 * @return the copies of all solutions evaluated by the true problem
+	 */
+	public List<Solution> getArchive() {
+		return Collections.unmodifiableList(archive);
+	}
+
+	/**
+	 * Returns the surrogate model.
+	 * 
+	 * @return the surrogate model
+	 */
+	public SurrogateModel getModel() {
+		return model;
+	}
+
+	@Override
+	public String getName() {
+		return problem.getName();
+	}
+
+	@Override
+	public int getNumberOfVariables() {
+		return problem.getNumberOfVariables();
+	}
+
+	@Override
+	public int getNumberOfObjectives() {
+		return problem.getNumberOfObjectives();
+	}
+
+	@Override
+	public int getNumberOfConstraints() {
+		return problem.getNumberOfConstraints();
+	}
+
+	@Override
+	public Solution newSolution() {
+		return problem.newSolution();
+	}
+
+	@Override
+	public void close() {
+		problem.close();
+	}
+
+}
@@ -0,0 +1,49 @@
+/* Copyright 2009-2018 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.problem;
+
+import java.util.List;
+
+import org.moeaframework.core.Solution;
+
+/**
+ * A cheap approximation of an expensive problem, trained on solutions
+ * evaluated by the true problem.  Surrogate models are used by
+ * {@link SurrogateAssistedProblem} to pre-screen candidate solutions.
+ */
+public interface SurrogateModel {
+
+	/**
+	 * Trains this model on the specified evaluated solutions, replacing any
+	 * previous training data.  Implementations should copy any data they
+	 * require, since the list may be modified after this method returns.
+	 * 
+	 * @param solutions the evaluated solutions
+	 */
+	public void train(List<Solution> solutions);
+
+	/**
+	 * Assigns the predicted objectives and constraints to the specified
+	 * solution.  This method is only invoked after the model is trained.
+	 * 
+	 * @param solution the solution whose objectives and constraints are
+	 *        predicted
+	 */
+	public void predict(Solution solution);
+
+}
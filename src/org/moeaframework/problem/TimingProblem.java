@@ -17,6 +17,9 @@
  */
 package org.moeaframework.problem;
 
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
 import org.moeaframework.core.Problem;
 import org.moeaframework.core.Solution;
 
@@ -24,8 +27,13 @@ import org.moeaframework.core.Solution;
  * Decorates a problem to collect objective function evaluation timing data.
  * Precision and accuracy of the timing data is dependent on {@link 
  * System#nanoTime()}.
+ * <p>
+ * This class is thread-safe.  When solutions are evaluated concurrently, the
+ * recorded time is the sum of the time spent by each thread.  Batches are
+ * forwarded to the decorated problem if it is a {@link ScreeningProblem}, in
+ * which case only the candidates that were evaluated are counted.
  */
-public class TimingProblem implements Problem {
+public class TimingProblem implements ScreeningProblem {
 	
 	/**
 	 * The decorated problem.
@@ -33,9 +41,14 @@ public class TimingProblem implements Problem {
 	private final Problem problem;
 	
 	/**
-	 * The time, in seconds, expended on objective function evaluation.
+	 * The time, in nanoseconds, expended on objective function evaluation.
 	 */
-	private double time;
+	private final AtomicLong time;
+	
+	/**
+	 * The number of objective function evaluations.
+	 */
+	private final AtomicLong count;
 	
 	/**
 	 * Decorates the specified problem to collecting objective function
@@ -46,6 +59,9 @@ public class TimingProblem implements Problem {
 	public TimingProblem(Problem problem) {
 		super();
 		this.problem = problem;
+		
+		time = new AtomicLong();
+		count = new AtomicLong();
 	}
 
 	@Override
@@ -74,7 +90,28 @@ public class TimingProblem implements Problem {
 		problem.evaluate(solution);
 		long end = System.nanoTime();
 		
-		time += (end - start) / 1e9;
+		time.addAndGet(end - start);
+		count.incrementAndGet();
+	}
+
+	@Override
+	public List<Solution> evaluateAll(List<Solution> solutions) {
+		if (problem instanceof ScreeningProblem) {
+			long start = System.nanoTime();
+			List<Solution> evaluated =
+					((ScreeningProblem)problem).evaluateAll(solutions);
+			long end = System.nanoTime();
+			
+			time.addAndGet(end - start);
+			count.addAndGet(evaluated.size());
+			return evaluated;
+		} else {
+			for (Solution solution : solutions) {
+				evaluate(solution);
+			}
+			
+			return solutions;
+		}
 	}
 
 	@Override
@@ -86,7 +123,8 @@ public class TimingProblem implements Problem {
 	 * Clears any timing data collected.  
 	 */
 	public void clear() {
-		time = 0.0;
+		time.set(0);
+		count.set(0);
 	}
 	
 	/**
@@ -95,7 +133,27 @@ public class TimingProblem implements Problem {
 	 * @return the time, in seconds, expended on objective function evaluation
 	 */
 	public double getTime() {
-		return time;
+		return time.get() / 1e9;
+	}
+	
+	/**
+	 * Returns the time, in nanoseconds, expended on objective function
+	 * evaluation.
+	 * 
+	 * @return the time, in nanoseconds, expended on objective function
+	 *         evaluation
+	 */
+	public long getNanoTime() {
+		return time.get();
+	}
+	
+	/**
+	 * Returns the number of objective function evaluations.
+	 * 
+	 * @return the number of objective function evaluations
+	 */
+	public long getNumberOfEvaluations() {
+		return count.get();
 	}
 
 	@Override
@@ -52,42 +52,36 @@ class FrameworkFunctions {
 		return result;
 	}
 
-	public static double[] calculate_x(double[] t_p, int[] A) {
-		assert Misc.vector_in_01(t_p);
-		assert t_p.length != 0;
-		assert A.length == t_p.length - 1;
+	// Converts the first M elements of "t_p" to the vector "x" in place, where
+	// A is "1,0,0,..." if "degenerate" is true and "1,1,1,..." otherwise
+	public static void calculate_x(double[] t_p, int M, boolean degenerate) {
+		assert Misc.vector_in_01(t_p, 0, M);
+		assert M != 0;
 
-		double[] result = new double[t_p.length];
+		for (int i = 0; i < M - 1; i++) {
+			int A = (!degenerate || (i == 0)) ? 1 : 0;
 
-		for (int i = 0; i < t_p.length - 1; i++) {
-			assert (A[i] == 0) || (A[i] == 1);
-
-			double tmp = Math.max(t_p[t_p.length - 1], A[i]);
-			result[i] = tmp * (t_p[i] - 0.5) + 0.5;
+			double tmp = Math.max(t_p[M - 1], A);
+			t_p[i] = tmp * (t_p[i] - 0.5) + 0.5;
 		}
-
-		result[t_p.length - 1] = t_p[t_p.length - 1];
-
-		return result;
 	}
 
-	public static double[] calculate_f(double D, double[] x, double[] h,
-			double[] S) {
+	// Replaces the shape function results in "h" with the fitness values,
+	// using the scaling constants S = "2,4,6,..." if "scaled" is true and
+	// "1,1,1,..." otherwise
+	public static void calculate_f(double D, double[] x, double[] h,
+			boolean scaled) {
+		int M = h.length;
+
 		assert D > 0.0;
-		assert Misc.vector_in_01(x);
+		assert Misc.vector_in_01(x, 0, M);
 		assert Misc.vector_in_01(h);
-		assert x.length == h.length;
-		assert h.length == S.length;
-
-		double[] result = new double[h.length];
 
-		for (int i = 0; i < h.length; i++) {
-			assert S[i] > 0.0;
+		for (int i = 0; i < M; i++) {
+			double S = scaled ? 2.0 * (i + 1) : 1.0;
 
-			result[i] = D * x[x.length - 1] + S[i] * h[i];
+			h[i] = D * x[M - 1] + S * h[i];
 		}
-
-		return result;
 	}
 
 }
@@ -52,7 +52,12 @@ class Misc {
 	}
 
 	public static boolean vector_in_01(double[] x) {
-		for (int i = 0; i < x.length; i++) {
+		return vector_in_01(x, 0, x.length);
+	}
+
+	// True if the elements x[head], ..., x[tail-1] are in [0,1]
+	public static boolean vector_in_01(double[] x, int head, int tail) {
+		for (int i = head; i < tail; i++) {
 			if ((x[i] < 0.0) || (x[i] > 1.0)) {
 				return false;
 			}
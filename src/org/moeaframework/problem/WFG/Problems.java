@@ -61,21 +61,17 @@ class Problems {
 	 * Normalizes the decision variables to be in the range {@code [0, 1]}.
 	 * 
 	 * @param z the decision variables
-	 * @return the normalized decision variables
+	 * @param y the array receiving the normalized decision variables
 	 */
-	private static double[] WFG_normalize_z(double[] z) {
-		double[] result = new double[z.length];
-
+	private static void WFG_normalize_z(double[] z, double[] y) {
 		for (int i = 0; i < z.length; i++) {
 			double bound = 2.0 * (i + 1);
 
 			assert z[i] >= 0.0;
 			assert z[i] <= bound;
 
-			result[i] = z[i] / bound;
+			y[i] = z[i] / bound;
 		}
-
-		return result;
 	}
 
 	/**
@@ -84,23 +80,26 @@ class Problems {
 	 * {@code z.length-k} distance-related parameters, and {@code M} objectives.
 	 * 
 	 * @param z the decision variables being evaluated
+	 * @param f the array receiving the objectives, whose length is the number
+	 *        of objectives
 	 * @param k the number of position-related variables (implies the number of
 	 *        distance-related variables)
-	 * @param M the number of objectives
-	 * @return the objectives for the WFG1 instance with the specified decision
-	 *         variables and parameters
+	 * @param y the temporary storage, with length at least {@code z.length}
 	 */
-	public static double[] WFG1(double[] z, int k, int M) {
+	public static void WFG1(double[] z, double[] f, int k, double[] y) {
+		int n = z.length;
+		int M = f.length;
+
 		assert ArgsOk(z, k, M);
 
-		double[] y = WFG_normalize_z(z);
+		WFG_normalize_z(z, y);
 
-		y = Transitions.WFG1_t1(y, k);
-		y = Transitions.WFG1_t2(y, k);
-		y = Transitions.WFG1_t3(y);
-		y = Transitions.WFG1_t4(y, k, M);
+		Transitions.WFG1_t1(y, n, k);
+		Transitions.WFG1_t2(y, n, k);
+		Transitions.WFG1_t3(y, n);
+		Transitions.WFG1_t4(y, n, k, M);
 
-		return Shapes.WFG1_shape(y);
+		Shapes.WFG1_shape(y, f);
 	}
 
 	/**
@@ -109,23 +108,26 @@ class Problems {
 	 * {@code z.length-k} distance-related parameters, and {@code M} objectives.
 	 * 
 	 * @param z the decision variables being evaluated
+	 * @param f the array receiving the objectives, whose length is the number
+	 *        of objectives
 	 * @param k the number of position-related variables (implies the number of
 	 *        distance-related variables)
-	 * @param M the number of objectives
-	 * @return the objectives for the WFG2 instance with the specified decision
-	 *         variables and parameters
+	 * @param y the temporary storage, with length at least {@code z.length}
 	 */
-	public static double[] WFG2(double[] z, int k, int M) {
+	public static void WFG2(double[] z, double[] f, int k, double[] y) {
+		int n = z.length;
+		int M = f.length;
+
 		assert ArgsOk(z, k, M);
 		assert (z.length - k) % 2 == 0;
 
-		double[] y = WFG_normalize_z(z);
+		WFG_normalize_z(z, y);
 
-		y = Transitions.WFG1_t1(y, k);
-		y = Transitions.WFG2_t2(y, k);
-		y = Transitions.WFG2_t3(y, k, M);
+		Transitions.WFG1_t1(y, n, k);
+		n = Transitions.WFG2_t2(y, n, k);
+		Transitions.WFG2_t3(y, n, k, M);
 
-		return Shapes.WFG2_shape(y);
+		Shapes.WFG2_shape(y, f);
 	}
 
 	/**
@@ -134,23 +136,26 @@ class Problems {
 	 * {@code z.length-k} distance-related parameters, and {@code M} objectives.
 	 * 
 	 * @param z the decision variables being evaluated
+	 * @param f the array receiving the objectives, whose length is the number
+	 *        of objectives
 	 * @param k the number of position-related variables (implies the number of
 	 *        distance-related variables)
-	 * @param M the number of objectives
-	 * @return the objectives for the WFG3 instance with the specified decision
-	 *         variables and parameters
+	 * @param y the temporary storage, with length at least {@code z.length}
 	 */
-	public static double[] WFG3(double[] z, int k, int M) {
+	public static void WFG3(double[] z, double[] f, int k, double[] y) {
+		int n = z.length;
+		int M = f.length;
+
 		assert ArgsOk(z, k, M);
 		assert (z.length - k) % 2 == 0;
 
-		double[] y = WFG_normalize_z(z);
+		WFG_normalize_z(z, y);
 
-		y = Transitions.WFG1_t1(y, k);
-		y = Transitions.WFG2_t2(y, k);
-		y = Transitions.WFG2_t3(y, k, M);
+		Transitions.WFG1_t1(y, n, k);
+		n = Transitions.WFG2_t2(y, n, k);
+		Transitions.WFG2_t3(y, n, k, M);
 
-		return Shapes.WFG3_shape(y);
+		Shapes.WFG3_shape(y, f);
 	}
 
 	/**
@@ -159,21 +164,24 @@ class Problems {
 	 * {@code z.length-k} distance-related parameters, and {@code M} objectives.
 	 * 
 	 * @param z the decision variables being evaluated
+	 * @param f the array receiving the objectives, whose length is the number
+	 *        of objectives
 	 * @param k the number of position-related variables (implies the number of
 	 *        distance-related variables)
-	 * @param M the number of objectives
-	 * @return the objectives for the WFG4 instance with the specified decision
-	 *         variables and parameters
+	 * @param y the temporary storage, with length at least {@code z.length}
 	 */
-	public static double[] WFG4(double[] z, int k, int M) {
+	public static void WFG4(double[] z, double[] f, int k, double[] y) {
+		int n = z.length;
+		int M = f.length;
+
 		assert ArgsOk(z, k, M);
 
-		double[] y = WFG_normalize_z(z);
+		WFG_normalize_z(z, y);
 
-		y = Transitions.WFG4_t1(y);
-		y = Transitions.WFG2_t3(y, k, M);
+		Transitions.WFG4_t1(y, n);
+		Transitions.WFG2_t3(y, n, k, M);
 
-		return Shapes.WFG4_shape(y);
+		Shapes.WFG4_shape(y, f);
 	}
 
 	/**
@@ -182,21 +190,24 @@ class Problems {
 	 * {@code z.length-k} distance-related parameters, and {@code M} objectives.
 	 * 
 	 * @param z the decision variables being evaluated
+	 * @param f the array receiving the objectives, whose length is the number
+	 *        of objectives
 	 * @param k the number of position-related variables (implies the number of
 	 *        distance-related variables)
-	 * @param M the number of objectives
-	 * @return the objectives for the WFG5 instance with the specified decision
-	 *         variables and parameters
+	 * @param y the temporary storage, with length at least {@code z.length}
 	 */
-	public static double[] WFG5(double[] z, int k, int M) {
+	public static void WFG5(double[] z, double[] f, int k, double[] y) {
+		int n = z.length;
+		int M = f.length;
+
 		assert ArgsOk(z, k, M);
 
-		double[] y = WFG_normalize_z(z);
+		WFG_normalize_z(z, y);
 
-		y = Transitions.WFG5_t1(y);
-		y = Transitions.WFG2_t3(y, k, M);
+		Transitions.WFG5_t1(y, n);
+		Transitions.WFG2_t3(y, n, k, M);
 
-		return Shapes.WFG4_shape(y);
+		Shapes.WFG4_shape(y, f);
 	}
 
 	/**
@@ -205,21 +216,24 @@ class Problems {
 	 * {@code z.length-k} distance-related parameters, and {@code M} objectives.
 	 * 
 	 * @param z the decision variables being evaluated
+	 * @param f the array receiving the objectives, whose length is the number
+	 *        of objectives
 	 * @param k the number of position-related variables (implies the number of
 	 *        distance-related variables)
-	 * @param M the number of objectives
-	 * @return the objectives for the WFG6 instance with the specified decision
-	 *         variables and parameters
+	 * @param y the temporary storage, with length at least {@code z.length}
 	 */
-	public static double[] WFG6(double[] z, int k, int M) {
+	public static void WFG6(double[] z, double[] f, int k, double[] y) {
+		int n = z.length;
+		int M = f.length;
+
 		assert ArgsOk(z, k, M);
 
-		double[] y = WFG_normalize_z(z);
+		WFG_normalize_z(z, y);
 
-		y = Transitions.WFG1_t1(y, k);
-		y = Transitions.WFG6_t2(y, k, M);
+		Transitions.WFG1_t1(y, n, k);
+		Transitions.WFG6_t2(y, n, k, M);
 
-		return Shapes.WFG4_shape(y);
+		Shapes.WFG4_shape(y, f);
 	}
 
 	/**
@@ -228,22 +242,25 @@ class Problems {
 	 * {@code z.length-k} distance-related parameters, and {@code M} objectives.
 	 * 
 	 * @param z the decision variables being evaluated
+	 * @param f the array receiving the objectives, whose length is the number
+	 *        of objectives
 	 * @param k the number of position-related variables (implies the number of
 	 *        distance-related variables)
-	 * @param M the number of objectives
-	 * @return the objectives for the WFG7 instance with the specified decision
-	 *         variables and parameters
+	 * @param y the temporary storage, with length at least {@code z.length}
 	 */
-	public static double[] WFG7(double[] z, int k, int M) {
+	public static void WFG7(double[] z, double[] f, int k, double[] y) {
+		int n = z.length;
+		int M = f.length;
+
 		assert ArgsOk(z, k, M);
 
-		double[] y = WFG_normalize_z(z);
+		WFG_normalize_z(z, y);
 
-		y = Transitions.WFG7_t1(y, k);
-		y = Transitions.WFG1_t1(y, k);
-		y = Transitions.WFG2_t3(y, k, M);
+		Transitions.WFG7_t1(y, n, k);
+		Transitions.WFG1_t1(y, n, k);
+		Transitions.WFG2_t3(y, n, k, M);
 
-		return Shapes.WFG4_shape(y);
+		Shapes.WFG4_shape(y, f);
 	}
 
 	/**
@@ -252,22 +269,25 @@ class Problems {
 	 * {@code z.length-k} distance-related parameters, and {@code M} objectives.
 	 * 
 	 * @param z the decision variables being evaluated
+	 * @param f the array receiving the objectives, whose length is the number
+	 *        of objectives
 	 * @param k the number of position-related variables (implies the number of
 	 *        distance-related variables)
-	 * @param M the number of objectives
-	 * @return the objectives for the WFG8 instance with the specified decision
-	 *         variables and parameters
+	 * @param y the temporary storage, with length at least {@code z.length}
 	 */
-	public static double[] WFG8(double[] z, int k, int M) {
+	public static void WFG8(double[] z, double[] f, int k, double[] y) {
+		int n = z.length;
+		int M = f.length;
+
 		assert ArgsOk(z, k, M);
 
-		double[] y = WFG_normalize_z(z);
+		WFG_normalize_z(z, y);
 
-		y = Transitions.WFG8_t1(y, k);
-		y = Transitions.WFG1_t1(y, k);
-		y = Transitions.WFG2_t3(y, k, M);
+		Transitions.WFG8_t1(y, n, k);
+		Transitions.WFG1_t1(y, n, k);
+		Transitions.WFG2_t3(y, n, k, M);
 
-		return Shapes.WFG4_shape(y);
+		Shapes.WFG4_shape(y, f);
 	}
 
 	/**
@@ -276,22 +296,25 @@ class Problems {
 	 * {@code z.length-k} distance-related parameters, and {@code M} objectives.
 	 * 
 	 * @param z the decision variables being evaluated
+	 * @param f the array receiving the objectives, whose length is the number
+	 *        of objectives
 	 * @param k the number of position-related variables (implies the number of
 	 *        distance-related variables)
-	 * @param M the number of objectives
-	 * @return the objectives for the WFG9 instance with the specified decision
-	 *         variables and parameters
+	 * @param y the temporary storage, with length at least {@code z.length}
 	 */
-	public static double[] WFG9(double[] z, int k, int M) {
+	public static void WFG9(double[] z, double[] f, int k, double[] y) {
+		int n = z.length;
+		int M = f.length;
+
 		assert ArgsOk(z, k, M);
 
-		double[] y = WFG_normalize_z(z);
+		WFG_normalize_z(z, y);
 
-		y = Transitions.WFG9_t1(y);
-		y = Transitions.WFG9_t2(y, k);
-		y = Transitions.WFG6_t2(y, k, M);
+		Transitions.WFG9_t1(y, n);
+		Transitions.WFG9_t2(y, n, k);
+		Transitions.WFG6_t2(y, n, k, M);
 
-		return Shapes.WFG4_shape(y);
+		Shapes.WFG4_shape(y, f);
 	}
 
 	/**
@@ -300,21 +323,24 @@ class Problems {
 	 * {@code z.length-k} distance-related parameters, and {@code M} objectives.
 	 * 
 	 * @param z the decision variables being evaluated
+	 * @param f the array receiving the objectives, whose length is the number
+	 *        of objectives
 	 * @param k the number of position-related variables (implies the number of
 	 *        distance-related variables)
-	 * @param M the number of objectives
-	 * @return the objectives for the I1 instance with the specified decision
-	 *         variables and parameters
+	 * @param y the temporary storage, with length at least {@code z.length}
 	 */
-	public static double[] I1(double[] z, int k, int M) {
+	public static void I1(double[] z, double[] f, int k, double[] y) {
+		int n = z.length;
+		int M = f.length;
+
 		assert ArgsOk(z, k, M);
 
-		double[] y = z;
+		System.arraycopy(z, 0, y, 0, n);
 
-		y = Transitions.I1_t2(y, k);
-		y = Transitions.I1_t3(y, k, M);
+		Transitions.I1_t2(y, n, k);
+		Transitions.I1_t3(y, n, k, M);
 
-		return Shapes.I1_shape(y);
+		Shapes.I1_shape(y, f);
 	}
 
 	/**
@@ -323,22 +349,25 @@ class Problems {
 	 * {@code z.length-k} distance-related parameters, and {@code M} objectives.
 	 * 
 	 * @param z the decision variables being evaluated
+	 * @param f the array receiving the objectives, whose length is the number
+	 *        of objectives
 	 * @param k the number of position-related variables (implies the number of
 	 *        distance-related variables)
-	 * @param M the number of objectives
-	 * @return the objectives for the I2 instance with the specified decision
-	 *         variables and parameters
+	 * @param y the temporary storage, with length at least {@code z.length}
 	 */
-	public static double[] I2(double[] z, int k, int M) {
+	public static void I2(double[] z, double[] f, int k, double[] y) {
+		int n = z.length;
+		int M = f.length;
+
 		assert ArgsOk(z, k, M);
 
-		double[] y = z;
+		System.arraycopy(z, 0, y, 0, n);
 
-		y = Transitions.I2_t1(y);
-		y = Transitions.I1_t2(y, k);
-		y = Transitions.I1_t3(y, k, M);
+		Transitions.I2_t1(y, n);
+		Transitions.I1_t2(y, n, k);
+		Transitions.I1_t3(y, n, k, M);
 
-		return Shapes.I1_shape(y);
+		Shapes.I1_shape(y, f);
 	}
 
 	/**
@@ -347,22 +376,25 @@ class Problems {
 	 * {@code z.length-k} distance-related parameters, and {@code M} objectives.
 	 * 
 	 * @param z the decision variables being evaluated
+	 * @param f the array receiving the objectives, whose length is the number
+	 *        of objectives
 	 * @param k the number of position-related variables (implies the number of
 	 *        distance-related variables)
-	 * @param M the number of objectives
-	 * @return the objectives for the I3 instance with the specified decision
-	 *         variables and parameters
+	 * @param y the temporary storage, with length at least {@code z.length}
 	 */
-	public static double[] I3(double[] z, int k, int M) {
+	public static void I3(double[] z, double[] f, int k, double[] y) {
+		int n = z.length;
+		int M = f.length;
+
 		assert ArgsOk(z, k, M);
 
-		double[] y = z;
+		System.arraycopy(z, 0, y, 0, n);
 
-		y = Transitions.I3_t1(y);
-		y = Transitions.I1_t2(y, k);
-		y = Transitions.I1_t3(y, k, M);
+		Transitions.I3_t1(y, n);
+		Transitions.I1_t2(y, n, k);
+		Transitions.I1_t3(y, n, k, M);
 
-		return Shapes.I1_shape(y);
+		Shapes.I1_shape(y, f);
 	}
 
 	/**
@@ -371,21 +403,24 @@ class Problems {
 	 * {@code z.length-k} distance-related parameters, and {@code M} objectives.
 	 * 
 	 * @param z the decision variables being evaluated
+	 * @param f the array receiving the objectives, whose length is the number
+	 *        of objectives
 	 * @param k the number of position-related variables (implies the number of
 	 *        distance-related variables)
-	 * @param M the number of objectives
-	 * @return the objectives for the I4 instance with the specified decision
-	 *         variables and parameters
+	 * @param y the temporary storage, with length at least {@code z.length}
 	 */
-	public static double[] I4(double[] z, int k, int M) {
+	public static void I4(double[] z, double[] f, int k, double[] y) {
+		int n = z.length;
+		int M = f.length;
+
 		assert ArgsOk(z, k, M);
 
-		double[] y = z;
+		System.arraycopy(z, 0, y, 0, n);
 
-		y = Transitions.I1_t2(y, k);
-		y = Transitions.I4_t3(y, k, M);
+		Transitions.I1_t2(y, n, k);
+		Transitions.I4_t3(y, n, k, M);
 
-		return Shapes.I1_shape(y);
+		Shapes.I1_shape(y, f);
 	}
 
 	/**
@@ -394,22 +429,25 @@ class Problems {
 	 * {@code z.length-k} distance-related parameters, and {@code M} objectives.
 	 * 
 	 * @param z the decision variables being evaluated
+	 * @param f the array receiving the objectives, whose length is the number
+	 *        of objectives
 	 * @param k the number of position-related variables (implies the number of
 	 *        distance-related variables)
-	 * @param M the number of objectives
-	 * @return the objectives for the I5 instance with the specified decision
-	 *         variables and parameters
+	 * @param y the temporary storage, with length at least {@code z.length}
 	 */
-	public static double[] I5(double[] z, int k, int M) {
+	public static void I5(double[] z, double[] f, int k, double[] y) {
+		int n = z.length;
+		int M = f.length;
+
 		assert ArgsOk(z, k, M);
 
-		double[] y = z;
+		System.arraycopy(z, 0, y, 0, n);
 
-		y = Transitions.I3_t1(y);
-		y = Transitions.I1_t2(y, k);
-		y = Transitions.I4_t3(y, k, M);
+		Transitions.I3_t1(y, n);
+		Transitions.I1_t2(y, n, k);
+		Transitions.I4_t3(y, n, k, M);
 
-		return Shapes.I1_shape(y);
+		Shapes.I1_shape(y, f);
 	}
 
 }
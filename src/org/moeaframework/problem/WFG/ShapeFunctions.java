@@ -39,15 +39,14 @@ class ShapeFunctions {
 		super();
 	}
 
-	// True if all elements of "x" are in [0,1], and m is in [1, x.length]
-	public static boolean shape_args_ok(double[] x, int m) {
-		return Misc.vector_in_01(x) && (m >= 1) && (m <= x.length);
+	// True if the first M elements of "x" are in [0,1], and m is in [1, M]
+	public static boolean shape_args_ok(double[] x, int M, int m) {
+		return Misc.vector_in_01(x, 0, M) && (m >= 1) && (m <= M);
 	}
 
-	public static double linear(double[] x, int m) {
-		assert shape_args_ok(x, m);
+	public static double linear(double[] x, int M, int m) {
+		assert shape_args_ok(x, M, m);
 
-		int M = x.length;
 		double result = 1.0;
 
 		for (int i = 1; i <= M - m; i++) {
@@ -61,10 +60,9 @@ class ShapeFunctions {
 		return Misc.correct_to_01(result);
 	}
 
-	public static double convex(double[] x, int m) {
-		assert shape_args_ok(x, m);
+	public static double convex(double[] x, int M, int m) {
+		assert shape_args_ok(x, M, m);
 
-		int M = x.length;
 		double result = 1.0;
 
 		for (int i = 1; i <= M - m; i++) {
@@ -78,10 +76,9 @@ class ShapeFunctions {
 		return Misc.correct_to_01(result);
 	}
 
-	public static double concave(double[] x, int m) {
-		assert shape_args_ok(x, m);
+	public static double concave(double[] x, int M, int m) {
+		assert shape_args_ok(x, M, m);
 
-		int M = x.length;
 		double result = 1.0;
 
 		for (int i = 1; i <= M - m; i++) {
@@ -17,8 +17,6 @@
  */
 package org.moeaframework.problem.WFG;
 
-import java.util.Arrays;
-
 /* This code is based on the Walking Fish Group implementation.
  * 
  * Copyright 2005 The Walking Fish Group (WFG).
@@ -32,6 +30,11 @@ import java.util.Arrays;
  *
  * http://www.wfg.csse.uwa.edu.au/
  */
+/*
+ * Modified so each shape converts the first M elements of t_p in place to the
+ * vector x and stores the fitness values in f, where M = f.length, avoiding
+ * the allocation of intermediate vectors.
+ */
 class Shapes {
 
 	/**
@@ -41,138 +44,95 @@ class Shapes {
 		super();
 	}
 
-	/**
-	 * Construct a vector of length M-1, with values "1,0,0,..." if "degenerate"
-	 * is true, otherwise with values "1,1,1,..." if "degenerate" is false.
-	 */
-	private static int[] WFG_create_A(int M, boolean degenerate) {
-		assert M >= 2;
-
-		if (degenerate) {
-			int[] A = new int[M - 1];
-			A[0] = 1;
-			return A;
-		} else {
-			int[] A = new int[M - 1];
-			Arrays.fill(A, 1);
-			return A;
-		}
-	}
-
 	/**
 	 * Given the vector "x" (the last value of which is the sole distance
 	 * parameter), and the shape function results in "h", calculate the scaled
 	 * fitness values for a WFG problem.
 	 */
-	private static double[] WFG_calculate_f(double[] x, double[] h) {
-		assert Misc.vector_in_01(x);
-		assert Misc.vector_in_01(h);
-		assert x.length == h.length;
-
-		int M = h.length;
-
-		double[] S = new double[M];
-
-		for (int m = 1; m <= M; m++) {
-			S[m - 1] = m * 2.0;
-		}
-
-		return FrameworkFunctions.calculate_f(1.0, x, h, S);
+	private static void WFG_calculate_f(double[] x, double[] h) {
+		FrameworkFunctions.calculate_f(1.0, x, h, true);
 	}
 
-	public static double[] WFG1_shape(double[] t_p) {
-		assert Misc.vector_in_01(t_p);
-		assert t_p.length >= 2;
+	public static void WFG1_shape(double[] t_p, double[] f) {
+		int M = f.length;
 
-		int M = t_p.length;
-
-		int[] A = WFG_create_A(M, false);
-		double[] x = FrameworkFunctions.calculate_x(t_p, A);
+		assert Misc.vector_in_01(t_p, 0, M);
+		assert M >= 2;
 
-		double[] h = new double[M];
+		FrameworkFunctions.calculate_x(t_p, M, false);
+		double[] x = t_p;
 
 		for (int m = 1; m <= M - 1; m++) {
-			h[m - 1] = ShapeFunctions.convex(x, m);
+			f[m - 1] = ShapeFunctions.convex(x, M, m);
 		}
-		h[M - 1] = ShapeFunctions.mixed(x, 5, 1.0);
+		f[M - 1] = ShapeFunctions.mixed(x, 5, 1.0);
 
-		return WFG_calculate_f(x, h);
+		WFG_calculate_f(x, f);
 	}
 
-	public static double[] WFG2_shape(double[] t_p) {
-		assert Misc.vector_in_01(t_p);
-		assert t_p.length >= 2;
+	public static void WFG2_shape(double[] t_p, double[] f) {
+		int M = f.length;
 
-		int M = t_p.length;
-
-		int[] A = WFG_create_A(M, false);
-		double[] x = FrameworkFunctions.calculate_x(t_p, A);
+		assert Misc.vector_in_01(t_p, 0, M);
+		assert M >= 2;
 
-		double[] h = new double[M];
+		FrameworkFunctions.calculate_x(t_p, M, false);
+		double[] x = t_p;
 
 		for (int m = 1; m <= M - 1; m++) {
-			h[m - 1] = ShapeFunctions.convex(x, m);
+			f[m - 1] = ShapeFunctions.convex(x, M, m);
 		}
-		h[M - 1] = ShapeFunctions.disc(x, 5, 1.0, 1.0);
+		f[M - 1] = ShapeFunctions.disc(x, 5, 1.0, 1.0);
 
-		return WFG_calculate_f(x, h);
+		WFG_calculate_f(x, f);
 	}
 
-	public static double[] WFG3_shape(double[] t_p) {
-		assert Misc.vector_in_01(t_p);
-		assert t_p.length >= 2;
-
-		int M = t_p.length;
+	public static void WFG3_shape(double[] t_p, double[] f) {
+		int M = f.length;
 
-		int[] A = WFG_create_A(M, true);
-		double[] x = FrameworkFunctions.calculate_x(t_p, A);
+		assert Misc.vector_in_01(t_p, 0, M);
+		assert M >= 2;
 
-		double[] h = new double[M];
+		FrameworkFunctions.calculate_x(t_p, M, true);
+		double[] x = t_p;
 
 		for (int m = 1; m <= M; m++) {
-			h[m - 1] = ShapeFunctions.linear(x, m);
+			f[m - 1] = ShapeFunctions.linear(x, M, m);
 		}
 
-		return WFG_calculate_f(x, h);
+		WFG_calculate_f(x, f);
 	}
 
-	public static double[] WFG4_shape(double[] t_p) {
-		assert Misc.vector_in_01(t_p);
-		assert t_p.length >= 2;
-
-		int M = t_p.length;
+	public static void WFG4_shape(double[] t_p, double[] f) {
+		int M = f.length;
 
-		int[] A = WFG_create_A(M, false);
-		double[] x = FrameworkFunctions.calculate_x(t_p, A);
+		assert Misc.vector_in_01(t_p, 0, M);
+		assert M >= 2;
 
-		double[] h = new double[M];
+		FrameworkFunctions.calculate_x(t_p, M, false);
+		double[] x = t_p;
 
 		for (int m = 1; m <= M; m++) {
-			h[m - 1] = ShapeFunctions.concave(x, m);
+			f[m - 1] = ShapeFunctions.concave(x, M, m);
 		}
 
-		return WFG_calculate_f(x, h);
+		WFG_calculate_f(x, f);
 	}
 
-	public static double[] I1_shape(double[] t_p) {
-		assert Misc.vector_in_01(t_p);
-		assert t_p.length >= 2;
+	public static void I1_shape(double[] t_p, double[] f) {
+		int M = f.length;
 
-		int M = t_p.length;
-
-		int[] A = WFG_create_A(M, false);
-		double[] x = FrameworkFunctions.calculate_x(t_p, A);
+		assert Misc.vector_in_01(t_p, 0, M);
+		assert M >= 2;
 
-		double[] h = new double[M];
+		FrameworkFunctions.calculate_x(t_p, M, false);
+		double[] x = t_p;
 
 		for (int m = 1; m <= M; m++) {
-			h[m - 1] = ShapeFunctions.concave(x, m);
+			f[m - 1] = ShapeFunctions.concave(x, M, m);
 		}
 
-		double[] S = new double[M];
-		Arrays.fill(S, 1.0);
-
-		return FrameworkFunctions.calculate_f(1.0, x, h, S);
+		FrameworkFunctions.calculate_f(1.0, x, f, false);
 	}
 
 }
@@ -133,24 +133,47 @@ class TransFunctions {
 		return Misc.correct_to_01(numerator / denominator);
 	}
 
-	public static double r_nonsep(double[] y, int A) {
-		assert y.length != 0;
-		assert Misc.vector_in_01(y);
-		assert (A >= 1) && (A <= y.length);
-		assert y.length % A == 0;
+	/**
+	 * The unweighted sum reduction of y[head], ..., y[tail-1].  This produces
+	 * the same result as calling r_sum with a vector of unit weights.
+	 */
+	public static double r_sum(double[] y, int head, int tail) {
+		assert head < tail;
+		assert Misc.vector_in_01(y, head, tail);
+
+		double numerator = 0.0;
+
+		for (int i = head; i < tail; i++) {
+			numerator += y[i];
+		}
+
+		return Misc.correct_to_01(numerator / (tail - head));
+	}
+
+	/**
+	 * The non-separable reduction of y[head], ..., y[tail-1].
+	 */
+	public static double r_nonsep(double[] y, int head, int tail, int A) {
+		int length = tail - head;
+
+		assert length != 0;
+		assert Misc.vector_in_01(y, head, tail);
+		assert (A >= 1) && (A <= length);
+		assert length % A == 0;
 
 		double numerator = 0.0;
 
-		for (int j = 0; j < y.length; j++) {
-			numerator += y[j];
+		for (int j = 0; j < length; j++) {
+			numerator += y[head + j];
 
 			for (int k = 0; k <= A - 2; k++) {
-				numerator += Math.abs(y[j] - y[(j + k + 1) % y.length]);
+				numerator += Math.abs(y[head + j] -
+						y[head + (j + k + 1) % length]);
 			}
 		}
 
 		double tmp = Math.ceil(A / 2.0);
-		double denominator = y.length * tmp * (1.0 + 2.0 * A - 2.0 * tmp) / A;
+		double denominator = length * tmp * (1.0 + 2.0 * A - 2.0 * tmp) / A;
 
 		return Misc.correct_to_01(numerator / denominator);
 	}
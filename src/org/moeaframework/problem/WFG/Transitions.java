@@ -17,8 +17,6 @@
  */
 package org.moeaframework.problem.WFG;
 
-import java.util.Arrays;
-
 /* This code is based on the Walking Fish Group implementation.
  * 
  * Copyright 2005 The Walking Fish Group (WFG).
@@ -32,6 +30,13 @@ import java.util.Arrays;
  *
  * http://www.wfg.csse.uwa.edu.au/
  */
+/*
+ * Modified to apply each transition in place to the first n elements of y,
+ * avoiding the allocation of intermediate vectors.  Reductions write their
+ * result into the first elements of y, which is safe since every output
+ * element precedes the inputs read by subsequent elements.  WFG2_t2 returns
+ * the length of the reduced vector.
+ */
 class Transitions {
 
 	/**
@@ -41,352 +46,221 @@ class Transitions {
 		super();
 	}
 
-	/**
-	 * Construct a vector with the elements v[head], ..., v[tail-1].
-	 */
-	private static double[] subvector(double[] v, int head, int tail) {
-		assert (head >= 0) && (head < tail);
-		assert tail <= v.length;
-
-		double[] result = new double[tail - head];
-
-		for (int i = head; i < tail; i++) {
-			result[i - head] = v[i];
-		}
-
-		return result;
-	}
-
-	public static double[] WFG1_t1(double[] y, int k) {
-		int n = y.length;
-
-		assert Misc.vector_in_01(y);
+	public static void WFG1_t1(double[] y, int n, int k) {
+		assert Misc.vector_in_01(y, 0, n);
 		assert (k >= 1) && (k < n);
 
-		double[] t = new double[n];
-
-		for (int i = 0; i < k; i++) {
-			t[i] = y[i];
-		}
-
 		for (int i = k; i < n; i++) {
-			t[i] = TransFunctions.s_linear(y[i], 0.35);
+			y[i] = TransFunctions.s_linear(y[i], 0.35);
 		}
-
-		return t;
 	}
 
-	public static double[] WFG1_t2(double[] y, int k) {
-		int n = y.length;
-
-		assert Misc.vector_in_01(y);
+	public static void WFG1_t2(double[] y, int n, int k) {
+		assert Misc.vector_in_01(y, 0, n);
 		assert (k >= 1) && (k < n);
 
-		double[] t = new double[n];
-
-		for (int i = 0; i < k; i++) {
-			t[i] = y[i];
-		}
-
 		for (int i = k; i < n; i++) {
-			t[i] = TransFunctions.b_flat(y[i], 0.8, 0.75, 0.85);
+			y[i] = TransFunctions.b_flat(y[i], 0.8, 0.75, 0.85);
 		}
-
-		return t;
 	}
 
-	public static double[] WFG1_t3(double[] y) {
-		int n = y.length;
-
-		assert Misc.vector_in_01(y);
-
-		double[] t = new double[n];
+	public static void WFG1_t3(double[] y, int n) {
+		assert Misc.vector_in_01(y, 0, n);
 
 		for (int i = 0; i < n; i++) {
-			t[i] = TransFunctions.b_poly(y[i], 0.02);
+			y[i] = TransFunctions.b_poly(y[i], 0.02);
 		}
-
-		return t;
 	}
 
-	public static double[] WFG1_t4(double[] y, int k, int M) {
-		int n = y.length;
-
-		assert Misc.vector_in_01(y);
+	public static void WFG1_t4(double[] y, int n, int k, int M) {
+		assert Misc.vector_in_01(y, 0, n);
 		assert (k >= 1) && (k < n);
 		assert M >= 2;
 		assert k % (M - 1) == 0;
 
-		double[] w = new double[n];
-
-		for (int i = 1; i <= n; i++) {
-			w[i - 1] = 2.0 * i;
-		}
-
-		double[] t = new double[M];
-
 		for (int i = 1; i <= M - 1; i++) {
 			int head = (i - 1) * k / (M - 1);
 			int tail = i * k / (M - 1);
 
-			double[] y_sub = subvector(y, head, tail);
-			double[] w_sub = subvector(w, head, tail);
-
-			t[i - 1] = TransFunctions.r_sum(y_sub, w_sub);
+			y[i - 1] = WFG1_r_sum(y, head, tail);
 		}
 
-		double[] y_sub = subvector(y, k, n);
-		double[] w_sub = subvector(w, k, n);
+		y[M - 1] = WFG1_r_sum(y, k, n);
+	}
+
+	/**
+	 * The weighted sum reduction of y[head], ..., y[tail-1] using the weights
+	 * w[i] = 2(i+1) required by WFG1_t4.
+	 */
+	private static double WFG1_r_sum(double[] y, int head, int tail) {
+		assert head < tail;
+		assert Misc.vector_in_01(y, head, tail);
+
+		double numerator = 0.0;
+		double denominator = 0.0;
 
-		t[M - 1] = TransFunctions.r_sum(y_sub, w_sub);
+		for (int i = head; i < tail; i++) {
+			double w = 2.0 * (i + 1);
 
-		return t;
+			numerator += w * y[i];
+			denominator += w;
+		}
+
+		return Misc.correct_to_01(numerator / denominator);
 	}
 
-	public static double[] WFG2_t2(double[] y, int k) {
-		int n = y.length;
+	public static int WFG2_t2(double[] y, int n, int k) {
 		int l = n - k;
 
-		assert Misc.vector_in_01(y);
+		assert Misc.vector_in_01(y, 0, n);
 		assert (k >= 1) && (k < n);
 		assert l % 2 == 0;
 
-		double[] t = new double[k + l / 2];
-
-		for (int i = 0; i < k; i++) {
-			t[i] = y[i];
-		}
-
 		for (int i = k + 1; i <= k + l / 2; i++) {
 			int head = k + 2 * (i - k) - 2;
 			int tail = k + 2 * (i - k);
 
-			t[i - 1] = TransFunctions.r_nonsep(subvector(y, head, tail), 2);
+			y[i - 1] = TransFunctions.r_nonsep(y, head, tail, 2);
 		}
 
-		return t;
+		return k + l / 2;
 	}
 
-	public static double[] WFG2_t3(double[] y, int k, int M) {
-		int n = y.length;
-
-		assert Misc.vector_in_01(y);
+	public static void WFG2_t3(double[] y, int n, int k, int M) {
+		assert Misc.vector_in_01(y, 0, n);
 		assert (k >= 1) && (k < n);
 		assert M >= 2;
 		assert k % (M - 1) == 0;
 
-		double[] w = new double[n];
-		Arrays.fill(w, 1.0);
-
-		double[] t = new double[M];
-
 		for (int i = 1; i <= M - 1; i++) {
 			int head = (i - 1) * k / (M - 1);
 			int tail = i * k / (M - 1);
 
-			double[] y_sub = subvector(y, head, tail);
-			double[] w_sub = subvector(w, head, tail);
-
-			t[i - 1] = TransFunctions.r_sum(y_sub, w_sub);
+			y[i - 1] = TransFunctions.r_sum(y, head, tail);
 		}
 
-		double[] y_sub = subvector(y, k, n);
-		double[] w_sub = subvector(w, k, n);
-
-		t[M - 1] = TransFunctions.r_sum(y_sub, w_sub);
-
-		return t;
+		y[M - 1] = TransFunctions.r_sum(y, k, n);
 	}
 
-	public static double[] WFG4_t1(double[] y) {
-		int n = y.length;
-
-		assert Misc.vector_in_01(y);
-
-		double[] t = new double[n];
+	public static void WFG4_t1(double[] y, int n) {
+		assert Misc.vector_in_01(y, 0, n);
 
 		for (int i = 0; i < n; i++) {
-			t[i] = TransFunctions.s_multi(y[i], 30, 10, 0.35);
+			y[i] = TransFunctions.s_multi(y[i], 30, 10, 0.35);
 		}
-
-		return t;
 	}
 
-	public static double[] WFG5_t1(double[] y) {
-		int n = y.length;
-
-		assert Misc.vector_in_01(y);
-
-		double[] t = new double[n];
+	public static void WFG5_t1(double[] y, int n) {
+		assert Misc.vector_in_01(y, 0, n);
 
 		for (int i = 0; i < n; i++) {
-			t[i] = TransFunctions.s_decept(y[i], 0.35, 0.001, 0.05);
+			y[i] = TransFunctions.s_decept(y[i], 0.35, 0.001, 0.05);
 		}
-
-		return t;
 	}
 
-	public static double[] WFG6_t2(double[] y, int k, int M) {
-		int n = y.length;
-
-		assert Misc.vector_in_01(y);
+	public static void WFG6_t2(double[] y, int n, int k, int M) {
+		assert Misc.vector_in_01(y, 0, n);
 		assert (k >= 1) && (k < n);
 		assert M >= 2;
 		assert k % (M - 1) == 0;
 
-		double[] t = new double[M];
-
 		for (int i = 1; i <= M - 1; i++) {
 			int head = (i - 1) * k / (M - 1);
 			int tail = i * k / (M - 1);
 
-			double[] y_sub = subvector(y, head, tail);
-
-			t[i - 1] = TransFunctions.r_nonsep(y_sub, k / (M - 1));
+			y[i - 1] = TransFunctions.r_nonsep(y, head, tail, k / (M - 1));
 		}
 
-		double[] y_sub = subvector(y, k, n);
-
-		t[M - 1] = TransFunctions.r_nonsep(y_sub, n - k);
-
-		return t;
+		y[M - 1] = TransFunctions.r_nonsep(y, k, n, n - k);
 	}
 
-	public static double[] WFG7_t1(double[] y, int k) {
-		int n = y.length;
-
-		assert Misc.vector_in_01(y);
+	public static void WFG7_t1(double[] y, int n, int k) {
+		assert Misc.vector_in_01(y, 0, n);
 		assert (k >= 1) && (k < n);
 
-		double[] w = new double[n];
-		Arrays.fill(w, 1.0);
-
-		double[] t = new double[n];
-
+		// ascending order, since y[i] depends only on the later elements
 		for (int i = 0; i < k; i++) {
-			double[] y_sub = subvector(y, i + 1, n);
-			double[] w_sub = subvector(w, i + 1, n);
+			double u = TransFunctions.r_sum(y, i + 1, n);
 
-			double u = TransFunctions.r_sum(y_sub, w_sub);
-
-			t[i] = TransFunctions.b_param(y[i], u, 0.98 / 49.98, 0.02, 50);
+			y[i] = TransFunctions.b_param(y[i], u, 0.98 / 49.98, 0.02, 50);
 		}
-
-		for (int i = k; i < n; i++) {
-			t[i] = y[i];
-		}
-
-		return t;
 	}
 
-	public static double[] WFG8_t1(double[] y, int k) {
-		int n = y.length;
-
-		assert Misc.vector_in_01(y);
+	public static void WFG8_t1(double[] y, int n, int k) {
+		assert Misc.vector_in_01(y, 0, n);
 		assert (k >= 1) && (k < n);
 
-		double[] w = new double[n];
-		Arrays.fill(w, 1.0);
-
-		double[] t = new double[n];
+		// y[i] depends on the untransformed values of all prior elements,
+		// which are accumulated in the same order as r_sum
+		double sum = 0.0;
 
 		for (int i = 0; i < k; i++) {
-			t[i] = y[i];
+			sum += y[i];
 		}
 
 		for (int i = k; i < n; i++) {
-			double[] y_sub = subvector(y, 0, i);
-			double[] w_sub = subvector(w, 0, i);
-
-			double u = TransFunctions.r_sum(y_sub, w_sub);
+			double u = Misc.correct_to_01(sum / i);
+			double value = y[i];
 
-			t[i] = TransFunctions.b_param(y[i], u, 0.98 / 49.98, 0.02, 50);
+			y[i] = TransFunctions.b_param(value, u, 0.98 / 49.98, 0.02, 50);
+			sum += value;
 		}
-
-		return t;
 	}
 
-	public static double[] WFG9_t1(double[] y) {
-		int n = y.length;
-
-		assert Misc.vector_in_01(y);
-
-		double[] w = new double[n];
-		Arrays.fill(w, 1.0);
-
-		double[] t = new double[n];
+	public static void WFG9_t1(double[] y, int n) {
+		assert Misc.vector_in_01(y, 0, n);
 
+		// ascending order, since y[i] depends only on the later elements
 		for (int i = 0; i < n - 1; i++) {
-			double[] y_sub = subvector(y, i + 1, n);
-			double[] w_sub = subvector(w, i + 1, n);
-
-			double u = TransFunctions.r_sum(y_sub, w_sub);
+			double u = TransFunctions.r_sum(y, i + 1, n);
 
-			t[i] = TransFunctions.b_param(y[i], u, 0.98 / 49.98, 0.02, 50);
+			y[i] = TransFunctions.b_param(y[i], u, 0.98 / 49.98, 0.02, 50);
 		}
-
-		t[n - 1] = y[n - 1];
-
-		return t;
 	}
 
-	public static double[] WFG9_t2(double[] y, int k) {
-		int n = y.length;
-
-		assert Misc.vector_in_01(y);
+	public static void WFG9_t2(double[] y, int n, int k) {
+		assert Misc.vector_in_01(y, 0, n);
 		assert (k >= 1) && (k < n);
 
-		double[] t = new double[n];
-
 		for (int i = 0; i < k; i++) {
-			t[i] = TransFunctions.s_decept(y[i], 0.35, 0.001, 0.05);
+			y[i] = TransFunctions.s_decept(y[i], 0.35, 0.001, 0.05);
 		}
 
 		for (int i = k; i < n; i++) {
-			t[i] = TransFunctions.s_multi(y[i], 30, 95, 0.35);
+			y[i] = TransFunctions.s_multi(y[i], 30, 95, 0.35);
 		}
-
-		return t;
 	}
 
-	public static double[] I1_t2(double[] y, int k) {
-		return WFG1_t1(y, k);
+	public static void I1_t2(double[] y, int n, int k) {
+		WFG1_t1(y, n, k);
 	}
 
-	public static double[] I1_t3(double[] y, int k, int M) {
-		return WFG2_t3(y, k, M);
+	public static void I1_t3(double[] y, int n, int k, int M) {
+		WFG2_t3(y, n, k, M);
 	}
 
-	public static double[] I2_t1(double[] y) {
-		return WFG9_t1(y);
+	public static void I2_t1(double[] y, int n) {
+		WFG9_t1(y, n);
 	}
 
-	public static double[] I3_t1(double[] y) {
-		int n = y.length;
+	public static void I3_t1(double[] y, int n) {
+		assert Misc.vector_in_01(y, 0, n);
 
-		assert Misc.vector_in_01(y);
-
-		double[] w = new double[n];
-		Arrays.fill(w, 1.0);
-
-		double[] t = new double[n];
-
-		t[0] = y[0];
+		// y[i] depends on the untransformed values of all prior elements,
+		// which are accumulated in the same order as r_sum
+		double sum = y[0];
 
 		for (int i = 1; i < n; i++) {
-			double[] y_sub = subvector(y, 0, i);
-			double[] w_sub = subvector(w, 0, i);
+			double u = Misc.correct_to_01(sum / i);
+			double value = y[i];
 
-			double u = TransFunctions.r_sum(y_sub, w_sub);
-
-			t[i] = TransFunctions.b_param(y[i], u, 0.98 / 49.98, 0.02, 50);
+			y[i] = TransFunctions.b_param(value, u, 0.98 / 49.98, 0.02, 50);
+			sum += value;
 		}
-
-		return t;
 	}
 
-	public static double[] I4_t3(double[] y, int k, int M) {
-		return WFG6_t2(y, k, M);
+	public static void I4_t3(double[] y, int n, int k, int M) {
+		WFG6_t2(y, n, k, M);
 	}
 
 }
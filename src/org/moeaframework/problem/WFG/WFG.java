@@ -19,13 +19,13 @@ package org.moeaframework.problem.WFG;
 
 import org.moeaframework.core.Solution;
 import org.moeaframework.core.variable.RealVariable;
-import org.moeaframework.problem.AbstractProblem;
+import org.moeaframework.problem.AbstractBatchProblem;
 import org.moeaframework.problem.AnalyticalProblem;
 
 /**
  * Implements methods shared by all problems in the WFG test suite.
  */
-public abstract class WFG extends AbstractProblem 
+public abstract class WFG extends AbstractBatchProblem 
 implements AnalyticalProblem {
 
 	/**
@@ -59,6 +59,11 @@ implements AnalyticalProblem {
 		this.M = M;
 	}
 
+	@Override
+	public double[][] newWorkspace() {
+		return new double[][] { new double[k + l] };
+	}
+
 	@Override
 	public Solution newSolution() {
 		Solution solution = new Solution(k + l, M);
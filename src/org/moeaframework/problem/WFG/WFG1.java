@@ -39,10 +39,9 @@ public class WFG1 extends WFG {
 	}
 
 	@Override
-	public void evaluate(Solution solution) {
-		double[] v = EncodingUtils.getReal(solution);
-		double[] f = Problems.WFG1(v, k, M);
-		solution.setObjectives(f);
+	public void evaluate(double[] x, double[] f, double[] c,
+			double[][] workspace) {
+		Problems.WFG1(x, f, k, workspace[0]);
 	}
 
 	@Override
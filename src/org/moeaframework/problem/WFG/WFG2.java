@@ -39,10 +39,9 @@ public class WFG2 extends WFG {
 	}
 
 	@Override
-	public void evaluate(Solution solution) {
-		double[] v = EncodingUtils.getReal(solution);
-		double[] f = Problems.WFG2(v, k, M);
-		solution.setObjectives(f);
+	public void evaluate(double[] x, double[] f, double[] c,
+			double[][] workspace) {
+		Problems.WFG2(x, f, k, workspace[0]);
 	}
 
 	@Override
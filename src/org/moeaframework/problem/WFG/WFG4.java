@@ -39,10 +39,9 @@ public class WFG4 extends WFG {
 	}
 
 	@Override
-	public void evaluate(Solution solution) {
-		double[] v = EncodingUtils.getReal(solution);
-		double[] f = Problems.WFG4(v, k, M);
-		solution.setObjectives(f);
+	public void evaluate(double[] x, double[] f, double[] c,
+			double[][] workspace) {
+		Problems.WFG4(x, f, k, workspace[0]);
 	}
 
 	@Override
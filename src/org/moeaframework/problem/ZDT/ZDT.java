@@ -19,12 +19,12 @@ package org.moeaframework.problem.ZDT;
 
 import org.moeaframework.core.Solution;
 import org.moeaframework.core.variable.RealVariable;
-import org.moeaframework.problem.AbstractProblem;
+import org.moeaframework.problem.AbstractBatchProblem;
 
 /**
- * Implements methods shared by all problems in the ZDT test suite.
+ * Implements methods shared by the real-valued problems in the ZDT test suite.
  */
-public abstract class ZDT extends AbstractProblem {
+public abstract class ZDT extends AbstractBatchProblem {
 
 	/**
 	 * Constructs a ZDT problem instance with the specified number of variables.
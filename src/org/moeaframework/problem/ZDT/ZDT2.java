@@ -17,9 +17,6 @@
  */
 package org.moeaframework.problem.ZDT;
 
-import org.moeaframework.core.Solution;
-import org.moeaframework.core.variable.EncodingUtils;
-
 /**
  * The ZDT2 test problem.
  */
@@ -43,9 +40,8 @@ public class ZDT2 extends ZDT {
 	}
 
 	@Override
-	public void evaluate(Solution solution) {
-		double[] x = EncodingUtils.getReal(solution);
-
+	public void evaluate(double[] x, double[] f, double[] c,
+			double[][] workspace) {
 		double g = 0.0;
 		for (int i = 1; i < x.length; i++) {
 			g += x[i];
@@ -54,8 +50,8 @@ public class ZDT2 extends ZDT {
 
 		double h = 1.0 - Math.pow(x[0] / g, 2.0);
 
-		solution.setObjective(0, x[0]);
-		solution.setObjective(1, g * h);
+		f[0] = x[0];
+		f[1] = g * h;
 	}
 
 }
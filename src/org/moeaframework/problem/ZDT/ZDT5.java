@@ -19,17 +19,19 @@ package org.moeaframework.problem.ZDT;
 
 import org.moeaframework.core.Solution;
 import org.moeaframework.core.variable.BinaryVariable;
+import org.moeaframework.problem.AbstractProblem;
 
 /**
- * The ZDT5 test problem.
+ * The ZDT5 test problem.  Unlike the other ZDT problems, ZDT5 uses binary
+ * decision variables and therefore does not support batch evaluation.
  */
-public class ZDT5 extends ZDT {
+public class ZDT5 extends AbstractProblem {
 
 	/**
 	 * Constructs a ZDT5 test problem with 11 decision variables.
 	 */
 	public ZDT5() {
-		super(11);
+		this(11);
 	}
 
 	/**
@@ -39,7 +41,7 @@ public class ZDT5 extends ZDT {
 	 * @param numberOfVariables the number of decision variables
 	 */
 	public ZDT5(int numberOfVariables) {
-		super(numberOfVariables);
+		super(numberOfVariables, 2);
 	}
 
 	@Override
@@ -17,9 +17,6 @@
  */
 package org.moeaframework.problem.ZDT;
 
-import org.moeaframework.core.Solution;
-import org.moeaframework.core.variable.EncodingUtils;
-
 /**
  * The ZDT6 test problem.
  */
@@ -43,10 +40,9 @@ public class ZDT6 extends ZDT {
 	}
 
 	@Override
-	public void evaluate(Solution solution) {
-		double[] x = EncodingUtils.getReal(solution);
-
-		double f = 1.0 - Math.exp(-4.0 * x[0])
+	public void evaluate(double[] x, double[] f, double[] c,
+			double[][] workspace) {
+		f[0] = 1.0 - Math.exp(-4.0 * x[0])
 				* Math.pow(Math.sin(6.0 * Math.PI * x[0]), 6.0);
 
 		double g = 0.0;
@@ -55,10 +51,9 @@ public class ZDT6 extends ZDT {
 		}
 		g = 1.0 + 9.0 * Math.pow(g / (numberOfVariables - 1), 0.25);
 
-		double h = 1.0 - Math.pow(f / g, 2.0);
+		double h = 1.0 - Math.pow(f[0] / g, 2.0);
 
-		solution.setObjective(0, f);
-		solution.setObjective(1, g * h);
+		f[1] = g * h;
 	}
 
 }
@@ -0,0 +1,144 @@
+/* Copyright 2009-2018 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.util;
+
+import org.moeaframework.core.FrameworkException;
+
+/**
+ * Executes the iterations of a loop on multiple threads.  Iterations are
+ * interleaved among the threads, with thread {@code t} executing iterations
+ * {@code t}, {@code t + threads}, {@code t + 2*threads}, etc., which balances
+ * the work of loops over the rows of triangular matrices.  The calling thread
+ * blocks until all iterations complete.
+ * 
+ * <pre>
+ * {@code
+ * ParallelLoop.run(n, threads, new ParallelLoop.Body() {
+ *   public void run(int index, int thread) {
+ *     ...code for iteration index...
+ *   }
+ * });
+ * }
+ * </pre>
+ */
+public class ParallelLoop {
+	
+	/**
+	 * Private constructor to prevent instantiation.
+	 */
+	private ParallelLoop() {
+		super();
+	}
+	
+	/**
+	 * Executes iterations {@code 0} through {@code n-1} of the loop body.  If
+	 * the number of threads is {@code 1} or there is only one iteration, the
+	 * iterations are executed in order on the calling thread.
+	 * 
+	 * @param n the number of iterations
+	 * @param threads the maximum number of threads
+	 * @param body the loop body
+	 * @throws FrameworkException if the calling thread was interrupted or an
+	 *         iteration failed with a checked exception
+	 */
+	public static void run(final int n, int threads, final Body body) {
+		final int numberOfThreads = getNumberOfThreads(n, threads);
+		
+		if (numberOfThreads == 1) {
+			for (int i = 0; i < n; i++) {
+				body.run(i, 0);
+			}
+			
+			return;
+		}
+		
+		final Throwable[] errors = new Throwable[numberOfThreads];
+		Thread[] workers = new Thread[numberOfThreads];
+		
+		for (int t = 0; t < numberOfThreads; t++) {
+			final int thread = t;
+			
+			workers[t] = new Thread() {
+				
+				@Override
+				public void run() {
+					try {
+						for (int i = thread; i < n; i += numberOfThreads) {
+							body.run(i, thread);
+						}
+					} catch (Throwable e) {
+						errors[thread] = e;
+					}
+				}
+				
+			};
+			
+			workers[t].start();
+		}
+		
+		try {
+			for (int t = 0; t < numberOfThreads; t++) {
+				workers[t].join();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new FrameworkException(e);
+		}
+		
+		for (int t = 0; t < numberOfThreads; t++) {
+			if (errors[t] instanceof RuntimeException) {
+				throw (RuntimeException)errors[t];
+			} else if (errors[t] instanceof Error) {
+				throw (Error)errors[t];
+			} else if (errors[t] != null) {
+				throw new FrameworkException(errors[t]);
+			}
+		}
+	}
+	
+	/**
+	 * Returns the number of threads that would be used to execute a loop with
+	 * the specified number of iterations.
+	 * 
+	 * @param n the number of iterations
+	 * @param threads the maximum number of threads
+	 * @return the number of threads that would be used to execute the loop
+	 */
+	public static int getNumberOfThreads(int n, int threads) {
+		return Math.max(1, Math.min(threads, n));
+	}
+	
+	/**
+	 * The body of a loop executed by {@link ParallelLoop}.  Iterations may
+	 * be executed concurrently, so the body must only modify state specific to
+	 * each iteration or to each thread.
+	 */
+	public static interface Body {
+		
+		/**
+		 * Executes one iteration of the loop.
+		 * 
+		 * @param index the index of the iteration
+		 * @param thread the index of the thread executing the iteration,
+		 *        between {@code 0} and the number of threads (exclusive)
+		 */
+		public void run(int index, int thread);
+		
+	}
+
+}
@@ -18,7 +18,10 @@
 package org.moeaframework.util;
 
 import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -26,7 +29,6 @@ import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.OptionBuilder;
 import org.apache.commons.cli.Options;
 import org.apache.commons.math3.util.MathArrays;
-import org.moeaframework.core.EpsilonBoxDominanceArchive;
 import org.moeaframework.core.NondominatedPopulation;
 import org.moeaframework.core.Population;
 import org.moeaframework.core.PopulationIO;
@@ -36,7 +38,11 @@ import org.moeaframework.core.Solution;
 /**
  * Utility for merging two or more populations identified by unique sources and
  * determining the contribution of each source to the combined non-dominated
- * population. A command line interface is also provided.
+ * population. A command line interface is also provided, which merges the
+ * files using a {@link StreamingMerger} and only retains the combined
+ * non-dominated population.  The {@code --threads} option reads and merges
+ * the files in parallel, and the {@code --spill} option stores intermediate
+ * fronts in the given directory.
  */
 public class ReferenceSetMerger extends CommandLineUtility {
 
@@ -177,25 +183,74 @@ public class ReferenceSetMerger extends CommandLineUtility {
 		options.addOption(OptionBuilder
 				.withLongOpt("diff")
 				.create('d'));
+		options.addOption(OptionBuilder
+				.withLongOpt("threads")
+				.hasArg()
+				.withArgName("number")
+				.create('t'));
+		options.addOption(OptionBuilder
+				.withLongOpt("spill")
+				.hasArg()
+				.withArgName("directory")
+				.create('s'));
 
 		return options;
 	}
 
 	@Override
 	public void run(CommandLine commandLine) throws Exception {
+		final String[] filenames = commandLine.getArgs();
+		final int[] sizes = new int[filenames.length];
+		StreamingMerger merger = null;
+		
 		//use an epsilon-dominance archive if necessary
 		if (commandLine.hasOption("epsilon")) {
 			TypedProperties properties = TypedProperties.withProperty(
 					"epsilon", commandLine.getOptionValue("epsilon"));
 			
-			combinedPopulation = new EpsilonBoxDominanceArchive(
-					properties.getDoubleArray("epsilon", null));
+			merger = new StreamingMerger(properties.getDoubleArray("epsilon",
+					null));
+		} else {
+			merger = new StreamingMerger();
+		}
+		
+		if (commandLine.hasOption("threads")) {
+			merger.setNumberOfThreads(Integer.parseInt(
+					commandLine.getOptionValue("threads")));
+		}
+		
+		if (commandLine.hasOption("spill")) {
+			merger.setSpillDirectory(new File(
+					commandLine.getOptionValue("spill")));
 		}
 
-		//read the population files
-		for (String filename : commandLine.getArgs()) {
-			add(filename, PopulationIO.readObjectives(new File(filename)));
+		//read and merge the population files
+		List<StreamingMerger.Input> inputs =
+				new ArrayList<StreamingMerger.Input>();
+		
+		for (int i = 0; i < filenames.length; i++) {
+			final int index = i;
+			
+			inputs.add(new StreamingMerger.Input() {
+
+				@Override
+				public void read(Population population) throws IOException {
+					Population solutions = PopulationIO.readObjectives(
+							new File(filenames[index]));
+					
+					for (Solution solution : solutions) {
+						solution.setAttribute(SOURCE_ATTRIBUTE,
+								filenames[index]);
+					}
+					
+					sizes[index] = solutions.size();
+					population.addAll(solutions);
+				}
+				
+			});
 		}
+		
+		combinedPopulation = merger.merge(inputs);
 
 		//write combined set to the output file
 		if (commandLine.hasOption("output")) {
@@ -205,19 +260,19 @@ public class ReferenceSetMerger extends CommandLineUtility {
 
 		//write diff files
 		if (commandLine.hasOption("diff")) {
-			for (String filename : commandLine.getArgs()) {
+			for (String filename : filenames) {
 				PopulationIO.writeObjectives(new File(filename + ".diff"), 
 						getContributionFrom(filename));
 			}
 		}
 
 		//display contribution of each input to the combined set
-		for (String filename : commandLine.getArgs()) {
-			System.out.print(filename);
+		for (int i = 0; i < filenames.length; i++) {
+			System.out.print(filenames[i]);
 			System.out.print(": ");
-			System.out.print(getContributionFrom(filename).size());
+			System.out.print(getContributionFrom(filenames[i]).size());
 			System.out.print(" / ");
-			System.out.println(getPopulation(filename).size());
+			System.out.println(sizes[i]);
 		}
 	}
 	
@@ -0,0 +1,417 @@
+/* Copyright 2009-2018 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.moeaframework.core.EpsilonBoxDominanceArchive;
+import org.moeaframework.core.NondominatedPopulation;
+import org.moeaframework.core.Population;
+import org.moeaframework.core.PopulationIO;
+
+/**
+ * Merges the non-dominated solutions from a large number of inputs without
+ * holding all inputs in memory.  The inputs are processed in chunks.  Each
+ * input in a chunk is read into its own archive in parallel, which discards
+ * the dominated solutions of each input before they are combined.  The
+ * partial fronts are then reduced pairwise, as a balanced tree, into a single
+ * front per chunk.  Optionally, the front of each chunk is spilled to a
+ * temporary file until all chunks are processed, so at most a few fronts are
+ * held in memory at any time.
+ * <p>
+ * Since each reduction adds the solutions of the later front to the earlier
+ * front, the result contains the same solutions in the same order as adding
+ * every solution from every input, in order, to a single archive.
+ */
+public class StreamingMerger {
+
+	/**
+	 * The epsilon values of the archive; or {@code null} if the merged
+	 * solutions are stored in a {@link NondominatedPopulation}.
+	 */
+	private final double[] epsilon;
+
+	/**
+	 * The number of inputs processed in each chunk.
+	 */
+	private int chunkSize;
+
+	/**
+	 * The number of threads used to read and reduce the fronts.
+	 */
+	private int numberOfThreads;
+
+	/**
+	 * The directory storing the spilled fronts; or {@code null} if all fronts
+	 * are held in memory.
+	 */
+	private File spillDirectory;
+
+	/**
+	 * Constructs a merger storing the merged solutions in a
+	 * {@link NondominatedPopulation}.
+	 */
+	public StreamingMerger() {
+		this(null);
+	}
+
+	/**
+	 * Constructs a merger storing the merged solutions in an
+	 * {@link EpsilonBoxDominanceArchive} with the specified epsilon values.
+	 * 
+	 * @param epsilon the epsilon values; or {@code null} to store the merged
+	 *        solutions in a {@link NondominatedPopulation}
+	 */
+	public StreamingMerger(double[] epsilon) {
+		super();
+		this.epsilon = epsilon == null ? null : epsilon.clone();
+		
+		chunkSize = 64;
+		numberOfThreads = 1;
+	}
+	
+	/**
+	 * Returns the number of inputs processed in each chunk.  Defaults to
+	 * {@code 64}.
+	 * 
+	 * @return the number of inputs processed in each chunk
+	 */
+	public int getChunkSize() {
+		return chunkSize;
+	}
+
+	/**
+	 * Sets the number of inputs processed in each chunk.  Larger chunks
+	 * increase parallelism, but the partial fronts of every input in a chunk
+	 * are held in memory at the same time.
+	 * 
+	 * @param chunkSize the number of inputs processed in each chunk
+	 * @throws IllegalArgumentException if the chunk size is not positive
+	 */
+	public void setChunkSize(int chunkSize) {
+		if (chunkSize <= 0) {
+			throw new IllegalArgumentException("chunk size must be positive");
+		}
+		
+		this.chunkSize = chunkSize;
+	}
+
+	/**
+	 * Returns the number of threads used to read and reduce the fronts.
+	 * Defaults to {@code 1}.
+	 * 
+	 * @return the number of threads used to read and reduce the fronts
+	 */
+	public int getNumberOfThreads() {
+		return numberOfThreads;
+	}
+
+	/**
+	 * Sets the number of threads used to read and reduce the fronts.  The
+	 * inputs must support being read concurrently when more than one thread
+	 * is used.
+	 * 
+	 * @param numberOfThreads the number of threads used to read and reduce
+	 *        the fronts
+	 * @throws IllegalArgumentException if the number of threads is not
+	 *         positive
+	 */
+	public void setNumberOfThreads(int numberOfThreads) {
+		if (numberOfThreads <= 0) {
+			throw new IllegalArgumentException(
+					"number of threads must be positive");
+		}
+		
+		this.numberOfThreads = numberOfThreads;
+	}
+
+	/**
+	 * Returns the directory storing the spilled fronts; or {@code null} if
+	 * all fronts are held in memory.
+	 * 
+	 * @return the directory storing the spilled fronts; or {@code null} if
+	 *         all fronts are held in memory
+	 */
+	public File getSpillDirectory() {
+		return spillDirectory;
+	}
+
+	/**
+	 * Sets the directory storing the front of each chunk until all chunks are
+	 * processed.  The fronts are written using {@link PopulationIO#write},
+	 * which preserves the decision variables and attributes of each solution,
+	 * and the files are deleted once merged.
+	 * 
+	 * @param spillDirectory the directory storing the spilled fronts; or
+	 *        {@code null} if all fronts are held in memory
+	 */
+	public void setSpillDirectory(File spillDirectory) {
+		this.spillDirectory = spillDirectory;
+	}
+
+	/**
+	 * Returns a new, empty archive for storing the merged solutions.
+	 * 
+	 * @return a new, empty archive for storing the merged solutions
+	 */
+	protected NondominatedPopulation newArchive() {
+		if (epsilon == null) {
+			return new NondominatedPopulation();
+		} else {
+			return new EpsilonBoxDominanceArchive(epsilon);
+		}
+	}
+
+	/**
+	 * Returns the non-dominated solutions from all of the specified inputs.
+	 * 
+	 * @param inputs the inputs
+	 * @return the non-dominated solutions from all of the specified inputs
+	 * @throws IOException if an I/O error occurred while reading an input or
+	 *         spilling a front
+	 */
+	public NondominatedPopulation merge(List<? extends Input> inputs)
+			throws IOException {
+		List<NondominatedPopulation> fronts =
+				new ArrayList<NondominatedPopulation>();
+		List<File> files = new ArrayList<File>();
+		
+		try {
+			for (int start = 0; start < inputs.size(); start += chunkSize) {
+				List<? extends Input> chunk = inputs.subList(start,
+						Math.min(start + chunkSize, inputs.size()));
+				NondominatedPopulation front = reduce(read(chunk));
+				
+				if (spillDirectory == null) {
+					fronts.add(front);
+				} else {
+					File file = File.createTempFile("merge", null,
+							spillDirectory);
+					files.add(file);
+					PopulationIO.write(file, front);
+				}
+			}
+			
+			if (spillDirectory == null) {
+				return fronts.isEmpty() ? newArchive() : reduce(fronts);
+			} else {
+				return reduceFiles(files);
+			}
+		} finally {
+			for (File file : files) {
+				file.delete();
+			}
+		}
+	}
+	
+	/**
+	 * Reads each input into its own archive.
+	 * 
+	 * @param inputs the inputs
+	 * @return the archives storing the non-dominated solutions of each input
+	 * @throws IOException if an I/O error occurred while reading an input
+	 */
+	private List<NondominatedPopulation> read(final List<? extends Input> inputs)
+			throws IOException {
+		final NondominatedPopulation[] fronts =
+				new NondominatedPopulation[inputs.size()];
+		final IOException[] errors = new IOException[inputs.size()];
+		
+		ParallelLoop.run(inputs.size(), numberOfThreads,
+				new ParallelLoop.Body() {
+
+			@Override
+			public void run(int index, int thread) {
+				fronts[index] = newArchive();
+				
+				try {
+					inputs.get(index).read(fronts[index]);
+				} catch (IOException e) {
+					errors[index] = e;
+				}
+			}
+			
+		});
+		
+		for (IOException error : errors) {
+			if (error != null) {
+				throw error;
+			}
+		}
+		
+		List<NondominatedPopulation> result =
+				new ArrayList<NondominatedPopulation>();
+		
+		for (NondominatedPopulation front : fronts) {
+			result.add(front);
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Reduces the fronts pairwise into a single front.  Each level of the
+	 * reduction merges adjacent fronts in parallel, always adding the later
+	 * front to the earlier front.
+	 * 
+	 * @param fronts the fronts, which must not be empty
+	 * @return the single front
+	 */
+	private NondominatedPopulation reduce(List<NondominatedPopulation> fronts) {
+		final NondominatedPopulation[] level = fronts.toArray(
+				new NondominatedPopulation[fronts.size()]);
+		int size = level.length;
+		
+		while (size > 1) {
+			final int pairs = size / 2;
+			
+			ParallelLoop.run(pairs, numberOfThreads, new ParallelLoop.Body() {
+
+				@Override
+				public void run(int index, int thread) {
+					level[2*index].addAll(level[2*index + 1]);
+				}
+				
+			});
+			
+			for (int i = 0; i < pairs; i++) {
+				level[i] = level[2*i];
+			}
+			
+			if (size % 2 == 1) {
+				level[pairs] = level[size - 1];
+			}
+			
+			size = (size + 1) / 2;
+		}
+		
+		return level[0];
+	}
+	
+	/**
+	 * Reduces the spilled fronts pairwise into a single front.  Only the two
+	 * fronts being merged by each thread are held in memory.
+	 * 
+	 * @param files the files storing the spilled fronts; replaced by the
+	 *        files storing the intermediate fronts, so the caller can delete
+	 *        any remaining files
+	 * @return the single front
+	 * @throws IOException if an I/O error occurred while reading or writing a
+	 *         spilled front
+	 */
+	private NondominatedPopulation reduceFiles(final List<File> files)
+			throws IOException {
+		if (files.isEmpty()) {
+			return newArchive();
+		}
+		
+		while (files.size() > 2) {
+			final File[] merged = new File[files.size() / 2];
+			final IOException[] errors = new IOException[merged.length];
+			
+			ParallelLoop.run(merged.length, numberOfThreads,
+					new ParallelLoop.Body() {
+
+				@Override
+				public void run(int index, int thread) {
+					try {
+						NondominatedPopulation front = load(files.get(2*index));
+						front.addAll(PopulationIO.read(files.get(2*index + 1)));
+						
+						merged[index] = File.createTempFile("merge", null,
+								spillDirectory);
+						PopulationIO.write(merged[index], front);
+					} catch (IOException e) {
+						errors[index] = e;
+					}
+				}
+				
+			});
+			
+			List<File> next = new ArrayList<File>();
+			
+			for (File file : merged) {
+				if (file != null) {
+					next.add(file);
+				}
+			}
+			
+			if (files.size() % 2 == 1) {
+				next.add(files.get(files.size() - 1));
+				files.remove(files.size() - 1);
+			}
+			
+			for (File file : files) {
+				file.delete();
+			}
+			
+			files.clear();
+			files.addAll(next);
+			
+			for (IOException error : errors) {
+				if (error != null) {
+					throw error;
+				}
+			}
+		}
+		
+		NondominatedPopulation front = load(files.get(0));
+		
+		if (files.size() > 1) {
+			front.addAll(PopulationIO.read(files.get(1)));
+		}
+		
+		return front;
+	}
+	
+	/**
+	 * Loads the spilled front stored in the specified file into a new archive.
+	 * Since the spilled front is non-dominated, each solution is retained.
+	 * 
+	 * @param file the file storing the spilled front
+	 * @return the archive containing the spilled front
+	 * @throws IOException if an I/O error occurred while reading the file
+	 */
+	private NondominatedPopulation load(File file) throws IOException {
+		NondominatedPopulation front = newArchive();
+		front.addAll(PopulationIO.read(file));
+		return front;
+	}
+
+	/**
+	 * An input to the merger, such as a file storing an approximation set.
+	 */
+	public static interface Input {
+
+		/**
+		 * Adds the solutions of this input to the specified population.  The
+		 * population is an archive, so the solutions can be added as they are
+		 * read without first storing the entire input.
+		 * 
+		 * @param population the population to which the solutions are added
+		 * @throws IOException if an I/O error occurred while reading this
+		 *         input
+		 */
+		public void read(Population population) throws IOException;
+
+	}
+
+}
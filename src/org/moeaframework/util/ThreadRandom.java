@@ -0,0 +1,213 @@
+/* Copyright 2009-2018 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.util;
+
+import java.util.Random;
+
+import org.moeaframework.core.PRNG;
+
+/**
+ * Random number generator that delegates to a generator assigned to the
+ * current thread, or to the default generator if the current thread has
+ * no assigned generator.  Installing this generator in {@link PRNG} lets
+ * concurrent tasks draw from independent, reproducible streams, since the
+ * generators wrapped by {@code PRNG} are not thread-safe.
+ * 
+ * <pre>
+ * {@code
+ * ThreadRandom random = ThreadRandom.install();
+ * 
+ * try {
+ *   ...each task calls random.set(generator) before using PRNG and
+ *   random.remove() when finished...
+ * } finally {
+ *   random.uninstall();
+ * }
+ * }
+ * </pre>
+ * 
+ * Nested or overlapping calls to {@link #install()} share the same instance,
+ * and the original generator is restored by the last call to
+ * {@link #uninstall()}.  Since the generator is replaced for the whole JVM,
+ * it should only be installed while the concurrent tasks run, and every
+ * concurrent task must be assigned its own generator; threads without an
+ * assigned generator still share the default generator, which is not
+ * thread-safe.
+ */
+public class ThreadRandom extends Random {
+
+	private static final long serialVersionUID = 6305284532127330437L;
+
+	/**
+	 * The generator used by threads without an assigned generator.
+	 */
+	private final Random defaultRandom;
+	
+	/**
+	 * The generator assigned to each thread.
+	 */
+	private final ThreadLocal<Random> randoms;
+	
+	/**
+	 * The number of calls to {@link #install()} that have not been matched by
+	 * a call to {@link #uninstall()}.
+	 */
+	private int installs;
+	
+	/**
+	 * Constructs a new random number generator delegating to generators
+	 * assigned to each thread.
+	 * 
+	 * @param defaultRandom the generator used by threads without an
+	 *        assigned generator
+	 */
+	private ThreadRandom(Random defaultRandom) {
+		super();
+		this.defaultRandom = defaultRandom;
+		
+		randoms = new ThreadLocal<Random>();
+	}
+	
+	/**
+	 * Installs a thread random generator in {@link PRNG}, delegating to the
+	 * current generator for threads without an assigned generator.  If a
+	 * thread random generator is already installed, it is returned instead.
+	 * Each call must be followed by a call to {@link #uninstall()}.
+	 * 
+	 * @return the thread random generator installed in {@code PRNG}
+	 */
+	public static ThreadRandom install() {
+		synchronized (ThreadRandom.class) {
+			ThreadRandom random = null;
+			
+			if (PRNG.getRandom() instanceof ThreadRandom) {
+				random = (ThreadRandom)PRNG.getRandom();
+			} else {
+				random = new ThreadRandom(PRNG.getRandom());
+				PRNG.setRandom(random);
+			}
+			
+			random.installs++;
+			return random;
+		}
+	}
+	
+	/**
+	 * Reverses a call to {@link #install()}.  The generator replaced by this
+	 * thread random generator is restored once every call to
+	 * {@code install()} is reversed.
+	 */
+	public void uninstall() {
+		synchronized (ThreadRandom.class) {
+			installs--;
+			
+			if ((installs == 0) && (PRNG.getRandom() == this)) {
+				PRNG.setRandom(defaultRandom);
+			}
+		}
+	}
+	
+	/**
+	 * Assigns a generator to the current thread.
+	 * 
+	 * @param random the generator assigned to the current thread
+	 */
+	public void set(Random random) {
+		randoms.set(random);
+	}
+	
+	/**
+	 * Removes the generator assigned to the current thread.
+	 */
+	public void remove() {
+		randoms.remove();
+	}
+	
+	/**
+	 * Returns the generator used by threads without an assigned generator.
+	 * 
+	 * @return the generator used by threads without an assigned generator
+	 */
+	public Random getDefaultRandom() {
+		return defaultRandom;
+	}
+	
+	/**
+	 * Returns the generator used by the current thread.
+	 * 
+	 * @return the generator used by the current thread
+	 */
+	private Random current() {
+		Random random = randoms.get();
+		return random == null ? defaultRandom : random;
+	}
+	
+	@Override
+	public void setSeed(long seed) {
+		// invoked by the superclass constructor before initialization
+		if (randoms != null) {
+			current().setSeed(seed);
+		}
+	}
+	
+	@Override
+	protected int next(int bits) {
+		return current().nextInt() >>> (32 - bits);
+	}
+	
+	@Override
+	public void nextBytes(byte[] bytes) {
+		current().nextBytes(bytes);
+	}
+	
+	@Override
+	public int nextInt() {
+		return current().nextInt();
+	}
+	
+	@Override
+	public int nextInt(int n) {
+		return current().nextInt(n);
+	}
+	
+	@Override
+	public long nextLong() {
+		return current().nextLong();
+	}
+	
+	@Override
+	public boolean nextBoolean() {
+		return current().nextBoolean();
+	}
+	
+	@Override
+	public float nextFloat() {
+		return current().nextFloat();
+	}
+	
+	@Override
+	public double nextDouble() {
+		return current().nextDouble();
+	}
+	
+	@Override
+	public double nextGaussian() {
+		return current().nextGaussian();
+	}
+	
+}
@@ -28,17 +28,21 @@ import org.moeaframework.problem.ProblemException;
 
 /**
  * Distributes the {@link #evaluate(Solution)} method across multiple threads,
- * cores or compute nodes using the provided {@link ExecutorService}. The
- * {@code ExecutorService} defines the type and method of distribution. The
- * problem must be {@link Serializable} if executing on remote nodes.
+ * cores or compute nodes using the provided {@link ExecutorService} or
+ * {@link EvaluationTransport}. The {@code ExecutorService} defines the type and
+ * method of distribution. The problem must be {@link Serializable} if
+ * executing on remote nodes through an {@code ExecutorService}.  Alternatively,
+ * {@link SocketTransport} distributes the evaluations to
+ * {@link EvaluationWorker} processes hosting their own instances of the
+ * problem.
  */
 public class DistributedProblem implements Problem {
 
 	/**
-	 * The {@code ExecutorService} for distributing jobs across multiple
-	 * threads, cores or compute nodes.
+	 * The transport for distributing jobs across multiple threads, cores or
+	 * compute nodes.
 	 */
-	private final ExecutorService executor;
+	private final EvaluationTransport transport;
 
 	/**
 	 * The problem.
@@ -63,9 +67,59 @@ public class DistributedProblem implements Problem {
 	 *        multiple threads, cores or compute nodes
 	 */
 	public DistributedProblem(Problem problem, ExecutorService executor) {
+		this(problem, new ExecutorTransport(problem, executor));
+	}
+	
+	/**
+	 * Decorates a problem for distributing the evaluation of the problem across
+	 * multiple threads, cores or compute nodes as defined by the specified
+	 * transport.  The transport is not closed by this problem.
+	 * 
+	 * @param problem the problem being distributed
+	 * @param transport the transport for distributing jobs across multiple
+	 *        threads, cores or compute nodes
+	 */
+	public DistributedProblem(Problem problem, EvaluationTransport transport) {
 		super();
 		this.innerProblem = problem;
-		this.executor = executor;
+		this.transport = transport;
+	}
+	
+	/**
+	 * Transport submitting each evaluation to an {@code ExecutorService}.
+	 */
+	private static class ExecutorTransport implements EvaluationTransport {
+		
+		/**
+		 * The problem.
+		 */
+		private final Problem problem;
+		
+		/**
+		 * The {@code ExecutorService} for distributing jobs across multiple
+		 * threads, cores or compute nodes.
+		 */
+		private final ExecutorService executor;
+		
+		/**
+		 * Constructs a transport submitting each evaluation to the specified
+		 * {@code ExecutorService}.
+		 * 
+		 * @param problem the problem
+		 * @param executor the {@code ExecutorService} for distributing jobs
+		 *        across multiple threads, cores or compute nodes
+		 */
+		public ExecutorTransport(Problem problem, ExecutorService executor) {
+			super();
+			this.problem = problem;
+			this.executor = executor;
+		}
+
+		@Override
+		public Future<Solution> submit(Solution solution) {
+			return executor.submit(new ProblemEvaluator(problem, solution));
+		}
+		
 	}
 
 	/**
@@ -104,7 +158,19 @@ public class DistributedProblem implements Problem {
 
 		@Override
 		public Solution call() throws Exception {
-			problem.evaluate(solution);
+			if (solution instanceof FutureSolution) {
+				FutureSolution futureSolution = (FutureSolution)solution;
+				futureSolution.setEvaluatingThread(Thread.currentThread());
+				
+				try {
+					problem.evaluate(solution);
+				} finally {
+					futureSolution.setEvaluatingThread(null);
+				}
+			} else {
+				problem.evaluate(solution);
+			}
+			
 			return solution;
 		}
 
@@ -115,8 +181,7 @@ public class DistributedProblem implements Problem {
 		if (solution instanceof FutureSolution) {
 			FutureSolution futureSolution = (FutureSolution)solution;
 			futureSolution.setDistributedEvaluationID(nextDistributedEvaluationID());
-			Future<Solution> future = executor.submit(new ProblemEvaluator(
-					innerProblem, futureSolution));
+			Future<Solution> future = transport.submit(futureSolution);
 			futureSolution.setFuture(future);
 		} else {
 			throw new ProblemException(this, "requires FutureSolution");
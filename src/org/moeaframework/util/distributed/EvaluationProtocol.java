@@ -0,0 +1,412 @@
+/* Copyright 2009-2018 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.util.distributed;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.security.GeneralSecurityException;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.moeaframework.core.FrameworkException;
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.Variable;
+import org.moeaframework.core.variable.BinaryVariable;
+import org.moeaframework.core.variable.Grammar;
+import org.moeaframework.core.variable.Permutation;
+import org.moeaframework.core.variable.RealVariable;
+import org.moeaframework.core.variable.RealVectorVariable;
+import org.moeaframework.core.variable.Subset;
+
+/**
+ * The binary protocol spoken between {@link SocketTransport} and
+ * {@link EvaluationWorker}.  All values are written in network byte order
+ * using {@link DataOutputStream}.
+ * <p>
+ * The master opens the connection by sending {@link #MAGIC} and
+ * {@link #VERSION}.  The worker replies with a random challenge of
+ * {@link #CHALLENGE_LENGTH} bytes, and the master answers with the
+ * HMAC-SHA256 of the challenge keyed by the shared secret, followed by the
+ * name of the problem.  The worker replies with {@link #STATUS_OK} followed
+ * by the number of variables, objectives and constraints; or with
+ * {@link #STATUS_ERROR} followed by a message if the answer is wrong or the
+ * problem is not hosted by the worker.
+ * Afterwards, the master sends {@link #BATCH} messages containing the number
+ * of solutions followed by the decision variables of each solution.  The
+ * worker replies with any number of {@link #HEARTBEAT} messages while
+ * evaluating the batch, followed by a {@link #RESULTS} message containing the
+ * number of solutions and the objectives and constraints of each solution, or
+ * an {@link #ERROR} message followed by a message.  The master ends the
+ * session with {@link #CLOSE}.
+ * <p>
+ * Real-valued, binary, permutation, subset and grammar decision variables
+ * are written in a compact form.  Other decision variables are not
+ * supported.  Every length read from the stream is checked against the
+ * solution receiving the values before anything is allocated, so a peer can
+ * not force the reader to allocate arbitrarily large arrays.
+ */
+class EvaluationProtocol {
+	
+	/**
+	 * The value identifying the start of a session.
+	 */
+	static final int MAGIC = 0x4D4F4541;
+	
+	/**
+	 * The version of this protocol.
+	 */
+	static final int VERSION = 2;
+	
+	/**
+	 * The length, in bytes, of the challenge sent by the worker.
+	 */
+	static final int CHALLENGE_LENGTH = 16;
+	
+	/**
+	 * The length, in bytes, of the answer to the challenge.
+	 */
+	static final int RESPONSE_LENGTH = 32;
+	
+	/**
+	 * The maximum number of solutions in one batch.
+	 */
+	static final int MAX_BATCH_SIZE = 65536;
+	
+	/**
+	 * The maximum length of the codon of a grammar, whose length changes
+	 * during variation.
+	 */
+	static final int MAX_CODON_LENGTH = 65536;
+	
+	/**
+	 * Handshake status indicating the worker is ready.
+	 */
+	static final byte STATUS_OK = 0;
+	
+	/**
+	 * Handshake status indicating the worker is unable to host the problem.
+	 */
+	static final byte STATUS_ERROR = 1;
+	
+	/**
+	 * Message containing solutions to evaluate.
+	 */
+	static final byte BATCH = 1;
+	
+	/**
+	 * Message containing the evaluated objectives and constraints.
+	 */
+	static final byte RESULTS = 2;
+	
+	/**
+	 * Message indicating the worker is still evaluating a batch.
+	 */
+	static final byte HEARTBEAT = 3;
+	
+	/**
+	 * Message indicating the batch could not be evaluated.
+	 */
+	static final byte ERROR = 4;
+	
+	/**
+	 * Message ending the session.
+	 */
+	static final byte CLOSE = 5;
+	
+	/**
+	 * Tag for a {@link RealVariable}.
+	 */
+	private static final byte REAL = 0;
+	
+	/**
+	 * Tag for a {@link RealVectorVariable}.
+	 */
+	private static final byte REAL_VECTOR = 1;
+	
+	/**
+	 * Tag for a {@link BinaryVariable}.
+	 */
+	private static final byte BINARY = 2;
+	
+	/**
+	 * Tag for a {@link Permutation}.
+	 */
+	private static final byte PERMUTATION = 3;
+	
+	/**
+	 * Tag for a {@link Subset}.
+	 */
+	private static final byte SUBSET = 4;
+	
+	/**
+	 * Tag for a {@link Grammar}.
+	 */
+	private static final byte GRAMMAR = 5;
+	
+	/**
+	 * Private constructor to prevent instantiation.
+	 */
+	private EvaluationProtocol() {
+		super();
+	}
+	
+	/**
+	 * Returns the answer to the challenge, which is the HMAC-SHA256 of the
+	 * challenge keyed by the shared secret.
+	 * 
+	 * @param secret the shared secret
+	 * @param challenge the challenge sent by the worker
+	 * @return the answer to the challenge
+	 */
+	static byte[] respond(String secret, byte[] challenge) {
+		try {
+			Mac mac = Mac.getInstance("HmacSHA256");
+			mac.init(new SecretKeySpec(secret.getBytes("UTF-8"),
+					"HmacSHA256"));
+			return mac.doFinal(challenge);
+		} catch (GeneralSecurityException e) {
+			throw new FrameworkException(e);
+		} catch (UnsupportedEncodingException e) {
+			throw new FrameworkException(e);
+		}
+	}
+	
+	/**
+	 * Writes the decision variables of the solution.
+	 * 
+	 * @param out the output stream
+	 * @param solution the solution
+	 * @throws IOException if an I/O error occurred or the solution contains
+	 *         an unsupported type of decision variable
+	 */
+	static void writeVariables(DataOutputStream out, Solution solution)
+			throws IOException {
+		for (int i = 0; i < solution.getNumberOfVariables(); i++) {
+			Variable variable = solution.getVariable(i);
+			
+			if (variable instanceof RealVariable) {
+				out.writeByte(REAL);
+				out.writeDouble(((RealVariable)variable).getValue());
+			} else if (variable instanceof RealVectorVariable) {
+				double[] values = ((RealVectorVariable)variable).getValues();
+				
+				out.writeByte(REAL_VECTOR);
+				out.writeInt(values.length);
+				
+				for (int j = 0; j < values.length; j++) {
+					out.writeDouble(values[j]);
+				}
+			} else if (variable instanceof BinaryVariable) {
+				long[] words = ((BinaryVariable)variable).getWords();
+				
+				out.writeByte(BINARY);
+				out.writeInt(words.length);
+				
+				for (int j = 0; j < words.length; j++) {
+					out.writeLong(words[j]);
+				}
+			} else if (variable instanceof Permutation) {
+				Permutation permutation = (Permutation)variable;
+				
+				out.writeByte(PERMUTATION);
+				out.writeInt(permutation.size());
+				
+				for (int j = 0; j < permutation.size(); j++) {
+					out.writeInt(permutation.get(j));
+				}
+			} else if (variable instanceof Subset) {
+				out.writeByte(SUBSET);
+				writeArray(out, ((Subset)variable).toArray());
+			} else if (variable instanceof Grammar) {
+				out.writeByte(GRAMMAR);
+				writeArray(out, ((Grammar)variable).toArray());
+			} else {
+				throw new IOException("unsupported decision variable: " +
+						variable.getClass().getName());
+			}
+		}
+	}
+	
+	/**
+	 * Reads the decision variables into the solution, which must be created
+	 * by the same problem as the solution written by
+	 * {@link #writeVariables(DataOutputStream, Solution)}.
+	 * 
+	 * @param in the input stream
+	 * @param solution the solution receiving the decision variables
+	 * @throws IOException if an I/O error occurred or the decision variables
+	 *         are not compatible with the solution
+	 */
+	static void readVariables(DataInputStream in, Solution solution)
+			throws IOException {
+		for (int i = 0; i < solution.getNumberOfVariables(); i++) {
+			Variable variable = solution.getVariable(i);
+			byte tag = in.readByte();
+			
+			try {
+				if (tag == REAL) {
+					((RealVariable)variable).setValue(in.readDouble());
+				} else if (tag == REAL_VECTOR) {
+					RealVectorVariable vector = (RealVectorVariable)variable;
+					double[] values = new double[readLength(in,
+							vector.size(), vector.size())];
+					
+					for (int j = 0; j < values.length; j++) {
+						values[j] = in.readDouble();
+					}
+					
+					vector.setValues(values);
+				} else if (tag == BINARY) {
+					long[] words = ((BinaryVariable)variable).getWords();
+					
+					readLength(in, words.length, words.length);
+					
+					for (int j = 0; j < words.length; j++) {
+						words[j] = in.readLong();
+					}
+				} else if (tag == PERMUTATION) {
+					Permutation permutation = (Permutation)variable;
+					
+					permutation.fromArray(readArray(in, permutation.size(),
+							permutation.size()));
+				} else if (tag == SUBSET) {
+					Subset subset = (Subset)variable;
+					
+					subset.fromArray(readArray(in, subset.getL(),
+							subset.getU()));
+				} else if (tag == GRAMMAR) {
+					((Grammar)variable).fromArray(readArray(in, 0,
+							MAX_CODON_LENGTH));
+				} else {
+					throw new IOException("unknown variable tag: " + tag);
+				}
+			} catch (ClassCastException e) {
+				throw new IOException("incompatible decision variable", e);
+			} catch (IllegalArgumentException e) {
+				throw new IOException("invalid decision variable", e);
+			}
+		}
+	}
+	
+	/**
+	 * Writes the length of the array followed by its values.
+	 * 
+	 * @param out the output stream
+	 * @param values the array
+	 * @throws IOException if an I/O error occurred
+	 */
+	private static void writeArray(DataOutputStream out, int[] values)
+			throws IOException {
+		out.writeInt(values.length);
+		
+		for (int j = 0; j < values.length; j++) {
+			out.writeInt(values[j]);
+		}
+	}
+	
+	/**
+	 * Reads an array written by {@link #writeArray(DataOutputStream, int[])}.
+	 * 
+	 * @param in the input stream
+	 * @param minimum the minimum length of the array
+	 * @param maximum the maximum length of the array
+	 * @return the array
+	 * @throws IOException if an I/O error occurred or the length is not
+	 *         within the given bounds
+	 */
+	private static int[] readArray(DataInputStream in, int minimum,
+			int maximum) throws IOException {
+		int[] values = new int[readLength(in, minimum, maximum)];
+		
+		for (int j = 0; j < values.length; j++) {
+			values[j] = in.readInt();
+		}
+		
+		return values;
+	}
+	
+	/**
+	 * Reads a length, checking it is within the given bounds before it is
+	 * used to allocate anything.
+	 * 
+	 * @param in the input stream
+	 * @param minimum the minimum length
+	 * @param maximum the maximum length
+	 * @return the length
+	 * @throws IOException if an I/O error occurred or the length is not
+	 *         within the given bounds
+	 */
+	static int readLength(DataInputStream in, int minimum, int maximum)
+			throws IOException {
+		int length = in.readInt();
+		
+		if ((length < minimum) || (length > maximum)) {
+			throw new IOException("invalid length: " + length);
+		}
+		
+		return length;
+	}
+	
+	/**
+	 * Writes the objectives and constraints of the evaluated solution.
+	 * 
+	 * @param out the output stream
+	 * @param solution the evaluated solution
+	 * @throws IOException if an I/O error occurred
+	 */
+	static void writeResult(DataOutputStream out, Solution solution)
+			throws IOException {
+		for (int i = 0; i < solution.getNumberOfObjectives(); i++) {
+			out.writeDouble(solution.getObjective(i));
+		}
+		
+		for (int i = 0; i < solution.getNumberOfConstraints(); i++) {
+			out.writeDouble(solution.getConstraint(i));
+		}
+	}
+	
+	/**
+	 * Reads the objectives and constraints of an evaluated solution.
+	 * 
+	 * @param in the input stream
+	 * @param numberOfObjectives the number of objectives
+	 * @param numberOfConstraints the number of constraints
+	 * @return a solution storing the objectives and constraints, without any
+	 *         decision variables
+	 * @throws IOException if an I/O error occurred
+	 */
+	static Solution readResult(DataInputStream in, int numberOfObjectives,
+			int numberOfConstraints) throws IOException {
+		Solution result = new Solution(0, numberOfObjectives,
+				numberOfConstraints);
+		
+		for (int i = 0; i < numberOfObjectives; i++) {
+			result.setObjective(i, in.readDouble());
+		}
+		
+		for (int i = 0; i < numberOfConstraints; i++) {
+			result.setConstraint(i, in.readDouble());
+		}
+		
+		return result;
+	}
+
+}
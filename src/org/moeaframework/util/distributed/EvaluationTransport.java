@@ -0,0 +1,43 @@
+/* Copyright 2009-2018 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.util.distributed;
+
+import java.util.concurrent.Future;
+
+import org.moeaframework.core.Solution;
+
+/**
+ * Delivers solutions from a {@link DistributedProblem} to the threads,
+ * processes or compute nodes evaluating them.  The objectives, constraints
+ * and attributes of the solution returned by the future are copied into the
+ * submitted solution once the evaluation completes.
+ * 
+ * @see SocketTransport
+ */
+public interface EvaluationTransport {
+	
+	/**
+	 * Submits the solution for evaluation, returning immediately.  The
+	 * submitted solution must not be modified until the evaluation completes.
+	 * 
+	 * @param solution the solution to evaluate
+	 * @return the future for the evaluated solution
+	 */
+	public Future<Solution> submit(Solution solution);
+
+}
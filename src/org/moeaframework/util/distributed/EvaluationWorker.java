@@ -0,0 +1,646 @@
+/* Copyright 2009-2018 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.util.distributed;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.OptionBuilder;
+import org.apache.commons.cli.Options;
+import org.moeaframework.core.Problem;
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.spi.ProblemFactory;
+import org.moeaframework.util.CommandLineUtility;
+
+/**
+ * Worker hosting problems for a {@link SocketTransport}.  The worker accepts
+ * connections on a TCP port, which is bound to the loopback address unless
+ * another address is given.  Each connection must prove it knows the shared
+ * secret of the worker and then names a problem, which must be one of the
+ * problems hosted by the worker.  The worker instantiates the problem through
+ * the {@link ProblemFactory}, and the connection then sends batches of
+ * solutions to evaluate.  While evaluating a batch, the worker
+ * periodically sends heartbeats so the master can distinguish a slow
+ * evaluation from a failed worker.  Each connection is served by its own
+ * thread and problem instance, so the problem need not be thread-safe.
+ * <p>
+ * A command line interface is also provided for starting workers in separate
+ * processes.  Usage:
+ * <pre>
+ *   java -cp "..." org.moeaframework.util.distributed.EvaluationWorker
+ *       --port 9000 --secretFile secret.txt --problem DTLZ2_2
+ * </pre>
+ * The secret is read from the first line of the file so it does not appear in
+ * the list of running processes.
+ */
+public class EvaluationWorker extends CommandLineUtility implements Closeable {
+	
+	/**
+	 * The default interval, in milliseconds, between heartbeats.
+	 */
+	public static final int DEFAULT_HEARTBEAT_INTERVAL = 1000;
+	
+	/**
+	 * The time, in milliseconds, a new connection has to complete the
+	 * handshake.
+	 */
+	private static final int HANDSHAKE_TIMEOUT = 10000;
+	
+	/**
+	 * The interval, in milliseconds, between heartbeats.
+	 */
+	private int heartbeatInterval;
+	
+	/**
+	 * The server socket accepting connections; or {@code null} if this worker
+	 * is not open.
+	 */
+	private ServerSocket serverSocket;
+	
+	/**
+	 * The thread accepting connections.
+	 */
+	private Thread acceptThread;
+	
+	/**
+	 * The sockets of the open connections.
+	 */
+	private final Set<Socket> sockets;
+	
+	/**
+	 * The scheduler sending heartbeats.
+	 */
+	private ScheduledExecutorService scheduler;
+	
+	/**
+	 * The secret shared with the masters; or {@code null} if not set.
+	 */
+	private volatile String secret;
+	
+	/**
+	 * The names of the problems hosted by this worker.
+	 */
+	private final Set<String> problemNames;
+	
+	/**
+	 * The generator of the challenges sent to new connections.
+	 */
+	private final SecureRandom random;
+	
+	/**
+	 * Constructs a new worker.  Set the secret, add the hosted problems and
+	 * call {@link #open(int)} to begin accepting connections.
+	 */
+	public EvaluationWorker() {
+		super();
+		
+		heartbeatInterval = DEFAULT_HEARTBEAT_INTERVAL;
+		sockets = new HashSet<Socket>();
+		problemNames = Collections.synchronizedSet(new HashSet<String>());
+		random = new SecureRandom();
+	}
+	
+	/**
+	 * Sets the secret shared with the masters.  Connections from masters
+	 * using a different secret are rejected.
+	 * 
+	 * @param secret the secret shared with the masters
+	 * @throws IllegalArgumentException if the secret is empty
+	 */
+	public void setSecret(String secret) {
+		if (secret.isEmpty()) {
+			throw new IllegalArgumentException("secret must not be empty");
+		}
+		
+		this.secret = secret;
+	}
+	
+	/**
+	 * Adds a problem hosted by this worker.  Connections naming any other
+	 * problem are rejected.
+	 * 
+	 * @param problemName the name of the problem, as given to the
+	 *        {@link ProblemFactory}
+	 */
+	public void addProblem(String problemName) {
+		problemNames.add(problemName);
+	}
+	
+	/**
+	 * Sets the interval, in milliseconds, between heartbeats.  The interval
+	 * must be shorter than the timeout of the {@link SocketTransport}.
+	 * 
+	 * @param heartbeatInterval the interval, in milliseconds, between
+	 *        heartbeats
+	 * @throws IllegalArgumentException if the interval is not positive
+	 */
+	public void setHeartbeatInterval(int heartbeatInterval) {
+		if (heartbeatInterval <= 0) {
+			throw new IllegalArgumentException(
+					"heartbeat interval must be positive");
+		}
+		
+		this.heartbeatInterval = heartbeatInterval;
+	}
+	
+	/**
+	 * Returns the interval, in milliseconds, between heartbeats.
+	 * 
+	 * @return the interval, in milliseconds, between heartbeats
+	 */
+	public int getHeartbeatInterval() {
+		return heartbeatInterval;
+	}
+	
+	/**
+	 * Begins accepting connections on the specified port of the loopback
+	 * address, so only masters on the local machine can connect.
+	 * Connections are accepted and served on background threads.
+	 * 
+	 * @param port the port; or {@code 0} to use any free port
+	 * @throws IOException if the port could not be opened
+	 * @throws IllegalStateException if this worker is already open or the
+	 *         secret is not set
+	 */
+	public void open(int port) throws IOException {
+		open(InetAddress.getByName(null), port);
+	}
+	
+	/**
+	 * Begins accepting connections on the specified address and port.
+	 * Connections are accepted and served on background threads.
+	 * 
+	 * @param address the local address accepting connections
+	 * @param port the port; or {@code 0} to use any free port
+	 * @throws IOException if the port could not be opened
+	 * @throws IllegalStateException if this worker is already open or the
+	 *         secret is not set
+	 */
+	public synchronized void open(InetAddress address, int port)
+			throws IOException {
+		if (serverSocket != null) {
+			throw new IllegalStateException("worker already open");
+		}
+		
+		if (secret == null) {
+			throw new IllegalStateException("secret not set");
+		}
+		
+		serverSocket = new ServerSocket(port, 0, address);
+		scheduler = Executors.newSingleThreadScheduledExecutor(
+				new DaemonThreadFactory());
+		
+		final ServerSocket server = serverSocket;
+		
+		acceptThread = new Thread(new Runnable() {
+
+			@Override
+			public void run() {
+				accept(server);
+			}
+			
+		});
+		
+		acceptThread.setDaemon(true);
+		acceptThread.start();
+	}
+	
+	/**
+	 * Returns the port accepting connections.
+	 * 
+	 * @return the port accepting connections
+	 * @throws IllegalStateException if this worker is not open
+	 */
+	public synchronized int getPort() {
+		if (serverSocket == null) {
+			throw new IllegalStateException("worker not open");
+		}
+		
+		return serverSocket.getLocalPort();
+	}
+	
+	/**
+	 * Blocks until this worker is closed.
+	 * 
+	 * @throws InterruptedException if the calling thread was interrupted
+	 */
+	public void join() throws InterruptedException {
+		Thread thread = null;
+		
+		synchronized (this) {
+			thread = acceptThread;
+		}
+		
+		if (thread != null) {
+			thread.join();
+		}
+	}
+	
+	/**
+	 * Stops accepting connections and closes all open connections.  Any
+	 * batches being evaluated are abandoned, and the master re-dispatches them
+	 * to the remaining workers.
+	 */
+	@Override
+	public synchronized void close() {
+		if (serverSocket == null) {
+			return;
+		}
+		
+		closeQuietly(serverSocket);
+		
+		for (Socket socket : new ArrayList<Socket>(sockets)) {
+			closeQuietly(socket);
+		}
+		
+		scheduler.shutdownNow();
+		serverSocket = null;
+	}
+	
+	/**
+	 * Accepts connections until the server socket is closed.
+	 * 
+	 * @param server the server socket
+	 */
+	private void accept(ServerSocket server) {
+		while (!server.isClosed()) {
+			try {
+				final Socket socket = server.accept();
+				
+				synchronized (this) {
+					if (server.isClosed()) {
+						closeQuietly(socket);
+						break;
+					}
+					
+					sockets.add(socket);
+				}
+				
+				Thread thread = new Thread(new Runnable() {
+
+					@Override
+					public void run() {
+						try {
+							serve(socket);
+						} catch (IOException e) {
+							// the connection failed or was closed
+						} finally {
+							synchronized (EvaluationWorker.this) {
+								sockets.remove(socket);
+							}
+							
+							closeQuietly(socket);
+						}
+					}
+					
+				});
+				
+				thread.setDaemon(true);
+				thread.start();
+			} catch (IOException e) {
+				// the server socket was closed or failed
+				break;
+			}
+		}
+	}
+	
+	/**
+	 * Serves the session on the specified connection.
+	 * 
+	 * @param socket the connection
+	 * @throws IOException if an I/O error occurred
+	 */
+	private void serve(Socket socket) throws IOException {
+		socket.setTcpNoDelay(true);
+		socket.setSoTimeout(HANDSHAKE_TIMEOUT);
+		
+		DataInputStream in = new DataInputStream(new BufferedInputStream(
+				socket.getInputStream()));
+		final DataOutputStream out = new DataOutputStream(
+				new BufferedOutputStream(socket.getOutputStream()));
+		
+		if ((in.readInt() != EvaluationProtocol.MAGIC) ||
+				(in.readInt() != EvaluationProtocol.VERSION)) {
+			throw new IOException("unsupported protocol");
+		}
+		
+		byte[] challenge = new byte[EvaluationProtocol.CHALLENGE_LENGTH];
+		byte[] response = new byte[EvaluationProtocol.RESPONSE_LENGTH];
+		
+		random.nextBytes(challenge);
+		out.write(challenge);
+		out.flush();
+		
+		in.readFully(response);
+		String name = in.readUTF();
+		
+		if (!MessageDigest.isEqual(response,
+				EvaluationProtocol.respond(secret, challenge))) {
+			reject(out, "authentication failed");
+			return;
+		} else if (!problemNames.contains(name)) {
+			reject(out, "problem not hosted: " + name);
+			return;
+		}
+		
+		Problem problem = null;
+		
+		try {
+			problem = ProblemFactory.getInstance().getProblem(name);
+		} catch (RuntimeException e) {
+			reject(out, String.valueOf(e.getMessage()));
+			return;
+		}
+		
+		// authenticated sessions may idle between batches
+		socket.setSoTimeout(0);
+		
+		try {
+			out.writeByte(EvaluationProtocol.STATUS_OK);
+			out.writeInt(problem.getNumberOfVariables());
+			out.writeInt(problem.getNumberOfObjectives());
+			out.writeInt(problem.getNumberOfConstraints());
+			out.flush();
+			
+			Runnable heartbeat = new Runnable() {
+
+				@Override
+				public void run() {
+					try {
+						synchronized (out) {
+							out.writeByte(EvaluationProtocol.HEARTBEAT);
+							out.flush();
+						}
+					} catch (IOException e) {
+						// the session will fail when writing the results
+					}
+				}
+				
+			};
+			
+			while (true) {
+				byte type = 0;
+				
+				try {
+					type = in.readByte();
+				} catch (EOFException e) {
+					return;
+				}
+				
+				if (type == EvaluationProtocol.CLOSE) {
+					return;
+				} else if (type != EvaluationProtocol.BATCH) {
+					throw new IOException("unexpected message: " + type);
+				}
+				
+				int size = EvaluationProtocol.readLength(in, 1,
+						EvaluationProtocol.MAX_BATCH_SIZE);
+				List<Solution> batch = new ArrayList<Solution>(size);
+				
+				for (int i = 0; i < size; i++) {
+					Solution solution = problem.newSolution();
+					EvaluationProtocol.readVariables(in, solution);
+					batch.add(solution);
+				}
+				
+				ScheduledFuture<?> task = null;
+				
+				try {
+					task = scheduler.scheduleAtFixedRate(heartbeat,
+							heartbeatInterval, heartbeatInterval,
+							TimeUnit.MILLISECONDS);
+				} catch (RejectedExecutionException e) {
+					// the worker was closed, so the session is closed
+					return;
+				}
+				
+				String error = null;
+				
+				try {
+					for (Solution solution : batch) {
+						problem.evaluate(solution);
+					}
+				} catch (RuntimeException e) {
+					error = String.valueOf(e.getMessage());
+				} finally {
+					task.cancel(false);
+				}
+				
+				synchronized (out) {
+					if (error == null) {
+						out.writeByte(EvaluationProtocol.RESULTS);
+						out.writeInt(batch.size());
+						
+						for (Solution solution : batch) {
+							EvaluationProtocol.writeResult(out, solution);
+						}
+					} else {
+						out.writeByte(EvaluationProtocol.ERROR);
+						out.writeUTF(error);
+					}
+					
+					out.flush();
+				}
+			}
+		} finally {
+			problem.close();
+		}
+	}
+	
+	/**
+	 * Rejects the session, sending the reason to the master.
+	 * 
+	 * @param out the stream for writing messages to the master
+	 * @param message the reason the session was rejected
+	 * @throws IOException if an I/O error occurred
+	 */
+	private static void reject(DataOutputStream out, String message)
+			throws IOException {
+		out.writeByte(EvaluationProtocol.STATUS_ERROR);
+		out.writeUTF(message);
+		out.flush();
+	}
+	
+	/**
+	 * Closes the socket, ignoring any errors.
+	 * 
+	 * @param socket the socket
+	 */
+	static void closeQuietly(Socket socket) {
+		try {
+			socket.close();
+		} catch (IOException e) {
+			// ignore
+		}
+	}
+	
+	/**
+	 * Closes the server socket, ignoring any errors.
+	 * 
+	 * @param socket the server socket
+	 */
+	private static void closeQuietly(ServerSocket socket) {
+		try {
+			socket.close();
+		} catch (IOException e) {
+			// ignore
+		}
+	}
+	
+	/**
+	 * Creates daemon threads so idle workers and transports do not prevent the
+	 * JVM from exiting.
+	 */
+	static class DaemonThreadFactory implements ThreadFactory {
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable);
+			thread.setDaemon(true);
+			return thread;
+		}
+		
+	}
+	
+	@SuppressWarnings("static-access")
+	@Override
+	public Options getOptions() {
+		Options options = super.getOptions();
+		
+		options.addOption(OptionBuilder
+				.withLongOpt("port")
+				.hasArg()
+				.withArgName("port")
+				.isRequired()
+				.create('p'));
+		options.addOption(OptionBuilder
+				.withLongOpt("heartbeat")
+				.hasArg()
+				.withArgName("milliseconds")
+				.create('b'));
+		options.addOption(OptionBuilder
+				.withLongOpt("address")
+				.hasArg()
+				.withArgName("address")
+				.create('a'));
+		options.addOption(OptionBuilder
+				.withLongOpt("secretFile")
+				.hasArg()
+				.withArgName("file")
+				.isRequired()
+				.create('s'));
+		options.addOption(OptionBuilder
+				.withLongOpt("problem")
+				.hasArgs()
+				.withArgName("name")
+				.withValueSeparator(',')
+				.isRequired()
+				.create('r'));
+		
+		return options;
+	}
+
+	@Override
+	public void run(CommandLine commandLine) throws Exception {
+		if (commandLine.hasOption("heartbeat")) {
+			setHeartbeatInterval(Integer.parseInt(
+					commandLine.getOptionValue("heartbeat")));
+		}
+		
+		setSecret(readSecret(new File(commandLine.getOptionValue(
+				"secretFile"))));
+		
+		for (String problemName : commandLine.getOptionValues("problem")) {
+			addProblem(problemName.trim());
+		}
+		
+		int port = Integer.parseInt(commandLine.getOptionValue("port"));
+		
+		if (commandLine.hasOption("address")) {
+			open(InetAddress.getByName(commandLine.getOptionValue("address")),
+					port);
+		} else {
+			open(port);
+		}
+		
+		join();
+	}
+	
+	/**
+	 * Reads the secret from the first line of the file.
+	 * 
+	 * @param file the file containing the secret
+	 * @return the secret
+	 * @throws IOException if an I/O error occurred or the file is empty
+	 */
+	private static String readSecret(File file) throws IOException {
+		BufferedReader reader = null;
+		
+		try {
+			reader = new BufferedReader(new FileReader(file));
+			String line = reader.readLine();
+			
+			if ((line == null) || line.trim().isEmpty()) {
+				throw new IOException("no secret in " + file);
+			}
+			
+			return line.trim();
+		} finally {
+			if (reader != null) {
+				reader.close();
+			}
+		}
+	}
+	
+	/**
+	 * Starts the command line utility for hosting problems for remote
+	 * evaluation.
+	 * 
+	 * @param args the command line arguments
+	 * @throws Exception if an error occurred
+	 */
+	public static void main(String[] args) throws Exception {
+		new EvaluationWorker().start(args);
+	}
+
+}
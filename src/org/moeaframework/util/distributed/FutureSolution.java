@@ -45,6 +45,14 @@ public class FutureSolution extends Solution {
 	 * {@code null} if no asynchronous evaluation is underway.
 	 */
 	private transient Future<Solution> future;
+	
+	/**
+	 * The thread evaluating this solution in the current process, or
+	 * {@code null} if this solution is not being evaluated locally.  Reads by
+	 * the evaluating thread, such as a decorated problem reading the
+	 * objectives, must not wait for the evaluation to complete.
+	 */
+	private transient volatile Thread evaluatingThread;
 
 	/**
 	 * Each FutureSolution may be assigned a unique identifier, which Problems 
@@ -91,25 +99,42 @@ public class FutureSolution extends Solution {
 		return this.distributedEvaluationID;		
 	}
 	
+	/**
+	 * Sets the thread evaluating this solution in the current process.
+	 * 
+	 * @param evaluatingThread the thread evaluating this solution, or
+	 *        {@code null} if the evaluation completed
+	 */
+	void setEvaluatingThread(Thread evaluatingThread) {
+		this.evaluatingThread = evaluatingThread;
+	}
+	
 	/**
 	 * Updates this solution with the result of the {@code Future}, or blocks
 	 * until the result is available. Since the result is a serialized copy of
 	 * this solution, the objectives, constraints, and attributes must be copied.
+	 * Calls from the thread evaluating this solution return immediately.
 	 */
-	private synchronized void update() {
-		if (future != null) {
-			try {
-				Solution solution = future.get();
-				future = null;
-				
-				setObjectives(solution.getObjectives());
-				setConstraints(solution.getConstraints());
-				
-				for (Map.Entry<String, Serializable> entry : solution.getAttributes().entrySet()) {
-					setAttribute(entry.getKey(), entry.getValue());
+	private void update() {
+		if (Thread.currentThread() == evaluatingThread) {
+			return;
+		}
+		
+		synchronized (this) {
+			if (future != null) {
+				try {
+					Solution solution = future.get();
+					future = null;
+					
+					setObjectives(solution.getObjectives());
+					setConstraints(solution.getConstraints());
+					
+					for (Map.Entry<String, Serializable> entry : solution.getAttributes().entrySet()) {
+						setAttribute(entry.getKey(), entry.getValue());
+					}
+				} catch (Exception e) {
+					throw new FrameworkException(e);
 				}
-			} catch (Exception e) {
-				throw new FrameworkException(e);
 			}
 		}
 	}
@@ -0,0 +1,504 @@
+/* Copyright 2009-2018 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.util.distributed;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.moeaframework.core.FrameworkException;
+import org.moeaframework.core.Solution;
+
+/**
+ * Transport distributing evaluations to {@link EvaluationWorker}s over TCP
+ * sockets.  Each worker hosts its own instance of the problem, identified by
+ * the name given to the {@link org.moeaframework.core.spi.ProblemFactory}, so
+ * the problem need not be serializable.  Each connection authenticates using
+ * the secret shared with the workers.  Only the decision variables are sent
+ * to the workers, and only the objectives and constraints are returned;
+ * attributes set during evaluation are not transported.
+ * <p>
+ * Solutions are queued and sent to the workers in batches of up to the
+ * configured batch size, with each worker evaluating one batch at a time.
+ * If a worker fails, detected by a closed connection or by not receiving a
+ * heartbeat or result within the timeout, the unfinished solutions of its
+ * batch are re-dispatched to the remaining workers.  Once all workers fail,
+ * pending and future evaluations fail with a {@link FrameworkException}.
+ * <p>
+ * This class is thread-safe.
+ */
+public class SocketTransport implements EvaluationTransport, Closeable {
+	
+	/**
+	 * The default number of solutions sent to a worker in one batch.
+	 */
+	public static final int DEFAULT_BATCH_SIZE = 8;
+	
+	/**
+	 * The default time, in milliseconds, to wait for a heartbeat or result
+	 * before considering a worker failed.
+	 */
+	public static final int DEFAULT_TIMEOUT = 10000;
+	
+	/**
+	 * The time, in milliseconds, to wait for a solution before checking if
+	 * this transport is closed.
+	 */
+	private static final long POLL_INTERVAL = 100;
+	
+	/**
+	 * Placeholder computation for the tasks, which are completed by the
+	 * connections instead.
+	 */
+	private static final Runnable NO_OP = new Runnable() {
+
+		@Override
+		public void run() {
+			// do nothing
+		}
+		
+	};
+	
+	/**
+	 * The maximum number of solutions sent to a worker in one batch.
+	 */
+	private final int batchSize;
+	
+	/**
+	 * The solutions waiting to be sent to a worker.
+	 */
+	private final BlockingQueue<Task> queue;
+	
+	/**
+	 * The connections to the workers.
+	 */
+	private final List<Connection> connections;
+	
+	/**
+	 * The number of connections that have not failed.
+	 */
+	private final AtomicInteger numberOfActiveConnections;
+	
+	/**
+	 * The number of variables reported by the workers.
+	 */
+	private int numberOfVariables;
+	
+	/**
+	 * The number of objectives reported by the workers.
+	 */
+	private int numberOfObjectives;
+	
+	/**
+	 * The number of constraints reported by the workers.
+	 */
+	private int numberOfConstraints;
+	
+	/**
+	 * {@code true} if this transport is closed; {@code false} otherwise.
+	 */
+	private volatile boolean closed;
+	
+	/**
+	 * Constructs a transport connected to the specified workers using the
+	 * default batch size and timeout.
+	 * 
+	 * @param problemName the name of the problem hosted by the workers
+	 * @param workers the addresses of the workers
+	 * @param secret the secret shared with the workers
+	 * @throws IOException if any worker could not be reached, rejects the
+	 *         secret or is unable to host the problem
+	 */
+	public SocketTransport(String problemName, List<InetSocketAddress> workers,
+			String secret) throws IOException {
+		this(problemName, workers, secret, DEFAULT_BATCH_SIZE,
+				DEFAULT_TIMEOUT);
+	}
+	
+	/**
+	 * Constructs a transport connected to the specified workers.
+	 * 
+	 * @param problemName the name of the problem hosted by the workers
+	 * @param workers the addresses of the workers
+	 * @param secret the secret shared with the workers
+	 * @param batchSize the maximum number of solutions sent to a worker in one
+	 *        batch
+	 * @param timeout the time, in milliseconds, to wait for a heartbeat or
+	 *        result before considering a worker failed
+	 * @throws IOException if any worker could not be reached, rejects the
+	 *         secret or is unable to host the problem
+	 * @throws IllegalArgumentException if no workers are given, the batch
+	 *         size is not positive or exceeds the limit of the workers, or
+	 *         the timeout is not positive
+	 */
+	public SocketTransport(String problemName, List<InetSocketAddress> workers,
+			String secret, int batchSize, int timeout) throws IOException {
+		super();
+		
+		if (workers.isEmpty()) {
+			throw new IllegalArgumentException("requires at least one worker");
+		}
+		
+		if (batchSize <= 0) {
+			throw new IllegalArgumentException("batch size must be positive");
+		}
+		
+		if (batchSize > EvaluationProtocol.MAX_BATCH_SIZE) {
+			throw new IllegalArgumentException("batch size must not exceed " +
+					EvaluationProtocol.MAX_BATCH_SIZE);
+		}
+		
+		if (timeout <= 0) {
+			throw new IllegalArgumentException("timeout must be positive");
+		}
+		
+		this.batchSize = batchSize;
+		
+		queue = new LinkedBlockingQueue<Task>();
+		connections = new ArrayList<Connection>();
+		numberOfActiveConnections = new AtomicInteger();
+		
+		try {
+			for (InetSocketAddress address : workers) {
+				connections.add(new Connection(address, problemName, secret,
+						timeout));
+			}
+		} catch (IOException e) {
+			for (Connection connection : connections) {
+				EvaluationWorker.closeQuietly(connection.socket);
+			}
+			
+			throw e;
+		}
+		
+		numberOfActiveConnections.set(connections.size());
+		
+		for (Connection connection : connections) {
+			Thread thread = new Thread(connection);
+			thread.setDaemon(true);
+			thread.start();
+		}
+	}
+	
+	/**
+	 * Returns the number of workers that have not failed.
+	 * 
+	 * @return the number of workers that have not failed
+	 */
+	public int getNumberOfActiveWorkers() {
+		return numberOfActiveConnections.get();
+	}
+
+	@Override
+	public Future<Solution> submit(Solution solution) {
+		Task task = new Task(solution);
+		
+		if (closed) {
+			task.fail(new FrameworkException("transport is closed"));
+		} else if (solution.getNumberOfVariables() != numberOfVariables) {
+			task.fail(new FrameworkException(
+					"solution differs from the problem hosted by the workers"));
+		} else {
+			queue.add(task);
+			
+			// the last worker may have failed concurrently
+			if (numberOfActiveConnections.get() == 0) {
+				failQueued();
+			}
+		}
+		
+		return task;
+	}
+	
+	/**
+	 * Fails all solutions waiting to be sent to a worker.
+	 */
+	private void failQueued() {
+		Task task = null;
+		
+		while ((task = queue.poll()) != null) {
+			task.fail(new FrameworkException(closed ? "transport is closed" :
+					"all workers failed"));
+		}
+	}
+	
+	/**
+	 * Closes the connections to the workers.  Solutions waiting to be sent to
+	 * a worker fail with a {@link FrameworkException}, while batches already
+	 * sent to a worker complete before its connection is closed.
+	 */
+	@Override
+	public void close() {
+		closed = true;
+		failQueued();
+	}
+	
+	/**
+	 * A solution waiting for its evaluation.
+	 */
+	private static class Task extends FutureTask<Solution> {
+		
+		/**
+		 * The solution being evaluated.
+		 */
+		private final Solution solution;
+		
+		/**
+		 * Constructs a task for evaluating the specified solution.
+		 * 
+		 * @param solution the solution being evaluated
+		 */
+		public Task(Solution solution) {
+			super(NO_OP, null);
+			this.solution = solution;
+		}
+		
+		/**
+		 * Completes this task with the evaluated objectives and constraints.
+		 * 
+		 * @param result the evaluated objectives and constraints
+		 */
+		public void complete(Solution result) {
+			set(result);
+		}
+		
+		/**
+		 * Fails this task with the specified cause.
+		 * 
+		 * @param cause the cause of the failure
+		 */
+		public void fail(Throwable cause) {
+			setException(cause);
+		}
+		
+	}
+	
+	/**
+	 * The connection to a worker, sending batches of queued solutions until
+	 * the transport is closed or the worker fails.
+	 */
+	private class Connection implements Runnable {
+		
+		/**
+		 * The socket connected to the worker.
+		 */
+		private final Socket socket;
+		
+		/**
+		 * The stream for reading messages from the worker.
+		 */
+		private final DataInputStream in;
+		
+		/**
+		 * The stream for writing messages to the worker.
+		 */
+		private final DataOutputStream out;
+		
+		/**
+		 * Connects to the worker and starts a session for the named problem.
+		 * 
+		 * @param address the address of the worker
+		 * @param problemName the name of the problem
+		 * @param secret the secret shared with the worker
+		 * @param timeout the time, in milliseconds, to wait for a heartbeat
+		 *        or result
+		 * @throws IOException if the worker could not be reached, rejects the
+		 *         secret or is unable to host the problem
+		 */
+		public Connection(InetSocketAddress address, String problemName,
+				String secret, int timeout) throws IOException {
+			super();
+			
+			socket = new Socket();
+			
+			try {
+				socket.connect(address, timeout);
+				socket.setSoTimeout(timeout);
+				socket.setTcpNoDelay(true);
+				
+				in = new DataInputStream(new BufferedInputStream(
+						socket.getInputStream()));
+				out = new DataOutputStream(new BufferedOutputStream(
+						socket.getOutputStream()));
+				
+				out.writeInt(EvaluationProtocol.MAGIC);
+				out.writeInt(EvaluationProtocol.VERSION);
+				out.flush();
+				
+				byte[] challenge =
+						new byte[EvaluationProtocol.CHALLENGE_LENGTH];
+				in.readFully(challenge);
+				
+				out.write(EvaluationProtocol.respond(secret, challenge));
+				out.writeUTF(problemName);
+				out.flush();
+				
+				if (in.readByte() != EvaluationProtocol.STATUS_OK) {
+					throw new IOException(address + ": " + in.readUTF());
+				}
+				
+				int variables = in.readInt();
+				int objectives = in.readInt();
+				int constraints = in.readInt();
+				
+				if ((variables < 0) || (objectives < 0) || (constraints < 0)) {
+					throw new IOException(address + ": invalid problem");
+				} else if (connections.isEmpty()) {
+					numberOfVariables = variables;
+					numberOfObjectives = objectives;
+					numberOfConstraints = constraints;
+				} else if ((variables != numberOfVariables) ||
+						(objectives != numberOfObjectives) ||
+						(constraints != numberOfConstraints)) {
+					throw new IOException(address +
+							": problem differs from other workers");
+				}
+			} catch (IOException e) {
+				EvaluationWorker.closeQuietly(socket);
+				throw e;
+			}
+		}
+
+		@Override
+		public void run() {
+			List<Task> batch = new ArrayList<Task>();
+			
+			try {
+				while (!closed) {
+					Task task = queue.poll(POLL_INTERVAL,
+							TimeUnit.MILLISECONDS);
+					
+					if (task == null) {
+						continue;
+					}
+					
+					batch.add(task);
+					queue.drainTo(batch, batchSize - 1);
+					evaluate(batch);
+					batch.clear();
+				}
+				
+				out.writeByte(EvaluationProtocol.CLOSE);
+				out.flush();
+				EvaluationWorker.closeQuietly(socket);
+			} catch (IOException e) {
+				fail(batch);
+			} catch (InterruptedException e) {
+				fail(batch);
+			} catch (RuntimeException e) {
+				fail(batch);
+				throw e;
+			}
+		}
+		
+		/**
+		 * Sends the batch to the worker and waits for the results.
+		 * 
+		 * @param batch the batch of solutions
+		 * @throws IOException if an I/O error occurred or the worker did not
+		 *         respond within the timeout
+		 */
+		private void evaluate(List<Task> batch) throws IOException {
+			// skip tasks cancelled while waiting in the queue
+			for (int i = batch.size() - 1; i >= 0; i--) {
+				if (batch.get(i).isDone()) {
+					batch.remove(i);
+				}
+			}
+			
+			if (batch.isEmpty()) {
+				return;
+			}
+			
+			out.writeByte(EvaluationProtocol.BATCH);
+			out.writeInt(batch.size());
+			
+			for (Task task : batch) {
+				EvaluationProtocol.writeVariables(out, task.solution);
+			}
+			
+			out.flush();
+			
+			while (true) {
+				byte type = in.readByte();
+				
+				if (type == EvaluationProtocol.HEARTBEAT) {
+					continue;
+				} else if (type == EvaluationProtocol.RESULTS) {
+					if (in.readInt() != batch.size()) {
+						throw new IOException("unexpected number of results");
+					}
+					
+					for (Task task : batch) {
+						task.complete(EvaluationProtocol.readResult(in,
+								numberOfObjectives, numberOfConstraints));
+					}
+					
+					return;
+				} else if (type == EvaluationProtocol.ERROR) {
+					FrameworkException cause = new FrameworkException(
+							in.readUTF());
+					
+					for (Task task : batch) {
+						task.fail(cause);
+					}
+					
+					return;
+				} else {
+					throw new IOException("unexpected message: " + type);
+				}
+			}
+		}
+		
+		/**
+		 * Handles the failure of this connection, re-dispatching the
+		 * unfinished solutions of the batch to the remaining workers.
+		 * 
+		 * @param batch the batch of solutions being evaluated
+		 */
+		private void fail(List<Task> batch) {
+			EvaluationWorker.closeQuietly(socket);
+			
+			for (Task task : batch) {
+				if (!task.isDone()) {
+					queue.add(task);
+				}
+			}
+			
+			if ((numberOfActiveConnections.decrementAndGet() == 0) ||
+					closed) {
+				failQueued();
+			}
+		}
+		
+	}
+
+}
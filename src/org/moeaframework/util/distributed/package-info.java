@@ -32,5 +32,9 @@
  * {@code ExecutorService} interfaces out-of-the-box.  Then, the desired
  * {@code Problem} is decorated with the {@code DistributedProblem} to enable
  * parallel execution.
+ * <p>
+ * Alternatively, {@code SocketTransport} distributes the evaluations to
+ * {@code EvaluationWorker} processes, started on the local machine or on
+ * remote compute nodes, that host their own instances of the problem.
  */
 package org.moeaframework.util.distributed;
\ No newline at end of file
@@ -18,8 +18,10 @@
 package org.moeaframework.util.grammar;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.Stack;
 
@@ -35,6 +37,13 @@ public class ContextFreeGrammar {
 	 * The rules contained in this grammar.
 	 */
 	private final List<Rule> rules;
+	
+	/**
+	 * Index mapping each symbol to its rule, built on demand; or {@code null}
+	 * if the index must be rebuilt.  The index is only published once fully
+	 * built, so concurrent derivations never observe a partial index.
+	 */
+	private volatile Map<Symbol, Rule> index;
 
 	/**
 	 * The maximum number of times the builder will wrap around the codon array
@@ -81,6 +90,7 @@ public class ContextFreeGrammar {
 	 */
 	public void add(Rule rule) {
 		rules.add(rule);
+		index = null;
 	}
 
 	/**
@@ -90,6 +100,7 @@ public class ContextFreeGrammar {
 	 */
 	public void remove(Rule rule) {
 		rules.remove(rule);
+		index = null;
 	}
 
 	/**
@@ -122,13 +133,21 @@ public class ContextFreeGrammar {
 	 *         with the specified symbol exists
 	 */
 	public Rule get(Symbol symbol) {
-		for (Rule rule : rules) {
-			if (rule.getSymbol().equals(symbol)) {
-				return rule;
+		Map<Symbol, Rule> index = this.index;
+		
+		if (index == null) {
+			index = new HashMap<Symbol, Rule>();
+			
+			for (Rule rule : rules) {
+				if (!index.containsKey(rule.getSymbol())) {
+					index.put(rule.getSymbol(), rule);
+				}
 			}
+			
+			this.index = index;
 		}
 
-		return null;
+		return index.get(symbol);
 	}
 
 	/**
@@ -146,29 +165,62 @@ public class ContextFreeGrammar {
 	 * @throws GrammarException if the codon array is empty
 	 */
 	public String build(int[] array) {
+		Derivation derivation = derive(array);
+		
+		if (derivation == null) {
+			return null;
+		} else {
+			return derivation.toString();
+		}
+	}
+	
+	/**
+	 * Returns the derivation tree produced using the construction rules of
+	 * Grammatical Evolution on the specified codon array; or {@code null} if
+	 * the codon array failed to produce a valid derivation.  Unlike
+	 * {@link #build(int[])}, the derivation tree records the production
+	 * selected by each codon and the number of codons consumed.
+	 * 
+	 * @param array the codon array
+	 * @return the derivation tree produced using the construction rules of
+	 *         Grammatical Evolution on the specified codon array; or
+	 *         {@code null} if the codon array failed to produce a valid
+	 *         derivation
+	 * @throws GrammarException if the codon array is empty
+	 * @see DerivationCache
+	 */
+	public Derivation derive(int[] array) {
 		if (array.length == 0) {
 			throw new GrammarException("codon array is empty");
 		}
 
 		StringBuilder sb = new StringBuilder();
-		Stack<Symbol> remaining = new Stack<Symbol>();
+		Stack<DerivationNode> remaining = new Stack<DerivationNode>();
+		List<Integer> choices = new ArrayList<Integer>();
+		List<Integer> options = new ArrayList<Integer>();
 
 		int index = 0;
 		int wraps = 0;
-
-		remaining.push(rules.get(0).getSymbol());
+		
+		DerivationNode root = new DerivationNode(rules.get(0).getSymbol());
+		remaining.push(root);
 
 		while (!remaining.isEmpty()) {
-			Symbol symbol = remaining.pop();
+			DerivationNode node = remaining.pop();
+			Symbol symbol = node.getSymbol();
 
 			if (symbol.isTerminal()) {
 				sb.append(symbol.getValue());
 			} else {
 				Rule rule = get(symbol);
 				int productionIndex = 0;
+				int codonIndex = -1;
 
 				if (rule.size() > 1) {
 					productionIndex = array[index] % rule.size();
+					codonIndex = choices.size();
+					choices.add(productionIndex);
+					options.add(rule.size());
 					index++;
 
 					if (index >= array.length) {
@@ -182,14 +234,39 @@ public class ContextFreeGrammar {
 				}
 
 				Production production = rule.get(productionIndex);
+				DerivationNode[] children =
+						new DerivationNode[production.size()];
+				
+				for (int i = 0; i < production.size(); i++) {
+					children[i] = new DerivationNode(production.get(i));
+				}
+				
+				node.expand(productionIndex, codonIndex, children);
 
 				for (int i = production.size() - 1; i >= 0; i--) {
-					remaining.push(production.get(i));
+					remaining.push(children[i]);
 				}
 			}
 		}
 
-		return sb.toString();
+		return new Derivation(root, sb.toString(), toArray(choices),
+				toArray(options));
+	}
+	
+	/**
+	 * Converts a list of integers into an array.
+	 * 
+	 * @param list the list of integers
+	 * @return the array of integers
+	 */
+	private static int[] toArray(List<Integer> list) {
+		int[] result = new int[list.size()];
+		
+		for (int i = 0; i < result.length; i++) {
+			result[i] = list.get(i);
+		}
+		
+		return result;
 	}
 
 	/**
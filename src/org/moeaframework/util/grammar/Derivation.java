@@ -0,0 +1,177 @@
+/* Copyright 2009-2018 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.util.grammar;
+
+import java.util.Arrays;
+
+/**
+ * The result of deriving a string from a codon array using the construction
+ * rules of Grammatical Evolution.  A derivation stores the derivation tree,
+ * the derived string, and the production selected by each consumed codon.
+ * <p>
+ * The derived string depends only on the productions selected by the consumed
+ * codons.  Two derivations are equal if they selected the same productions,
+ * regardless of the actual codon values or any unused codons at the end of
+ * the codon array.  Derivations can therefore be used as keys to identify
+ * phenotypically identical individuals and avoid re-evaluating them.
+ * <p>
+ * Derivations are immutable and may be shared, for example by
+ * {@link DerivationCache}.
+ *
+ * @see ContextFreeGrammar#derive(int[])
+ */
+public class Derivation {
+
+	/**
+	 * The root of the derivation tree.
+	 */
+	private final DerivationNode root;
+
+	/**
+	 * The derived string.
+	 */
+	private final String value;
+
+	/**
+	 * The index of the production selected by each consumed codon.
+	 */
+	private final int[] choices;
+
+	/**
+	 * The number of productions available to each consumed codon.
+	 */
+	private final int[] options;
+
+	/**
+	 * Constructs a new derivation.
+	 *
+	 * @param root the root of the derivation tree
+	 * @param value the derived string
+	 * @param choices the index of the production selected by each consumed
+	 *        codon
+	 * @param options the number of productions available to each consumed
+	 *        codon
+	 */
+	Derivation(DerivationNode root, String value, int[] choices,
+			int[] options) {
+		super();
+		this.root = root;
+		this.value = value;
+		this.choices = choices;
+		this.options = options;
+	}
+
+	/**
+	 * Returns the root of the derivation tree.
+	 *
+	 * @return the root of the derivation tree
+	 */
+	public DerivationNode getRoot() {
+		return root;
+	}
+
+	/**
+	 * Returns the number of codons consumed by this derivation.  If the codon
+	 * array did not wrap, only codons at indices less than this value
+	 * contributed to the derivation; the remaining codons can be changed
+	 * without altering the derived string.
+	 *
+	 * @return the number of codons consumed by this derivation
+	 */
+	public int getNumberOfCodons() {
+		return choices.length;
+	}
+
+	/**
+	 * Returns {@code true} if the codon at the specified index in a codon
+	 * array of the given length was consumed by this derivation;
+	 * {@code false} otherwise.
+	 *
+	 * @param index the index of the codon
+	 * @param length the length of the codon array
+	 * @return {@code true} if the codon at the specified index was consumed
+	 *         by this derivation; {@code false} otherwise
+	 */
+	public boolean isConsumed(int index, int length) {
+		return (choices.length >= length) || (index < choices.length);
+	}
+
+	/**
+	 * Returns the index of the production selected by each consumed codon, in
+	 * the order the codons were consumed.
+	 *
+	 * @return the index of the production selected by each consumed codon
+	 */
+	public int[] getChoices() {
+		return choices.clone();
+	}
+
+	/**
+	 * Returns the index of the production selected by the specified consumed
+	 * codon.
+	 *
+	 * @param position the position of the codon in the order the codons
+	 *        were consumed
+	 * @return the index of the production selected by the codon
+	 */
+	int getChoice(int position) {
+		return choices[position];
+	}
+
+	/**
+	 * Returns the number of productions available to the specified consumed
+	 * codon.
+	 *
+	 * @param position the position of the codon in the order the codons
+	 *        were consumed
+	 * @return the number of productions available to the codon
+	 */
+	int getOptions(int position) {
+		return options[position];
+	}
+
+	/**
+	 * Returns the derived string.
+	 *
+	 * @return the derived string
+	 */
+	@Override
+	public String toString() {
+		return value;
+	}
+
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(choices);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (obj == this) {
+			return true;
+		} else if ((obj == null) || (obj.getClass() != getClass())) {
+			return false;
+		} else {
+			Derivation rhs = (Derivation)obj;
+
+			return Arrays.equals(choices, rhs.choices) &&
+					value.equals(rhs.value);
+		}
+	}
+
+}
@@ -0,0 +1,308 @@
+/* Copyright 2009-2018 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.util.grammar;
+
+import org.moeaframework.core.variable.Grammar;
+
+/**
+ * Caches the derivations produced by a grammar, keyed by the productions
+ * selected by the consumed codons.  Since the derivation only depends on the
+ * codons it consumes, individuals that differ only in unused codons, or whose
+ * codons select the same productions, share the same cached
+ * {@link Derivation}.  Cached derivations are stored in a trie, so decoding a
+ * codon array only visits the consumed codons and never rebuilds the derived
+ * string.  A mutation or crossover affecting the tail of the codon array
+ * reuses the cached path up to the first modified codon.
+ * <p>
+ * The grammar must not be modified while the cache is in use.  When the trie
+ * exceeds its capacity, measured in the number of trie nodes, the cache is
+ * cleared.  Codon arrays that fail to produce a valid derivation are not
+ * cached.
+ * <p>
+ * This class is thread-safe.
+ */
+public class DerivationCache {
+
+	/**
+	 * The grammar producing the derivations.
+	 */
+	private final ContextFreeGrammar grammar;
+
+	/**
+	 * The maximum number of nodes stored in the trie.
+	 */
+	private final int capacity;
+
+	/**
+	 * The root of the trie; or {@code null} if the trie is empty.
+	 */
+	private TrieNode root;
+
+	/**
+	 * The number of nodes stored in the trie.
+	 */
+	private int size;
+
+	/**
+	 * The number of codon arrays decoded using a cached derivation.
+	 */
+	private long hits;
+
+	/**
+	 * The number of codon arrays requiring a new derivation.
+	 */
+	private long misses;
+
+	/**
+	 * Constructs a new derivation cache for the specified grammar.
+	 *
+	 * @param grammar the grammar producing the derivations
+	 * @param capacity the maximum number of nodes stored in the trie
+	 * @throws IllegalArgumentException if the capacity is not positive
+	 */
+	public DerivationCache(ContextFreeGrammar grammar, int capacity) {
+		super();
+
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("capacity must be positive");
+		}
+
+		this.grammar = grammar;
+		this.capacity = capacity;
+	}
+
+	/**
+	 * Returns the derivation of the codons stored in the specified grammar
+	 * variable; or {@code null} if the codons failed to produce a valid
+	 * derivation.
+	 *
+	 * @param variable the grammar variable
+	 * @return the derivation of the codons stored in the specified grammar
+	 *         variable; or {@code null} if the codons failed to produce a
+	 *         valid derivation
+	 * @throws GrammarException if the codon array is empty
+	 */
+	public Derivation decode(Grammar variable) {
+		return decode(variable.toArray());
+	}
+
+	/**
+	 * Returns the derivation of the specified codon array; or {@code null} if
+	 * the codon array failed to produce a valid derivation.  The result is
+	 * identical to calling {@link ContextFreeGrammar#derive(int[])}, but may
+	 * return a cached instance.
+	 *
+	 * @param array the codon array
+	 * @return the derivation of the specified codon array; or {@code null} if
+	 *         the codon array failed to produce a valid derivation
+	 * @throws GrammarException if the codon array is empty
+	 */
+	public Derivation decode(int[] array) {
+		if (array.length == 0) {
+			throw new GrammarException("codon array is empty");
+		}
+
+		synchronized (this) {
+			TrieNode node = root;
+			int limit = (grammar.getWrapLimit() + 1) * array.length;
+			int position = 0;
+
+			while (node != null) {
+				if (node.derivation != null) {
+					hits++;
+					return node.derivation;
+				}
+
+				// same wrapping behavior as the grammar
+				if (position + 1 >= limit) {
+					hits++;
+					return null;
+				}
+
+				node = node.children[array[position % array.length] %
+				                     node.children.length];
+				position++;
+			}
+
+			misses++;
+		}
+
+		Derivation derivation = grammar.derive(array);
+
+		if (derivation != null) {
+			store(derivation);
+		}
+
+		return derivation;
+	}
+
+	/**
+	 * Adds the path for the specified derivation to the trie.
+	 *
+	 * @param derivation the derivation
+	 */
+	private synchronized void store(Derivation derivation) {
+		int length = derivation.getNumberOfCodons();
+
+		if (size + length + 1 > capacity) {
+			clear(false);
+		}
+
+		if (root == null) {
+			root = newNode(length > 0 ? derivation.getOptions(0) : 0);
+		}
+
+		TrieNode node = root;
+
+		for (int i = 0; i < length; i++) {
+			int choice = derivation.getChoice(i);
+
+			if (node.children[choice] == null) {
+				node.children[choice] = newNode(i + 1 < length ?
+						derivation.getOptions(i + 1) : 0);
+			}
+
+			node = node.children[choice];
+		}
+
+		node.derivation = derivation;
+	}
+
+	/**
+	 * Creates a new trie node, updating the size of the trie.
+	 *
+	 * @param options the number of productions available to the next codon
+	 * @return the new trie node
+	 */
+	private TrieNode newNode(int options) {
+		size++;
+		return new TrieNode(options);
+	}
+
+	/**
+	 * Removes all cached derivations.
+	 *
+	 * @param resetStatistics {@code true} if the hit and miss counts are also
+	 *        reset; {@code false} otherwise
+	 */
+	private synchronized void clear(boolean resetStatistics) {
+		root = null;
+		size = 0;
+
+		if (resetStatistics) {
+			hits = 0;
+			misses = 0;
+		}
+	}
+
+	/**
+	 * Removes all cached derivations and resets the hit and miss counts.
+	 */
+	public void clear() {
+		clear(true);
+	}
+
+	/**
+	 * Returns the grammar producing the derivations.
+	 *
+	 * @return the grammar producing the derivations
+	 */
+	public ContextFreeGrammar getGrammar() {
+		return grammar;
+	}
+
+	/**
+	 * Returns the number of nodes stored in the trie.
+	 *
+	 * @return the number of nodes stored in the trie
+	 */
+	public synchronized int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the maximum number of nodes stored in the trie.
+	 *
+	 * @return the maximum number of nodes stored in the trie
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * Returns the number of codon arrays decoded using the cache.
+	 *
+	 * @return the number of codon arrays decoded using the cache
+	 */
+	public synchronized long getHits() {
+		return hits;
+	}
+
+	/**
+	 * Returns the number of codon arrays requiring a new derivation.
+	 *
+	 * @return the number of codon arrays requiring a new derivation
+	 */
+	public synchronized long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * Returns the fraction of codon arrays decoded using the cache; or
+	 * {@code 0.0} if no codon arrays have been decoded.
+	 *
+	 * @return the fraction of codon arrays decoded using the cache
+	 */
+	public synchronized double getHitRate() {
+		long total = hits + misses;
+		return total == 0 ? 0.0 : hits / (double)total;
+	}
+
+	/**
+	 * A node in the trie.  Each edge corresponds to the production selected
+	 * by a consumed codon.  Nodes at the end of a complete derivation store
+	 * the derivation.
+	 */
+	private static class TrieNode {
+
+		/**
+		 * The child nodes, indexed by the selected production.
+		 */
+		private final TrieNode[] children;
+
+		/**
+		 * The derivation ending at this node; or {@code null} if the
+		 * derivation requires additional codons.
+		 */
+		private Derivation derivation;
+
+		/**
+		 * Constructs a new trie node.
+		 *
+		 * @param options the number of productions available to the next
+		 *        codon
+		 */
+		public TrieNode(int options) {
+			super();
+
+			children = new TrieNode[options];
+		}
+
+	}
+
+}
@@ -0,0 +1,164 @@
+/* Copyright 2009-2018 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.util.grammar;
+
+/**
+ * A node in a derivation tree.  Terminal symbols are leaves of the tree.
+ * Non-terminal symbols are expanded by one of the productions of their rule,
+ * with one child node for each symbol in the production.
+ *
+ * @see Derivation
+ */
+public class DerivationNode {
+
+	/**
+	 * The symbol at this node.
+	 */
+	private final Symbol symbol;
+
+	/**
+	 * The index of the production used to expand this node; or {@code -1} if
+	 * this node is a terminal.
+	 */
+	private int productionIndex;
+
+	/**
+	 * The position of the codon that selected the production; or {@code -1}
+	 * if no codon was consumed.
+	 */
+	private int codonIndex;
+
+	/**
+	 * The children of this node.
+	 */
+	private DerivationNode[] children;
+
+	/**
+	 * Constructs a new, unexpanded derivation node for the specified symbol.
+	 *
+	 * @param symbol the symbol at this node
+	 */
+	DerivationNode(Symbol symbol) {
+		super();
+		this.symbol = symbol;
+
+		productionIndex = -1;
+		codonIndex = -1;
+		children = new DerivationNode[0];
+	}
+
+	/**
+	 * Expands this node using the specified production.
+	 *
+	 * @param productionIndex the index of the production used to expand this
+	 *        node
+	 * @param codonIndex the position of the codon that selected the
+	 *        production; or {@code -1} if no codon was consumed
+	 * @param children the children of this node
+	 */
+	void expand(int productionIndex, int codonIndex,
+			DerivationNode[] children) {
+		this.productionIndex = productionIndex;
+		this.codonIndex = codonIndex;
+		this.children = children;
+	}
+
+	/**
+	 * Returns the symbol at this node.
+	 *
+	 * @return the symbol at this node
+	 */
+	public Symbol getSymbol() {
+		return symbol;
+	}
+
+	/**
+	 * Returns the index of the production used to expand this node; or
+	 * {@code -1} if this node is a terminal.
+	 *
+	 * @return the index of the production used to expand this node; or
+	 *         {@code -1} if this node is a terminal
+	 */
+	public int getProductionIndex() {
+		return productionIndex;
+	}
+
+	/**
+	 * Returns the position of the codon that selected the production used to
+	 * expand this node; or {@code -1} if no codon was consumed, which occurs
+	 * for terminals and rules with a single production.  The position counts
+	 * the codons consumed during the derivation, so the codon is located at
+	 * index {@code position % length} when the codon array wraps.
+	 *
+	 * @return the position of the codon that selected the production used to
+	 *         expand this node; or {@code -1} if no codon was consumed
+	 */
+	public int getCodonIndex() {
+		return codonIndex;
+	}
+
+	/**
+	 * Returns the number of children of this node.
+	 *
+	 * @return the number of children of this node
+	 */
+	public int size() {
+		return children.length;
+	}
+
+	/**
+	 * Returns the child at the specified index.
+	 *
+	 * @param index the index of the child to be returned
+	 * @return the child at the specified index
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 *         {@code ((index < 0) || (index >= size())}
+	 */
+	public DerivationNode get(int index) {
+		return children[index];
+	}
+
+	/**
+	 * Returns the string derived from the subtree rooted at this node.
+	 *
+	 * @return the string derived from the subtree rooted at this node
+	 */
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		append(sb);
+		return sb.toString();
+	}
+
+	/**
+	 * Appends the string derived from the subtree rooted at this node to the
+	 * string builder.
+	 *
+	 * @param sb the string builder
+	 */
+	private void append(StringBuilder sb) {
+		if (symbol.isTerminal()) {
+			sb.append(symbol.getValue());
+		} else {
+			for (DerivationNode child : children) {
+				child.append(sb);
+			}
+		}
+	}
+
+}
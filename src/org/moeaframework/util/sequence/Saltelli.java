@@ -28,7 +28,8 @@ import org.moeaframework.analysis.sensitivity.SobolAnalysis;
  * <p>
  * The number of samples, {@code N}, generated by the {@link #generate} method
  * must be a multiple of {@code 2*D+2}, where {@code D} is the dimension of the
- * generated samples.
+ * generated samples.  Use {@link SaltelliStream} to generate the samples one
+ * at a time.
  * <p>
  * References:
  * <ol>
@@ -38,19 +39,12 @@ import org.moeaframework.analysis.sensitivity.SobolAnalysis;
  */
 public class Saltelli implements Sequence {
 
-	/**
-	 * The internal Sobol' sequence.
-	 */
-	private final Sobol sobol;
-
 	/**
 	 * Constructs a Saltelli sequence generator for use in Sobol' global
 	 * variance decomposition.
 	 */
 	public Saltelli() {
 		super();
-
-		sobol = new Sobol();
 	}
 
 	@Override
@@ -59,48 +53,11 @@ public class Saltelli implements Sequence {
 			throw new IllegalArgumentException("N must be a multiple of 2*D+2");
 		}
 
-		N = N / (2 * D + 2);
-
-		double[][] sobolSequence = sobol.generate(N + 1000, 2 * D);
-		double[][] saltelliSequence = new double[(2 * D + 2) * N][D];
-		int index = 0;
-
-		for (int i = 1000; i < N + 1000; i++) {
-			for (int j = 0; j < D; j++) {
-				saltelliSequence[index][j] = sobolSequence[i][j];
-			}
-
-			index++;
-
-			for (int k = 0; k < D; k++) {
-				for (int j = 0; j < D; j++) {
-					if (j == k) {
-						saltelliSequence[index][j] = sobolSequence[i][j + D];
-					} else {
-						saltelliSequence[index][j] = sobolSequence[i][j];
-					}
-				}
-
-				index++;
-			}
-
-			for (int k = 0; k < D; k++) {
-				for (int j = 0; j < D; j++) {
-					if (j == k) {
-						saltelliSequence[index][j] = sobolSequence[i][j];
-					} else {
-						saltelliSequence[index][j] = sobolSequence[i][j + D];
-					}
-				}
-
-				index++;
-			}
-
-			for (int j = 0; j < D; j++) {
-				saltelliSequence[index][j] = sobolSequence[i][j + D];
-			}
+		SaltelliStream stream = new SaltelliStream(D);
+		double[][] saltelliSequence = new double[N][D];
 
-			index++;
+		for (int i = 0; i < N; i++) {
+			stream.next(saltelliSequence[i]);
 		}
 
 		return saltelliSequence;
@@ -0,0 +1,156 @@
+/* Copyright 2009-2018 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.util.sequence;
+
+import org.moeaframework.util.sequence.SobolStream.Scrambling;
+
+/**
+ * Streaming version of the {@link Saltelli} sequence.  Each point of the
+ * underlying {@code 2*D}-dimensional Sobol' sequence produces a group of
+ * {@code 2*D+2} consecutive points, so skipping to any index only requires
+ * skipping the underlying {@link SobolStream}.  Without scrambling, this
+ * stream produces the same points as {@link Saltelli#generate(int, int)}.
+ * When splitting this stream across workers, the ranges should start at
+ * multiples of {@code 2*D+2} so each worker produces complete groups.
+ */
+public class SaltelliStream implements SequenceStream {
+	
+	/**
+	 * The number of leading points skipped in the underlying Sobol' sequence.
+	 */
+	private static final int OFFSET = 1000;
+	
+	/**
+	 * The underlying Sobol' sequence.
+	 */
+	private final SobolStream sobol;
+	
+	/**
+	 * The current point of the underlying Sobol' sequence.
+	 */
+	private final double[] base;
+	
+	/**
+	 * The dimension of each point.
+	 */
+	private final int D;
+	
+	/**
+	 * The index of the next point.
+	 */
+	private long index;
+	
+	/**
+	 * Constructs a stream of the Saltelli sequence without scrambling.
+	 * 
+	 * @param D the dimension of each point
+	 */
+	public SaltelliStream(int D) {
+		this(D, Scrambling.NONE, 0L);
+	}
+	
+	/**
+	 * Constructs a stream of the Saltelli sequence whose underlying Sobol'
+	 * sequence is scrambled.
+	 * 
+	 * @param D the dimension of each point
+	 * @param scrambling the scrambling method
+	 * @param seed the seed used to generate the scrambling
+	 */
+	public SaltelliStream(int D, Scrambling scrambling, long seed) {
+		this(D, new SobolStream(2 * D, scrambling, seed));
+		
+		sobol.skipTo(OFFSET);
+	}
+	
+	/**
+	 * Constructs a stream of the Saltelli sequence using the specified
+	 * underlying Sobol' sequence.
+	 * 
+	 * @param D the dimension of each point
+	 * @param sobol the underlying Sobol' sequence
+	 */
+	private SaltelliStream(int D, SobolStream sobol) {
+		super();
+		this.D = D;
+		this.sobol = sobol;
+		
+		base = new double[2 * D];
+	}
+
+	@Override
+	public int getDimension() {
+		return D;
+	}
+
+	@Override
+	public long getIndex() {
+		return index;
+	}
+
+	@Override
+	public void skipTo(long index) {
+		if (index < 0) {
+			throw new IllegalArgumentException("index out of range");
+		}
+		
+		int size = 2 * D + 2;
+		
+		sobol.skipTo(OFFSET + index / size);
+		
+		if (index % size != 0) {
+			sobol.next(base);
+		}
+		
+		this.index = index;
+	}
+
+	@Override
+	public void next(double[] point) {
+		int row = (int)(index % (2 * D + 2));
+		
+		if (row == 0) {
+			sobol.next(base);
+		}
+		
+		for (int j = 0; j < D; j++) {
+			if (row == 0) {
+				point[j] = base[j];
+			} else if (row <= D) {
+				point[j] = (j == row - 1) ? base[j + D] : base[j];
+			} else if (row <= 2 * D) {
+				point[j] = (j == row - 1 - D) ? base[j] : base[j + D];
+			} else {
+				point[j] = base[j + D];
+			}
+		}
+		
+		index++;
+	}
+
+	@Override
+	public SaltelliStream copy() {
+		SaltelliStream copy = new SaltelliStream(D, sobol.copy());
+		
+		System.arraycopy(base, 0, copy.base, 0, base.length);
+		copy.index = index;
+		
+		return copy;
+	}
+
+}
@@ -0,0 +1,76 @@
+/* Copyright 2009-2018 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.util.sequence;
+
+/**
+ * Interface for sequences that generate their points one at a time.  Unlike
+ * {@link Sequence}, which returns the entire sequence at once, streams can
+ * generate designs larger than available memory and can skip ahead to any
+ * point in the sequence.
+ * <p>
+ * A sequence can be split across parallel workers, or across processes, by
+ * giving each worker a copy of the stream positioned at the start of a
+ * disjoint range of indices.  For example, worker {@code k} of {@code m}
+ * generating {@code n} points would call {@code skipTo(k*n/m)} and then
+ * generate {@code (k+1)*n/m - k*n/m} points.  Concatenating the output of
+ * each worker in order reproduces the original sequence.
+ */
+public interface SequenceStream {
+	
+	/**
+	 * Returns the dimension of each point.
+	 * 
+	 * @return the dimension of each point
+	 */
+	public int getDimension();
+	
+	/**
+	 * Returns the index of the next point generated by this stream.
+	 * 
+	 * @return the index of the next point generated by this stream
+	 */
+	public long getIndex();
+	
+	/**
+	 * Positions this stream so the next generated point has the specified
+	 * index.
+	 * 
+	 * @param index the index of the next point
+	 * @throws IllegalArgumentException if the index is negative or exceeds
+	 *         the length of the sequence
+	 */
+	public void skipTo(long index);
+	
+	/**
+	 * Stores the next point in the specified array and advances this stream.
+	 * Each value is in the range {@code [0, 1]}.
+	 * 
+	 * @param point the array, of length {@link #getDimension()}, where the
+	 *        next point is stored
+	 */
+	public void next(double[] point);
+	
+	/**
+	 * Returns an independent copy of this stream positioned at the same
+	 * index.
+	 * 
+	 * @return an independent copy of this stream
+	 */
+	public SequenceStream copy();
+
+}
@@ -31,13 +31,17 @@ import org.moeaframework.core.FrameworkException;
  * replacing uniformly random numbers in Monte-Carlo integration, the error
  * growth rate is reduced from {@code 1.0/sqrt(n)} to {@code 1.0/n}, where
  * {@code n} is the size of the sequence.
+ * <p>
+ * This class generates the entire sequence at once.  Use {@link SobolStream}
+ * to generate the points one at a time, to skip ahead, or to scramble the
+ * sequence.
  */
 public class Sobol implements Sequence {
 
 	/**
 	 * The maximum number of bits supported by this generator.
 	 */
-	private static final int scale = 31;
+	static final int scale = 31;
 
 	/**
 	 * The directions used by Kuo and Joe's Sobol' sequence generator. The
@@ -115,7 +119,7 @@ public class Sobol implements Sequence {
 	 * @return the index of the least significant zero bit in the specified
 	 *         value
 	 */
-	private static int indexOfLeastSignificantZeroBit(int value) {
+	static int indexOfLeastSignificantZeroBit(int value) {
 		int index = 1;
 
 		while ((value & 1) != 0) {
@@ -126,6 +130,25 @@ public class Sobol implements Sequence {
 		return index;
 	}
 
+	@Override
+	public double[][] generate(int N, int D) {
+		// max number of bits needed
+		int L = (int)Math.ceil(Math.log(N) / Math.log(2));
+
+		if (L > scale) {
+			throw new FrameworkException("not enough bits");
+		}
+
+		SobolStream stream = new SobolStream(D);
+		double[][] points = new double[N][D];
+
+		for (int j = 0; j < N; j++) {
+			stream.next(points[j]);
+		}
+
+		return points;
+	}
+
 	/*
 	 * The following code is based on the Sobol sequence generator by Frances
 	 * Y. Kuo and Stephen Joe. The license terms are provided below.
@@ -161,60 +184,52 @@ public class Sobol implements Sequence {
 	 * ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
 	 * POSSIBILITY OF SUCH DAMAGE.
 	 */
-	@Override
-	public double[][] generate(int N, int D) {
-		if (D > DIRECTIONS.length + 1) {
+	/**
+	 * Returns the direction numbers for the specified dimension, scaled by
+	 * {@code pow(2, scale)}.  The direction number for bit {@code j} is
+	 * stored at index {@code j}, for {@code 1 <= j <= scale}.
+	 * 
+	 * @param i the dimension
+	 * @return the direction numbers for the specified dimension
+	 * @throws FrameworkException if the dimension exceeds the number of
+	 *         available direction numbers
+	 */
+	static long[] getDirectionNumbers(int i) {
+		if (i > DIRECTIONS.length) {
 			throw new FrameworkException("not enough dimensions");
 		}
+		
+		int L = scale;
+		long[] V = new long[L + 1];
 
-		// max number of bits needed
-		int L = (int)Math.ceil(Math.log(N) / Math.log(2));
-
-		if (L > scale) {
-			throw new FrameworkException("not enough bits");
-		}
-
-		double[][] points = new double[N][D];
-
-		for (int i = 0; i < D; i++) {
-			// direction numbers, scaled by pow(2, scale)
-			long[] V = new long[L + 1];
+		if (i == 0) {
+			for (int j = 1; j <= L; j++) {
+				V[j] = 1 << (scale - j); // all m's = 1
+			}
+		} else {
+			int[] m = Sobol.DIRECTIONS[i - 1];
+			int a = m[0];
+			int s = m.length - 1;
 
-			if (i == 0) {
+			if (L <= s) {
 				for (int j = 1; j <= L; j++) {
-					V[j] = 1 << (scale - j); // all m's = 1
+					V[j] = m[j] << (scale - j);
 				}
 			} else {
-				int[] m = Sobol.DIRECTIONS[i - 1];
-				int a = m[0];
-				int s = m.length - 1;
-
-				if (L <= s) {
-					for (int j = 1; j <= L; j++) {
-						V[j] = m[j] << (scale - j);
-					}
-				} else {
-					for (int j = 1; j <= s; j++) {
-						V[j] = m[j] << (scale - j);
-					}
+				for (int j = 1; j <= s; j++) {
+					V[j] = m[j] << (scale - j);
+				}
 
-					for (int j = s + 1; j <= L; j++) {
-						V[j] = V[j - s] ^ (V[j - s] >> s);
-						for (int k = 1; k < s; k++) {
-							V[j] ^= ((a >> (s - 1 - k)) & 1) * V[j - k];
-						}
+				for (int j = s + 1; j <= L; j++) {
+					V[j] = V[j - s] ^ (V[j - s] >> s);
+					for (int k = 1; k < s; k++) {
+						V[j] ^= ((a >> (s - 1 - k)) & 1) * V[j - k];
 					}
 				}
 			}
-
-			long X = 0;
-			for (int j = 1; j < N; j++) {
-				X ^= V[indexOfLeastSignificantZeroBit(j - 1)];
-				points[j][i] = (double)X / Math.pow(2, scale);
-			}
 		}
-
-		return points;
+		
+		return V;
 	}
 
 }
@@ -0,0 +1,246 @@
+/* Copyright 2009-2018 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.util.sequence;
+
+import org.apache.commons.math3.random.MersenneTwister;
+import org.moeaframework.core.FrameworkException;
+
+/**
+ * Streaming version of the Sobol' low-discrepancy sequence.  Points are
+ * generated in Gray code order, so advancing to the next point requires a
+ * single XOR per dimension.  Skipping to an arbitrary index computes the
+ * point directly from the Gray code of the index, requiring at most
+ * {@code 31} XORs per dimension, independent of the number of skipped points.
+ * Without scrambling, this stream produces the same points as
+ * {@link Sobol#generate(int, int)}.
+ * <p>
+ * The sequence can optionally be scrambled to obtain randomized quasi-Monte
+ * Carlo estimates.  A random digital shift XORs each dimension with a random
+ * value.  A linear matrix scramble additionally multiplies the direction
+ * numbers of each dimension by a random nonsingular lower-triangular binary
+ * matrix, as proposed by Matousek.  Both preserve the low-discrepancy
+ * properties of the sequence.  Scrambled streams with the same seed produce
+ * the same points.
+ * <p>
+ * References:
+ * <ol>
+ * <li>Matousek, J. "On the L2-Discrepancy for Anchored Boxes." Journal of
+ * Complexity, 14(4):527-556, 1998.
+ * </ol>
+ */
+public class SobolStream implements SequenceStream {
+	
+	/**
+	 * The scrambling methods supported by {@link SobolStream}.
+	 */
+	public static enum Scrambling {
+		
+		/**
+		 * The sequence is not scrambled.
+		 */
+		NONE,
+		
+		/**
+		 * Each dimension is XORed with a random value.
+		 */
+		DIGITAL_SHIFT,
+		
+		/**
+		 * The direction numbers are multiplied by a random lower-triangular
+		 * matrix and each dimension is XORed with a random value.
+		 */
+		LINEAR_MATRIX
+		
+	}
+	
+	/**
+	 * The number of points supported by this stream, {@code pow(2, scale)}.
+	 */
+	private static final long LENGTH = 1L << Sobol.scale;
+	
+	/**
+	 * The direction numbers of each dimension, shared between copies.
+	 */
+	private final long[][] directions;
+	
+	/**
+	 * The digital shift applied to each dimension, shared between copies.
+	 */
+	private final long[] shifts;
+	
+	/**
+	 * The current value of each dimension, before the digital shift.
+	 */
+	private final long[] values;
+	
+	/**
+	 * The index of the next point.
+	 */
+	private long index;
+	
+	/**
+	 * Constructs a stream of the Sobol' sequence without scrambling.
+	 * 
+	 * @param D the dimension of each point
+	 * @throws FrameworkException if the dimension exceeds the number of
+	 *         available direction numbers
+	 */
+	public SobolStream(int D) {
+		this(D, Scrambling.NONE, 0L);
+	}
+	
+	/**
+	 * Constructs a stream of the Sobol' sequence with the specified
+	 * scrambling.
+	 * 
+	 * @param D the dimension of each point
+	 * @param scrambling the scrambling method
+	 * @param seed the seed used to generate the scrambling
+	 * @throws FrameworkException if the dimension exceeds the number of
+	 *         available direction numbers
+	 */
+	public SobolStream(int D, Scrambling scrambling, long seed) {
+		super();
+		
+		MersenneTwister random = new MersenneTwister(seed);
+		
+		directions = new long[D][];
+		shifts = new long[D];
+		values = new long[D];
+		
+		for (int i = 0; i < D; i++) {
+			directions[i] = Sobol.getDirectionNumbers(i);
+			
+			if (scrambling == Scrambling.LINEAR_MATRIX) {
+				scramble(directions[i], random);
+			}
+			
+			if (scrambling != Scrambling.NONE) {
+				shifts[i] = random.nextInt() & (LENGTH - 1);
+			}
+		}
+	}
+	
+	/**
+	 * Constructs a copy of the specified stream.
+	 * 
+	 * @param stream the stream being copied
+	 */
+	private SobolStream(SobolStream stream) {
+		super();
+		
+		directions = stream.directions;
+		shifts = stream.shifts;
+		values = stream.values.clone();
+		index = stream.index;
+	}
+	
+	/**
+	 * Multiplies the direction numbers by a random nonsingular
+	 * lower-triangular binary matrix.  Row {@code r} of the matrix produces
+	 * the {@code r}-th most significant bit of each direction number from
+	 * that bit and the more significant bits.
+	 * 
+	 * @param V the direction numbers, which are modified
+	 * @param random the source of randomness
+	 */
+	private static void scramble(long[] V, MersenneTwister random) {
+		long[] rows = new long[Sobol.scale];
+		
+		for (int r = 0; r < Sobol.scale; r++) {
+			long diagonal = 1L << (Sobol.scale - 1 - r);
+			long lower = (LENGTH - 1) & ~((diagonal << 1) - 1);
+			
+			rows[r] = diagonal | (random.nextInt() & lower);
+		}
+		
+		for (int j = 1; j < V.length; j++) {
+			long value = 0;
+			
+			for (int r = 0; r < Sobol.scale; r++) {
+				if ((Long.bitCount(rows[r] & V[j]) & 1) != 0) {
+					value |= 1L << (Sobol.scale - 1 - r);
+				}
+			}
+			
+			V[j] = value;
+		}
+	}
+
+	@Override
+	public int getDimension() {
+		return values.length;
+	}
+
+	@Override
+	public long getIndex() {
+		return index;
+	}
+
+	@Override
+	public void skipTo(long index) {
+		if ((index < 0) || (index > LENGTH)) {
+			throw new IllegalArgumentException("index out of range");
+		}
+		
+		// the point at index n is the XOR of the direction numbers selected
+		// by the bits of the Gray code of n
+		long gray = index ^ (index >>> 1);
+		
+		for (int i = 0; (i < values.length) && (index < LENGTH); i++) {
+			long X = 0;
+			
+			for (int j = 1; gray >>> (j - 1) != 0; j++) {
+				if (((gray >>> (j - 1)) & 1) != 0) {
+					X ^= directions[i][j];
+				}
+			}
+			
+			values[i] = X;
+		}
+		
+		this.index = index;
+	}
+
+	@Override
+	public void next(double[] point) {
+		if (index >= LENGTH) {
+			throw new FrameworkException("not enough bits");
+		}
+		
+		for (int i = 0; i < values.length; i++) {
+			point[i] = (double)(values[i] ^ shifts[i]) / LENGTH;
+		}
+		
+		if (index < LENGTH - 1) {
+			int j = Sobol.indexOfLeastSignificantZeroBit((int)index);
+			
+			for (int i = 0; i < values.length; i++) {
+				values[i] ^= directions[i][j];
+			}
+		}
+		
+		index++;
+	}
+
+	@Override
+	public SobolStream copy() {
+		return new SobolStream(this);
+	}
+
+}
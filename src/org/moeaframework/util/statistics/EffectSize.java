@@ -0,0 +1,169 @@
+/* Copyright 2009-2018 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.util.statistics;
+
+import java.util.Arrays;
+
+import org.apache.commons.math3.stat.StatUtils;
+
+/**
+ * Effect sizes measuring the magnitude of the difference between two samples.
+ * Unlike statistical tests, which determine if a difference exists, effect
+ * sizes indicate if the difference is large enough to matter.
+ * <p>
+ * References:
+ * <ol>
+ *   <li>Vargha, A. and Delaney, H. D.  "A Critique and Improvement of the CL
+ *       Common Language Effect Size Statistics of McGraw and Wong."  Journal
+ *       of Educational and Behavioral Statistics, 25(2):101-132, 2000.
+ *   <li>Cliff, N.  "Dominance Statistics: Ordinal Analyses to Answer Ordinal
+ *       Questions."  Psychological Bulletin, 114(3):494-509, 1993.
+ * </ol>
+ */
+public class EffectSize {
+	
+	/**
+	 * Private constructor to prevent instantiation.
+	 */
+	private EffectSize() {
+		super();
+	}
+	
+	/**
+	 * Returns the Vargha-Delaney A measure, which is the probability that a
+	 * value drawn from the first sample is larger than a value drawn from the
+	 * second sample, counting ties as one half.  A value of {@code 0.5}
+	 * indicates no difference.  This implementation runs in
+	 * {@code O((n+m) log m)} time by sorting the second sample.
+	 * 
+	 * @param sample1 the first sample
+	 * @param sample2 the second sample
+	 * @return the Vargha-Delaney A measure
+	 * @throws IllegalArgumentException if either sample is empty
+	 */
+	public static double varghaDelaneyA(double[] sample1, double[] sample2) {
+		if ((sample1.length == 0) || (sample2.length == 0)) {
+			throw new IllegalArgumentException("samples must not be empty");
+		}
+		
+		double[] sorted = sample2.clone();
+		Arrays.sort(sorted);
+		
+		double wins = 0.0;
+		
+		for (double value : sample1) {
+			int less = lowerBound(sorted, value);
+			int lessOrEqual = upperBound(sorted, value);
+			
+			wins += less + 0.5 * (lessOrEqual - less);
+		}
+		
+		return wins / ((double)sample1.length * sample2.length);
+	}
+	
+	/**
+	 * Returns Cliff's delta, which is the probability that a value drawn from
+	 * the first sample is larger than a value drawn from the second sample
+	 * minus the probability it is smaller.  The value ranges from {@code -1}
+	 * to {@code 1}, with {@code 0} indicating no difference.
+	 * 
+	 * @param sample1 the first sample
+	 * @param sample2 the second sample
+	 * @return Cliff's delta
+	 * @throws IllegalArgumentException if either sample is empty
+	 */
+	public static double cliffsDelta(double[] sample1, double[] sample2) {
+		return 2.0 * varghaDelaneyA(sample1, sample2) - 1.0;
+	}
+	
+	/**
+	 * Returns Cohen's d, which is the difference between the means of the two
+	 * samples divided by their pooled standard deviation.
+	 * 
+	 * @param sample1 the first sample
+	 * @param sample2 the second sample
+	 * @return Cohen's d
+	 * @throws IllegalArgumentException if either sample contains fewer than
+	 *         two values
+	 */
+	public static double cohensD(double[] sample1, double[] sample2) {
+		if ((sample1.length < 2) || (sample2.length < 2)) {
+			throw new IllegalArgumentException(
+					"samples must contain at least two values");
+		}
+		
+		int n1 = sample1.length;
+		int n2 = sample2.length;
+		double pooledVariance = ((n1 - 1) * StatUtils.variance(sample1) +
+				(n2 - 1) * StatUtils.variance(sample2)) / (n1 + n2 - 2);
+		
+		return (StatUtils.mean(sample1) - StatUtils.mean(sample2)) /
+				Math.sqrt(pooledVariance);
+	}
+	
+	/**
+	 * Returns the number of values in the sorted array strictly less than the
+	 * specified value.
+	 * 
+	 * @param sorted the sorted array
+	 * @param value the value
+	 * @return the number of values strictly less than the value
+	 */
+	private static int lowerBound(double[] sorted, double value) {
+		int low = 0;
+		int high = sorted.length;
+		
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			
+			if (sorted[mid] < value) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		
+		return low;
+	}
+	
+	/**
+	 * Returns the number of values in the sorted array less than or equal to
+	 * the specified value.
+	 * 
+	 * @param sorted the sorted array
+	 * @param value the value
+	 * @return the number of values less than or equal to the value
+	 */
+	private static int upperBound(double[] sorted, double value) {
+		int low = 0;
+		int high = sorted.length;
+		
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			
+			if (sorted[mid] <= value) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		
+		return low;
+	}
+
+}
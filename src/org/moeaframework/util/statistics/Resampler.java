@@ -0,0 +1,376 @@
+/* Copyright 2009-2018 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.util.statistics;
+
+import org.apache.commons.math3.random.MersenneTwister;
+import org.apache.commons.math3.random.RandomGenerator;
+import org.apache.commons.math3.stat.descriptive.UnivariateStatistic;
+import org.apache.commons.math3.stat.descriptive.rank.Percentile;
+import org.moeaframework.core.PRNG;
+import org.moeaframework.util.ParallelLoop;
+
+/**
+ * Computes bootstrap and permutation statistics by resampling.  The resamples
+ * are split into fixed-size blocks, each drawing from an independent random
+ * stream seeded by {@link PRNG}, or by the seed set with {@link #setSeed}, and
+ * the blocks are evaluated in parallel.  Since the blocks do not depend on the
+ * number of threads, the results are reproducible for a given seed regardless
+ * of the number of threads.  Each thread reuses its buffers across all of
+ * its resamples.
+ * <p>
+ * Statistics provided as {@link UnivariateStatistic}s are copied for each
+ * thread, so statistics with internal state, such as
+ * {@link org.apache.commons.math3.stat.descriptive.rank.Median}, can be used.
+ */
+public class Resampler {
+	
+	/**
+	 * The number of resamples drawn from each random stream.
+	 */
+	private static final int BLOCK_SIZE = 256;
+	
+	/**
+	 * The number of resamples.
+	 */
+	private final int resamples;
+	
+	/**
+	 * The number of threads used to compute the resamples.
+	 */
+	private int numberOfThreads;
+	
+	/**
+	 * The seed of the random streams; or {@code null} if the random streams
+	 * are seeded by {@link PRNG}.
+	 */
+	private Long seed;
+	
+	/**
+	 * Constructs a new resampler using the specified number of resamples.
+	 * 
+	 * @param resamples the number of resamples
+	 * @throws IllegalArgumentException if the number of resamples is not
+	 *         positive
+	 */
+	public Resampler(int resamples) {
+		super();
+		
+		if (resamples <= 0) {
+			throw new IllegalArgumentException(
+					"number of resamples must be positive");
+		}
+		
+		this.resamples = resamples;
+		
+		numberOfThreads = 1;
+	}
+	
+	/**
+	 * Returns the number of resamples.
+	 * 
+	 * @return the number of resamples
+	 */
+	public int getResamples() {
+		return resamples;
+	}
+	
+	/**
+	 * Returns the number of threads used to compute the resamples.  Defaults
+	 * to {@code 1}.
+	 * 
+	 * @return the number of threads used to compute the resamples
+	 */
+	public int getNumberOfThreads() {
+		return numberOfThreads;
+	}
+	
+	/**
+	 * Sets the number of threads used to compute the resamples.
+	 * 
+	 * @param numberOfThreads the number of threads used to compute the
+	 *        resamples
+	 * @throws IllegalArgumentException if the number of threads is not
+	 *         positive
+	 */
+	public void setNumberOfThreads(int numberOfThreads) {
+		if (numberOfThreads <= 0) {
+			throw new IllegalArgumentException(
+					"number of threads must be positive");
+		}
+		
+		this.numberOfThreads = numberOfThreads;
+	}
+	
+	/**
+	 * Sets the seed of the random streams, so each operation draws the same
+	 * resamples without using {@link PRNG}.  This allows several resamplers
+	 * to run concurrently while producing reproducible results.
+	 * 
+	 * @param seed the seed of the random streams
+	 */
+	public void setSeed(long seed) {
+		this.seed = seed;
+	}
+	
+	/**
+	 * Returns the bootstrap replicates of a statistic computed over
+	 * {@code n} observations.  Each replicate draws {@code n} indices with
+	 * replacement and evaluates the statistic on those indices, which allows
+	 * statistics over several paired arrays.
+	 * 
+	 * @param n the number of observations
+	 * @param statistic the statistic, which must support concurrent
+	 *        evaluation if more than one thread is used
+	 * @return the bootstrap replicates of the statistic
+	 */
+	public double[] bootstrap(final int n, final IndexedStatistic statistic) {
+		final double[] replicates = new double[resamples];
+		final int[][] buffers = new int[numberOfThreads][];
+		
+		run(new Block() {
+
+			@Override
+			public void run(RandomGenerator random, int start, int end,
+					int thread) {
+				if (buffers[thread] == null) {
+					buffers[thread] = new int[n];
+				}
+				
+				int[] indices = buffers[thread];
+				
+				for (int i = start; i < end; i++) {
+					for (int j = 0; j < n; j++) {
+						indices[j] = random.nextInt(n);
+					}
+					
+					replicates[i] = statistic.evaluate(indices);
+				}
+			}
+			
+		});
+		
+		return replicates;
+	}
+	
+	/**
+	 * Returns the bootstrap replicates of a statistic computed over the
+	 * sample.
+	 * 
+	 * @param sample the sample
+	 * @param statistic the statistic
+	 * @return the bootstrap replicates of the statistic
+	 */
+	public double[] bootstrap(final double[] sample,
+			final UnivariateStatistic statistic) {
+		final double[] replicates = new double[resamples];
+		final double[][] buffers = new double[numberOfThreads][];
+		final UnivariateStatistic[] statistics =
+				new UnivariateStatistic[numberOfThreads];
+		
+		run(new Block() {
+
+			@Override
+			public void run(RandomGenerator random, int start, int end,
+					int thread) {
+				if (buffers[thread] == null) {
+					buffers[thread] = new double[sample.length];
+					statistics[thread] = statistic.copy();
+				}
+				
+				double[] values = buffers[thread];
+				
+				for (int i = start; i < end; i++) {
+					for (int j = 0; j < sample.length; j++) {
+						values[j] = sample[random.nextInt(sample.length)];
+					}
+					
+					replicates[i] = statistics[thread].evaluate(values, 0,
+							values.length);
+				}
+			}
+			
+		});
+		
+		return replicates;
+	}
+	
+	/**
+	 * Returns the bootstrap percentile confidence interval of a statistic
+	 * computed over the sample.
+	 * 
+	 * @param sample the sample
+	 * @param statistic the statistic
+	 * @param confidence the confidence level, such as {@code 0.95}
+	 * @return the lower and upper bounds of the confidence interval
+	 * @throws IllegalArgumentException if the confidence level is not between
+	 *         {@code 0} and {@code 1}, exclusive
+	 */
+	public double[] confidenceInterval(double[] sample,
+			UnivariateStatistic statistic, double confidence) {
+		if ((confidence <= 0.0) || (confidence >= 1.0)) {
+			throw new IllegalArgumentException(
+					"confidence must be between 0 and 1");
+		}
+		
+		double[] replicates = bootstrap(sample, statistic);
+		double alpha = (1.0 - confidence) / 2.0;
+		Percentile percentile = new Percentile();
+		percentile.setData(replicates);
+		
+		return new double[] {
+				percentile.evaluate(100.0 * alpha),
+				percentile.evaluate(100.0 * (1.0 - alpha)) };
+	}
+	
+	/**
+	 * Returns the p-value of the two-sided permutation test of the null
+	 * hypothesis that both samples are drawn from the same distribution, using
+	 * the difference in the statistic of each sample as the test statistic.
+	 * The p-value is computed as {@code (k+1) / (resamples+1)}, where
+	 * {@code k} is the number of permutations whose absolute difference is at
+	 * least the observed absolute difference.
+	 * 
+	 * @param sample1 the first sample
+	 * @param sample2 the second sample
+	 * @param statistic the statistic, such as the mean or median
+	 * @return the p-value of the permutation test
+	 */
+	public double permutationTest(final double[] sample1,
+			final double[] sample2, final UnivariateStatistic statistic) {
+		final double observed = Math.abs(statistic.evaluate(sample1) -
+				statistic.evaluate(sample2));
+		final int n = sample1.length + sample2.length;
+		final double[][] buffers = new double[numberOfThreads][];
+		final UnivariateStatistic[] statistics =
+				new UnivariateStatistic[numberOfThreads];
+		final int[] counts = new int[numberOfThreads];
+		
+		run(new Block() {
+
+			@Override
+			public void run(RandomGenerator random, int start, int end,
+					int thread) {
+				if (buffers[thread] == null) {
+					buffers[thread] = new double[n];
+					statistics[thread] = statistic.copy();
+				}
+				
+				double[] values = buffers[thread];
+				UnivariateStatistic copy = statistics[thread];
+				
+				//restore the pooled samples so the permutations of each block
+				//do not depend on the blocks previously run by this thread
+				System.arraycopy(sample1, 0, values, 0, sample1.length);
+				System.arraycopy(sample2, 0, values, sample1.length,
+						sample2.length);
+				
+				for (int i = start; i < end; i++) {
+					for (int j = n - 1; j > 0; j--) {
+						int k = random.nextInt(j + 1);
+						double temp = values[j];
+						values[j] = values[k];
+						values[k] = temp;
+					}
+					
+					double difference = Math.abs(
+							copy.evaluate(values, 0, sample1.length) -
+							copy.evaluate(values, sample1.length,
+									sample2.length));
+					
+					if (difference >= observed) {
+						counts[thread]++;
+					}
+				}
+			}
+			
+		});
+		
+		int count = 0;
+		
+		for (int i = 0; i < counts.length; i++) {
+			count += counts[i];
+		}
+		
+		return (count + 1) / (double)(resamples + 1);
+	}
+	
+	/**
+	 * Executes the block of resamples, one block per random stream.
+	 * 
+	 * @param block the block of resamples
+	 */
+	private void run(final Block block) {
+		final int blocks = (resamples + BLOCK_SIZE - 1) / BLOCK_SIZE;
+		final long[] seeds = new long[blocks];
+		RandomGenerator source = seed == null ? null :
+			new MersenneTwister(seed);
+		
+		for (int i = 0; i < blocks; i++) {
+			seeds[i] = source == null ? PRNG.nextLong() : source.nextLong();
+		}
+		
+		ParallelLoop.run(blocks, numberOfThreads, new ParallelLoop.Body() {
+
+			@Override
+			public void run(int index, int thread) {
+				block.run(new MersenneTwister(seeds[index]),
+						index * BLOCK_SIZE,
+						Math.min((index + 1) * BLOCK_SIZE, resamples),
+						thread);
+			}
+			
+		});
+	}
+	
+	/**
+	 * A block of resamples sharing a random stream.
+	 */
+	private static interface Block {
+		
+		/**
+		 * Computes the resamples in the block.
+		 * 
+		 * @param random the random stream for this block
+		 * @param start the index of the first resample in this block
+		 * @param end the index after the last resample in this block
+		 * @param thread the index of the thread executing this block
+		 */
+		public void run(RandomGenerator random, int start, int end,
+				int thread);
+		
+	}
+	
+	/**
+	 * A statistic computed over a resampled set of observations, identified
+	 * by their indices.
+	 */
+	public static interface IndexedStatistic {
+		
+		/**
+		 * Returns the value of this statistic computed over the observations
+		 * with the specified indices.  The indices may contain duplicates.
+		 * 
+		 * @param indices the indices of the observations; the array is reused
+		 *        and must not be retained
+		 * @return the value of this statistic
+		 */
+		public double evaluate(int[] indices);
+		
+	}
+
+}
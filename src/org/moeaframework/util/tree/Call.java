@@ -17,6 +17,8 @@
  */
 package org.moeaframework.util.tree;
 
+import java.util.Arrays;
+
 /**
  * The node for calling a named function.
  * 
@@ -167,5 +169,16 @@ public class Call extends Node {
 		sb.append(')');
 		return sb.toString();
 	}
+	
+	@Override
+	public Object getStructuralKey() {
+		return Arrays.asList(getClass(), getReturnType(), functionName,
+				Arrays.asList(variableNames), Arrays.asList(variableTypes));
+	}
+	
+	@Override
+	public boolean hasSideEffects() {
+		return true;
+	}
 
 }
@@ -17,6 +17,8 @@
  */
 package org.moeaframework.util.tree;
 
+import java.util.Arrays;
+
 /**
  * The node for defining a constant value.  The inputs and outputs to this node
  * are shown below:
@@ -95,5 +97,10 @@ public class Constant extends Node {
 	public String toString() {
 		return String.valueOf(value);
 	}
+	
+	@Override
+	public Object getStructuralKey() {
+		return Arrays.asList(getClass(), getReturnType(), value);
+	}
 
 }
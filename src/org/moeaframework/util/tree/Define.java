@@ -17,6 +17,8 @@
  */
 package org.moeaframework.util.tree;
 
+import java.util.Arrays;
+
 /**
  * The node for defining a callable, named function.  Once a named function is
  * defined, it can be invoked using {@link Call}.  The behavior (body) of this
@@ -159,5 +161,16 @@ public class Define extends Node {
 		sb.append(')');
 		return sb.toString();
 	}
+	
+	@Override
+	public Object getStructuralKey() {
+		return Arrays.asList(getClass(), functionName,
+				Arrays.asList(variableNames), Arrays.asList(variableTypes));
+	}
+	
+	@Override
+	public boolean hasSideEffects() {
+		return true;
+	}
 
 }
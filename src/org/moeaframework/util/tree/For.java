@@ -17,6 +17,8 @@
  */
 package org.moeaframework.util.tree;
 
+import java.util.Arrays;
+
 /**
  * The node for executing an expression for a given number of iterations.  A
  * named variable is created that contains the loop counter.  The inputs and
@@ -96,5 +98,15 @@ public class For extends Node {
 		
 		return value;
 	}
+	
+	@Override
+	public Object getStructuralKey() {
+		return Arrays.asList(getClass(), variableName);
+	}
+	
+	@Override
+	public boolean hasSideEffects() {
+		return true;
+	}
 
 }
@@ -17,6 +17,8 @@
  */
 package org.moeaframework.util.tree;
 
+import java.util.Arrays;
+
 /**
  * The node for reading the value stored in a named variable within the current
  * scope.  See {@link Set} for details on scoping.  The inputs and outputs to
@@ -103,5 +105,10 @@ public class Get extends Node {
 	public String toString() {
 		return name;
 	}
+	
+	@Override
+	public Object getStructuralKey() {
+		return Arrays.asList(getClass(), getReturnType(), name);
+	}
 
 }
@@ -17,6 +17,8 @@
  */
 package org.moeaframework.util.tree;
 
+import java.util.Arrays;
+
 /**
  * The node for defining an immutable, anonymous function.  Unlike
  * {@link Define}, the behavior (body) of a {@code Lambda} can not be modified.
@@ -121,5 +123,20 @@ public class Lambda extends Node {
 
 		return node.evaluate(closure);
 	}
+	
+	@Override
+	public Object getStructuralKey() {
+		return Arrays.asList(getClass(), getReturnType(), node,
+				Arrays.asList(variableNames));
+	}
+	
+	/**
+	 * Lambda functions are conservatively treated as having side effects since
+	 * the body of the function is not visible as an argument of this node.
+	 */
+	@Override
+	public boolean hasSideEffects() {
+		return true;
+	}
 
 }
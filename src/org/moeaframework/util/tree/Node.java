@@ -17,6 +17,8 @@
  */
 package org.moeaframework.util.tree;
 
+import java.util.Arrays;
+
 /**
  * A node in an expression tree.  Expression trees are strongly typed, meaning
  * nodes have defined return types and argument types.  The return type of all
@@ -289,6 +291,36 @@ public abstract class Node {
 	 */
 	public abstract Object evaluate(Environment environment);
 	
+	/**
+	 * Returns an object identifying this node, excluding its arguments, for
+	 * the purpose of structural comparison.  Two subtrees are structurally
+	 * equal if their roots have equal keys and their arguments are
+	 * structurally equal.  Nodes storing additional state, such as constant
+	 * values or variable names, must override this method to include that
+	 * state in the key.
+	 * 
+	 * @return an object identifying this node, excluding its arguments, for
+	 *         the purpose of structural comparison
+	 */
+	public Object getStructuralKey() {
+		return Arrays.asList(getClass(), getReturnType());
+	}
+	
+	/**
+	 * Returns {@code true} if evaluating this node reads or modifies the
+	 * environment in a way that can cause identical subtrees to produce
+	 * different results within the same program; {@code false} otherwise.
+	 * Reading variables with {@link Get} is not considered a side effect,
+	 * since its result depends only on the environment passed to the
+	 * program.
+	 * 
+	 * @return {@code true} if evaluating this node has side effects;
+	 *         {@code false} otherwise
+	 */
+	public boolean hasSideEffects() {
+		return false;
+	}
+	
 	/**
 	 * Returns {@code true} if this node and its arguments are valid;
 	 * {@code false} otherwise.  A valid node has all arguments defined,
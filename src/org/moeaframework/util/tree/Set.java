@@ -17,6 +17,8 @@
  */
 package org.moeaframework.util.tree;
 
+import java.util.Arrays;
+
 /**
  * The node for assigning the value of a named variable within the current
  * scope.  Variables are locally-scoped within functions (i.e., {@link Define}
@@ -73,5 +75,15 @@ public class Set extends Node {
 		environment.set(name, value);
 		return value;
 	}
+	
+	@Override
+	public Object getStructuralKey() {
+		return Arrays.asList(getClass(), getReturnType(), name);
+	}
+	
+	@Override
+	public boolean hasSideEffects() {
+		return true;
+	}
 
 }
@@ -0,0 +1,452 @@
+/* Copyright 2009-2018 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.util.tree;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Evaluates expression trees against a fixed set of fitness cases, memoizing
+ * the results of structurally identical subtrees.  Programs produced by
+ * subtree crossover and point mutation frequently share large subtrees, so
+ * reusing a single cache for an entire generation (or run) avoids
+ * re-evaluating these shared subtrees.
+ * <p>
+ * Each fitness case is an {@link Environment} supplying the inputs to the
+ * program.  The results of a subtree are stored as a vector containing one
+ * value per fitness case.  Subtrees are identified by structural hashing using
+ * {@link Node#getStructuralKey()}, so two subtrees match only if they are
+ * structurally equal; hash collisions never produce incorrect results.  The
+ * cache stores at most a fixed number of subtree vectors, evicting the least
+ * recently used vectors first.  Memory usage is therefore bounded by the
+ * capacity multiplied by the number of fitness cases.
+ * <p>
+ * Memoization is only valid for programs whose nodes are deterministic and
+ * do not modify the environments.  Programs containing any node with
+ * {@link Node#hasSideEffects() side effects} bypass the cache and are
+ * evaluated directly.  Custom nodes that depend on external state must also
+ * report having side effects.  Note that cached evaluation computes all
+ * arguments of a node, including branches of {@link IfElse} that would
+ * otherwise not be executed.
+ * <p>
+ * This class is thread-safe, allowing a single cache to be shared when
+ * evaluating solutions in parallel.
+ */
+public class SubtreeCache {
+
+	/**
+	 * The fitness cases against which programs are evaluated.
+	 */
+	private final Environment[] environments;
+
+	/**
+	 * The maximum number of subtree result vectors stored in this cache.
+	 */
+	private final int capacity;
+
+	/**
+	 * The cached result vectors, ordered from least to most recently used.
+	 */
+	private final Map<Key, Entry> cache;
+
+	/**
+	 * The number of subtree evaluations answered by the cache.
+	 */
+	private long hits;
+
+	/**
+	 * The number of subtree evaluations not found in the cache.
+	 */
+	private long misses;
+
+	/**
+	 * The number of result vectors removed to respect the capacity.
+	 */
+	private long evictions;
+
+	/**
+	 * Constructs a new subtree cache for evaluating programs against the given
+	 * fitness cases.
+	 *
+	 * @param environments the fitness cases against which programs are
+	 *        evaluated
+	 * @param capacity the maximum number of subtree result vectors stored in
+	 *        this cache
+	 * @throws IllegalArgumentException if the capacity is not positive
+	 */
+	public SubtreeCache(Environment[] environments, final int capacity) {
+		super();
+
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("capacity must be positive");
+		}
+
+		this.environments = environments.clone();
+		this.capacity = capacity;
+
+		cache = new LinkedHashMap<Key, Entry>(16, 0.75f, true) {
+
+			private static final long serialVersionUID =
+					-6042470311498226207L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+				if (size() > capacity) {
+					evictions++;
+					return true;
+				} else {
+					return false;
+				}
+			}
+
+		};
+	}
+
+	/**
+	 * Evaluates the expression tree rooted at the given node against each
+	 * fitness case.  The returned array must not be modified, as it may be
+	 * shared with the cache.
+	 *
+	 * @param node the root of the expression tree
+	 * @return the result of evaluating the expression tree against each
+	 *         fitness case, in the order the fitness cases were given
+	 */
+	public Object[] evaluate(Node node) {
+		if (hasSideEffects(node)) {
+			Object[] values = new Object[environments.length];
+
+			for (int i = 0; i < environments.length; i++) {
+				values[i] = node.evaluate(environments[i]);
+			}
+
+			return values;
+		} else {
+			return evaluateCached(node).values;
+		}
+	}
+
+	/**
+	 * Evaluates the subtree rooted at the given node, reusing any cached
+	 * results for this subtree or its arguments.
+	 *
+	 * @param node the root of the subtree
+	 * @return the cache entry storing the results of the subtree
+	 */
+	private Entry evaluateCached(Node node) {
+		int arity = node.getNumberOfArguments();
+		Entry[] arguments = new Entry[arity];
+		Key[] argumentKeys = new Key[arity];
+
+		for (int i = 0; i < arity; i++) {
+			arguments[i] = evaluateCached(node.getArgument(i));
+			argumentKeys[i] = arguments[i].key;
+		}
+
+		Key key = new Key(node.getStructuralKey(), argumentKeys);
+		Entry entry = lookup(key);
+
+		if (entry != null) {
+			return entry;
+		}
+
+		Object[] values = new Object[environments.length];
+
+		if (arity == 0) {
+			for (int i = 0; i < environments.length; i++) {
+				values[i] = node.evaluate(environments[i]);
+			}
+		} else {
+			// evaluate a shallow copy whose arguments supply the cached values
+			Node copy = node.copyNode();
+			Value[] placeholders = new Value[arity];
+
+			for (int j = 0; j < arity; j++) {
+				placeholders[j] = new Value(node.getArgumentType(j));
+				copy.setArgument(j, placeholders[j]);
+			}
+
+			for (int i = 0; i < environments.length; i++) {
+				for (int j = 0; j < arity; j++) {
+					placeholders[j].value = arguments[j].values[i];
+				}
+
+				values[i] = copy.evaluate(environments[i]);
+			}
+		}
+
+		entry = new Entry(key, values);
+		store(entry);
+		return entry;
+	}
+
+	/**
+	 * Returns the cached entry for the given key, updating the hit and miss
+	 * counts; or {@code null} if no such entry is cached.
+	 *
+	 * @param key the structural key of the subtree
+	 * @return the cached entry for the given key; or {@code null} if no such
+	 *         entry is cached
+	 */
+	private synchronized Entry lookup(Key key) {
+		Entry entry = cache.get(key);
+
+		if (entry == null) {
+			misses++;
+		} else {
+			hits++;
+		}
+
+		return entry;
+	}
+
+	/**
+	 * Stores the given entry in the cache, evicting the least recently used
+	 * entry if the capacity is exceeded.
+	 *
+	 * @param entry the entry to store
+	 */
+	private synchronized void store(Entry entry) {
+		cache.put(entry.key, entry);
+	}
+
+	/**
+	 * Returns {@code true} if any node in the tree rooted at the given node
+	 * has side effects; {@code false} otherwise.
+	 *
+	 * @param node the root of the tree
+	 * @return {@code true} if any node in the tree rooted at the given node
+	 *         has side effects; {@code false} otherwise
+	 */
+	private static boolean hasSideEffects(Node node) {
+		if (node.hasSideEffects()) {
+			return true;
+		}
+
+		for (int i = 0; i < node.getNumberOfArguments(); i++) {
+			if (hasSideEffects(node.getArgument(i))) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Removes all cached result vectors and resets the statistics.
+	 */
+	public synchronized void clear() {
+		cache.clear();
+		hits = 0;
+		misses = 0;
+		evictions = 0;
+	}
+
+	/**
+	 * Returns the number of subtree result vectors currently cached.
+	 *
+	 * @return the number of subtree result vectors currently cached
+	 */
+	public synchronized int size() {
+		return cache.size();
+	}
+
+	/**
+	 * Returns the maximum number of subtree result vectors stored in this
+	 * cache.
+	 *
+	 * @return the maximum number of subtree result vectors stored in this
+	 *         cache
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * Returns the number of fitness cases against which programs are
+	 * evaluated.
+	 *
+	 * @return the number of fitness cases
+	 */
+	public int getNumberOfCases() {
+		return environments.length;
+	}
+
+	/**
+	 * Returns the number of subtree evaluations answered by the cache.
+	 *
+	 * @return the number of subtree evaluations answered by the cache
+	 */
+	public synchronized long getHits() {
+		return hits;
+	}
+
+	/**
+	 * Returns the number of subtree evaluations not found in the cache.
+	 *
+	 * @return the number of subtree evaluations not found in the cache
+	 */
+	public synchronized long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * Returns the number of result vectors removed from the cache to respect
+	 * its capacity.
+	 *
+	 * @return the number of result vectors removed from the cache
+	 */
+	public synchronized long getEvictions() {
+		return evictions;
+	}
+
+	/**
+	 * Returns the fraction of subtree evaluations answered by the cache; or
+	 * {@code 0.0} if no subtrees have been evaluated.
+	 *
+	 * @return the fraction of subtree evaluations answered by the cache
+	 */
+	public synchronized double getHitRate() {
+		long total = hits + misses;
+		return total == 0 ? 0.0 : hits / (double)total;
+	}
+
+	/**
+	 * The structural key of a subtree.  The key combines the structural key
+	 * of the root node with the keys of its arguments.  The hash code is
+	 * computed once on construction.
+	 */
+	private static class Key {
+
+		/**
+		 * The structural key of the root node.
+		 */
+		private final Object node;
+
+		/**
+		 * The keys of the arguments of the root node.
+		 */
+		private final Key[] arguments;
+
+		/**
+		 * The precomputed hash code.
+		 */
+		private final int hash;
+
+		/**
+		 * Constructs a new key for a subtree.
+		 *
+		 * @param node the structural key of the root node
+		 * @param arguments the keys of the arguments of the root node
+		 */
+		public Key(Object node, Key[] arguments) {
+			super();
+			this.node = node;
+			this.arguments = arguments;
+
+			hash = 31 * node.hashCode() + Arrays.hashCode(arguments);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (obj == this) {
+				return true;
+			} else if ((obj == null) || (obj.getClass() != getClass())) {
+				return false;
+			} else {
+				Key rhs = (Key)obj;
+
+				return (hash == rhs.hash) && node.equals(rhs.node) &&
+						Arrays.equals(arguments, rhs.arguments);
+			}
+		}
+
+	}
+
+	/**
+	 * A cached result vector.  The key stored in the entry is reused by
+	 * parent subtrees so that comparing keys of shared subtrees is typically
+	 * resolved by reference equality.
+	 */
+	private static class Entry {
+
+		/**
+		 * The structural key of the subtree.
+		 */
+		private final Key key;
+
+		/**
+		 * The result of evaluating the subtree against each fitness case.
+		 */
+		private final Object[] values;
+
+		/**
+		 * Constructs a new cache entry.
+		 *
+		 * @param key the structural key of the subtree
+		 * @param values the result of evaluating the subtree against each
+		 *        fitness case
+		 */
+		public Entry(Key key, Object[] values) {
+			super();
+			this.key = key;
+			this.values = values;
+		}
+
+	}
+
+	/**
+	 * Terminal node returning a previously computed value, used to evaluate a
+	 * node with cached arguments.
+	 */
+	private static class Value extends Node {
+
+		/**
+		 * The value returned by this node.
+		 */
+		private Object value;
+
+		/**
+		 * Constructs a new node returning a previously computed value.
+		 *
+		 * @param type the return type of this node
+		 */
+		public Value(Class<?> type) {
+			super(type);
+		}
+
+		@Override
+		public Value copyNode() {
+			Value copy = new Value(getReturnType());
+			copy.value = value;
+			return copy;
+		}
+
+		@Override
+		public Object evaluate(Environment environment) {
+			return value;
+		}
+
+	}
+
+}
@@ -17,6 +17,8 @@
  */
 package org.moeaframework.util.tree;
 
+import java.util.Arrays;
+
 /**
  * The node for truncating, or bounding, a number within a range.  If the
  * number is outside the defined range, the number is set to the nearest number
@@ -82,5 +84,10 @@ public class Truncate extends Node {
 			return value;
 		}
 	}
+	
+	@Override
+	public Object getStructuralKey() {
+		return Arrays.asList(getClass(), min, max);
+	}
 
 }
@@ -71,5 +71,10 @@ public class While extends Node {
 		
 		return value;
 	}
+	
+	@Override
+	public boolean hasSideEffects() {
+		return true;
+	}
 
 }
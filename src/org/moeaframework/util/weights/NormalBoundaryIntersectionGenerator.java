@@ -18,7 +18,12 @@
 package org.moeaframework.util.weights;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 
 import org.apache.commons.math3.util.CombinatoricsUtils;
 
@@ -27,6 +32,14 @@ import org.apache.commons.math3.util.CombinatoricsUtils;
  * For {@code d} divisions and {@code M} objectives, this class will generate
  * {@code M+d-1 choose d} weights.
  * <p>
+ * The weights are enumerated in lexicographic order.  Individual weights can
+ * be computed directly from their index with {@link #get(int)}, and
+ * {@link #iterator()} enumerates the weights one at a time without storing
+ * them.  Designs produced by {@link #generate()} and {@link #generateArray()}
+ * are cached, stored as a single primitive array, so repeatedly creating
+ * algorithms with the same number of objectives and divisions does not
+ * recompute the design.
+ * <p>
  * References:
  * <ol>
  *   <li>Das, I. and J. Dennis (1998).  "Normal-boundary intersection: A new
@@ -38,7 +51,31 @@ import org.apache.commons.math3.util.CombinatoricsUtils;
  *       IEEE Transactions on Evolutionary Computation, 18(4):577-601.
  * </ol>
  */
-public class NormalBoundaryIntersectionGenerator implements WeightGenerator {
+public class NormalBoundaryIntersectionGenerator implements WeightGenerator,
+Iterable<double[]> {
+	
+	/**
+	 * The maximum number of designs stored in the cache.
+	 */
+	private static final int CACHE_SIZE = 16;
+	
+	/**
+	 * The cached designs, keyed by the number of objectives and the outer and
+	 * inner divisions.  Each design is stored in row-major order.  The least
+	 * recently used design is removed when the cache is full.
+	 */
+	private static final Map<List<Integer>, double[]> CACHE =
+			new LinkedHashMap<List<Integer>, double[]>(CACHE_SIZE, 0.75f, true) {
+		
+		private static final long serialVersionUID = -4232155410786346562L;
+
+		@Override
+		protected boolean removeEldestEntry(
+				Map.Entry<List<Integer>, double[]> eldest) {
+			return size() > CACHE_SIZE;
+		}
+		
+	};
 	
 	/**
 	 * The number of objectives.
@@ -100,75 +137,286 @@ public class NormalBoundaryIntersectionGenerator implements WeightGenerator {
 
 	@Override
 	public List<double[]> generate() {
-		List<double[]> weights = null;
-		
 		if (divisionsInner > 0) {
 			if (divisionsOuter >= numberOfObjectives) {
 				System.err.println("The specified number of outer divisions produces intermediate reference points, recommend setting divisionsOuter < numberOfObjectives.");
 			}
+		} else {
+			if (divisionsOuter < numberOfObjectives) {
+				System.err.println("No intermediate reference points will be generated for the specified number of divisions, recommend increasing divisions");
+			}
+		}
+		
+		double[] design = getDesign();
+		int size = design.length / numberOfObjectives;
+		List<double[]> weights = new ArrayList<double[]>(size);
+		
+		for (int i = 0; i < size; i++) {
+			weights.add(Arrays.copyOfRange(design, i * numberOfObjectives,
+					(i + 1) * numberOfObjectives));
+		}
+		
+		return weights;
+	}
+	
+	/**
+	 * Returns the generated weights stored in a single array in row-major
+	 * order, so the {@code i}-th weight occupies indices {@code i*M} through
+	 * {@code (i+1)*M - 1}, where {@code M} is the number of objectives.  This
+	 * avoids allocating an array for each weight.
+	 * 
+	 * @return the generated weights stored in a single array in row-major
+	 *         order
+	 */
+	public double[] generateArray() {
+		return getDesign().clone();
+	}
+	
+	/**
+	 * Returns the design, stored in row-major order, from the cache or
+	 * generates the design if not cached.
+	 * 
+	 * @return the design, stored in row-major order
+	 */
+	private double[] getDesign() {
+		List<Integer> key = Arrays.asList(numberOfObjectives, divisionsOuter,
+				divisionsInner);
+		
+		synchronized (CACHE) {
+			double[] design = CACHE.get(key);
+			
+			if (design != null) {
+				return design;
+			}
+		}
+		
+		double[] design = new double[size() * numberOfObjectives];
+		int offset = fill(design, 0, divisionsOuter, false);
+		
+		if (divisionsInner > 0) {
+			fill(design, offset, divisionsInner, true);
+		}
+		
+		synchronized (CACHE) {
+			CACHE.put(key, design);
+		}
+		
+		return design;
+	}
+	
+	/**
+	 * Stores the weights of one layer in the design.
+	 * 
+	 * @param design the design, stored in row-major order
+	 * @param offset the position in the design where the first weight is
+	 *        stored
+	 * @param divisions the number of divisions
+	 * @param inner {@code true} if the weights belong to the inner layer;
+	 *        {@code false} otherwise
+	 * @return the position in the design following the last weight
+	 */
+	private int fill(double[] design, int offset, int divisions,
+			boolean inner) {
+		int[] counts = new int[numberOfObjectives];
+		counts[numberOfObjectives - 1] = divisions;
+		
+		do {
+			for (int j = 0; j < numberOfObjectives; j++) {
+				design[offset++] = toValue(counts[j], divisions, inner);
+			}
+		} while (successor(counts));
+		
+		return offset;
+	}
+	
+	/**
+	 * Returns the weight at the specified index, in the order produced by
+	 * {@link #generate()}, without generating the other weights.
+	 * 
+	 * @param index the index of the weight
+	 * @return the weight at the specified index
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 *         {@code (index < 0) || (index >= size())}
+	 */
+	public double[] get(int index) {
+		if ((index < 0) || (index >= size())) {
+			throw new IndexOutOfBoundsException("index out of range");
+		}
+		
+		int outerSize = (int)CombinatoricsUtils.binomialCoefficient(
+				numberOfObjectives + divisionsOuter - 1, divisionsOuter);
+		
+		if (index < outerSize) {
+			return toWeight(unrank(index, divisionsOuter), divisionsOuter,
+					false);
+		} else {
+			return toWeight(unrank(index - outerSize, divisionsInner),
+					divisionsInner, true);
+		}
+	}
+	
+	/**
+	 * Returns an iterator over the weights, in the order produced by
+	 * {@link #generate()}.  Each weight is computed from the previous weight
+	 * in {@code O(M)} time.
+	 * 
+	 * @return an iterator over the weights
+	 */
+	@Override
+	public Iterator<double[]> iterator() {
+		return new Iterator<double[]>() {
+			
+			/**
+			 * The number of divisions assigned to each objective by the
+			 * next weight; or {@code null} if no weights remain.
+			 */
+			private int[] counts = new int[numberOfObjectives];
+			
+			/**
+			 * {@code true} if the next weight belongs to the inner layer;
+			 * {@code false} otherwise.
+			 */
+			private boolean inner = false;
+			
+			{
+				counts[numberOfObjectives - 1] = divisionsOuter;
+			}
 
-			weights = generateWeights(divisionsOuter);
-
-			// offset the inner weights
-			List<double[]> inner = generateWeights(divisionsInner);
-
-			for (int i = 0; i < inner.size(); i++) {
-				double[] weight = inner.get(i);
+			@Override
+			public boolean hasNext() {
+				return counts != null;
+			}
 
-				for (int j = 0; j < weight.length; j++) {
-					weight[j] = (1.0/numberOfObjectives + weight[j])/2;
+			@Override
+			public double[] next() {
+				if (counts == null) {
+					throw new NoSuchElementException();
 				}
+				
+				double[] weight = toWeight(counts, inner ? divisionsInner :
+					divisionsOuter, inner);
+				
+				if (!successor(counts)) {
+					if (!inner && (divisionsInner > 0)) {
+						inner = true;
+						counts = new int[numberOfObjectives];
+						counts[numberOfObjectives - 1] = divisionsInner;
+					} else {
+						counts = null;
+					}
+				}
+				
+				return weight;
 			}
 
-			weights.addAll(inner);
-		} else {
-			if (divisionsOuter < numberOfObjectives) {
-				System.err.println("No intermediate reference points will be generated for the specified number of divisions, recommend increasing divisions");
+			@Override
+			public void remove() {
+				throw new UnsupportedOperationException();
 			}
-
-			weights = generateWeights(divisionsOuter);
+			
+		};
+	}
+	
+	/**
+	 * Advances the counts to the next composition in lexicographic order.
+	 * 
+	 * @param counts the number of divisions assigned to each objective
+	 * @return {@code true} if the counts were advanced; {@code false} if the
+	 *         counts were the last composition
+	 */
+	private static boolean successor(int[] counts) {
+		int last = counts.length - 1;
+		int k = last;
+		
+		// find the last nonzero count, excluding the first objective
+		while ((k > 0) && (counts[k] == 0)) {
+			k--;
 		}
 		
-		return weights;
+		if (k == 0) {
+			return false;
+		}
+		
+		// increment the preceding count and move the remainder to the end
+		int remainder = counts[k] - 1;
+		
+		counts[k] = 0;
+		counts[k - 1]++;
+		counts[last] += remainder;
+		
+		return true;
 	}
 	
 	/**
-	 * Generates the reference points (weights) for the given number of
-	 * divisions.
+	 * Returns the composition at the specified index in lexicographic order.
 	 * 
+	 * @param index the index of the composition
 	 * @param divisions the number of divisions
-	 * @return the list of reference points
+	 * @return the number of divisions assigned to each objective
 	 */
-	private List<double[]> generateWeights(int divisions) {
-		List<double[]> result = new ArrayList<double[]>();
+	private int[] unrank(long index, int divisions) {
+		int[] counts = new int[numberOfObjectives];
+		int left = divisions;
+		
+		for (int p = 0; p < numberOfObjectives - 1; p++) {
+			int remaining = numberOfObjectives - p - 1;
+			
+			for (int i = 0; i <= left; i++) {
+				// the number of compositions with counts[p] == i
+				long count = CombinatoricsUtils.binomialCoefficient(
+						left - i + remaining - 1, remaining - 1);
+				
+				if (index < count) {
+					counts[p] = i;
+					left -= i;
+					break;
+				}
+				
+				index -= count;
+			}
+		}
+		
+		counts[numberOfObjectives - 1] = left;
+		return counts;
+	}
+	
+	/**
+	 * Converts the composition into a weight.
+	 * 
+	 * @param counts the number of divisions assigned to each objective
+	 * @param total the total number of divisions
+	 * @param inner {@code true} if the weight belongs to the inner layer;
+	 *        {@code false} otherwise
+	 * @return the weight
+	 */
+	private double[] toWeight(int[] counts, int total, boolean inner) {
 		double[] weight = new double[numberOfObjectives];
 		
-		generateRecursive(result, weight, numberOfObjectives, divisions, divisions, 0);
-
-		return result;
+		for (int j = 0; j < numberOfObjectives; j++) {
+			weight[j] = toValue(counts[j], total, inner);
+		}
+		
+		return weight;
 	}
 	
 	/**
-	 * Generate reference points (weights) recursively.
+	 * Returns the component of a weight.
 	 * 
-	 * @param weights list storing the generated reference points
-	 * @param weight the partial reference point being recursively generated
-	 * @param numberOfObjectives the number of objectives
-	 * @param left the number of remaining divisions
+	 * @param count the number of divisions assigned to the objective
 	 * @param total the total number of divisions
-	 * @param index the current index being generated
+	 * @param inner {@code true} if the weight belongs to the inner layer;
+	 *        {@code false} otherwise
+	 * @return the component of the weight
 	 */
-	private void generateRecursive(List<double[]> weights,
-			double[] weight, int numberOfObjectives, int left, int total, int index) {
-		if (index == (numberOfObjectives - 1)) {
-			weight[index] = (double)left/total;
-			weights.add(weight.clone());
-		} else {
-			for (int i = 0; i <= left; i += 1) {
-				weight[index] = (double) i / total;
-				generateRecursive(weights, weight, numberOfObjectives, left - i, total, index + 1);
-			}
+	private double toValue(int count, int total, boolean inner) {
+		double value = (double)count / total;
+		
+		if (inner) {
+			// offset the inner weights
+			value = (1.0/numberOfObjectives + value)/2;
 		}
+		
+		return value;
 	}
 
 }
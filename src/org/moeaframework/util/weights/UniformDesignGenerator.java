@@ -18,7 +18,10 @@
 package org.moeaframework.util.weights;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+
 import org.apache.commons.math3.primes.Primes;
 
 /**
@@ -32,6 +35,10 @@ import org.apache.commons.math3.primes.Primes;
  * of objectives or number of points increases.  The use of the more efficient
  * Hammersley method was proposed by Berenguer and Coello Coello (2015).
  * <p>
+ * Each weight depends only on its index, so individual weights can be
+ * computed directly with {@link #get(int)} and {@link #iterator()} enumerates
+ * the weights without storing them.
+ * <p>
  * References:
  * <ol>
  *   <li>Tan Y., Y. Jiao, H. Li, and X. Wang (2013).  "MOEA/D + uniform design:
@@ -42,7 +49,8 @@ import org.apache.commons.math3.primes.Primes;
  *       Multi-Criterion Optimization: 8th International Conference, pp. 3-17.
  * </ol>
  */
-public class UniformDesignGenerator implements WeightGenerator {
+public class UniformDesignGenerator implements WeightGenerator,
+Iterable<double[]> {
 	
 	/**
 	 * The number of objectives.
@@ -90,51 +98,113 @@ public class UniformDesignGenerator implements WeightGenerator {
 
 	@Override
 	public List<double[]> generate() {
-		// generate uniform design using Hammersley method
-		List<double[]> designs = new ArrayList<double[]>();
+		List<double[]> weights = new ArrayList<double[]>(numberOfPoints);
 		int[] primes = generateFirstKPrimes(numberOfObjectives-2);
 		
 		for (int i = 0; i < numberOfPoints; i++) {
-			double[] design = new double[numberOfObjectives-1];
-			design[0] = (2.0*(i+1) - 1.0) / (2.0*numberOfPoints);
+			weights.add(generateWeight(i, primes));
+		}
+		
+		return weights;
+	}
+	
+	/**
+	 * Returns the weight at the specified index, in the order produced by
+	 * {@link #generate()}, without generating the other weights.
+	 * 
+	 * @param index the index of the weight
+	 * @return the weight at the specified index
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 *         {@code (index < 0) || (index >= size())}
+	 */
+	public double[] get(int index) {
+		if ((index < 0) || (index >= numberOfPoints)) {
+			throw new IndexOutOfBoundsException("index out of range");
+		}
+		
+		return generateWeight(index, generateFirstKPrimes(
+				numberOfObjectives-2));
+	}
+	
+	/**
+	 * Returns an iterator over the weights, in the order produced by
+	 * {@link #generate()}.
+	 * 
+	 * @return an iterator over the weights
+	 */
+	@Override
+	public Iterator<double[]> iterator() {
+		final int[] primes = generateFirstKPrimes(numberOfObjectives-2);
+		
+		return new Iterator<double[]>() {
 			
-			for (int j = 1; j < numberOfObjectives-1; j++) {
-				double f = 1.0/primes[j-1];
-				int d = i+1;
-				design[j] = 0.0;
-				
-				while (d > 0) {
-					design[j] += f * (d % primes[j-1]);
-					d = d / primes[j-1];
-					f = f / primes[j-1];
+			/**
+			 * The index of the next weight.
+			 */
+			private int index = 0;
+
+			@Override
+			public boolean hasNext() {
+				return index < numberOfPoints;
+			}
+
+			@Override
+			public double[] next() {
+				if (index >= numberOfPoints) {
+					throw new NoSuchElementException();
 				}
+				
+				return generateWeight(index++, primes);
+			}
+
+			@Override
+			public void remove() {
+				throw new UnsupportedOperationException();
 			}
 			
-			designs.add(design);
+		};
+	}
+	
+	/**
+	 * Generates the weight at the specified index.
+	 * 
+	 * @param i the index of the weight
+	 * @param primes the first {@code numberOfObjectives-2} prime numbers
+	 * @return the weight at the specified index
+	 */
+	private double[] generateWeight(int i, int[] primes) {
+		// generate uniform design using Hammersley method
+		double[] design = new double[numberOfObjectives-1];
+		design[0] = (2.0*(i+1) - 1.0) / (2.0*numberOfPoints);
+		
+		for (int j = 1; j < numberOfObjectives-1; j++) {
+			double f = 1.0/primes[j-1];
+			int d = i+1;
+			design[j] = 0.0;
+			
+			while (d > 0) {
+				design[j] += f * (d % primes[j-1]);
+				d = d / primes[j-1];
+				f = f / primes[j-1];
+			}
 		}
 		
-		// transform designs into weight vectors (sum to 1)
-		List<double[]> weights = new ArrayList<double[]>();
+		// transform design into weight vector (sum to 1)
+		double[] weight = new double[numberOfObjectives];
 		
-		for (double[] design : designs) {
-			double[] weight = new double[numberOfObjectives];
-			
-			for (int i = 1; i <= numberOfObjectives; i++) {
-				if (i == numberOfObjectives) {
-					weight[i-1] = 1.0;
-				} else {
-					weight[i-1] = 1.0 - Math.pow(design[i-1], 1.0 / (numberOfObjectives-i));
-				}
-				
-				for (int j = 1; j <= i-1; j++) {
-					weight[i-1] *= Math.pow(design[j-1], 1.0 / (numberOfObjectives-j));
-				}
+		for (int k = 1; k <= numberOfObjectives; k++) {
+			if (k == numberOfObjectives) {
+				weight[k-1] = 1.0;
+			} else {
+				weight[k-1] = 1.0 - Math.pow(design[k-1], 1.0 / (numberOfObjectives-k));
 			}
 			
-			weights.add(weight);
+			for (int j = 1; j <= k-1; j++) {
+				weight[k-1] *= Math.pow(design[j-1], 1.0 / (numberOfObjectives-j));
+			}
 		}
 		
-		return weights;
+		return weight;
 	}
 
 }
@@ -67,6 +67,29 @@ public class AnalyzerTest {
 				.printAnalysis();
 	}
 	
+	@Test
+	public void testConfidenceInterval() throws IOException {
+		Analyzer.AnalyzerResults results = new Analyzer()
+				.withProblem("DTLZ2_2")
+				.includeGenerationalDistance()
+				.showConfidenceInterval(1000)
+				.distributeOn(2)
+				.addAll("NSGAII", new Executor()
+						.withProblem("DTLZ2_2")
+						.withAlgorithm("NSGAII")
+						.withMaxEvaluations(1000)
+						.runSeeds(5))
+				.getAnalysis();
+		
+		Analyzer.IndicatorResult result = results.get("NSGAII")
+				.get("GenerationalDistance");
+		double[] interval = result.getConfidenceInterval();
+		
+		Assert.assertEquals(2, interval.length);
+		Assert.assertTrue(interval[0] <= result.getMedian());
+		Assert.assertTrue(interval[1] >= result.getMedian());
+	}
+	
 	@Test
 	public void testNoIndicators() throws IOException {
 		new Analyzer()
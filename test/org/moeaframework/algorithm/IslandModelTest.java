@@ -0,0 +1,182 @@
+/* Copyright 2009-2018 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.moeaframework.core.Algorithm;
+import org.moeaframework.core.EpsilonBoxDominanceArchive;
+import org.moeaframework.core.EvolutionaryAlgorithm;
+import org.moeaframework.core.PRNG;
+import org.moeaframework.core.Problem;
+import org.moeaframework.core.spi.AlgorithmFactory;
+import org.moeaframework.problem.DTLZ.DTLZ2;
+
+/**
+ * Tests the {@link IslandModel} class.
+ */
+public class IslandModelTest {
+	
+	private Properties createProperties() {
+		Properties properties = new Properties();
+		properties.setProperty("populationSize", "20");
+		properties.setProperty("islands", "4");
+		properties.setProperty("migrationInterval", "2");
+		return properties;
+	}
+	
+	private void run(Algorithm algorithm) {
+		Assert.assertEquals(0, algorithm.getNumberOfEvaluations());
+		
+		while (algorithm.getNumberOfEvaluations() < 2000) {
+			algorithm.step();
+		}
+		
+		algorithm.terminate();
+		
+		Assert.assertTrue(algorithm.getResult() instanceof
+				EpsilonBoxDominanceArchive);
+		Assert.assertFalse(algorithm.getResult().isEmpty());
+		Assert.assertTrue(algorithm.isTerminated());
+		
+		for (Algorithm island : ((IslandModel)algorithm).getIslands()) {
+			Assert.assertTrue(island.isTerminated());
+		}
+	}
+	
+	@Test
+	public void testRing() {
+		run(AlgorithmFactory.getInstance().getAlgorithm("Island(NSGAII)",
+				createProperties(), new DTLZ2(2)));
+	}
+	
+	@Test
+	public void testTorusMultithreaded() {
+		Properties properties = createProperties();
+		properties.setProperty("topology", "torus");
+		properties.setProperty("numberOfThreads", "2");
+		
+		run(AlgorithmFactory.getInstance().getAlgorithm("Island",
+				properties, new DTLZ2(2)));
+	}
+	
+	@Test
+	public void testManyIslandsMultithreaded() {
+		Random random = PRNG.getRandom();
+		Problem problem = new DTLZ2(2);
+		Properties properties = new Properties();
+		properties.setProperty("populationSize", "10");
+		
+		List<Algorithm> islands = new ArrayList<Algorithm>();
+		
+		for (int i = 0; i < 8; i++) {
+			islands.add(AlgorithmFactory.getInstance().getAlgorithm("NSGAII",
+					properties, problem));
+		}
+		
+		IslandModel algorithm = new IslandModel(problem, islands,
+				new EpsilonBoxDominanceArchive(0.01), MigrationTopology.FULLY_CONNECTED,
+				1, 5);
+		algorithm.setNumberOfThreads(4);
+		
+		while (algorithm.getNumberOfEvaluations() < 20000) {
+			algorithm.step();
+		}
+		
+		algorithm.terminate();
+		
+		Assert.assertFalse(algorithm.getResult().isEmpty());
+		
+		// the original generator is restored after each epoch
+		Assert.assertSame(random, PRNG.getRandom());
+	}
+	
+	@Test
+	public void testMixedAlgorithms() {
+		Properties properties = createProperties();
+		properties.setProperty("topology", "full");
+		properties.setProperty("algorithms", "NSGAII, MOEAD, eMOEA");
+		
+		IslandModel algorithm = (IslandModel)AlgorithmFactory.getInstance()
+				.getAlgorithm("Island", properties, new DTLZ2(2));
+		
+		Assert.assertEquals(4, algorithm.getIslands().size());
+		Assert.assertTrue(algorithm.getIslands().get(0) instanceof NSGAII);
+		Assert.assertTrue(algorithm.getIslands().get(1) instanceof MOEAD);
+		Assert.assertTrue(algorithm.getIslands().get(2) instanceof
+				EpsilonMOEA);
+		Assert.assertTrue(algorithm.getIslands().get(3) instanceof NSGAII);
+		
+		run(algorithm);
+	}
+	
+	@Test
+	public void testMigration() {
+		Problem problem = new DTLZ2(2);
+		Properties properties = new Properties();
+		properties.setProperty("populationSize", "10");
+		
+		List<Algorithm> islands = new ArrayList<Algorithm>();
+		
+		for (int i = 0; i < 2; i++) {
+			islands.add(AlgorithmFactory.getInstance().getAlgorithm("NSGAII",
+					properties, problem));
+		}
+		
+		IslandModel algorithm = new IslandModel(problem, islands,
+				new EpsilonBoxDominanceArchive(0.01), MigrationTopology.RING,
+				1, 10);
+		
+		// initialize and send emigrants from each island
+		algorithm.step();
+		algorithm.step();
+		
+		// the immigrants replace members without changing the population
+		// size or requiring additional evaluations
+		algorithm.step();
+		
+		Assert.assertEquals(10, ((EvolutionaryAlgorithm)islands.get(1))
+				.getPopulation().size());
+		Assert.assertEquals(40 + 20, algorithm.getNumberOfEvaluations());
+		Assert.assertFalse(algorithm.getResult().isEmpty());
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testNoIslands() {
+		new IslandModel(new DTLZ2(2), new ArrayList<Algorithm>(),
+				new EpsilonBoxDominanceArchive(0.01), MigrationTopology.RING,
+				1, 1);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidMigrationInterval() {
+		List<Algorithm> islands = new ArrayList<Algorithm>();
+		islands.add(AlgorithmFactory.getInstance().getAlgorithm("NSGAII",
+				new Properties(), new DTLZ2(2)));
+		
+		new IslandModel(new DTLZ2(2), islands,
+				new EpsilonBoxDominanceArchive(0.01), MigrationTopology.RING,
+				0, 1);
+	}
+	
+}
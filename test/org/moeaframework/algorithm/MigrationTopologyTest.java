@@ -0,0 +1,90 @@
+/* Copyright 2009-2018 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm;
+
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the {@link MigrationTopology} class.
+ */
+public class MigrationTopologyTest {
+	
+	private void assertNeighbors(MigrationTopology topology, int island,
+			int numberOfIslands, int... expected) {
+		int[] actual = topology.getNeighbors(island, numberOfIslands);
+		Arrays.sort(actual);
+		Arrays.sort(expected);
+		Assert.assertArrayEquals(expected, actual);
+	}
+	
+	@Test
+	public void testRing() {
+		assertNeighbors(MigrationTopology.RING, 0, 1);
+		assertNeighbors(MigrationTopology.RING, 0, 2, 1);
+		assertNeighbors(MigrationTopology.RING, 1, 2, 0);
+		assertNeighbors(MigrationTopology.RING, 2, 5, 3);
+		assertNeighbors(MigrationTopology.RING, 4, 5, 0);
+	}
+	
+	@Test
+	public void testTorus() {
+		// 3x3 grid
+		assertNeighbors(MigrationTopology.TORUS, 4, 9, 1, 3, 5, 7);
+		assertNeighbors(MigrationTopology.TORUS, 0, 9, 1, 2, 3, 6);
+		
+		// 2x4 grid
+		assertNeighbors(MigrationTopology.TORUS, 0, 8, 1, 3, 4);
+		
+		// prime number of islands forms a bidirectional ring
+		assertNeighbors(MigrationTopology.TORUS, 0, 7, 1, 6);
+		assertNeighbors(MigrationTopology.TORUS, 0, 2, 1);
+		assertNeighbors(MigrationTopology.TORUS, 0, 1);
+	}
+	
+	@Test
+	public void testFullyConnected() {
+		assertNeighbors(MigrationTopology.FULLY_CONNECTED, 0, 1);
+		assertNeighbors(MigrationTopology.FULLY_CONNECTED, 2, 4, 0, 1, 3);
+	}
+	
+	@Test
+	public void testForName() {
+		Assert.assertEquals(MigrationTopology.RING,
+				MigrationTopology.forName("ring"));
+		Assert.assertEquals(MigrationTopology.TORUS,
+				MigrationTopology.forName("Torus"));
+		Assert.assertEquals(MigrationTopology.FULLY_CONNECTED,
+				MigrationTopology.forName("full"));
+		Assert.assertEquals(MigrationTopology.FULLY_CONNECTED,
+				MigrationTopology.forName("fully-connected"));
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testUnknownName() {
+		MigrationTopology.forName("star");
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidIsland() {
+		MigrationTopology.RING.getNeighbors(3, 3);
+	}
+	
+}
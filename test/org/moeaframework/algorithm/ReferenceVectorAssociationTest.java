@@ -0,0 +1,133 @@
+/* Copyright 2009-2018 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm;
+
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.moeaframework.core.PRNG;
+import org.moeaframework.core.Settings;
+import org.moeaframework.util.Vector;
+import org.moeaframework.util.weights.NormalBoundaryIntersectionGenerator;
+
+/**
+ * Tests the {@link ReferenceVectorAssociation} class.
+ */
+public class ReferenceVectorAssociationTest {
+	
+	@Test
+	public void testAssociateByDistance() {
+		List<double[]> weights = new NormalBoundaryIntersectionGenerator(5, 6)
+				.generate();
+		double[][] points = randomPoints(200, 5);
+		
+		for (int threads = 1; threads <= 3; threads += 2) {
+			ReferenceVectorAssociation association =
+					new ReferenceVectorAssociation(weights, threads);
+			int[] indices = new int[points.length];
+			double[] distances = new double[points.length];
+			
+			association.associateByDistance(points, indices, distances);
+			
+			for (int i = 0; i < points.length; i++) {
+				double minDistance = Double.POSITIVE_INFINITY;
+				
+				for (double[] weight : weights) {
+					minDistance = Math.min(minDistance,
+							ReferencePointNondominatedSortingPopulation
+							.pointLineDistance(weight, points[i]));
+				}
+				
+				Assert.assertEquals(minDistance, distances[i],
+						Settings.EPS);
+				Assert.assertEquals(minDistance,
+						ReferencePointNondominatedSortingPopulation
+						.pointLineDistance(weights.get(indices[i]), points[i]),
+						Settings.EPS);
+			}
+		}
+	}
+	
+	@Test
+	public void testAssociateByCosine() {
+		List<double[]> weights = new NormalBoundaryIntersectionGenerator(5, 6)
+				.generate();
+		
+		for (int i = 0; i < weights.size(); i++) {
+			weights.set(i, Vector.normalize(weights.get(i)));
+		}
+		
+		double[][] points = randomPoints(200, 5);
+		
+		for (int threads = 1; threads <= 3; threads += 2) {
+			ReferenceVectorAssociation association =
+					new ReferenceVectorAssociation(weights, threads);
+			int[] indices = new int[points.length];
+			double[] cosines = new double[points.length];
+			
+			association.associateByCosine(points, indices, cosines);
+			
+			for (int i = 0; i < points.length; i++) {
+				double maxCosine = Double.NEGATIVE_INFINITY;
+				
+				for (double[] weight : weights) {
+					maxCosine = Math.max(maxCosine,
+							ReferenceVectorGuidedPopulation.cosine(weight,
+									points[i]));
+				}
+				
+				Assert.assertEquals(maxCosine, cosines[i],
+						Settings.EPS);
+				Assert.assertEquals(maxCosine,
+						ReferenceVectorGuidedPopulation.cosine(
+								weights.get(indices[i]), points[i]),
+						Settings.EPS);
+			}
+		}
+	}
+	
+	@Test
+	public void testOrigin() {
+		List<double[]> weights = new NormalBoundaryIntersectionGenerator(2, 4)
+				.generate();
+		ReferenceVectorAssociation association =
+				new ReferenceVectorAssociation(weights, 1);
+		double[][] points = new double[][] { { 0.0, 0.0 } };
+		int[] indices = new int[] { -1 };
+		
+		association.associateByCosine(points, indices, null);
+		Assert.assertEquals(0, indices[0]);
+		
+		association.associateByDistance(points, indices, null);
+		Assert.assertEquals(0, indices[0]);
+	}
+	
+	private double[][] randomPoints(int n, int m) {
+		double[][] points = new double[n][m];
+		
+		for (int i = 0; i < n; i++) {
+			for (int j = 0; j < m; j++) {
+				points[i][j] = PRNG.nextDouble();
+			}
+		}
+		
+		return points;
+	}
+
+}
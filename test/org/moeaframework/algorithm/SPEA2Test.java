@@ -18,6 +18,9 @@
 package org.moeaframework.algorithm;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Properties;
 
 import org.junit.Assert;
@@ -27,6 +30,7 @@ import org.moeaframework.RetryOnTravis;
 import org.moeaframework.TestUtils;
 import org.moeaframework.TravisRunner;
 import org.moeaframework.core.FitnessEvaluator;
+import org.moeaframework.core.PRNG;
 import org.moeaframework.core.Population;
 import org.moeaframework.core.Problem;
 import org.moeaframework.core.Solution;
@@ -131,6 +135,107 @@ public class SPEA2Test extends AlgorithmTest {
 		Assert.assertFalse(result.contains(solution3));
 	}
 	
+	@Test
+	public void testMutableDistanceMap() {
+		SPEA2 spea2 = new SPEA2(new MockRealProblem(), null, null, 0, 1);
+		spea2.setNumberOfThreads(4);
+		
+		for (int trial = 0; trial < 10; trial++) {
+			Population population = new Population();
+			
+			// use a coarse grid to produce many ties
+			for (int i = 0; i < 50; i++) {
+				population.add(TestUtils.newSolution(PRNG.nextInt(8) / 8.0,
+						PRNG.nextInt(8) / 8.0));
+			}
+			
+			double[][] distances = spea2.computeDistanceMatrix(population);
+			SPEA2.MutableDistanceMap map = new SPEA2.MutableDistanceMap(
+					distances);
+			List<Integer> expected = new ArrayList<Integer>();
+			List<Integer> actual = new ArrayList<Integer>();
+			
+			for (int i = 0; i < distances.length; i++) {
+				expected.add(i);
+				actual.add(i);
+			}
+			
+			while (expected.size() > 1) {
+				int index = findMostCrowdedPoint(distances, expected);
+				Assert.assertEquals(index, map.findMostCrowdedPoint());
+				
+				expected.remove(index);
+				map.removePoint(index);
+			}
+		}
+	}
+	
+	/**
+	 * Reference implementation of SPEA2's truncation strategy, which sorts the
+	 * distances to the remaining points and returns the index of the point
+	 * whose sorted distances are lexicographically smallest.
+	 */
+	private int findMostCrowdedPoint(double[][] distances,
+			List<Integer> points) {
+		double[] minimum = null;
+		int minimumIndex = -1;
+		
+		for (int i = 0; i < points.size(); i++) {
+			double[] sorted = new double[points.size()-1];
+			int count = 0;
+			
+			for (int j = 0; j < points.size(); j++) {
+				if (i != j) {
+					sorted[count++] = distances[points.get(i)][points.get(j)];
+				}
+			}
+			
+			Arrays.sort(sorted);
+			
+			for (int k = 0; k < sorted.length; k++) {
+				if ((minimum == null) || (sorted[k] < minimum[k])) {
+					minimum = sorted;
+					minimumIndex = i;
+					break;
+				} else if (sorted[k] > minimum[k]) {
+					break;
+				}
+			}
+		}
+		
+		return minimumIndex;
+	}
+	
+	@Test
+	public void testTruncateMatchesDistanceMatrix() {
+		SPEA2 spea2 = new SPEA2(new MockRealProblem(), null, null, 0, 1);
+		Population population = new Population();
+		
+		for (int i = 0; i < 30; i++) {
+			double x = PRNG.nextDouble();
+			population.add(TestUtils.newSolution(x, 1.0 - x));
+		}
+		
+		// reversing the order prevents reusing the cached distance matrix
+		Population reversed = new Population();
+		
+		for (int i = population.size()-1; i >= 0; i--) {
+			reversed.add(population.get(i));
+		}
+		
+		spea2.fitnessEvaluator.evaluate(population);
+		Population expected = spea2.truncate(reversed, 10);
+		
+		spea2.fitnessEvaluator.evaluate(population);
+		Population actual = spea2.truncate(population, 10);
+		
+		Assert.assertEquals(10, actual.size());
+		
+		for (Solution solution : expected) {
+			Assert.assertTrue(actual.contains(solution));
+		}
+	}
+	
 	@Test
 	public void testFitnessNondominated() {
 		SPEA2 spea2 = new SPEA2(new MockRealProblem(), null, null, 0, 1);
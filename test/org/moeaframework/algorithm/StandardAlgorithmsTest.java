@@ -32,6 +32,7 @@ import org.moeaframework.core.spi.ProviderNotFoundException;
 import org.moeaframework.problem.MockBinaryProblem;
 import org.moeaframework.problem.MockPermutationProblem;
 import org.moeaframework.problem.MockRealProblem;
+import org.moeaframework.problem.MockRealVectorProblem;
 import org.moeaframework.problem.MockSubsetProblem;
 
 /**
@@ -44,6 +45,11 @@ public class StandardAlgorithmsTest {
 	 */
 	protected Problem realProblem;
 	
+	/**
+	 * The test problem encoded with a real vector.
+	 */
+	protected Problem realVectorProblem;
+	
 	/**
 	 * The binary encoded test problem.
 	 */
@@ -72,6 +78,7 @@ public class StandardAlgorithmsTest {
 	@Before
 	public void setUp() throws IOException {
 		realProblem = new MockRealProblem();
+		realVectorProblem = new MockRealVectorProblem();
 		binaryProblem = new MockBinaryProblem();
 		permutationProblem = new MockPermutationProblem();
 		subsetProblem = new MockSubsetProblem();
@@ -87,6 +94,7 @@ public class StandardAlgorithmsTest {
 	@After
 	public void tearDown() {
 		realProblem = null;
+		realVectorProblem = null;
 		binaryProblem = null;
 		permutationProblem = null;
 		subsetProblem = null;
@@ -203,6 +211,51 @@ public class StandardAlgorithmsTest {
 		test("MSOPS", realProblem);
 	}
 	
+	@Test
+	public void testNSGAII_RealVector() {
+		test("NSGAII", realVectorProblem);
+	}
+	
+	@Test
+	public void testMOEAD_RealVector() {
+		test("MOEAD", realVectorProblem);
+	}
+	
+	@Test
+	public void testGDE3_RealVector() {
+		test("GDE3", realVectorProblem);
+	}
+	
+	@Test
+	public void testCMAES_RealVector() {
+		test("CMA-ES", realVectorProblem);
+	}
+	
+	@Test
+	public void testOMOPSO_RealVector() {
+		test("OMOPSO", realVectorProblem);
+	}
+	
+	@Test
+	public void testSMPSO_RealVector() {
+		test("SMPSO", realVectorProblem);
+	}
+	
+	@Test
+	public void testES_RealVector() {
+		test("ES", realVectorProblem);
+	}
+	
+	@Test
+	public void testDE_RealVector() {
+		test("DE", realVectorProblem);
+	}
+	
+	@Test
+	public void testMSOPS_RealVector() {
+		test("MSOPS", realVectorProblem);
+	}
+	
 	@Test
 	public void testEpsilonMOEA_Binary() {
 		test("eMOEA", binaryProblem);
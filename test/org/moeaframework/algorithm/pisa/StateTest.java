@@ -0,0 +1,95 @@
+/* Copyright 2009-2018 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.pisa;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.moeaframework.TestUtils;
+
+/**
+ * Tests the {@link State} class.
+ */
+public class StateTest {
+	
+	@Test
+	public void testGetAndSet() throws IOException, InterruptedException {
+		File file = TestUtils.createTempFile();
+		State state = new State(file);
+		
+		Assert.assertEquals(-1, state.get());
+		
+		state.set(2);
+		Assert.assertEquals(2, state.get());
+		
+		state.set(10);
+		Assert.assertEquals(10, state.get());
+	}
+	
+	@Test
+	public void testTrailingNewline() throws IOException {
+		File file = TestUtils.createTempFile("3\n");
+		Assert.assertEquals(3, new State(file).get());
+		
+		FileWriter writer = new FileWriter(file);
+		writer.write("4\r\n");
+		writer.close();
+		
+		Assert.assertEquals(4, new State(file).get());
+	}
+	
+	@Test(expected = NumberFormatException.class)
+	public void testInvalidState() throws IOException {
+		new State(TestUtils.createTempFile("foo")).get();
+	}
+	
+	@Test
+	public void testWaitWhile() throws Exception {
+		File file = TestUtils.createTempFile();
+		final State state = new State(file);
+		state.set(2);
+		
+		Thread thread = new Thread() {
+			
+			@Override
+			public void run() {
+				try {
+					Thread.sleep(50);
+					state.set(3);
+				} catch (Exception e) {
+					throw new RuntimeException(e);
+				}
+			}
+			
+		};
+		
+		thread.start();
+		
+		Assert.assertEquals(3, state.waitWhile(2));
+		thread.join();
+		
+		// returns immediately if the state already differs
+		Assert.assertEquals(3, state.waitWhile(2));
+		
+		state.waitFor(3);
+	}
+
+}
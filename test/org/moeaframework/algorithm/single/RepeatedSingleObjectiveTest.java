@@ -0,0 +1,183 @@
+/* Copyright 2009-2018 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.single;
+
+import java.util.Properties;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.moeaframework.algorithm.AlgorithmInitializationException;
+import org.moeaframework.core.NondominatedPopulation;
+import org.moeaframework.core.PRNG;
+import org.moeaframework.core.Problem;
+import org.moeaframework.core.Solution;
+import org.moeaframework.problem.DTLZ.DTLZ2;
+
+/**
+ * Tests the {@link RepeatedSingleObjective} class.
+ */
+public class RepeatedSingleObjectiveTest {
+	
+	private RepeatedSingleObjective createInstance(Problem problem) {
+		Properties properties = new Properties();
+		properties.setProperty("populationSize", "10");
+		
+		return new RepeatedSingleObjective(problem, "GA", properties, 5);
+	}
+	
+	private void run(RepeatedSingleObjective algorithm) {
+		while (algorithm.getNumberOfEvaluations() < 1000) {
+			algorithm.step();
+		}
+		
+		NondominatedPopulation result = algorithm.getResult();
+		algorithm.terminate();
+		
+		Assert.assertFalse(result.isEmpty());
+		Assert.assertTrue(algorithm.isTerminated());
+		
+		for (Solution solution : result) {
+			Assert.assertEquals(2, solution.getNumberOfObjectives());
+		}
+	}
+	
+	@Test
+	public void testSequential() {
+		RepeatedSingleObjective algorithm = createInstance(new DTLZ2(2));
+		run(algorithm);
+		
+		// each step advances every instance by one iteration
+		Assert.assertEquals(0, algorithm.getNumberOfEvaluations() % 5);
+	}
+	
+	@Test
+	public void testSynchronous() {
+		RepeatedSingleObjective algorithm = createInstance(new DTLZ2(2));
+		algorithm.setNumberOfThreads(3);
+		run(algorithm);
+		
+		Assert.assertEquals(0, algorithm.getNumberOfEvaluations() % 5);
+	}
+	
+	@Test
+	public void testAsynchronous() {
+		RepeatedSingleObjective algorithm = createInstance(new DTLZ2(2));
+		algorithm.setNumberOfThreads(3);
+		algorithm.setAsynchronous(true);
+		run(algorithm);
+	}
+	
+	@Test
+	public void testManyInstancesOnManyThreads() {
+		Random random = PRNG.getRandom();
+		Properties properties = new Properties();
+		properties.setProperty("populationSize", "10");
+		
+		RepeatedSingleObjective algorithm = new RepeatedSingleObjective(
+				new DTLZ2(2), "GA", properties, 50);
+		algorithm.setNumberOfThreads(8);
+		algorithm.setAsynchronous(true);
+		
+		while (algorithm.getNumberOfEvaluations() < 20000) {
+			algorithm.step();
+		}
+		
+		Assert.assertFalse(algorithm.getResult().isEmpty());
+		algorithm.terminate();
+		
+		// the original generator is restored
+		Assert.assertSame(random, PRNG.getRandom());
+	}
+	
+	@Test
+	public void testGeneratorRestoredAfterStep() {
+		Random random = PRNG.getRandom();
+		RepeatedSingleObjective algorithm = createInstance(new DTLZ2(2));
+		algorithm.setNumberOfThreads(3);
+		
+		// each synchronous step restores the generator, even if the
+		// algorithm is never terminated
+		for (int i = 0; i < 5; i++) {
+			algorithm.step();
+			Assert.assertSame(random, PRNG.getRandom());
+		}
+	}
+	
+	@Test
+	public void testSynchronousReproducible() {
+		NondominatedPopulation[] results = new NondominatedPopulation[2];
+		
+		for (int i = 0; i < results.length; i++) {
+			PRNG.setSeed(1234);
+			
+			RepeatedSingleObjective algorithm = createInstance(new DTLZ2(2));
+			algorithm.setNumberOfThreads(2 + i);
+			
+			while (algorithm.getNumberOfEvaluations() < 1000) {
+				algorithm.step();
+			}
+			
+			results[i] = algorithm.getResult();
+			algorithm.terminate();
+		}
+		
+		Assert.assertEquals(results[0].size(), results[1].size());
+		
+		for (int i = 0; i < results[0].size(); i++) {
+			Assert.assertArrayEquals(results[0].get(i).getObjectives(),
+					results[1].get(i).getObjectives(), 0.0);
+		}
+	}
+	
+	@Test
+	public void testException() {
+		RepeatedSingleObjective algorithm = createInstance(new DTLZ2(2) {
+			
+			@Override
+			public void evaluate(Solution solution) {
+				throw new UnsupportedOperationException();
+			}
+			
+		});
+		
+		algorithm.setNumberOfThreads(2);
+		
+		try {
+			algorithm.step();
+			Assert.fail("expected exception");
+		} catch (UnsupportedOperationException e) {
+			// expected
+		} finally {
+			algorithm.terminate();
+		}
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidNumberOfThreads() {
+		createInstance(new DTLZ2(2)).setNumberOfThreads(0);
+	}
+	
+	@Test(expected = AlgorithmInitializationException.class)
+	public void testConfigureAfterInitialization() {
+		RepeatedSingleObjective algorithm = createInstance(new DTLZ2(2));
+		algorithm.step();
+		algorithm.setNumberOfThreads(2);
+	}
+	
+}
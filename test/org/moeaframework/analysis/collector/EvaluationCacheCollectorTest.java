@@ -0,0 +1,65 @@
+/* Copyright 2009-2018 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.analysis.collector;
+
+import java.util.Properties;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.moeaframework.Instrumenter;
+import org.moeaframework.core.Algorithm;
+import org.moeaframework.core.spi.AlgorithmFactory;
+import org.moeaframework.problem.CachingProblem;
+import org.moeaframework.problem.MockBinaryProblem;
+
+/**
+ * Tests the {@link EvaluationCacheCollector} class.
+ */
+public class EvaluationCacheCollectorTest extends CollectorTest {
+	
+	@Test
+	public void testUncachedProblem() {
+		test("NSGAII", new EvaluationCacheCollector(), false);
+	}
+	
+	@Test
+	public void testCachingProblem() {
+		CachingProblem problem = new CachingProblem(new MockBinaryProblem());
+		Algorithm algorithm = AlgorithmFactory.getInstance().getAlgorithm(
+				"NSGAII", new Properties(), problem);
+		
+		InstrumentedAlgorithm instrumentedAlgorithm = new Instrumenter()
+				.withFrequency(100)
+				.attachEvaluationCacheCollector()
+				.instrument(algorithm);
+		
+		while (instrumentedAlgorithm.getNumberOfEvaluations() < 1000) {
+			instrumentedAlgorithm.step();
+		}
+		
+		Accumulator accumulator = instrumentedAlgorithm.getAccumulator();
+		int last = accumulator.size("NFE") - 1;
+		
+		Assert.assertTrue(last >= 0);
+		Assert.assertEquals(problem.getHits(),
+				((Number)accumulator.get("Cache Hits", last)).longValue());
+		Assert.assertEquals(problem.getMisses(),
+				((Number)accumulator.get("Cache Misses", last)).longValue());
+	}
+
+}
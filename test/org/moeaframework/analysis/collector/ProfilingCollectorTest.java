@@ -0,0 +1,109 @@
+/* Copyright 2009-2018 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.analysis.collector;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.Properties;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.moeaframework.Instrumenter;
+import org.moeaframework.algorithm.AbstractAlgorithm;
+import org.moeaframework.algorithm.Profiler;
+import org.moeaframework.algorithm.Profiler.Phase;
+import org.moeaframework.core.spi.AlgorithmFactory;
+import org.moeaframework.problem.MockRealProblem;
+
+/**
+ * Tests the {@link ProfilingCollector} and {@link Profiler} classes.
+ */
+public class ProfilingCollectorTest extends CollectorTest {
+	
+	@Test
+	public void testNSGAII() {
+		test("NSGAII", new ProfilingCollector(), true);
+	}
+	
+	@Test
+	public void testIBEA() {
+		test("IBEA", new ProfilingCollector(), true);
+	}
+	
+	@Test
+	public void testMOEAD() {
+		test("MOEAD", new ProfilingCollector(), true);
+	}
+	
+	@Test
+	public void testPhases() {
+		AbstractAlgorithm algorithm = (AbstractAlgorithm)AlgorithmFactory
+				.getInstance().getAlgorithm("NSGAII", new Properties(),
+						new MockRealProblem());
+		
+		InstrumentedAlgorithm instrumentedAlgorithm = new Instrumenter()
+				.withFrequency(100)
+				.attachProfilingCollector()
+				.instrument(algorithm);
+		
+		while (instrumentedAlgorithm.getNumberOfEvaluations() < 1000) {
+			instrumentedAlgorithm.step();
+		}
+		
+		Profiler profiler = algorithm.getProfiler();
+		Assert.assertNotNull(profiler);
+		Assert.assertEquals(1, profiler.getCount(Phase.INITIALIZATION));
+		Assert.assertEquals(algorithm.getNumberOfEvaluations(),
+				profiler.getCount(Phase.EVALUATION));
+		Assert.assertTrue(profiler.getCount(Phase.SELECTION) > 0);
+		Assert.assertTrue(profiler.getCount(Phase.VARIATION) > 0);
+		Assert.assertTrue(profiler.getCount(Phase.SORTING) > 0);
+		Assert.assertEquals(0, profiler.getCount(Phase.ARCHIVING));
+		Assert.assertEquals(0, profiler.getCount(Phase.FITNESS_ASSIGNMENT));
+		Assert.assertTrue(profiler.getTime(Phase.EVALUATION) > 0);
+		
+		Accumulator accumulator = instrumentedAlgorithm.getAccumulator();
+		int last = accumulator.size("NFE") - 1;
+		
+		Assert.assertTrue(last >= 0);
+		Assert.assertEquals(accumulator.size("NFE"),
+				accumulator.size("Evaluation Time"));
+		Assert.assertEquals(0, ((Number)accumulator.get(
+				"Fitness Assignment Count", last)).longValue());
+		
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		profiler.print(new PrintStream(output));
+		Assert.assertTrue(output.toString().contains("Non-Dominated Sorting"));
+		Assert.assertFalse(output.toString().contains("Fitness Assignment"));
+		
+		profiler.clear();
+		Assert.assertEquals(0, profiler.getCount(Phase.EVALUATION));
+		Assert.assertEquals(0, profiler.getTime(Phase.EVALUATION));
+	}
+	
+	@Test
+	public void testDisabledByDefault() {
+		AbstractAlgorithm algorithm = (AbstractAlgorithm)AlgorithmFactory
+				.getInstance().getAlgorithm("NSGAII", new Properties(),
+						new MockRealProblem());
+		algorithm.step();
+		
+		Assert.assertNull(algorithm.getProfiler());
+	}
+
+}
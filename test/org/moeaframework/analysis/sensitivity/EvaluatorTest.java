@@ -0,0 +1,104 @@
+/* Copyright 2009-2018 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.analysis.sensitivity;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.moeaframework.TestUtils;
+
+/**
+ * Tests the {@link Evaluator} class.
+ */
+public class EvaluatorTest {
+	
+	/**
+	 * The parameter description file contents.
+	 */
+	private static final String PARAMETERS =
+			"populationSize 10 100\nmaxEvaluations 1000 2000";
+	
+	/**
+	 * The parameter sample file contents.
+	 */
+	private static final String SAMPLES = "20 1000\n50 1500\n30 1200\n" +
+			"100 1000\n10 2000\n40 1800\n";
+	
+	/**
+	 * Runs the evaluator, computing the metrics of each run.
+	 * 
+	 * @param samples the parameter sample file contents
+	 * @param output the output file
+	 * @param threads the number of threads
+	 * @throws Exception if an error occurred
+	 */
+	private void evaluate(String samples, File output, int threads)
+			throws Exception {
+		Evaluator.main(new String[] {
+				"-p", TestUtils.createTempFile(PARAMETERS).getPath(),
+				"-i", TestUtils.createTempFile(samples).getPath(),
+				"-o", output.getPath(),
+				"-a", "NSGAII",
+				"-b", "DTLZ2_2",
+				"-s", "1234",
+				"-t", Integer.toString(threads),
+				"-m",
+				"-f"});
+	}
+	
+	/**
+	 * Asserts that two files have identical contents.
+	 * 
+	 * @param expected the expected file
+	 * @param actual the actual file
+	 * @throws IOException if an I/O error occurred
+	 */
+	private void assertSameContents(File expected, File actual)
+			throws IOException {
+		Assert.assertArrayEquals(TestUtils.loadFile(expected),
+				TestUtils.loadFile(actual));
+	}
+	
+	@Test
+	public void testNumberOfThreads() throws Exception {
+		File output1 = TestUtils.createTempFile();
+		File output2 = TestUtils.createTempFile();
+		
+		evaluate(SAMPLES, output1, 2);
+		evaluate(SAMPLES, output2, 4);
+		
+		Assert.assertEquals(7, TestUtils.lineCount(output1));
+		assertSameContents(output1, output2);
+	}
+	
+	@Test
+	public void testResume() throws Exception {
+		File expected = TestUtils.createTempFile();
+		File actual = TestUtils.createTempFile();
+		
+		evaluate(SAMPLES, expected, 3);
+		evaluate(SAMPLES.substring(0, SAMPLES.indexOf("100 ")), actual, 3);
+		Assert.assertEquals(4, TestUtils.lineCount(actual));
+		
+		evaluate(SAMPLES, actual, 3);
+		assertSameContents(expected, actual);
+	}
+
+}
@@ -0,0 +1,215 @@
+/* Copyright 2009-2018 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.analysis.sensitivity;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.moeaframework.TestUtils;
+import org.moeaframework.core.PRNG;
+import org.moeaframework.util.sequence.Saltelli;
+
+/**
+ * Tests the {@link SobolSensitivity} class.
+ */
+public class SobolSensitivityTest {
+	
+	/**
+	 * Creates a model output file containing random values.
+	 * 
+	 * @param lines the number of lines
+	 * @return the model output file
+	 * @throws IOException if an I/O error occurred
+	 */
+	private File createOutputFile(int lines) throws IOException {
+		File file = TestUtils.createTempFile();
+		PrintWriter writer = null;
+		
+		try {
+			writer = new PrintWriter(file);
+			
+			for (int i = 0; i < lines; i++) {
+				writer.print(PRNG.nextDouble());
+				writer.print(' ');
+				writer.println(PRNG.nextDouble());
+			}
+		} finally {
+			if (writer != null) {
+				writer.close();
+			}
+		}
+		
+		return file;
+	}
+	
+	/**
+	 * Creates a model output file containing the Ishigami function evaluated
+	 * at the parameters generated by {@link Saltelli}, with each parameter
+	 * scaled to {@code [-pi, pi]}.
+	 * 
+	 * @param samples the number of samples
+	 * @return the model output file
+	 * @throws IOException if an I/O error occurred
+	 */
+	private File createIshigamiFile(int samples) throws IOException {
+		File file = TestUtils.createTempFile();
+		PrintWriter writer = null;
+		double[][] parameters = new Saltelli().generate(8*samples, 3);
+		
+		try {
+			writer = new PrintWriter(file);
+			
+			for (int i = 0; i < parameters.length; i++) {
+				double x1 = Math.PI * (2.0*parameters[i][0] - 1.0);
+				double x2 = Math.PI * (2.0*parameters[i][1] - 1.0);
+				double x3 = Math.PI * (2.0*parameters[i][2] - 1.0);
+				
+				writer.println(Math.sin(x1) + 7.0*Math.pow(Math.sin(x2), 2.0) +
+						0.1*Math.pow(x3, 4.0)*Math.sin(x1));
+			}
+		} finally {
+			if (writer != null) {
+				writer.close();
+			}
+		}
+		
+		return file;
+	}
+	
+	@Test
+	public void testLoad() throws IOException {
+		SobolSensitivity sensitivity = new SobolSensitivity(3);
+		sensitivity.load(createOutputFile(8*1000), 1);
+		
+		Assert.assertEquals(1000, sensitivity.getNumberOfSamples());
+		Assert.assertFalse(sensitivity.isIncomplete());
+	}
+	
+	@Test
+	public void testIncomplete() throws IOException {
+		SobolSensitivity sensitivity = new SobolSensitivity(3);
+		sensitivity.load(createOutputFile(8*10 + 5), 0);
+		
+		Assert.assertEquals(10, sensitivity.getNumberOfSamples());
+		Assert.assertTrue(sensitivity.isIncomplete());
+	}
+	
+	@Test
+	public void testMissingColumn() throws IOException {
+		SobolSensitivity sensitivity = new SobolSensitivity(3);
+		sensitivity.load(createOutputFile(8*10), 2);
+		
+		Assert.assertEquals(0, sensitivity.getNumberOfSamples());
+		Assert.assertFalse(sensitivity.isIncomplete());
+	}
+	
+	@Test
+	public void testNumberOfThreads() throws IOException {
+		File file = createOutputFile(8*500);
+		
+		SobolSensitivity serial = new SobolSensitivity(3);
+		serial.setResamples(200);
+		serial.load(file, 0);
+		
+		SobolSensitivity parallel = new SobolSensitivity(3);
+		parallel.setResamples(200);
+		parallel.setNumberOfThreads(4);
+		parallel.load(file, 0);
+		
+		Assert.assertArrayEquals(serial.getFirstOrder(),
+				parallel.getFirstOrder(), 0.0);
+		Assert.assertArrayEquals(serial.getTotalOrder(),
+				parallel.getTotalOrder(), 0.0);
+		
+		for (int j = 0; j < 3; j++) {
+			Assert.assertArrayEquals(serial.getSecondOrder()[j],
+					parallel.getSecondOrder()[j], 0.0);
+		}
+		
+		PRNG.setSeed(1234);
+		double[] expected = serial.getFirstOrderConfidence();
+		double[][] expectedSecondOrder = serial.getSecondOrderConfidence();
+		
+		PRNG.setSeed(1234);
+		Assert.assertArrayEquals(expected, parallel.getFirstOrderConfidence(),
+				0.0);
+		
+		double[][] actualSecondOrder = parallel.getSecondOrderConfidence();
+		
+		for (int j = 0; j < 3; j++) {
+			Assert.assertArrayEquals(expectedSecondOrder[j],
+					actualSecondOrder[j], 0.0);
+		}
+	}
+	
+	@Test
+	public void testSecondOrderSymmetric() throws IOException {
+		SobolSensitivity sensitivity = new SobolSensitivity(3);
+		sensitivity.load(createOutputFile(8*100), 0);
+		
+		double[][] secondOrder = sensitivity.getSecondOrder();
+		
+		for (int j = 0; j < 3; j++) {
+			Assert.assertEquals(0.0, secondOrder[j][j], 0.0);
+			
+			for (int k = 0; k < 3; k++) {
+				Assert.assertEquals(secondOrder[j][k], secondOrder[k][j], 0.0);
+			}
+		}
+	}
+	
+	/**
+	 * Tests the sensitivities of the Ishigami function against their analytic
+	 * values, as given in Saltelli et al. (2008), Global Sensitivity Analysis:
+	 * The Primer.
+	 */
+	@Test
+	public void testIshigami() throws IOException {
+		SobolSensitivity sensitivity = new SobolSensitivity(3);
+		sensitivity.load(createIshigamiFile(10000), 0);
+		
+		double[] firstOrder = sensitivity.getFirstOrder();
+		double[] totalOrder = sensitivity.getTotalOrder();
+		
+		Assert.assertEquals(0.3139, firstOrder[0], 0.02);
+		Assert.assertEquals(0.4424, firstOrder[1], 0.02);
+		Assert.assertEquals(0.0, firstOrder[2], 0.02);
+		Assert.assertEquals(0.5576, totalOrder[0], 0.02);
+		Assert.assertEquals(0.4424, totalOrder[1], 0.02);
+		Assert.assertEquals(0.2437, totalOrder[2], 0.02);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidNumberOfParameters() {
+		new SobolSensitivity(0);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidNumberOfThreads() {
+		new SobolSensitivity(3).setNumberOfThreads(0);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidResamples() {
+		new SobolSensitivity(3).setResamples(0);
+	}
+
+}
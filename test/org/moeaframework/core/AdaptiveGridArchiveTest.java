@@ -17,6 +17,9 @@
  */
 package org.moeaframework.core;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
@@ -132,7 +135,12 @@ public class AdaptiveGridArchiveTest {
 		archive.add(TestUtils.newSolution(0.6, 0.3));
 		archive.add(TestUtils.newSolution(0.8, 0.1));
 
-		Assert.assertArrayEquals(new int[] { 0, 3, 1, 0 }, archive.density);
+		Assert.assertEquals(0, archive.getDensity(0));
+		Assert.assertEquals(3, archive.getDensity(1));
+		Assert.assertEquals(1, archive.getDensity(2));
+		Assert.assertEquals(0, archive.getDensity(3));
+		Assert.assertEquals(2, archive.getNumberOfOccupiedCells());
+		Assert.assertEquals(3, archive.getMaximumDensity());
 		Assert.assertArrayEquals(new double[] { 0.0, 0.1 }, archive.minimum,
 				Settings.EPS);
 		Assert.assertArrayEquals(new double[] { 0.8, 1.0 }, archive.maximum,
@@ -153,12 +161,10 @@ public class AdaptiveGridArchiveTest {
 
 		Assert.assertEquals(1, archive.size());
 		
-		int index = archive.findIndex(archive.get(0));
-		
-		int[] expectedDensity = new int[4];
-		expectedDensity[index] = 1;
+		long index = archive.findIndex(archive.get(0));
 		
-		Assert.assertArrayEquals(expectedDensity, archive.density);
+		Assert.assertEquals(1, archive.getDensity(index));
+		Assert.assertEquals(1, archive.getNumberOfOccupiedCells());
 	}
 
 	/**
@@ -176,12 +182,10 @@ public class AdaptiveGridArchiveTest {
 
 		Assert.assertEquals(1, archive.size());
 		
-		int index = archive.findIndex(archive.get(0));
+		long index = archive.findIndex(archive.get(0));
 		
-		int[] expectedDensity = new int[4];
-		expectedDensity[index] = 1;
-		
-		Assert.assertArrayEquals(expectedDensity, archive.density);
+		Assert.assertEquals(1, archive.getDensity(index));
+		Assert.assertEquals(1, archive.getNumberOfOccupiedCells());
 	}
 
 	/**
@@ -199,21 +203,92 @@ public class AdaptiveGridArchiveTest {
 
 		Assert.assertEquals(1, archive.size());
 		
-		int index = archive.findIndex(archive.get(0));
+		long index = archive.findIndex(archive.get(0));
+		
+		Assert.assertEquals(1, archive.getDensity(index));
+		Assert.assertEquals(1, archive.getNumberOfOccupiedCells());
+	}
+	
+	/**
+	 * Tests if the densities maintained incrementally match the densities
+	 * counted from the members of the archive.
+	 */
+	@Test
+	public void testIncrementalUpdates() {
+		AdaptiveGridArchive archive = new AdaptiveGridArchive(50,
+				new ProblemStub(3), 4);
+		
+		for (int i = 0; i < 2000; i++) {
+			double x = PRNG.nextDouble();
+			double y = PRNG.nextDouble(0.0, 1.0 - x);
+			
+			archive.add(TestUtils.newSolution(x, y, 1.0 - x - y));
+			
+			if (PRNG.nextDouble() < 0.1) {
+				archive.remove(PRNG.nextInt(archive.size()));
+			}
+			
+			Map<Long, Integer> expected = new HashMap<Long, Integer>();
+			int maximumDensity = 0;
+			
+			for (Solution solution : archive) {
+				long index = archive.findIndex(solution);
+				Integer count = expected.get(index);
+				int density = count == null ? 1 : count + 1;
+				
+				expected.put(index, density);
+				maximumDensity = Math.max(maximumDensity, density);
+			}
+			
+			Assert.assertEquals(maximumDensity, archive.getMaximumDensity());
+			Assert.assertEquals(expected.size(),
+					archive.getNumberOfOccupiedCells());
+			
+			for (Map.Entry<Long, Integer> entry : expected.entrySet()) {
+				Assert.assertEquals(entry.getValue().intValue(),
+						archive.getDensity(entry.getKey()));
+			}
+		}
+		
+		Assert.assertTrue(archive.size() <= 50);
+	}
+	
+	/**
+	 * Tests if the archive supports many objectives, where the number of grid
+	 * cells exceeds the maximum length of arrays.
+	 */
+	@Test
+	public void testManyObjectives() {
+		AdaptiveGridArchive archive = new AdaptiveGridArchive(100,
+				new ProblemStub(10), 8);
 		
-		int[] expectedDensity = new int[4];
-		expectedDensity[index] = 1;
+		for (int i = 0; i < 1000; i++) {
+			double[] objectives = new double[10];
+			double sum = 0.0;
+			
+			for (int j = 0; j < 10; j++) {
+				objectives[j] = PRNG.nextDouble();
+				sum += objectives[j];
+			}
+			
+			for (int j = 0; j < 10; j++) {
+				objectives[j] /= sum;
+			}
+			
+			archive.add(new Solution(objectives));
+		}
 		
-		Assert.assertArrayEquals(expectedDensity, archive.density);
+		Assert.assertEquals(100, archive.size());
+		Assert.assertTrue(archive.getNumberOfOccupiedCells() <= 100);
 	}
 	
 	/**
-	 * Since the adaptive grid archive uses an array internally, we must prevent
-	 * the number of divisions exceeding the maximum length of arrays.
+	 * The grid cell index is stored in a {@code long}, so we must prevent the
+	 * number of grid cells exceeding the range of a {@code long}.
 	 */
 	@Test(expected=FrameworkException.class)
 	public void testOverflow() {
-		new AdaptiveGridArchive(100, new ProblemStub(4), 256);
+		new AdaptiveGridArchive(100, new ProblemStub(16), 256);
 	}
 
 }
@@ -21,6 +21,7 @@ import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
+import org.moeaframework.core.comparator.EpsilonBoxDominanceComparator;
 
 /**
  * Tests the {@link EpsilonBoxDominanceArchive} class.
@@ -138,4 +139,57 @@ public class EpsilonBoxDominanceArchiveTest {
 		Assert.assertEquals(2, archive.getNumberOfImprovements());
 	}
 
+	/**
+	 * Tests if the &epsilon;-box index produces the same archive as comparing
+	 * each candidate with every member, including infeasible candidates and
+	 * removals.
+	 */
+	@Test
+	public void testIndexMatchesLinearScan() {
+		double[] epsilons = new double[] { 0.01, 0.02, 0.05 };
+		EpsilonBoxDominanceArchive indexed =
+				new EpsilonBoxDominanceArchive(epsilons);
+		
+		// a comparator subclass disables the index
+		EpsilonBoxDominanceArchive linear = new EpsilonBoxDominanceArchive(
+				new EpsilonBoxDominanceComparator(epsilons) {
+
+					private static final long serialVersionUID =
+							-1437146393069565743L;
+
+				});
+		
+		for (int i = 0; i < 20000; i++) {
+			Solution solution = new Solution(0, 3, 1);
+			double x = PRNG.nextDouble();
+			double y = PRNG.nextDouble(0.0, 1.0 - x);
+			
+			solution.setObjectives(new double[] { x + PRNG.nextDouble(0.0, 0.1),
+					y + PRNG.nextDouble(0.0, 0.1), 1.0 - x - y });
+			
+			if (i < 5000 && PRNG.nextDouble() < 0.5) {
+				solution.setConstraint(0, PRNG.nextInt(3));
+			}
+			
+			Assert.assertEquals(linear.add(solution),
+					indexed.add(solution));
+			
+			if (PRNG.nextDouble() < 0.01) {
+				int index = PRNG.nextInt(linear.size());
+				linear.remove(index);
+				indexed.remove(index);
+			}
+		}
+		
+		Assert.assertEquals(linear.size(), indexed.size());
+		Assert.assertEquals(linear.getNumberOfImprovements(),
+				indexed.getNumberOfImprovements());
+		Assert.assertEquals(linear.getNumberOfDominatingImprovements(),
+				indexed.getNumberOfDominatingImprovements());
+		
+		for (int i = 0; i < linear.size(); i++) {
+			Assert.assertSame(linear.get(i), indexed.get(i));
+		}
+	}
+
 }
@@ -160,6 +160,34 @@ public class NondominatedSortingPopulationTest {
 		Assert.assertEquals(1, population.getNumberOfUpdates());
 	}
 	
+	/**
+	 * Tests if {@code truncate} retains the same solutions, in the same order,
+	 * as sorting with {@link NondominatedSortingComparator}.
+	 */
+	@Test
+	public void testTruncateMatchesComparator() {
+		for (int k = 0; k < 100; k++) {
+			NondominatedSortingPopulation population = 
+					new NondominatedSortingPopulation();
+			
+			for (int i = 0; i < 50; i++) {
+				population.add(new Solution(new double[] { PRNG.nextInt(10),
+						PRNG.nextInt(10) }));
+			}
+			
+			int size = PRNG.nextInt(60);
+			Population expected = new Population(population);
+			expected.truncate(size, new NondominatedSortingComparator());
+			population.truncate(size);
+			
+			Assert.assertEquals(expected.size(), population.size());
+			
+			for (int i = 0; i < expected.size(); i++) {
+				Assert.assertSame(expected.get(i), population.get(i));
+			}
+		}
+	}
+	
 	@Test
 	public void testPruning() {
 		TestNondominatedSortingPopulation population = 
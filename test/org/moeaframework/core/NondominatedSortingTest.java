@@ -20,10 +20,16 @@ package org.moeaframework.core;
 import static org.moeaframework.core.FastNondominatedSorting.CROWDING_ATTRIBUTE;
 import static org.moeaframework.core.FastNondominatedSorting.RANK_ATTRIBUTE;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
+import org.moeaframework.core.comparator.ObjectiveComparator;
 
 /**
  * Tests the {@link NondominatedSorting} class.
@@ -175,6 +181,99 @@ public class NondominatedSortingTest {
 		Assert.assertTrue(Double.isInfinite(getCrowding(solution3)));
 	}
 	
+	/**
+	 * Tests if the crowding distances match sorting the front with
+	 * {@link ObjectiveComparator}, including duplicate solutions and ties.
+	 */
+	@Test
+	public void testCrowdingMatchesObjectiveComparator() {
+		for (int k = 0; k < 100; k++) {
+			int N = PRNG.nextInt(1, 30);
+			population.clear();
+			
+			for (int i = 0; i < N; i++) {
+				population.add(new Solution(new double[] { PRNG.nextInt(5),
+						PRNG.nextInt(5), PRNG.nextInt(5) }));
+			}
+			
+			double[] expected = getExpectedCrowding(population);
+			sorting.updateCrowdingDistance(population);
+			
+			for (int i = 0; i < population.size(); i++) {
+				Assert.assertEquals(expected[i],
+						getCrowding(population.get(i)), 0.0);
+			}
+		}
+	}
+	
+	/**
+	 * Returns the crowding distances computed by sorting the front with
+	 * {@link ObjectiveComparator}.
+	 * 
+	 * @param front the front
+	 * @return the crowding distance of each solution in the front
+	 */
+	private double[] getExpectedCrowding(final Population front) {
+		double[] expected = new double[front.size()];
+		List<Integer> unique = new ArrayList<Integer>();
+		
+		for (int i = 0; i < front.size(); i++) {
+			boolean isDuplicate = false;
+			
+			for (int j : unique) {
+				if (NondominatedPopulation.distance(front.get(i),
+						front.get(j)) < Settings.EPS) {
+					isDuplicate = true;
+				}
+			}
+			
+			if (!isDuplicate) {
+				unique.add(i);
+			}
+		}
+		
+		int n = unique.size();
+		
+		if (n < 3) {
+			for (int i : unique) {
+				expected[i] = Double.POSITIVE_INFINITY;
+			}
+			
+			return expected;
+		}
+		
+		for (int i = 0; i < front.get(0).getNumberOfObjectives(); i++) {
+			final ObjectiveComparator comparator = new ObjectiveComparator(i);
+			
+			Collections.sort(unique, new Comparator<Integer>() {
+
+				@Override
+				public int compare(Integer index1, Integer index2) {
+					return comparator.compare(front.get(index1),
+							front.get(index2));
+				}
+				
+			});
+			
+			double min = front.get(unique.get(0)).getObjective(i);
+			double max = front.get(unique.get(n - 1)).getObjective(i);
+			
+			if (max - min >= Settings.EPS) {
+				expected[unique.get(0)] = Double.POSITIVE_INFINITY;
+				expected[unique.get(n - 1)] = Double.POSITIVE_INFINITY;
+				
+				for (int j = 1; j < n - 1; j++) {
+					expected[unique.get(j)] +=
+							(front.get(unique.get(j + 1)).getObjective(i) -
+							front.get(unique.get(j - 1)).getObjective(i)) /
+							(max - min);
+				}
+			}
+		}
+		
+		return expected;
+	}
+	
 	private void assertHasAttributes(Population population) {
 		for (Solution solution : population) {
 			Assert.assertTrue(solution.hasAttribute(RANK_ATTRIBUTE));
@@ -21,8 +21,10 @@ import org.junit.Assert;
 import org.junit.Test;
 import org.moeaframework.TestUtils;
 import org.moeaframework.core.FitnessEvaluator;
+import org.moeaframework.core.PRNG;
 import org.moeaframework.core.Population;
 import org.moeaframework.core.Problem;
+import org.moeaframework.core.comparator.FitnessComparator;
 import org.moeaframework.problem.MockRealProblem;
 
 /**
@@ -68,4 +70,101 @@ public class IndicatorFitnessEvaluatorTest {
 		}
 	}
 
+	
+	/**
+	 * Tests if {@code truncate()} removes the same solutions and produces the
+	 * same fitness values as repeatedly removing the worst solution with
+	 * {@code removeAndUpdate()}.
+	 */
+	@Test
+	public void testTruncate() {
+		Problem problem = new MockRealProblem();
+		
+		for (int threads = 1; threads <= 4; threads += 3) {
+			HypervolumeFitnessEvaluator evaluator1 =
+					new HypervolumeFitnessEvaluator(problem);
+			AdditiveEpsilonIndicatorFitnessEvaluator evaluator2 =
+					new AdditiveEpsilonIndicatorFitnessEvaluator(problem);
+			
+			evaluator1.setNumberOfThreads(threads);
+			evaluator2.setNumberOfThreads(threads);
+			
+			testTruncate(problem, evaluator1);
+			testTruncate(problem, evaluator2);
+		}
+	}
+	
+	/**
+	 * Tests if {@code truncate()} matches repeated calls to
+	 * {@code removeAndUpdate()} on a random population containing duplicate
+	 * solutions.
+	 * 
+	 * @param problem the problem
+	 * @param evaluator the indicator fitness evaluator
+	 */
+	private void testTruncate(Problem problem,
+			IndicatorFitnessEvaluator evaluator) {
+		FitnessComparator comparator = new FitnessComparator(
+				evaluator.areLargerValuesPreferred());
+		Population population = new Population();
+		
+		for (int i = 0; i < 50; i++) {
+			population.add(TestUtils.newSolution(PRNG.nextDouble(),
+					PRNG.nextDouble()));
+		}
+		
+		for (int i = 0; i < 10; i++) {
+			population.add(population.get(PRNG.nextInt(50)).copy());
+		}
+		
+		Population expected = new Population();
+		
+		for (int i = 0; i < population.size(); i++) {
+			population.get(i).setAttribute("id", i);
+			expected.add(population.get(i).deepCopy());
+		}
+		
+		evaluator.evaluate(expected);
+		
+		while (expected.size() > 20) {
+			int worstIndex = 0;
+			
+			for (int i = 1; i < expected.size(); i++) {
+				if (comparator.compare(expected.get(worstIndex),
+						expected.get(i)) == -1) {
+					worstIndex = i;
+				}
+			}
+			
+			evaluator.removeAndUpdate(expected, worstIndex);
+		}
+		
+		evaluator.evaluate(population);
+		evaluator.truncate(population, 20);
+		
+		Assert.assertEquals(20, population.size());
+		
+		for (int i = 0; i < population.size(); i++) {
+			Assert.assertEquals(expected.get(i).getAttribute("id"),
+					population.get(i).getAttribute("id"));
+			Assert.assertEquals(
+					(Double)expected.get(i).getAttribute(FitnessEvaluator.FITNESS_ATTRIBUTE),
+					(Double)population.get(i).getAttribute(FitnessEvaluator.FITNESS_ATTRIBUTE),
+					0.0);
+		}
+		
+		// further truncation continues from the updated fitness values
+		evaluator.truncate(population, 25);
+		Assert.assertEquals(20, population.size());
+		
+		evaluator.truncate(population, 10);
+		Assert.assertEquals(10, population.size());
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidNumberOfThreads() {
+		new HypervolumeFitnessEvaluator(new MockRealProblem())
+				.setNumberOfThreads(0);
+	}
+
 }
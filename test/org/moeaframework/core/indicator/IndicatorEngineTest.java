@@ -0,0 +1,128 @@
+/* Copyright 2009-2018 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core.indicator;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.moeaframework.TestUtils;
+import org.moeaframework.core.Indicator;
+import org.moeaframework.core.NondominatedPopulation;
+import org.moeaframework.core.PRNG;
+import org.moeaframework.core.PopulationIO;
+import org.moeaframework.core.Problem;
+import org.moeaframework.problem.DTLZ.DTLZ2;
+
+/**
+ * Tests the {@link IndicatorEngine} class.
+ */
+public class IndicatorEngineTest {
+	
+	private Problem problem;
+	
+	private NondominatedPopulation referenceSet;
+	
+	private List<Indicator> indicators;
+	
+	private List<NondominatedPopulation> approximationSets;
+	
+	@Before
+	public void setUp() throws IOException {
+		problem = new DTLZ2(2);
+		referenceSet = new NondominatedPopulation(PopulationIO.readObjectives(
+				new File("./pf/DTLZ2.2D.pf")));
+		
+		indicators = new ArrayList<Indicator>();
+		indicators.add(new Hypervolume(problem, referenceSet));
+		indicators.add(new GenerationalDistance(problem, referenceSet));
+		indicators.add(new InvertedGenerationalDistance(problem, referenceSet));
+		indicators.add(new AdditiveEpsilonIndicator(problem, referenceSet));
+		indicators.add(new MaximumParetoFrontError(problem, referenceSet));
+		indicators.add(new Spacing(problem));
+		indicators.add(new Contribution(referenceSet));
+		indicators.add(new R1Indicator(problem, 50, referenceSet));
+		indicators.add(new R2Indicator(problem, 50, referenceSet));
+		indicators.add(new R3Indicator(problem, 50, referenceSet));
+		
+		approximationSets = new ArrayList<NondominatedPopulation>();
+		
+		for (int i = 0; i < 20; i++) {
+			NondominatedPopulation set = new NondominatedPopulation();
+			
+			for (int j = 0; j < 20; j++) {
+				double angle = PRNG.nextDouble(0.0, Math.PI / 2.0);
+				double radius = PRNG.nextDouble(1.0, 1.2);
+				
+				set.add(TestUtils.newSolution(radius * Math.cos(angle),
+						radius * Math.sin(angle)));
+			}
+			
+			approximationSets.add(set);
+		}
+	}
+	
+	@Test
+	public void testEvaluate() {
+		IndicatorEngine engine = new IndicatorEngine(indicators);
+		
+		for (NondominatedPopulation set : approximationSets) {
+			double[] values = engine.evaluate(set);
+			
+			for (int i = 0; i < indicators.size(); i++) {
+				Assert.assertEquals(indicators.get(i).evaluate(set), values[i],
+						0.0);
+			}
+		}
+	}
+	
+	@Test
+	public void testEvaluateAll() {
+		IndicatorEngine engine = new IndicatorEngine(indicators);
+		engine.setNumberOfThreads(4);
+		
+		double[][] values = engine.evaluateAll(approximationSets);
+		
+		Assert.assertEquals(approximationSets.size(), values.length);
+		
+		for (int i = 0; i < approximationSets.size(); i++) {
+			Assert.assertArrayEquals(engine.evaluate(approximationSets.get(i)),
+					values[i], 0.0);
+		}
+	}
+	
+	@Test
+	public void testNormalizerEquivalence() {
+		Normalizer normalizer1 = new Normalizer(problem, referenceSet);
+		Normalizer normalizer2 = new Normalizer(problem, referenceSet);
+		Normalizer normalizer3 = new Normalizer(problem, referenceSet, 0.1);
+		
+		Assert.assertTrue(normalizer1.isEquivalent(normalizer2));
+		Assert.assertFalse(normalizer1.isEquivalent(normalizer3));
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidNumberOfThreads() {
+		new IndicatorEngine(indicators).setNumberOfThreads(0);
+	}
+
+}
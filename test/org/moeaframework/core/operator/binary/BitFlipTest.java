@@ -71,6 +71,35 @@ public class BitFlipTest {
 				TestThresholds.VARIATION_EPS);
 	}
 
+	/**
+	 * Tests if probabilities too small to represent {@code 1 - probability}
+	 * do not flip any bits.
+	 */
+	@Test
+	public void testTinyProbabilities() {
+		testTinyProbability(1e-17);
+		testTinyProbability(1e-300);
+		testTinyProbability(Double.MIN_VALUE);
+	}
+	
+	/**
+	 * Tests if no bits are flipped given the specified tiny probability.
+	 * 
+	 * @param probability the probability of flipping a bit
+	 */
+	private void testTinyProbability(double probability) {
+		BitFlip bf = new BitFlip(probability);
+		Solution solution = new Solution(1, 0);
+		solution.setVariable(0, new BinaryVariable(100));
+
+		for (int i = 0; i < TestThresholds.SAMPLES; i++) {
+			Solution[] offspring = bf.evolve(new Solution[] { solution });
+			BinaryVariable mutated = (BinaryVariable)offspring[0].getVariable(0);
+			
+			Assert.assertEquals(0, mutated.cardinality());
+		}
+	}
+
 	/**
 	 * Tests if the parents remain unchanged during variation.
 	 */
@@ -17,16 +17,20 @@
  */
 package org.moeaframework.core.operator.real;
 
+import org.junit.Assert;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.moeaframework.RetryOnTravis;
 import org.moeaframework.TestThresholds;
 import org.moeaframework.TravisRunner;
+import org.moeaframework.core.PRNG;
 import org.moeaframework.core.Solution;
 import org.moeaframework.core.operator.MeanCentricVariationTest;
 import org.moeaframework.core.operator.ParentImmutabilityTest;
 import org.moeaframework.core.operator.TypeSafetyTest;
+import org.moeaframework.core.variable.EncodingUtils;
 import org.moeaframework.core.variable.RealVariable;
+import org.moeaframework.core.variable.RealVectorVariable;
 
 @RunWith(TravisRunner.class)
 public class PMTest extends MeanCentricVariationTest {
@@ -72,4 +76,30 @@ public class PMTest extends MeanCentricVariationTest {
 		ParentImmutabilityTest.test(parents, pm);
 	}
 
+	/**
+	 * Tests if a {@link RealVectorVariable} produces the same offspring as
+	 * the equivalent sequence of {@link RealVariable}s.
+	 */
+	@Test
+	public void testRealVector() {
+		PM pm = new PM(0.5, 20.0);
+		Solution scalar = new Solution(10, 0);
+		Solution vector = new Solution(1, 0);
+		
+		for (int j = 0; j < 10; j++) {
+			scalar.setVariable(j, new RealVariable(-1.0, 1.0));
+			scalar.getVariable(j).randomize();
+		}
+		
+		vector.setVariable(0, EncodingUtils.newRealVector(10, -1.0, 1.0));
+		EncodingUtils.setReal(vector, EncodingUtils.getReal(scalar));
+		
+		PRNG.setSeed(1234);
+		Solution expected = pm.evolve(new Solution[] { scalar })[0];
+		PRNG.setSeed(1234);
+		Solution actual = pm.evolve(new Solution[] { vector })[0];
+		
+		Assert.assertArrayEquals(EncodingUtils.getReal(expected),
+				EncodingUtils.getReal(actual), 0.0);
+	}
 }
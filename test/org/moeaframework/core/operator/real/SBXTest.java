@@ -19,6 +19,7 @@ package org.moeaframework.core.operator.real;
 
 import java.util.Random;
 
+import org.junit.Assert;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.moeaframework.RetryOnTravis;
@@ -29,7 +30,9 @@ import org.moeaframework.core.Solution;
 import org.moeaframework.core.operator.ParentCentricVariationTest;
 import org.moeaframework.core.operator.ParentImmutabilityTest;
 import org.moeaframework.core.operator.TypeSafetyTest;
+import org.moeaframework.core.variable.EncodingUtils;
 import org.moeaframework.core.variable.RealVariable;
+import org.moeaframework.core.variable.RealVectorVariable;
 
 @RunWith(TravisRunner.class)
 public class SBXTest extends ParentCentricVariationTest {
@@ -157,4 +160,43 @@ public class SBXTest extends ParentCentricVariationTest {
 		PRNG.setRandom(originalRandom);
 	}
 
+	/**
+	 * Tests if a {@link RealVectorVariable} produces the same offspring as
+	 * the equivalent sequence of {@link RealVariable}s.
+	 */
+	@Test
+	public void testRealVector() {
+		for (boolean symmetric : new boolean[] { false, true }) {
+			SBX sbx = new SBX(1.0, 20.0, true, symmetric);
+			Solution[] scalars = new Solution[] { new Solution(10, 0),
+					new Solution(10, 0) };
+			Solution[] vectors = new Solution[] { new Solution(1, 0),
+					new Solution(1, 0) };
+	
+			for (int i = 0; i < 2; i++) {
+				for (int j = 0; j < 10; j++) {
+					scalars[i].setVariable(j, new RealVariable(0.0, 1.0));
+				}
+				
+				vectors[i].setVariable(0, new RealVectorVariable(10, 0.0, 1.0));
+				
+				for (int j = 0; j < 10; j++) {
+					scalars[i].getVariable(j).randomize();
+				}
+				
+				EncodingUtils.setReal(vectors[i],
+						EncodingUtils.getReal(scalars[i]));
+			}
+	
+			PRNG.setSeed(1234);
+			Solution[] expected = sbx.evolve(scalars);
+			PRNG.setSeed(1234);
+			Solution[] actual = sbx.evolve(vectors);
+	
+			for (int i = 0; i < 2; i++) {
+				Assert.assertArrayEquals(EncodingUtils.getReal(expected[i]),
+						EncodingUtils.getReal(actual[i]), 0.0);
+			}
+		}
+	}
 }
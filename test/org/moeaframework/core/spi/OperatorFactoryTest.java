@@ -29,10 +29,14 @@ import org.moeaframework.core.Solution;
 import org.moeaframework.core.Variable;
 import org.moeaframework.core.Variation;
 import org.moeaframework.core.operator.RandomInitialization;
+import org.moeaframework.core.operator.StandardOperators;
+import org.moeaframework.core.operator.real.PM;
+import org.moeaframework.core.operator.real.UM;
 import org.moeaframework.core.variable.BinaryVariable;
 import org.moeaframework.core.variable.Grammar;
 import org.moeaframework.core.variable.Permutation;
 import org.moeaframework.core.variable.RealVariable;
+import org.moeaframework.problem.MockRealVectorProblem;
 
 /**
  * Tests the {@link OperatorFactory} class.
@@ -66,6 +70,10 @@ public class OperatorFactoryTest {
 	}
 	
 	private void test(Variation variation) {
+		test(problem, variation);
+	}
+	
+	private void test(Problem problem, Variation variation) {
 		RandomInitialization initialization = new RandomInitialization(problem, 
 				variation.getArity());
 		Solution[] parents = initialization.initialize();
@@ -91,6 +99,32 @@ public class OperatorFactoryTest {
 				new Properties(), problem));
 	}
 	
+	@Test
+	public void testDefaultRealVector() {
+		Problem problem = new MockRealVectorProblem();
+		
+		Assert.assertEquals("sbx+pm",
+				new StandardOperators().getVariationHint(problem));
+		Assert.assertEquals("pm",
+				new StandardOperators().getMutationHint(problem));
+		
+		test(problem, OperatorFactory.getInstance().getVariation(null, 
+				new Properties(), problem));
+	}
+	
+	@Test
+	public void testRealVectorMutationRate() {
+		Problem problem = new MockRealVectorProblem();
+		
+		// the default rate is based on the number of elements
+		Assert.assertEquals(1.0 / 11.0, ((PM)OperatorFactory.getInstance()
+				.getVariation("pm", new Properties(), problem))
+				.getProbability(), 0.0);
+		Assert.assertEquals(1.0 / 11.0, ((UM)OperatorFactory.getInstance()
+				.getVariation("um", new Properties(), problem))
+				.getProbability(), 0.0);
+	}
+	
 	@Test
 	public void testDefaultBinary() {
 		Problem problem = new ProblemStub(1) {
@@ -17,6 +17,11 @@
  */
 package org.moeaframework.core.variable;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.BitSet;
 
 import org.junit.After;
@@ -179,4 +184,60 @@ public class BinaryVariableTest {
 		b1.hammingDistance(b2);
 	}
 
+	@Test
+	public void testWordBoundaries() {
+		BinaryVariable variable = new BinaryVariable(130);
+		
+		variable.set(63, true);
+		variable.set(64, true);
+		variable.flip(129);
+		variable.flip(0);
+		variable.flip(0);
+		
+		Assert.assertEquals(3, variable.getWords().length);
+		Assert.assertEquals(3, variable.cardinality());
+		Assert.assertTrue(variable.get(63));
+		Assert.assertTrue(variable.get(64));
+		Assert.assertTrue(variable.get(129));
+		Assert.assertFalse(variable.get(0));
+		Assert.assertEquals(3L, variable.getLastWordMask());
+		
+		BitSet bitSet = variable.getBitSet();
+		Assert.assertEquals(3, bitSet.cardinality());
+		Assert.assertTrue(bitSet.get(129));
+		
+		variable.set(64, false);
+		Assert.assertEquals(2, variable.cardinality());
+	}
+	
+	@Test
+	public void testRandomize() {
+		BinaryVariable variable = new BinaryVariable(70);
+		
+		for (int i = 0; i < 100; i++) {
+			variable.randomize();
+			Assert.assertEquals(0L, variable.getWords()[1] & 
+					~variable.getLastWordMask());
+		}
+	}
+	
+	@Test
+	public void testSerialization() throws IOException,
+			ClassNotFoundException {
+		BinaryVariable variable = new BinaryVariable(100);
+		variable.randomize();
+		
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		ObjectOutputStream oos = new ObjectOutputStream(baos);
+		oos.writeObject(variable);
+		oos.close();
+		
+		ObjectInputStream ois = new ObjectInputStream(
+				new ByteArrayInputStream(baos.toByteArray()));
+		BinaryVariable copy = (BinaryVariable)ois.readObject();
+		ois.close();
+		
+		Assert.assertEquals(variable, copy);
+		Assert.assertEquals(variable.toString(), copy.toString());
+	}
 }
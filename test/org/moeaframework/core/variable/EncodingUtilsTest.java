@@ -645,4 +645,26 @@ public class EncodingUtilsTest {
 		EncodingUtils.setSubset(subset, bitSet);
 	}
 
+	@Test
+	public void testMultiWordGrayConversion() {
+		BinaryVariable variable = new BinaryVariable(150);
+		
+		for (int k = 0; k < 100; k++) {
+			variable.randomize();
+			
+			BinaryVariable gray = variable.copy();
+			EncodingUtils.binaryToGray(gray);
+			
+			// compare against the bitwise definition of the gray code
+			for (int i = 0; i < 149; i++) {
+				Assert.assertEquals(variable.get(i + 1) ^ variable.get(i),
+						gray.get(i));
+			}
+			
+			Assert.assertEquals(variable.get(149), gray.get(149));
+			
+			EncodingUtils.grayToBinary(gray);
+			Assert.assertEquals(variable, gray);
+		}
+	}
 }
@@ -0,0 +1,155 @@
+/* Copyright 2009-2018 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core.variable;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.moeaframework.core.Settings;
+import org.moeaframework.core.Solution;
+
+/**
+ * Tests the {@link RealVectorVariable} class.
+ */
+public class RealVectorVariableTest {
+
+	private RealVectorVariable value;
+
+	@Before
+	public void setUp() {
+		value = new RealVectorVariable(new double[] { 0.0, -1.0 },
+				new double[] { 1.0, 1.0 });
+		value.setValues(new double[] { 0.5, -0.5 });
+	}
+
+	/**
+	 * Removes references to shared objects so they can be garbage collected.
+	 */
+	@After
+	public void tearDown() {
+		value = null;
+	}
+	
+	@Test
+	public void testEmptyConstructor() {
+		RealVectorVariable variable = new RealVectorVariable(3, 0.0, 1.0);
+		
+		Assert.assertEquals(3, variable.size());
+		Assert.assertTrue(Double.isNaN(variable.getValue(2)));
+		Assert.assertEquals(1.0, variable.getUpperBound(2), Settings.EPS);
+	}
+
+	@Test
+	public void testGetValue() {
+		Assert.assertEquals(2, value.size());
+		Assert.assertEquals(-0.5, value.getValue(1), Settings.EPS);
+		Assert.assertEquals(-1.0, value.getLowerBound(1), Settings.EPS);
+		Assert.assertEquals(1.0, value.getUpperBound(1), Settings.EPS);
+		Assert.assertArrayEquals(new double[] { 0.5, -0.5 },
+				value.getValues(), Settings.EPS);
+	}
+
+	@Test
+	public void testSetValue() {
+		value.setValue(0, 0.75);
+		Assert.assertEquals(0.75, value.getValue(0), Settings.EPS);
+		
+		// the backing array is not copied
+		value.getValues()[1] = 0.25;
+		Assert.assertEquals(0.25, value.getValue(1), Settings.EPS);
+	}
+
+	@Test
+	public void testEquals() {
+		RealVectorVariable other = value.copy();
+		
+		Assert.assertFalse(value.equals(null));
+		Assert.assertTrue(value.equals(value));
+		Assert.assertTrue(value.equals(other));
+		Assert.assertEquals(value.hashCode(), other.hashCode());
+		
+		other.setValue(0, 0.75);
+		Assert.assertFalse(value.equals(other));
+		Assert.assertFalse(value.equals(new RealVectorVariable(2, 0.0, 1.0)));
+	}
+
+	@Test
+	public void testCopy() {
+		RealVectorVariable copy = value.copy();
+		Assert.assertTrue(copy.equals(value));
+		Assert.assertNotSame(value.getValues(), copy.getValues());
+		Assert.assertSame(value.getLowerBounds(), copy.getLowerBounds());
+
+		copy.setValue(0, 0.75);
+		Assert.assertEquals(0.5, value.getValue(0), Settings.EPS);
+	}
+	
+	@Test
+	public void testRandomize() {
+		for (int i = 0; i < 100; i++) {
+			value.randomize();
+			
+			Assert.assertTrue(value.getValue(0) >= 0.0);
+			Assert.assertTrue(value.getValue(0) <= 1.0);
+			Assert.assertTrue(value.getValue(1) >= -1.0);
+			Assert.assertTrue(value.getValue(1) <= 1.0);
+		}
+	}
+	
+	@Test
+	public void testEncodingUtils() {
+		Solution solution = new Solution(3, 0);
+		solution.setVariable(0, new RealVariable(0.25, 0.0, 1.0));
+		solution.setVariable(1, value);
+		solution.setVariable(2, EncodingUtils.newRealVector(1, 0.0, 2.0));
+		
+		Assert.assertEquals(4, EncodingUtils.getNumberOfReals(solution));
+		Assert.assertArrayEquals(new double[] { 0.0, 0.0, -1.0, 0.0 },
+				EncodingUtils.getLowerBounds(solution), Settings.EPS);
+		Assert.assertArrayEquals(new double[] { 1.0, 1.0, 1.0, 2.0 },
+				EncodingUtils.getUpperBounds(solution), Settings.EPS);
+		
+		EncodingUtils.setReal(solution, new double[] { 0.1, 0.2, 0.3, 1.5 });
+		
+		Assert.assertArrayEquals(new double[] { 0.1, 0.2, 0.3, 1.5 },
+				EncodingUtils.getReal(solution), Settings.EPS);
+		Assert.assertArrayEquals(new double[] { 0.2, 0.3 },
+				EncodingUtils.getReal(solution, 1, 2), Settings.EPS);
+		Assert.assertEquals(0.3, value.getValue(1), Settings.EPS);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testEncodingUtilsLengthCheck() {
+		Solution solution = new Solution(1, 0);
+		solution.setVariable(0, value);
+		
+		EncodingUtils.setReal(solution, new double[] { 0.1 });
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testSetValueBoundsCheckLower() {
+		value.setValue(1, value.getLowerBound(1) - Settings.EPS);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testSetValueBoundsCheckUpper() {
+		value.setValue(0, value.getUpperBound(0) + Settings.EPS);
+	}
+
+}
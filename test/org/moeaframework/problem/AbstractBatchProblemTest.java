@@ -0,0 +1,136 @@
+/* Copyright 2009-2018 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.problem;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.moeaframework.core.Problem;
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.spi.ProblemFactory;
+import org.moeaframework.core.variable.EncodingUtils;
+import org.moeaframework.problem.CDTLZ.C3_DTLZ4;
+
+/**
+ * Tests the {@link AbstractBatchProblem} class.
+ */
+public class AbstractBatchProblemTest {
+	
+	/**
+	 * The number of solutions evaluated in each batch.
+	 */
+	private static final int N = 100;
+
+	@Test
+	public void testZDT() {
+		test(ProblemFactory.getInstance().getProblem("ZDT1"));
+		test(ProblemFactory.getInstance().getProblem("ZDT6"));
+	}
+	
+	@Test
+	public void testDTLZ() {
+		test(ProblemFactory.getInstance().getProblem("DTLZ2_3"));
+		test(ProblemFactory.getInstance().getProblem("DTLZ7_5"));
+		test(new C3_DTLZ4(3));
+	}
+	
+	@Test
+	public void testWFG() {
+		for (int i = 1; i <= 9; i++) {
+			test(ProblemFactory.getInstance().getProblem("WFG" + i + "_3"));
+		}
+	}
+	
+	@Test
+	public void testCEC2009() {
+		test(ProblemFactory.getInstance().getProblem("UF1"));
+		test(ProblemFactory.getInstance().getProblem("UF11"));
+		test(ProblemFactory.getInstance().getProblem("UF13"));
+		test(ProblemFactory.getInstance().getProblem("CF6"));
+	}
+	
+	@Test
+	public void testLZ() {
+		test(ProblemFactory.getInstance().getProblem("LZ5"));
+		test(ProblemFactory.getInstance().getProblem("LZ6"));
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testMismatchedRows() {
+		BatchProblem problem = (BatchProblem)ProblemFactory.getInstance()
+				.getProblem("DTLZ2_2");
+		
+		problem.evaluate(new double[2][problem.getNumberOfVariables()],
+				new double[1][problem.getNumberOfObjectives()], null);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testMissingConstraints() {
+		BatchProblem problem = (BatchProblem)ProblemFactory.getInstance()
+				.getProblem("CF1");
+		
+		problem.evaluate(new double[1][problem.getNumberOfVariables()],
+				new double[1][problem.getNumberOfObjectives()], null);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidNumberOfVariables() {
+		BatchProblem problem = (BatchProblem)ProblemFactory.getInstance()
+				.getProblem("DTLZ2_2");
+		
+		problem.evaluate(new double[1][problem.getNumberOfVariables() - 1],
+				new double[1][problem.getNumberOfObjectives()], null);
+	}
+	
+	/**
+	 * Asserts that evaluating random solutions as a batch produces identical
+	 * results to evaluating each solution individually.
+	 * 
+	 * @param problem the problem being tested
+	 */
+	private void test(Problem problem) {
+		Assert.assertTrue(problem instanceof BatchProblem);
+		
+		Solution[] solutions = new Solution[N];
+		double[][] variables = new double[N][];
+		double[][] objectives =
+				new double[N][problem.getNumberOfObjectives()];
+		double[][] constraints =
+				new double[N][problem.getNumberOfConstraints()];
+		
+		for (int i = 0; i < N; i++) {
+			solutions[i] = problem.newSolution();
+			
+			for (int j = 0; j < solutions[i].getNumberOfVariables(); j++) {
+				solutions[i].getVariable(j).randomize();
+			}
+			
+			variables[i] = EncodingUtils.getReal(solutions[i]);
+			problem.evaluate(solutions[i]);
+		}
+		
+		((BatchProblem)problem).evaluate(variables, objectives, constraints);
+		
+		for (int i = 0; i < N; i++) {
+			Assert.assertArrayEquals(solutions[i].getObjectives(),
+					objectives[i], 0.0);
+			Assert.assertArrayEquals(solutions[i].getConstraints(),
+					constraints[i], 0.0);
+		}
+	}
+
+}
@@ -0,0 +1,165 @@
+/* Copyright 2009-2018 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.problem;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.moeaframework.Executor;
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.variable.BinaryVariable;
+
+/**
+ * Tests the {@link CachingProblem} class.
+ */
+public class CachingProblemTest {
+	
+	/**
+	 * Counts the number of evaluations reaching the decorated problem.
+	 */
+	private static class CountingProblem extends MockBinaryProblem {
+		
+		private int count;
+
+		@Override
+		public synchronized void evaluate(Solution solution) {
+			count++;
+			super.evaluate(solution);
+		}
+		
+	}
+	
+	private Solution newSolution(CachingProblem problem, int bits) {
+		Solution solution = problem.newSolution();
+		BinaryVariable variable = (BinaryVariable)solution.getVariable(0);
+		
+		for (int i = 0; i < bits; i++) {
+			variable.set(i, true);
+		}
+		
+		return solution;
+	}
+	
+	@Test
+	public void testHitsAndMisses() {
+		CountingProblem counter = new CountingProblem();
+		CachingProblem problem = new CachingProblem(counter);
+		
+		Solution solution1 = newSolution(problem, 3);
+		Solution solution2 = newSolution(problem, 3);
+		Solution solution3 = newSolution(problem, 4);
+		
+		problem.evaluate(solution1);
+		problem.evaluate(solution2);
+		problem.evaluate(solution3);
+		
+		Assert.assertEquals(2, counter.count);
+		Assert.assertEquals(1, problem.getHits());
+		Assert.assertEquals(2, problem.getMisses());
+		Assert.assertEquals(1.0 / 3.0, problem.getHitRate(), 0.0);
+		Assert.assertEquals(7.0, solution2.getObjective(0), 0.0);
+		Assert.assertEquals(6.0, solution3.getObjective(0), 0.0);
+		
+		// modifying an evaluated solution does not alter the cache
+		((BinaryVariable)solution1.getVariable(0)).set(9, true);
+		problem.evaluate(newSolution(problem, 3));
+		Assert.assertEquals(2, counter.count);
+		
+		problem.clear();
+		Assert.assertEquals(0, problem.size());
+		Assert.assertEquals(0, problem.getHits());
+		Assert.assertEquals(0.0, problem.getHitRate(), 0.0);
+	}
+	
+	@Test
+	public void testLRU() {
+		CountingProblem counter = new CountingProblem();
+		CachingProblem problem = new CachingProblem(counter, 2);
+		
+		problem.evaluate(newSolution(problem, 1));
+		problem.evaluate(newSolution(problem, 2));
+		problem.evaluate(newSolution(problem, 1));
+		problem.evaluate(newSolution(problem, 3));
+		Assert.assertEquals(2, problem.size());
+		
+		// the least-recently used solution, 2, was evicted
+		problem.evaluate(newSolution(problem, 1));
+		Assert.assertEquals(3, counter.count);
+		problem.evaluate(newSolution(problem, 2));
+		Assert.assertEquals(4, counter.count);
+	}
+	
+	@Test
+	public void testFIFO() {
+		CountingProblem counter = new CountingProblem();
+		CachingProblem problem = new CachingProblem(counter, 2,
+				CachingProblem.EvictionPolicy.FIFO, 0, TimeUnit.SECONDS);
+		
+		problem.evaluate(newSolution(problem, 1));
+		problem.evaluate(newSolution(problem, 2));
+		problem.evaluate(newSolution(problem, 1));
+		problem.evaluate(newSolution(problem, 3));
+		
+		// the oldest solution, 1, was evicted
+		problem.evaluate(newSolution(problem, 2));
+		Assert.assertEquals(3, counter.count);
+		problem.evaluate(newSolution(problem, 1));
+		Assert.assertEquals(4, counter.count);
+	}
+	
+	@Test
+	public void testTimeToLive() throws InterruptedException {
+		CountingProblem counter = new CountingProblem();
+		CachingProblem problem = new CachingProblem(counter, 100,
+				CachingProblem.EvictionPolicy.LRU, 50, TimeUnit.MILLISECONDS);
+		
+		problem.evaluate(newSolution(problem, 1));
+		problem.evaluate(newSolution(problem, 1));
+		Assert.assertEquals(1, counter.count);
+		
+		Thread.sleep(100);
+		
+		problem.evaluate(newSolution(problem, 1));
+		Assert.assertEquals(2, counter.count);
+	}
+	
+	@Test
+	public void testExecutor() {
+		CountingProblem counter = new CountingProblem();
+		CachingProblem problem = new CachingProblem(counter);
+		
+		new Executor()
+				.withProblem(problem)
+				.withAlgorithm("NSGAII")
+				.withMaxEvaluations(2000)
+				.distributeOn(2)
+				.run();
+		
+		// only 1024 distinct binary strings exist
+		Assert.assertTrue(counter.count <= 1024);
+		Assert.assertEquals(counter.count, problem.getMisses());
+		Assert.assertTrue(problem.getHits() + problem.getMisses() >= 2000);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidCapacity() {
+		new CachingProblem(new MockBinaryProblem(), 0);
+	}
+
+}
@@ -0,0 +1,53 @@
+/* Copyright 2009-2018 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.problem;
+
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.variable.RealVectorVariable;
+
+/**
+ * A mock problem with a single {@link RealVectorVariable}.  This problem is
+ * equivalent to the 2D DTLZ2 problem with 11 decision variables.
+ */
+public class MockRealVectorProblem extends AbstractProblem {
+
+	public MockRealVectorProblem() {
+		super(1, 2);
+	}
+
+	@Override
+	public void evaluate(Solution solution) {
+		double[] x = ((RealVectorVariable)solution.getVariable(0)).getValues();
+		double g = 0.0;
+		
+		for (int i = 1; i < x.length; i++) {
+			g += Math.pow(x[i] - 0.5, 2.0);
+		}
+		
+		solution.setObjective(0, (1.0 + g) * Math.cos(0.5 * Math.PI * x[0]));
+		solution.setObjective(1, (1.0 + g) * Math.sin(0.5 * Math.PI * x[0]));
+	}
+
+	@Override
+	public Solution newSolution() {
+		Solution solution = new Solution(1, 2);
+		solution.setVariable(0, new RealVectorVariable(11, 0.0, 1.0));
+		return solution;
+	}
+
+}
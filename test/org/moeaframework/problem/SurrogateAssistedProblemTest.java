@@ -0,0 +1,277 @@
+/* Copyright 2009-2018 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.problem;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.moeaframework.algorithm.NSGAII;
+import org.moeaframework.core.Problem;
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.spi.AlgorithmFactory;
+import org.moeaframework.core.variable.EncodingUtils;
+import org.moeaframework.problem.DTLZ.DTLZ2;
+
+/**
+ * Tests the {@link SurrogateAssistedProblem} and {@link NearestNeighborModel}
+ * classes.
+ */
+public class SurrogateAssistedProblemTest {
+
+	/**
+	 * Counts the number of evaluations reaching the decorated problem.
+	 */
+	private static class CountingProblem extends DTLZ2 {
+
+		private int count;
+
+		public CountingProblem() {
+			super(2);
+		}
+
+		@Override
+		public void evaluate(Solution solution) {
+			count++;
+			super.evaluate(solution);
+		}
+
+	}
+
+	private List<Solution> newBatch(Problem problem, int size) {
+		List<Solution> batch = new ArrayList<Solution>();
+
+		for (int i = 0; i < size; i++) {
+			Solution solution = problem.newSolution();
+
+			for (int j = 0; j < solution.getNumberOfVariables(); j++) {
+				solution.getVariable(j).randomize();
+			}
+
+			batch.add(solution);
+		}
+
+		return batch;
+	}
+
+	@Test
+	public void testPreScreening() {
+		CountingProblem counter = new CountingProblem();
+		SurrogateAssistedProblem problem = new SurrogateAssistedProblem(
+				counter, new NearestNeighborModel(), 0.25, 20, 10);
+
+		// evaluates every candidate until the minimum training size
+		List<Solution> initial = newBatch(problem, 20);
+		Assert.assertEquals(initial, problem.evaluateAll(initial));
+		Assert.assertEquals(20, counter.count);
+		Assert.assertEquals(20, problem.getNumberOfTrueEvaluations());
+
+		List<Solution> batch = newBatch(problem, 10);
+		List<Solution> evaluated = problem.evaluateAll(batch);
+		Assert.assertEquals(23, counter.count);
+		Assert.assertEquals(23, problem.getNumberOfTrueEvaluations());
+		Assert.assertEquals(7, problem.getNumberOfScreenedOut());
+		Assert.assertEquals(3, evaluated.size());
+
+		// the evaluated candidates are returned in batch order
+		int index = -1;
+
+		for (Solution solution : evaluated) {
+			Assert.assertTrue(batch.indexOf(solution) > index);
+			index = batch.indexOf(solution);
+		}
+
+		// screened-out candidates are left unevaluated
+		for (Solution solution : batch) {
+			if (!evaluated.contains(solution)) {
+				Assert.assertArrayEquals(new double[2],
+						solution.getObjectives(), 0.0);
+			}
+
+			Assert.assertFalse(solution.hasAttribute("rank"));
+		}
+	}
+
+	@Test
+	public void testSelectsBestPredictions() {
+		// the model predicts the true objectives, so the selected solutions
+		// must not be dominated by the predicted solutions
+		SurrogateModel model = new SurrogateModel() {
+
+			@Override
+			public void train(List<Solution> solutions) {
+				// no training required
+			}
+
+			@Override
+			public void predict(Solution solution) {
+				new DTLZ2(2).evaluate(solution);
+			}
+
+		};
+
+		SurrogateAssistedProblem problem = new SurrogateAssistedProblem(
+				new DTLZ2(2), model, 0.5, 1, 1);
+		problem.evaluate(newBatch(problem, 1).get(0));
+
+		List<Solution> batch = newBatch(problem, 20);
+		List<Solution> evaluated = problem.evaluateAll(batch);
+		Assert.assertEquals(10, evaluated.size());
+
+		for (Solution other : batch) {
+			if (!evaluated.contains(other)) {
+				model.predict(other);
+
+				for (Solution selected : evaluated) {
+					Assert.assertFalse(dominates(other, selected));
+				}
+			}
+		}
+	}
+
+	private boolean dominates(Solution s1, Solution s2) {
+		boolean better = false;
+
+		for (int i = 0; i < s1.getNumberOfObjectives(); i++) {
+			if (s1.getObjective(i) > s2.getObjective(i)) {
+				return false;
+			} else if (s1.getObjective(i) < s2.getObjective(i)) {
+				better = true;
+			}
+		}
+
+		return better;
+	}
+
+	@Test
+	public void testAlgorithm() {
+		CountingProblem counter = new CountingProblem();
+		SurrogateAssistedProblem problem = new SurrogateAssistedProblem(
+				counter, new NearestNeighborModel());
+		NSGAII algorithm = (NSGAII)AlgorithmFactory.getInstance().getAlgorithm(
+				"NSGAII", new Properties(), problem);
+
+		for (int i = 0; i < 20; i++) {
+			algorithm.step();
+		}
+
+		// only the candidates evaluated by the true problem are counted
+		Assert.assertEquals(counter.count,
+				problem.getNumberOfTrueEvaluations());
+		Assert.assertEquals(counter.count, algorithm.getNumberOfEvaluations());
+		Assert.assertEquals(100 + 19 * 25, counter.count);
+		assertEvaluated(algorithm.getPopulation());
+		assertEvaluated(algorithm.getResult());
+	}
+
+	@Test
+	public void testWrapped() {
+		CountingProblem counter = new CountingProblem();
+		SurrogateAssistedProblem surrogate = new SurrogateAssistedProblem(
+				counter, new NearestNeighborModel());
+		CachingProblem cache = new CachingProblem(surrogate);
+		TimingProblem problem = new TimingProblem(cache);
+		NSGAII algorithm = (NSGAII)AlgorithmFactory.getInstance().getAlgorithm(
+				"NSGAII", new Properties(), problem);
+
+		for (int i = 0; i < 20; i++) {
+			algorithm.step();
+		}
+
+		// cache hits are not screened, so each batch may be smaller
+		Assert.assertTrue(surrogate.getNumberOfScreenedOut() > 19 * 50);
+		Assert.assertEquals(counter.count,
+				surrogate.getNumberOfTrueEvaluations());
+		Assert.assertEquals(counter.count, cache.getMisses());
+		Assert.assertEquals(algorithm.getNumberOfEvaluations(),
+				problem.getNumberOfEvaluations());
+		Assert.assertEquals(algorithm.getNumberOfEvaluations(),
+				cache.getHits() + cache.getMisses());
+		assertEvaluated(algorithm.getResult());
+	}
+
+	/**
+	 * Asserts that every solution was evaluated by the true problem.
+	 */
+	private void assertEvaluated(Iterable<Solution> solutions) {
+		Problem problem = new DTLZ2(2);
+
+		for (Solution solution : solutions) {
+			Solution copy = solution.copy();
+			problem.evaluate(copy);
+			Assert.assertArrayEquals(copy.getObjectives(),
+					solution.getObjectives(), 0.0);
+		}
+	}
+
+	@Test
+	public void testNearestNeighborModel() {
+		Problem problem = new DTLZ2(2);
+		List<Solution> training = newBatch(problem, 2);
+		EncodingUtils.setReal(training.get(0),
+				new double[problem.getNumberOfVariables()]);
+		problem.evaluate(training.get(0));
+		problem.evaluate(training.get(1));
+
+		NearestNeighborModel model = new NearestNeighborModel(2);
+		model.train(training);
+
+		Solution solution = training.get(0).copy();
+		model.predict(solution);
+		Assert.assertArrayEquals(training.get(0).getObjectives(),
+				solution.getObjectives(), 0.0);
+
+		// the midpoint is weighted equally by both neighbors
+		double[] x0 = EncodingUtils.getReal(training.get(0));
+		double[] x1 = EncodingUtils.getReal(training.get(1));
+		double[] midpoint = new double[x0.length];
+
+		for (int i = 0; i < x0.length; i++) {
+			midpoint[i] = (x0[i] + x1[i]) / 2.0;
+		}
+
+		EncodingUtils.setReal(solution, midpoint);
+		model.predict(solution);
+
+		for (int i = 0; i < solution.getNumberOfObjectives(); i++) {
+			Assert.assertEquals((training.get(0).getObjective(i) +
+					training.get(1).getObjective(i)) / 2.0,
+					solution.getObjective(i), 1e-10);
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidFraction() {
+		new SurrogateAssistedProblem(new DTLZ2(2), new NearestNeighborModel(),
+				0.0, 10, 10);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidRetrainInterval() {
+		new SurrogateAssistedProblem(new DTLZ2(2), new NearestNeighborModel(),
+				0.5, 10, 0);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidNeighbors() {
+		new NearestNeighborModel(0);
+	}
+
+}
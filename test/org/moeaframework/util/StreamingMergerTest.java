@@ -0,0 +1,197 @@
+/* Copyright 2009-2018 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.moeaframework.TestUtils;
+import org.moeaframework.core.EpsilonBoxDominanceArchive;
+import org.moeaframework.core.NondominatedPopulation;
+import org.moeaframework.core.PRNG;
+import org.moeaframework.core.Population;
+import org.moeaframework.core.Solution;
+
+/**
+ * Tests the {@link StreamingMerger} class.
+ */
+public class StreamingMergerTest {
+	
+	/**
+	 * Returns randomly-generated inputs.  The objectives are rounded so that
+	 * duplicate and epsilon-box ties occur.
+	 * 
+	 * @param n the number of inputs
+	 * @return the randomly-generated inputs
+	 */
+	private List<PopulationInput> createInputs(int n) {
+		List<PopulationInput> inputs = new ArrayList<PopulationInput>();
+		
+		for (int i = 0; i < n; i++) {
+			Population population = new Population();
+			
+			for (int j = 0; j < PRNG.nextInt(0, 50); j++) {
+				double f1 = Math.round(PRNG.nextDouble() * 100.0) / 100.0;
+				double f2 = Math.round((1.0 - f1 + PRNG.nextDouble(0.0, 0.2)) *
+						100.0) / 100.0;
+				
+				Solution solution = new Solution(new double[] { f1, f2 });
+				solution.setAttribute("input", i);
+				population.add(solution);
+			}
+			
+			inputs.add(new PopulationInput(population));
+		}
+		
+		return inputs;
+	}
+	
+	/**
+	 * Asserts the merger produces the same solutions, in the same order, as
+	 * adding each solution to the specified archive.
+	 * 
+	 * @param merger the merger
+	 * @param expected the empty archive
+	 * @param inputs the inputs
+	 * @throws IOException should not occur
+	 */
+	private void test(StreamingMerger merger, NondominatedPopulation expected,
+			List<PopulationInput> inputs) throws IOException {
+		for (PopulationInput input : inputs) {
+			expected.addAll(input.population);
+		}
+		
+		NondominatedPopulation actual = merger.merge(inputs);
+		
+		Assert.assertEquals(expected.getClass(), actual.getClass());
+		Assert.assertEquals(expected.size(), actual.size());
+		
+		for (int i = 0; i < expected.size(); i++) {
+			Assert.assertArrayEquals(expected.get(i).getObjectives(),
+					actual.get(i).getObjectives(), 0.0);
+			Assert.assertEquals(expected.get(i).getAttribute("input"),
+					actual.get(i).getAttribute("input"));
+		}
+	}
+	
+	@Test
+	public void testNondominated() throws IOException {
+		List<PopulationInput> inputs = createInputs(100);
+		StreamingMerger merger = new StreamingMerger();
+		merger.setChunkSize(7);
+		
+		test(merger, new NondominatedPopulation(), inputs);
+	}
+	
+	@Test
+	public void testEpsilon() throws IOException {
+		List<PopulationInput> inputs = createInputs(100);
+		StreamingMerger merger = new StreamingMerger(new double[] { 0.05 });
+		merger.setChunkSize(7);
+		
+		test(merger, new EpsilonBoxDominanceArchive(0.05), inputs);
+	}
+	
+	@Test
+	public void testMultithreaded() throws IOException {
+		List<PopulationInput> inputs = createInputs(100);
+		StreamingMerger merger = new StreamingMerger();
+		merger.setChunkSize(16);
+		merger.setNumberOfThreads(4);
+		
+		test(merger, new NondominatedPopulation(), inputs);
+	}
+	
+	@Test
+	public void testSpill() throws IOException {
+		File directory = TestUtils.createTempFile();
+		directory.delete();
+		directory.mkdir();
+		
+		try {
+			List<PopulationInput> inputs = createInputs(100);
+			StreamingMerger merger = new StreamingMerger(
+					new double[] { 0.01 });
+			merger.setChunkSize(5);
+			merger.setNumberOfThreads(2);
+			merger.setSpillDirectory(directory);
+		
+			test(merger, new EpsilonBoxDominanceArchive(0.01), inputs);
+			Assert.assertEquals(0, directory.listFiles().length);
+		} finally {
+			directory.delete();
+		}
+	}
+	
+	@Test
+	public void testEmpty() throws IOException {
+		StreamingMerger merger = new StreamingMerger();
+		merger.setSpillDirectory(new File("."));
+		
+		Assert.assertEquals(0,
+				merger.merge(new ArrayList<PopulationInput>()).size());
+	}
+	
+	@Test(expected = IOException.class)
+	public void testError() throws IOException {
+		List<StreamingMerger.Input> inputs =
+				new ArrayList<StreamingMerger.Input>();
+		inputs.addAll(createInputs(10));
+		inputs.add(new StreamingMerger.Input() {
+
+			@Override
+			public void read(Population population) throws IOException {
+				throw new IOException();
+			}
+			
+		});
+		
+		StreamingMerger merger = new StreamingMerger();
+		merger.setNumberOfThreads(2);
+		merger.merge(inputs);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidChunkSize() {
+		new StreamingMerger().setChunkSize(0);
+	}
+	
+	/**
+	 * Input reading the solutions from a population.
+	 */
+	private static class PopulationInput implements StreamingMerger.Input {
+		
+		private final Population population;
+		
+		public PopulationInput(Population population) {
+			super();
+			this.population = population;
+		}
+
+		@Override
+		public void read(Population population) {
+			population.addAll(this.population);
+		}
+		
+	}
+
+}
@@ -0,0 +1,70 @@
+/* Copyright 2009-2018 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.util;
+
+import java.util.Random;
+
+import org.apache.commons.math3.random.MersenneTwister;
+import org.apache.commons.math3.random.RandomAdaptor;
+import org.junit.Assert;
+import org.junit.Test;
+import org.moeaframework.core.PRNG;
+
+/**
+ * Tests the {@link ThreadRandom} class.
+ */
+public class ThreadRandomTest {
+
+	@Test
+	public void testInstall() {
+		Random original = PRNG.getRandom();
+		ThreadRandom random1 = ThreadRandom.install();
+		ThreadRandom random2 = ThreadRandom.install();
+		
+		Assert.assertSame(random1, PRNG.getRandom());
+		Assert.assertSame(random1, random2);
+		Assert.assertSame(original, random1.getDefaultRandom());
+		
+		random2.uninstall();
+		Assert.assertSame(random1, PRNG.getRandom());
+		
+		random1.uninstall();
+		Assert.assertSame(original, PRNG.getRandom());
+	}
+	
+	@Test
+	public void testAssignedGenerator() {
+		PRNG.setSeed(1234);
+		double expected = PRNG.nextDouble();
+		ThreadRandom random = ThreadRandom.install();
+		
+		try {
+			random.set(new RandomAdaptor(new MersenneTwister(5678)));
+			Assert.assertEquals(new RandomAdaptor(new MersenneTwister(5678))
+					.nextDouble(), PRNG.nextDouble(), 0.0);
+			
+			// threads without an assigned generator use the default
+			random.remove();
+			PRNG.setSeed(1234);
+			Assert.assertEquals(expected, PRNG.nextDouble(), 0.0);
+		} finally {
+			random.uninstall();
+		}
+	}
+	
+}
@@ -0,0 +1,397 @@
+/* Copyright 2009-2018 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.util.distributed;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.moeaframework.Executor;
+import org.moeaframework.TestUtils;
+import org.moeaframework.core.FrameworkException;
+import org.moeaframework.core.NondominatedPopulation;
+import org.moeaframework.core.Problem;
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.spi.ProblemFactory;
+import org.moeaframework.core.variable.BinaryIntegerVariable;
+import org.moeaframework.core.variable.Grammar;
+import org.moeaframework.core.variable.Permutation;
+import org.moeaframework.core.variable.Program;
+import org.moeaframework.core.variable.RealVariable;
+import org.moeaframework.core.variable.RealVectorVariable;
+import org.moeaframework.core.variable.Subset;
+import org.moeaframework.util.tree.Rules;
+
+/**
+ * Tests the {@link SocketTransport} and {@link EvaluationWorker} classes.
+ */
+public class SocketTransportTest {
+	
+	private static final String SECRET = "secret";
+	
+	private List<EvaluationWorker> workers;
+	
+	private List<Throwable> uncaught;
+	
+	private Thread.UncaughtExceptionHandler defaultHandler;
+	
+	@Before
+	public void setUp() throws IOException {
+		// record exceptions escaping the worker threads
+		uncaught = Collections.synchronizedList(new ArrayList<Throwable>());
+		defaultHandler = Thread.getDefaultUncaughtExceptionHandler();
+		Thread.setDefaultUncaughtExceptionHandler(
+				new Thread.UncaughtExceptionHandler() {
+
+			@Override
+			public void uncaughtException(Thread thread, Throwable e) {
+				uncaught.add(e);
+			}
+			
+		});
+		
+		workers = new ArrayList<EvaluationWorker>();
+		
+		for (int i = 0; i < 3; i++) {
+			EvaluationWorker worker = new EvaluationWorker();
+			worker.setHeartbeatInterval(50);
+			worker.setSecret(SECRET);
+			worker.addProblem("DTLZ2_2");
+			worker.open(0);
+			workers.add(worker);
+		}
+	}
+	
+	@After
+	public void tearDown() throws InterruptedException {
+		for (EvaluationWorker worker : workers) {
+			worker.close();
+		}
+		
+		workers = null;
+		
+		// give the session threads time to observe the closed connections
+		Thread.sleep(200);
+		Thread.setDefaultUncaughtExceptionHandler(defaultHandler);
+		Assert.assertTrue("uncaught worker exceptions: " + uncaught,
+				uncaught.isEmpty());
+	}
+	
+	private List<InetSocketAddress> getAddresses() {
+		List<InetSocketAddress> addresses = new ArrayList<InetSocketAddress>();
+		
+		for (EvaluationWorker worker : workers) {
+			addresses.add(new InetSocketAddress("localhost", worker.getPort()));
+		}
+		
+		return addresses;
+	}
+	
+	private void testEvaluate(SocketTransport transport) {
+		Problem problem = ProblemFactory.getInstance().getProblem("DTLZ2_2");
+		DistributedProblem distributedProblem = new DistributedProblem(
+				problem, transport);
+		List<Solution> solutions = new ArrayList<Solution>();
+		List<Solution> expected = new ArrayList<Solution>();
+		
+		for (int i = 0; i < 100; i++) {
+			Solution solution = distributedProblem.newSolution();
+			
+			for (int j = 0; j < solution.getNumberOfVariables(); j++) {
+				solution.getVariable(j).randomize();
+			}
+			
+			Solution copy = problem.newSolution();
+			
+			for (int j = 0; j < solution.getNumberOfVariables(); j++) {
+				copy.setVariable(j, solution.getVariable(j).copy());
+			}
+			
+			problem.evaluate(copy);
+			
+			distributedProblem.evaluate(solution);
+			solutions.add(solution);
+			expected.add(copy);
+		}
+		
+		for (int i = 0; i < solutions.size(); i++) {
+			Assert.assertArrayEquals(expected.get(i).getObjectives(),
+					solutions.get(i).getObjectives(), 0.0);
+		}
+	}
+	
+	@Test
+	public void testEvaluate() throws IOException {
+		SocketTransport transport = new SocketTransport("DTLZ2_2",
+				getAddresses(), SECRET);
+		
+		try {
+			Assert.assertEquals(3, transport.getNumberOfActiveWorkers());
+			testEvaluate(transport);
+		} finally {
+			transport.close();
+		}
+	}
+	
+	@Test
+	public void testWorkerFailure() throws IOException {
+		SocketTransport transport = new SocketTransport("DTLZ2_2",
+				getAddresses(), SECRET, 4, 1000);
+		
+		try {
+			workers.get(0).close();
+			workers.get(1).close();
+			
+			// batches sent to the closed workers are re-dispatched
+			testEvaluate(transport);
+			Assert.assertEquals(1, transport.getNumberOfActiveWorkers());
+		} finally {
+			transport.close();
+		}
+	}
+	
+	@Test
+	public void testCloseWhileEvaluating() throws Exception {
+		final SocketTransport transport = new SocketTransport("DTLZ2_2",
+				getAddresses(), SECRET, 4, 1000);
+		final List<Throwable> errors = Collections.synchronizedList(
+				new ArrayList<Throwable>());
+		
+		try {
+			Thread thread = new Thread(new Runnable() {
+
+				@Override
+				public void run() {
+					try {
+						for (int i = 0; i < 20; i++) {
+							testEvaluate(transport);
+						}
+					} catch (Throwable e) {
+						errors.add(e);
+					}
+				}
+				
+			});
+			
+			thread.start();
+			
+			// close the workers while they are receiving batches
+			Thread.sleep(20);
+			workers.get(0).close();
+			workers.get(1).close();
+			
+			thread.join();
+			Assert.assertTrue("evaluation failed: " + errors,
+					errors.isEmpty());
+		} finally {
+			transport.close();
+		}
+	}
+	
+	@Test(expected = FrameworkException.class)
+	public void testAllWorkersFailed() throws IOException {
+		SocketTransport transport = new SocketTransport("DTLZ2_2",
+				getAddresses(), SECRET);
+		
+		try {
+			for (EvaluationWorker worker : workers) {
+				worker.close();
+			}
+			
+			testEvaluate(transport);
+		} finally {
+			transport.close();
+		}
+	}
+	
+	@Test
+	public void testExecutor() throws IOException {
+		SocketTransport transport = new SocketTransport("DTLZ2_2",
+				getAddresses(), SECRET);
+		
+		try {
+			NondominatedPopulation result = new Executor()
+					.withProblemClass(DistributedProblem.class,
+							ProblemFactory.getInstance().getProblem("DTLZ2_2"),
+							transport)
+					.withAlgorithm("NSGAII")
+					.withMaxEvaluations(1000)
+					.run();
+			
+			Assert.assertFalse(result.isEmpty());
+		} finally {
+			transport.close();
+		}
+	}
+	
+	@Test(expected = IOException.class)
+	public void testUnknownProblem() throws IOException {
+		for (EvaluationWorker worker : workers) {
+			worker.addProblem("NotAProblem");
+		}
+		
+		new SocketTransport("NotAProblem", getAddresses(), SECRET);
+	}
+	
+	@Test(expected = IOException.class)
+	public void testProblemNotHosted() throws IOException {
+		new SocketTransport("DTLZ2_3", getAddresses(), SECRET);
+	}
+	
+	@Test(expected = IOException.class)
+	public void testWrongSecret() throws IOException {
+		new SocketTransport("DTLZ2_2", getAddresses(), "wrong");
+	}
+	
+	@Test(expected = IllegalStateException.class)
+	public void testSecretRequired() throws IOException {
+		new EvaluationWorker().open(0);
+	}
+	
+	@Test
+	public void testInvalidBatchSize() throws IOException {
+		Socket socket = new Socket("localhost", workers.get(0).getPort());
+		
+		try {
+			socket.setSoTimeout(5000);
+			
+			DataInputStream in = new DataInputStream(socket.getInputStream());
+			DataOutputStream out = new DataOutputStream(
+					socket.getOutputStream());
+			
+			out.writeInt(EvaluationProtocol.MAGIC);
+			out.writeInt(EvaluationProtocol.VERSION);
+			
+			byte[] challenge = new byte[EvaluationProtocol.CHALLENGE_LENGTH];
+			in.readFully(challenge);
+			out.write(EvaluationProtocol.respond(SECRET, challenge));
+			out.writeUTF("DTLZ2_2");
+			
+			Assert.assertEquals(EvaluationProtocol.STATUS_OK, in.readByte());
+			in.readInt();
+			in.readInt();
+			in.readInt();
+			
+			// the worker closes the session instead of allocating the batch
+			out.writeByte(EvaluationProtocol.BATCH);
+			out.writeInt(Integer.MAX_VALUE);
+			out.flush();
+			
+			Assert.assertEquals(-1, in.read());
+		} finally {
+			socket.close();
+		}
+	}
+	
+	@Test(expected = FrameworkException.class)
+	public void testDifferentProblem() throws Exception {
+		SocketTransport transport = new SocketTransport("DTLZ2_2",
+				getAddresses(), SECRET);
+		
+		try {
+			Solution solution = ProblemFactory.getInstance().getProblem(
+					"DTLZ2_3").newSolution();
+			transport.submit(solution).get();
+		} catch (ExecutionException e) {
+			throw (Exception)e.getCause();
+		} finally {
+			transport.close();
+		}
+	}
+	
+	@Test(expected = FrameworkException.class)
+	public void testClosed() throws IOException {
+		SocketTransport transport = new SocketTransport("DTLZ2_2",
+				getAddresses(), SECRET);
+		transport.close();
+		
+		testEvaluate(transport);
+	}
+	
+	@Test
+	public void testEncoding() throws IOException {
+		Solution solution = new Solution(6, 0);
+		solution.setVariable(0, new RealVariable(0.25, 0.0, 1.0));
+		solution.setVariable(1, new RealVectorVariable(3, -1.0, 1.0));
+		solution.setVariable(2, new BinaryIntegerVariable(42, 0, 100));
+		solution.setVariable(3, new Permutation(5));
+		solution.setVariable(4, new Grammar(4));
+		solution.setVariable(5, new Subset(1, 3, 10));
+		
+		for (int i = 1; i < 6; i++) {
+			solution.getVariable(i).randomize();
+		}
+		
+		Solution copy = new Solution(6, 0);
+		copy.setVariable(0, new RealVariable(0.0, 1.0));
+		copy.setVariable(1, new RealVectorVariable(3, -1.0, 1.0));
+		copy.setVariable(2, new BinaryIntegerVariable(0, 100));
+		copy.setVariable(3, new Permutation(5));
+		copy.setVariable(4, new Grammar(2));
+		copy.setVariable(5, new Subset(1, 3, 10));
+		
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		EvaluationProtocol.writeVariables(new DataOutputStream(buffer),
+				solution);
+		EvaluationProtocol.readVariables(new DataInputStream(
+				new ByteArrayInputStream(buffer.toByteArray())), copy);
+		
+		for (int i = 0; i < 6; i++) {
+			Assert.assertEquals(solution.getVariable(i), copy.getVariable(i));
+		}
+		
+		TestUtils.assertEquals(solution, copy);
+	}
+	
+	@Test(expected = IOException.class)
+	public void testLengthMismatch() throws IOException {
+		Solution solution = new Solution(1, 0);
+		solution.setVariable(0, new Permutation(5));
+		
+		Solution copy = new Solution(1, 0);
+		copy.setVariable(0, new Permutation(3));
+		
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		EvaluationProtocol.writeVariables(new DataOutputStream(buffer),
+				solution);
+		EvaluationProtocol.readVariables(new DataInputStream(
+				new ByteArrayInputStream(buffer.toByteArray())), copy);
+	}
+	
+	@Test(expected = IOException.class)
+	public void testUnsupportedVariable() throws IOException {
+		Solution solution = new Solution(1, 0);
+		solution.setVariable(0, new Program(new Rules()));
+		
+		EvaluationProtocol.writeVariables(new DataOutputStream(
+				new ByteArrayOutputStream()), solution);
+	}
+
+}
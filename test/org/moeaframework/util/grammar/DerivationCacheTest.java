@@ -0,0 +1,175 @@
+/* Copyright 2009-2018 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.util.grammar;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.moeaframework.core.PRNG;
+import org.moeaframework.core.variable.Grammar;
+
+/**
+ * Tests the {@link DerivationCache} class.
+ */
+public class DerivationCacheTest {
+
+	private ContextFreeGrammar grammar;
+
+	@Before
+	public void setUp() throws IOException {
+		grammar = Parser.load(new StringReader(GrammarTest.GRAMMAR));
+	}
+
+	@Test
+	public void testMatchesGrammar() {
+		DerivationCache cache = new DerivationCache(grammar, 1000);
+
+		for (int i = 0; i < 1000; i++) {
+			int[] codons = new int[PRNG.nextInt(1, 10)];
+
+			for (int j = 0; j < codons.length; j++) {
+				codons[j] = PRNG.nextInt(4);
+			}
+
+			Derivation expected = grammar.derive(codons);
+			Derivation actual = cache.decode(codons);
+
+			if (expected == null) {
+				Assert.assertNull(actual);
+			} else {
+				Assert.assertEquals(expected, actual);
+				Assert.assertEquals(expected.toString(), actual.toString());
+			}
+		}
+
+		Assert.assertTrue(cache.getHits() > 0);
+		Assert.assertTrue(cache.size() <= 1000);
+	}
+
+	@Test
+	public void testUnusedCodons() {
+		DerivationCache cache = new DerivationCache(grammar, 1000);
+		Derivation derivation = cache.decode(new int[] { 1, 1, 2, 1, 7, 7 });
+
+		Assert.assertEquals("func(func(y))", derivation.toString());
+		Assert.assertEquals(0, cache.getHits());
+		Assert.assertEquals(1, cache.getMisses());
+
+		// changing the unused tail or selecting the same productions hits
+		Assert.assertSame(derivation,
+				cache.decode(new int[] { 1, 1, 2, 1, 0, 3 }));
+		Assert.assertSame(derivation,
+				cache.decode(new Grammar(new int[] { 4, 7, 5, 4 })));
+		Assert.assertEquals(2, cache.getHits());
+		Assert.assertEquals(2.0 / 3.0, cache.getHitRate(), 0.0);
+
+		cache.clear();
+		Assert.assertEquals(0, cache.size());
+		Assert.assertEquals(0, cache.getHits());
+	}
+
+	@Test
+	public void testNonterminating() {
+		DerivationCache cache = new DerivationCache(grammar, 1000);
+
+		Assert.assertNull(cache.decode(new int[] { 0 }));
+		Assert.assertNull(cache.decode(new int[] { 0 }));
+
+		// sharing a prefix with a cached derivation
+		Assert.assertNotNull(cache.decode(new int[] { 0, 2, 0, 0, 2, 0 }));
+		Assert.assertNull(cache.decode(new int[] { 0 }));
+	}
+
+	@Test
+	public void testCapacity() {
+		DerivationCache cache = new DerivationCache(grammar, 5);
+
+		cache.decode(new int[] { 1, 1, 2, 1 });
+		Assert.assertEquals(5, cache.size());
+
+		cache.decode(new int[] { 2, 0 });
+		Assert.assertEquals(3, cache.size());
+	}
+
+	@Test
+	public void testConcurrentDecode() throws Exception {
+		final int[][] codons = new int[200][];
+
+		for (int i = 0; i < codons.length; i++) {
+			codons[i] = new int[PRNG.nextInt(1, 10)];
+
+			for (int j = 0; j < codons[i].length; j++) {
+				codons[i][j] = PRNG.nextInt(4);
+			}
+		}
+
+		for (int repeat = 0; repeat < 50; repeat++) {
+			// a new grammar each time so the threads race to build its index
+			ContextFreeGrammar grammar = Parser.load(
+					new StringReader(GrammarTest.GRAMMAR));
+			final DerivationCache cache = new DerivationCache(grammar, 1000);
+			final CountDownLatch start = new CountDownLatch(1);
+			final List<Throwable> errors = Collections.synchronizedList(
+					new ArrayList<Throwable>());
+			List<Thread> threads = new ArrayList<Thread>();
+
+			for (int i = 0; i < 4; i++) {
+				Thread thread = new Thread(new Runnable() {
+
+					@Override
+					public void run() {
+						try {
+							start.await();
+
+							for (int[] codon : codons) {
+								cache.decode(codon);
+							}
+						} catch (Throwable e) {
+							errors.add(e);
+						}
+					}
+
+				});
+
+				thread.start();
+				threads.add(thread);
+			}
+
+			start.countDown();
+
+			for (Thread thread : threads) {
+				thread.join();
+			}
+
+			Assert.assertTrue(errors.toString(), errors.isEmpty());
+		}
+	}
+
+	@Test(expected = GrammarException.class)
+	public void testEmptyCodon() {
+		new DerivationCache(grammar, 10).decode(new int[0]);
+	}
+
+}
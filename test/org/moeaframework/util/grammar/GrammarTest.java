@@ -72,6 +72,33 @@ public class GrammarTest {
 				2, 0, 2, 1, 2 }));
 	}
 
+	/**
+	 * Tests if the derivation tree records the consumed codons and produces
+	 * the same string as {@link ContextFreeGrammar#build(int[])}.
+	 */
+	@Test
+	public void testDerivationTree() {
+		int[] codons = new int[] { 1, 0, 2, 0, 2, 1, 2, 1, 5 };
+		Derivation derivation = grammar.derive(codons);
+		
+		Assert.assertEquals(grammar.build(codons), derivation.toString());
+		Assert.assertEquals("func(x*func(y))", derivation.toString());
+		Assert.assertEquals(8, derivation.getNumberOfCodons());
+		Assert.assertTrue(derivation.isConsumed(7, codons.length));
+		Assert.assertFalse(derivation.isConsumed(8, codons.length));
+		
+		DerivationNode root = derivation.getRoot();
+		Assert.assertEquals(1, root.getProductionIndex());
+		Assert.assertEquals(0, root.getCodonIndex());
+		Assert.assertEquals(3, root.size());
+		Assert.assertEquals("x*func(y)", root.get(1).toString());
+		Assert.assertEquals(-1, root.get(0).getProductionIndex());
+		
+		// equivalent codons selecting the same productions
+		Assert.assertEquals(derivation, grammar.derive(
+				new int[] { 4, 3, 5, 3, 6, 4, 5, 4, 0 }));
+	}
+
 	/**
 	 * Tests if the grammar returns {@code null} on non-terminating derivations.
 	 */
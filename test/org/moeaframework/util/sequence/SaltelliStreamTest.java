@@ -0,0 +1,74 @@
+/* Copyright 2009-2018 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.util.sequence;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.moeaframework.util.sequence.SobolStream.Scrambling;
+
+/**
+ * Tests the {@link SaltelliStream} class.
+ */
+public class SaltelliStreamTest {
+	
+	@Test
+	public void testMatchesSaltelli() {
+		double[][] expected = new Saltelli().generate(8 * 100, 3);
+		SaltelliStream stream = new SaltelliStream(3);
+		double[] point = new double[3];
+		
+		for (int i = 0; i < expected.length; i++) {
+			stream.next(point);
+			Assert.assertArrayEquals(expected[i], point, 0.0);
+		}
+	}
+	
+	@Test
+	public void testSkipTo() {
+		double[][] expected = new Saltelli().generate(8 * 100, 3);
+		SaltelliStream stream = new SaltelliStream(3);
+		double[] point = new double[3];
+		
+		for (int start : new int[] { 0, 5, 8, 13, 799 }) {
+			stream.skipTo(start);
+			
+			for (int i = start; i < expected.length; i++) {
+				stream.next(point);
+				Assert.assertArrayEquals(expected[i], point, 0.0);
+			}
+		}
+	}
+	
+	@Test
+	public void testCopy() {
+		SaltelliStream stream = new SaltelliStream(2,
+				Scrambling.DIGITAL_SHIFT, 1234);
+		double[] expected = new double[2];
+		double[] actual = new double[2];
+		
+		stream.skipTo(3);
+		SaltelliStream copy = stream.copy();
+		
+		for (int i = 0; i < 20; i++) {
+			stream.next(expected);
+			copy.next(actual);
+			Assert.assertArrayEquals(expected, actual, 0.0);
+		}
+	}
+
+}
@@ -0,0 +1,137 @@
+/* Copyright 2009-2018 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.util.sequence;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.moeaframework.util.sequence.SobolStream.Scrambling;
+
+/**
+ * Tests the {@link SobolStream} class.
+ */
+public class SobolStreamTest {
+	
+	/**
+	 * Generates the specified number of points from the stream.
+	 * 
+	 * @param stream the stream
+	 * @param N the number of points
+	 * @return the generated points
+	 */
+	private double[][] generate(SequenceStream stream, int N) {
+		double[][] points = new double[N][stream.getDimension()];
+		
+		for (int i = 0; i < N; i++) {
+			stream.next(points[i]);
+		}
+		
+		return points;
+	}
+	
+	@Test
+	public void testMatchesSobol() {
+		Assert.assertArrayEquals(new Sobol().generate(1000, 10),
+				generate(new SobolStream(10), 1000));
+	}
+	
+	@Test
+	public void testSkipTo() {
+		double[][] expected = new Sobol().generate(1000, 5);
+		SobolStream stream = new SobolStream(5);
+		
+		for (int start : new int[] { 0, 1, 2, 3, 255, 256, 513, 999 }) {
+			stream.skipTo(start);
+			Assert.assertEquals(start, stream.getIndex());
+			
+			double[][] actual = generate(stream, 1000 - start);
+			
+			for (int i = start; i < 1000; i++) {
+				Assert.assertArrayEquals(expected[i], actual[i - start], 0.0);
+			}
+		}
+	}
+	
+	@Test
+	public void testPartition() {
+		SobolStream stream = new SobolStream(3, Scrambling.LINEAR_MATRIX, 42);
+		double[][] expected = generate(stream.copy(), 1000);
+		int parts = 7;
+		
+		for (int k = 0; k < parts; k++) {
+			SequenceStream part = stream.copy();
+			int start = 1000 * k / parts;
+			int end = 1000 * (k + 1) / parts;
+			
+			part.skipTo(start);
+			double[][] actual = generate(part, end - start);
+			
+			for (int i = start; i < end; i++) {
+				Assert.assertArrayEquals(expected[i], actual[i - start], 0.0);
+			}
+		}
+	}
+	
+	@Test
+	public void testCopy() {
+		SobolStream stream = new SobolStream(2);
+		stream.skipTo(10);
+		
+		SobolStream copy = stream.copy();
+		double[] point = new double[2];
+		
+		stream.next(point);
+		Assert.assertEquals(11, stream.getIndex());
+		Assert.assertEquals(10, copy.getIndex());
+		Assert.assertArrayEquals(generate(copy, 1)[0], point, 0.0);
+	}
+	
+	@Test
+	public void testScrambling() {
+		for (Scrambling scrambling : Scrambling.values()) {
+			double[][] points = generate(new SobolStream(4, scrambling, 1234),
+					1024);
+			
+			Assert.assertArrayEquals(points, generate(new SobolStream(4,
+					scrambling, 1234), 1024));
+			
+			if (scrambling != Scrambling.NONE) {
+				Assert.assertFalse(points[5][2] == generate(new SobolStream(4,
+						scrambling, 4321), 1024)[5][2]);
+			}
+			
+			// each block of 2^k points has one point in each interval of
+			// length 1/2^k in each dimension
+			for (int j = 0; j < 4; j++) {
+				boolean[] seen = new boolean[1024];
+				
+				for (int i = 0; i < 1024; i++) {
+					int bin = (int)(points[i][j] * 1024);
+					
+					Assert.assertFalse(seen[bin]);
+					seen[bin] = true;
+				}
+			}
+		}
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testSkipNegative() {
+		new SobolStream(2).skipTo(-1);
+	}
+
+}
@@ -0,0 +1,64 @@
+/* Copyright 2009-2018 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.util.statistics;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the {@link EffectSize} class.
+ */
+public class EffectSizeTest {
+	
+	@Test
+	public void testVarghaDelaneyA() {
+		double[] sample1 = { 1.0, 2.0, 3.0, 4.0 };
+		double[] sample2 = { 2.0, 2.0, 5.0 };
+		
+		// brute force: wins over 2.0 = 0+0.5+1+1 twice, over 5.0 = 0
+		Assert.assertEquals(5.0 / 12.0,
+				EffectSize.varghaDelaneyA(sample1, sample2), 1e-12);
+		Assert.assertEquals(7.0 / 12.0,
+				EffectSize.varghaDelaneyA(sample2, sample1), 1e-12);
+		Assert.assertEquals(0.5,
+				EffectSize.varghaDelaneyA(sample1, sample1), 1e-12);
+	}
+	
+	@Test
+	public void testCliffsDelta() {
+		Assert.assertEquals(1.0, EffectSize.cliffsDelta(
+				new double[] { 3.0, 4.0 }, new double[] { 1.0, 2.0 }), 1e-12);
+		Assert.assertEquals(-1.0 / 6.0, EffectSize.cliffsDelta(
+				new double[] { 1.0, 2.0, 3.0, 4.0 },
+				new double[] { 2.0, 2.0, 5.0 }), 1e-12);
+	}
+	
+	@Test
+	public void testCohensD() {
+		double[] sample1 = { 1.0, 2.0, 3.0 };
+		double[] sample2 = { 3.0, 4.0, 5.0 };
+		
+		Assert.assertEquals(-2.0, EffectSize.cohensD(sample1, sample2), 1e-12);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testEmptySample() {
+		EffectSize.varghaDelaneyA(new double[0], new double[] { 1.0 });
+	}
+
+}
@@ -0,0 +1,137 @@
+/* Copyright 2009-2018 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.util.statistics;
+
+import org.apache.commons.math3.stat.StatUtils;
+import org.apache.commons.math3.stat.descriptive.moment.Mean;
+import org.apache.commons.math3.stat.descriptive.rank.Median;
+import org.junit.Assert;
+import org.junit.Test;
+import org.moeaframework.core.PRNG;
+
+/**
+ * Tests the {@link Resampler} class.
+ */
+public class ResamplerTest {
+	
+	private double[] sample(int n, double mean) {
+		double[] sample = new double[n];
+		
+		for (int i = 0; i < n; i++) {
+			sample[i] = PRNG.nextGaussian(mean, 1.0);
+		}
+		
+		return sample;
+	}
+	
+	@Test
+	public void testReproducible() {
+		double[] sample = sample(50, 0.0);
+		
+		Resampler resampler1 = new Resampler(1000);
+		Resampler resampler4 = new Resampler(1000);
+		resampler4.setNumberOfThreads(4);
+		
+		PRNG.setSeed(1234);
+		double[] replicates1 = resampler1.bootstrap(sample, new Median());
+		double p1 = resampler1.permutationTest(sample, sample(30, 0.5),
+				new Mean());
+		
+		PRNG.setSeed(1234);
+		double[] replicates4 = resampler4.bootstrap(sample, new Median());
+		double p4 = resampler4.permutationTest(sample, sample(30, 0.5),
+				new Mean());
+		
+		Assert.assertArrayEquals(replicates1, replicates4, 0.0);
+		Assert.assertEquals(p1, p4, 0.0);
+	}
+	
+	@Test
+	public void testConfidenceInterval() {
+		double[] sample = sample(100, 5.0);
+		Resampler resampler = new Resampler(2000);
+		resampler.setNumberOfThreads(2);
+		
+		double[] interval = resampler.confidenceInterval(sample, new Mean(),
+				0.95);
+		double mean = StatUtils.mean(sample);
+		
+		Assert.assertTrue(interval[0] < mean);
+		Assert.assertTrue(interval[1] > mean);
+		
+		// the standard error of the mean is approximately 0.1
+		Assert.assertEquals(0.4, interval[1] - interval[0], 0.1);
+	}
+	
+	@Test
+	public void testIndexedBootstrap() {
+		final double[] x = sample(20, 0.0);
+		final double[] y = new double[x.length];
+		
+		for (int i = 0; i < x.length; i++) {
+			y[i] = 2.0 * x[i];
+		}
+		
+		double[] replicates = new Resampler(500).bootstrap(x.length,
+				new Resampler.IndexedStatistic() {
+
+			@Override
+			public double evaluate(int[] indices) {
+				double sumX = 0.0;
+				double sumY = 0.0;
+				
+				for (int index : indices) {
+					sumX += x[index];
+					sumY += y[index];
+				}
+				
+				return sumY / sumX;
+			}
+			
+		});
+		
+		Assert.assertEquals(500, replicates.length);
+		
+		for (double replicate : replicates) {
+			Assert.assertEquals(2.0, replicate, 1e-10);
+		}
+	}
+	
+	@Test
+	public void testPermutationTest() {
+		Resampler resampler = new Resampler(2000);
+		resampler.setNumberOfThreads(2);
+		
+		Assert.assertTrue(resampler.permutationTest(sample(30, 0.0),
+				sample(30, 2.0), new Mean()) < 0.01);
+		Assert.assertTrue(resampler.permutationTest(sample(30, 0.0),
+				sample(30, 0.0), new Median()) > 0.01);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidResamples() {
+		new Resampler(0);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidConfidence() {
+		new Resampler(10).confidenceInterval(new double[] { 1.0, 2.0 },
+				new Mean(), 1.0);
+	}
+
+}
@@ -0,0 +1,148 @@
+/* Copyright 2009-2018 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.util.tree;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the {@link SubtreeCache} class.
+ */
+public class SubtreeCacheTest {
+
+	private Environment[] environments;
+
+	@Before
+	public void setUp() {
+		environments = new Environment[10];
+
+		for (int i = 0; i < environments.length; i++) {
+			environments[i] = new Environment();
+			environments[i].set("x", i / 2.0);
+		}
+	}
+
+	/**
+	 * Returns the expression {@code sin(x) * (x + c)}.
+	 */
+	private Node createTree(double c) {
+		return new Multiply()
+				.setArgument(0, new Sin()
+						.setArgument(0, new Get(Number.class, "x")))
+				.setArgument(1, new Add()
+						.setArgument(0, new Get(Number.class, "x"))
+						.setArgument(1, new Constant(c)));
+	}
+
+	private void assertMatches(Node node, Object[] values) {
+		Assert.assertEquals(environments.length, values.length);
+
+		for (int i = 0; i < environments.length; i++) {
+			Assert.assertTrue(NumberArithmetic.equals(
+					(Number)node.evaluate(environments[i]),
+					(Number)values[i]));
+		}
+	}
+
+	@Test
+	public void testEvaluate() {
+		SubtreeCache cache = new SubtreeCache(environments, 100);
+		Node node = createTree(2.0);
+
+		assertMatches(node, cache.evaluate(node));
+		
+		// the second x terminal is reused
+		Assert.assertEquals(1, cache.getHits());
+		Assert.assertEquals(node.size() - 1, cache.getMisses());
+	}
+
+	@Test
+	public void testSharedSubtrees() {
+		SubtreeCache cache = new SubtreeCache(environments, 100);
+		Node node1 = createTree(2.0);
+		Node node2 = createTree(3.0);
+
+		assertMatches(node1, cache.evaluate(node1));
+		assertMatches(node2, cache.evaluate(node2));
+
+		// the sin(x) subtree and x terminals are reused
+		Assert.assertEquals(4, cache.getHits());
+
+		// structurally equal trees are answered by the cache
+		long misses = cache.getMisses();
+		Node node3 = createTree(2.0);
+		assertMatches(node3, cache.evaluate(node3));
+		Assert.assertEquals(misses, cache.getMisses());
+		Assert.assertTrue(cache.getHitRate() > 0.0);
+	}
+
+	@Test
+	public void testDistinguishesConstantTypes() {
+		SubtreeCache cache = new SubtreeCache(environments, 100);
+		Node node1 = new Divide()
+				.setArgument(0, new Constant(3L))
+				.setArgument(1, new Constant(2L));
+		Node node2 = new Divide()
+				.setArgument(0, new Constant(3.0))
+				.setArgument(1, new Constant(2.0));
+
+		Assert.assertEquals(1L, cache.evaluate(node1)[0]);
+		Assert.assertEquals(1.5, cache.evaluate(node2)[0]);
+	}
+
+	@Test
+	public void testCapacity() {
+		SubtreeCache cache = new SubtreeCache(environments, 3);
+		Node node = createTree(2.0);
+
+		assertMatches(node, cache.evaluate(node));
+		Assert.assertEquals(3, cache.size());
+		Assert.assertTrue(cache.getEvictions() > 0);
+
+		cache.clear();
+		Assert.assertEquals(0, cache.size());
+		Assert.assertEquals(0, cache.getHits());
+		Assert.assertEquals(0, cache.getMisses());
+		Assert.assertEquals(0.0, cache.getHitRate(), 0.0);
+	}
+
+	@Test
+	public void testSideEffectsBypassCache() {
+		SubtreeCache cache = new SubtreeCache(environments, 100);
+		Node node = new Sequence(Number.class, Number.class)
+				.setArgument(0, new Set(Number.class, "y")
+						.setArgument(0, new Get(Number.class, "x")))
+				.setArgument(1, new Get(Number.class, "y"));
+
+		Object[] values = cache.evaluate(node);
+
+		for (int i = 0; i < environments.length; i++) {
+			Assert.assertEquals(i / 2.0, values[i]);
+		}
+
+		Assert.assertEquals(0, cache.size());
+		Assert.assertEquals(0, cache.getMisses());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidCapacity() {
+		new SubtreeCache(environments, 0);
+	}
+
+}
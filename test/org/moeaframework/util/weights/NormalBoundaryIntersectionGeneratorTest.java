@@ -17,6 +17,11 @@
  */
 package org.moeaframework.util.weights;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.Assert;
 import org.junit.Test;
 
 /**
@@ -39,4 +44,128 @@ WeightGeneratorTest {
 		test(new NormalBoundaryIntersectionGenerator(15, 3, 2), 15);
 	}
 	
+	@Test
+	public void testMatchesRecursiveDefinition() {
+		assertMatches(2, 30, 0);
+		assertMatches(3, 12, 0);
+		assertMatches(8, 4, 3);
+		assertMatches(10, 3, 2);
+	}
+	
+	@Test
+	public void testGet() {
+		NormalBoundaryIntersectionGenerator generator =
+				new NormalBoundaryIntersectionGenerator(10, 3, 2);
+		List<double[]> weights = generator.generate();
+		
+		for (int i = 0; i < weights.size(); i++) {
+			Assert.assertArrayEquals(weights.get(i), generator.get(i), 0.0);
+		}
+	}
+	
+	@Test
+	public void testIterator() {
+		NormalBoundaryIntersectionGenerator generator =
+				new NormalBoundaryIntersectionGenerator(5, 4, 2);
+		Iterator<double[]> iterator = generator.iterator();
+		
+		for (double[] weight : generator.generate()) {
+			Assert.assertTrue(iterator.hasNext());
+			Assert.assertArrayEquals(weight, iterator.next(), 0.0);
+		}
+		
+		Assert.assertFalse(iterator.hasNext());
+	}
+	
+	@Test
+	public void testGenerateArray() {
+		NormalBoundaryIntersectionGenerator generator =
+				new NormalBoundaryIntersectionGenerator(4, 5, 2);
+		List<double[]> weights = generator.generate();
+		double[] array = generator.generateArray();
+		
+		Assert.assertEquals(4 * weights.size(), array.length);
+		
+		for (int i = 0; i < weights.size(); i++) {
+			for (int j = 0; j < 4; j++) {
+				Assert.assertEquals(weights.get(i)[j], array[4 * i + j], 0.0);
+			}
+		}
+	}
+	
+	@Test
+	public void testCachedWeightsAreCopied() {
+		List<double[]> weights = new NormalBoundaryIntersectionGenerator(3,
+				12).generate();
+		weights.get(0)[0] = 100.0;
+		
+		Assert.assertEquals(0.0, new NormalBoundaryIntersectionGenerator(3, 12)
+				.generate().get(0)[0], 0.0);
+	}
+	
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testGetOutOfBounds() {
+		NormalBoundaryIntersectionGenerator generator =
+				new NormalBoundaryIntersectionGenerator(3, 12);
+		generator.get(generator.size());
+	}
+	
+	/**
+	 * Asserts that the generated weights match the recursive definition of
+	 * the normal boundary intersection method.
+	 * 
+	 * @param M the number of objectives
+	 * @param outer the number of outer divisions
+	 * @param inner the number of inner divisions
+	 */
+	private void assertMatches(int M, int outer, int inner) {
+		List<double[]> expected = new ArrayList<double[]>();
+		generateRecursive(expected, new double[M], outer, outer, 0, false);
+		
+		if (inner > 0) {
+			generateRecursive(expected, new double[M], inner, inner, 0, true);
+		}
+		
+		List<double[]> actual = new NormalBoundaryIntersectionGenerator(M,
+				outer, inner).generate();
+		
+		Assert.assertEquals(expected.size(), actual.size());
+		
+		for (int i = 0; i < expected.size(); i++) {
+			Assert.assertArrayEquals(expected.get(i), actual.get(i), 0.0);
+		}
+	}
+	
+	/**
+	 * Generates the weights recursively.
+	 * 
+	 * @param weights the list storing the generated weights
+	 * @param weight the partial weight being generated
+	 * @param left the number of remaining divisions
+	 * @param total the total number of divisions
+	 * @param index the current index being generated
+	 * @param offset {@code true} if the weight is offset to the inner layer
+	 */
+	private void generateRecursive(List<double[]> weights, double[] weight,
+			int left, int total, int index, boolean offset) {
+		if (index == weight.length - 1) {
+			weight[index] = (double)left / total;
+			double[] copy = weight.clone();
+			
+			if (offset) {
+				for (int j = 0; j < copy.length; j++) {
+					copy[j] = (1.0/copy.length + copy[j])/2;
+				}
+			}
+			
+			weights.add(copy);
+		} else {
+			for (int i = 0; i <= left; i++) {
+				weight[index] = (double)i / total;
+				generateRecursive(weights, weight, left - i, total, index + 1,
+						offset);
+			}
+		}
+	}
+	
 }
@@ -17,6 +17,9 @@
  */
 package org.moeaframework.util.weights;
 
+import java.util.Iterator;
+import java.util.List;
+
 import org.apache.commons.math3.primes.Primes;
 import org.junit.Assert;
 import org.junit.Test;
@@ -43,4 +46,18 @@ public class UniformDesignGeneratorTest extends WeightGeneratorTest {
 		test(new UniformDesignGenerator(10, 100), 10);
 	}
 
+	@Test
+	public void testGet() {
+		UniformDesignGenerator generator = new UniformDesignGenerator(5, 100);
+		List<double[]> weights = generator.generate();
+		Iterator<double[]> iterator = generator.iterator();
+		
+		for (int i = 0; i < weights.size(); i++) {
+			Assert.assertArrayEquals(weights.get(i), generator.get(i), 0.0);
+			Assert.assertArrayEquals(weights.get(i), iterator.next(), 0.0);
+		}
+		
+		Assert.assertFalse(iterator.hasNext());
+	}
+
 }